@@ -8,6 +8,7 @@ package com.powsybl.afs.mapdb.storage;
 
 import com.powsybl.math.timeseries.CompressedDoubleArrayChunk;
 import com.powsybl.math.timeseries.DoubleArrayChunk;
+import com.powsybl.math.timeseries.MappedDoubleArrayChunk;
 import com.powsybl.math.timeseries.UncompressedDoubleArrayChunk;
 import org.mapdb.DataInput2;
 import org.mapdb.DataOutput2;
@@ -28,7 +29,9 @@ public final class DoubleArrayChunkSerializer implements Serializer<DoubleArrayC
 
     @Override
     public void serialize(DataOutput2 out, DoubleArrayChunk chunk) throws IOException {
-        if (chunk instanceof UncompressedDoubleArrayChunk) {
+        if (chunk instanceof MappedDoubleArrayChunk) {
+            serialize(out, ((MappedDoubleArrayChunk) chunk).toUncompressed());
+        } else if (chunk instanceof UncompressedDoubleArrayChunk) {
             UncompressedDoubleArrayChunk uncompressedChunk = (UncompressedDoubleArrayChunk) chunk;
             out.writeUTF("uncompressed");
             out.writeInt(uncompressedChunk.getOffset());
@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.benchmarks;
+
+import com.powsybl.iidm.network.*;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connected components after opening or closing a random switch of a large network. In node
+ * breaker topology the switch is a line breaker and the components are updated incrementally. In
+ * bus breaker topology the switch is a bus coupler, whose change invalidates all the components,
+ * so this is the reference of a full computation.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConnectedComponentsBenchmark {
+
+    @Param({"30", "50"})
+    private int gridSize;
+
+    @Param({"BUS_BREAKER", "NODE_BREAKER"})
+    private TopologyKind topologyKind;
+
+    private Network network;
+
+    private final List<Switch> switches = new ArrayList<>();
+
+    private final Random random = new Random(0);
+
+    @Setup
+    public void setUp() {
+        network = SyntheticNetworkFactory.create(gridSize, topologyKind);
+        for (VoltageLevel vl : network.getVoltageLevels()) {
+            if (topologyKind == TopologyKind.BUS_BREAKER) {
+                vl.getBusBreakerView().getSwitches().forEach(switches::add);
+            } else {
+                for (Switch s : vl.getNodeBreakerView().getSwitches()) {
+                    if (s.getKind() == SwitchKind.BREAKER && s.getId().startsWith("B_L_")) {
+                        switches.add(s);
+                    }
+                }
+            }
+        }
+        network.getBusView().getConnectedComponents();
+    }
+
+    private Switch toggleRandomSwitch() {
+        Switch s = switches.get(random.nextInt(switches.size()));
+        s.setOpen(!s.isOpen());
+        return s;
+    }
+
+    @Benchmark
+    public int connectedComponents() {
+        toggleRandomSwitch();
+        return network.getBusView().getConnectedComponents().size();
+    }
+
+    @Benchmark
+    public int componentNumbers() {
+        VoltageLevel vl = toggleRandomSwitch().getVoltageLevel();
+        int sum = 0;
+        for (Bus bus : vl.getBusView().getBuses()) {
+            sum += bus.getConnectedComponent().getNum();
+        }
+        return sum;
+    }
+}
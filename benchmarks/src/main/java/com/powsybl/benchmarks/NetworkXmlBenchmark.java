@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.benchmarks;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.xml.NetworkXml;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * XIIDM and binary IIDM export and import, in memory.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NetworkXmlBenchmark {
+
+    @Param({"10", "50"})
+    private int gridSize;
+
+    @Param({"BUS_BREAKER", "NODE_BREAKER"})
+    private TopologyKind topologyKind;
+
+    private Network network;
+
+    private byte[] xml;
+
+    private byte[] binary;
+
+    @Setup
+    public void setUp() {
+        network = SyntheticNetworkFactory.create(gridSize, topologyKind);
+        xml = write().toByteArray();
+        binary = writeBinary().toByteArray();
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream write() {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkXml.write(network, os);
+        return os;
+    }
+
+    @Benchmark
+    public Network read() {
+        return NetworkXml.read(new ByteArrayInputStream(xml));
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream writeBinary() {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkXml.writeBinary(network, os);
+        return os;
+    }
+
+    @Benchmark
+    public Network readBinary() {
+        return NetworkXml.readBinary(new ByteArrayInputStream(binary));
+    }
+}
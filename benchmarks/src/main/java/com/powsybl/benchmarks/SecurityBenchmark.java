@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.benchmarks;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.security.LimitCheckIndex;
+import com.powsybl.security.LimitViolation;
+import com.powsybl.security.Security;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits check of a state, walking the network or using an index built once.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityBenchmark {
+
+    @Param({"10", "50"})
+    private int gridSize;
+
+    @Param({"BUS_BREAKER", "NODE_BREAKER"})
+    private TopologyKind topologyKind;
+
+    private Network network;
+
+    private LimitCheckIndex limitCheckIndex;
+
+    @Setup
+    public void setUp() {
+        network = SyntheticNetworkFactory.create(gridSize, topologyKind);
+        limitCheckIndex = new LimitCheckIndex(network);
+    }
+
+    @Benchmark
+    public List<LimitViolation> checkLimits() {
+        return Security.checkLimits(network);
+    }
+
+    @Benchmark
+    public List<LimitViolation> checkLimitsWithIndex() {
+        return limitCheckIndex.checkLimits();
+    }
+}
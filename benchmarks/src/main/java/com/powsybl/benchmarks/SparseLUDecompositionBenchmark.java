@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.benchmarks;
+
+import com.powsybl.math.matrix.LUDecomposition;
+import com.powsybl.math.matrix.Matrix;
+import com.powsybl.math.matrix.SparseLUDecomposition;
+import com.powsybl.math.matrix.SparseMatrix;
+import com.powsybl.math.matrix.SparseMatrixFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Many small solves with sparse LU decompositions, each thread using its own decomposition. The throughput should
+ * scale with the number of threads, run for instance with {@code -t 1}, {@code -t 2} and {@code -t 4}.
+ *
+ * <p>The native KLU decomposition is measured, the benchmark fails if the native library cannot be loaded rather
+ * than silently measuring the pure Java implementation.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+@org.openjdk.jmh.annotations.State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SparseLUDecompositionBenchmark {
+
+    @Param({"5", "20"})
+    private int gridSize;
+
+    private LUDecomposition decomposition;
+
+    private double[] rhs;
+
+    private double[] x;
+
+    /**
+     * Create the matrix of a 5 points laplacian on a square grid, which is diagonally dominant.
+     */
+    private static Matrix createLaplacian(int gridSize) {
+        int size = gridSize * gridSize;
+        Matrix matrix = new SparseMatrixFactory().create(size, size, 5 * size);
+        // columns have to be filled in order, and rows in order within a column
+        for (int j = 0; j < size; j++) {
+            if (j >= gridSize) {
+                matrix.setValue(j - gridSize, j, -1);
+            }
+            if (j % gridSize > 0) {
+                matrix.setValue(j - 1, j, -1);
+            }
+            matrix.setValue(j, j, 4);
+            if (j % gridSize < gridSize - 1) {
+                matrix.setValue(j + 1, j, -1);
+            }
+            if (j + gridSize < size) {
+                matrix.setValue(j + gridSize, j, -1);
+            }
+        }
+        return matrix;
+    }
+
+    @Setup
+    public void setUp() {
+        if (!SparseMatrix.NATIVE_INIT) {
+            throw new IllegalStateException("Native math library cannot be loaded, check java.library.path");
+        }
+        decomposition = new SparseLUDecomposition((SparseMatrix) createLaplacian(gridSize));
+        rhs = new double[gridSize * gridSize];
+        Arrays.fill(rhs, 1);
+        x = new double[rhs.length];
+    }
+
+    @TearDown
+    public void tearDown() {
+        decomposition.close();
+    }
+
+    @Benchmark
+    public double[] solve() {
+        System.arraycopy(rhs, 0, x, 0, rhs.length);
+        decomposition.solve(x);
+        return x;
+    }
+}
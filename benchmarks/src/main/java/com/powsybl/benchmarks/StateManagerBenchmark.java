@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.benchmarks;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.StateManager;
+import com.powsybl.iidm.network.TopologyKind;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cloning of the initial state of a network which already has some states.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StateManagerBenchmark {
+
+    @Param({"10", "50"})
+    private int gridSize;
+
+    @Param({"1", "10"})
+    private int stateCount;
+
+    private Network network;
+
+    private List<String> stateIds;
+
+    @Setup
+    public void setUp() {
+        network = SyntheticNetworkFactory.create(gridSize, TopologyKind.NODE_BREAKER);
+        stateIds = SyntheticNetworkFactory.createStates(network, stateCount);
+    }
+
+    @Benchmark
+    public void cloneAndRemoveState() {
+        network.getStateManager().cloneState(StateManager.INITIAL_STATE_ID, "tmp");
+        network.getStateManager().removeState("tmp");
+    }
+
+    @Benchmark
+    public void overwriteState() {
+        network.getStateManager().cloneState(StateManager.INITIAL_STATE_ID, stateIds.get(0), true);
+    }
+}
@@ -0,0 +1,264 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.benchmarks;
+
+import com.powsybl.iidm.network.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Synthetic networks of configurable size for the benchmarks: a square grid of substations, each
+ * one with a single 400 kV voltage level, a load and every four substations a generator, connected
+ * to their neighbours by lines having current limits.
+ * <p>
+ * Bus breaker voltage levels have two buses coupled by a closed switch, node breaker voltage levels
+ * have a busbar section and each equipment is connected through a disconnector and a breaker.
+ * Flows and voltages are randomly set, with a fixed seed, so that some limits are violated.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public final class SyntheticNetworkFactory {
+
+    private static final float NOMINAL_V = 400f;
+
+    // busbar section + disconnector and breaker of a load, a generator and 4 lines
+    private static final int NODE_COUNT = 1 + 2 * 6;
+
+    private SyntheticNetworkFactory() {
+    }
+
+    public static String getVoltageLevelId(int i, int j) {
+        return "VL_" + i + "_" + j;
+    }
+
+    public static String getCouplerId(int i, int j) {
+        return "COUPLER_" + i + "_" + j;
+    }
+
+    private static String getBusId(String voltageLevelId, int bus) {
+        return voltageLevelId + "_B" + bus;
+    }
+
+    private static final class Connector {
+
+        private final VoltageLevel voltageLevel;
+
+        private int nextNode = 1;
+
+        private int nextBus = 1;
+
+        private Connector(VoltageLevel voltageLevel) {
+            this.voltageLevel = voltageLevel;
+        }
+
+        private String nextBus() {
+            // equipments are alternately connected to the two coupled buses
+            String busId = getBusId(voltageLevel.getId(), nextBus);
+            nextBus = 3 - nextBus;
+            return busId;
+        }
+
+        private int nextNode(String equipmentId) {
+            VoltageLevel.NodeBreakerView view = voltageLevel.getNodeBreakerView();
+            int node = nextNode;
+            view.newDisconnector()
+                    .setId("D_" + equipmentId + "_" + voltageLevel.getId())
+                    .setNode1(0)
+                    .setNode2(node)
+                    .setOpen(false)
+                    .add();
+            view.newBreaker()
+                    .setId("B_" + equipmentId + "_" + voltageLevel.getId())
+                    .setNode1(node)
+                    .setNode2(node + 1)
+                    .setOpen(false)
+                    .add();
+            nextNode += 2;
+            return node + 1;
+        }
+
+        private void connect(InjectionAdder<?> adder, String equipmentId) {
+            if (voltageLevel.getTopologyKind() == TopologyKind.BUS_BREAKER) {
+                String busId = nextBus();
+                adder.setBus(busId);
+                adder.setConnectableBus(busId);
+            } else {
+                adder.setNode(nextNode(equipmentId));
+            }
+        }
+
+        private void connect1(LineAdder adder, String lineId) {
+            adder.setVoltageLevel1(voltageLevel.getId());
+            if (voltageLevel.getTopologyKind() == TopologyKind.BUS_BREAKER) {
+                String busId = nextBus();
+                adder.setBus1(busId).setConnectableBus1(busId);
+            } else {
+                adder.setNode1(nextNode(lineId));
+            }
+        }
+
+        private void connect2(LineAdder adder, String lineId) {
+            adder.setVoltageLevel2(voltageLevel.getId());
+            if (voltageLevel.getTopologyKind() == TopologyKind.BUS_BREAKER) {
+                String busId = nextBus();
+                adder.setBus2(busId).setConnectableBus2(busId);
+            } else {
+                adder.setNode2(nextNode(lineId));
+            }
+        }
+    }
+
+    private static void createVoltageLevel(Network network, int i, int j, TopologyKind topologyKind, List<Connector> connectors) {
+        Substation substation = network.newSubstation()
+                .setId("S_" + i + "_" + j)
+                .setCountry(Country.FR)
+                .add();
+        String vlId = getVoltageLevelId(i, j);
+        VoltageLevel vl = substation.newVoltageLevel()
+                .setId(vlId)
+                .setNominalV(NOMINAL_V)
+                .setLowVoltageLimit(380f)
+                .setHighVoltageLimit(420f)
+                .setTopologyKind(topologyKind)
+                .add();
+        if (topologyKind == TopologyKind.BUS_BREAKER) {
+            vl.getBusBreakerView().newBus().setId(getBusId(vlId, 1)).add();
+            vl.getBusBreakerView().newBus().setId(getBusId(vlId, 2)).add();
+            vl.getBusBreakerView().newSwitch()
+                    .setId(getCouplerId(i, j))
+                    .setBus1(getBusId(vlId, 1))
+                    .setBus2(getBusId(vlId, 2))
+                    .setOpen(false)
+                    .add();
+        } else {
+            vl.getNodeBreakerView().setNodeCount(NODE_COUNT);
+            vl.getNodeBreakerView().newBusbarSection()
+                    .setId("BBS_" + i + "_" + j)
+                    .setNode(0)
+                    .add();
+        }
+        Connector connector = new Connector(vl);
+        connectors.add(connector);
+
+        String loadId = "LOAD_" + i + "_" + j;
+        LoadAdder loadAdder = vl.newLoad()
+                .setId(loadId)
+                .setP0(100f)
+                .setQ0(30f);
+        connector.connect(loadAdder, loadId);
+        loadAdder.add();
+
+        if ((i + j) % 4 == 0) {
+            String generatorId = "GEN_" + i + "_" + j;
+            GeneratorAdder generatorAdder = vl.newGenerator()
+                    .setId(generatorId)
+                    .setMinP(0f)
+                    .setMaxP(1000f)
+                    .setVoltageRegulatorOn(true)
+                    .setTargetV(NOMINAL_V)
+                    .setTargetP(400f)
+                    .setTargetQ(0f);
+            connector.connect(generatorAdder, generatorId);
+            generatorAdder.add()
+                    .newMinMaxReactiveLimits()
+                    .setMinQ(-500f)
+                    .setMaxQ(500f)
+                    .add();
+        }
+    }
+
+    private static void createLine(Network network, Connector connector1, Connector connector2) {
+        String lineId = "L_" + connector1.voltageLevel.getId() + "_" + connector2.voltageLevel.getId();
+        LineAdder adder = network.newLine()
+                .setId(lineId)
+                .setR(1f)
+                .setX(10f)
+                .setG1(0f)
+                .setB1(0f)
+                .setG2(0f)
+                .setB2(0f);
+        connector1.connect1(adder, lineId);
+        connector2.connect2(adder, lineId);
+        Line line = adder.add();
+        line.newCurrentLimits1()
+                .setPermanentLimit(1000f)
+                .beginTemporaryLimit()
+                    .setName("20'")
+                    .setAcceptableDuration(20 * 60)
+                    .setValue(1200f)
+                .endTemporaryLimit()
+                .add();
+        line.newCurrentLimits2()
+                .setPermanentLimit(1000f)
+                .add();
+    }
+
+    /**
+     * Set random flows and voltages in the working state, lines being loaded up to about 120 % of
+     * their permanent limit.
+     */
+    public static void setStateVariables(Network network, Random random) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(random);
+        for (Line line : network.getLines()) {
+            float p = random.nextFloat() * 800f;
+            line.getTerminal1().setP(p).setQ(p * 0.3f);
+            line.getTerminal2().setP(-p).setQ(-p * 0.3f);
+        }
+        for (Bus bus : network.getBusView().getBuses()) {
+            bus.setV(370f + random.nextFloat() * 60f).setAngle(0f);
+        }
+    }
+
+    public static Network create(int gridSize, TopologyKind topologyKind) {
+        if (gridSize < 1) {
+            throw new IllegalArgumentException("Bad grid size " + gridSize);
+        }
+        Objects.requireNonNull(topologyKind);
+
+        Network network = NetworkFactory.create("synthetic_" + gridSize + "_" + topologyKind, "test");
+        List<Connector> connectors = new ArrayList<>(gridSize * gridSize);
+        for (int i = 0; i < gridSize; i++) {
+            for (int j = 0; j < gridSize; j++) {
+                createVoltageLevel(network, i, j, topologyKind, connectors);
+            }
+        }
+        for (int i = 0; i < gridSize; i++) {
+            for (int j = 0; j < gridSize; j++) {
+                Connector connector = connectors.get(i * gridSize + j);
+                if (i + 1 < gridSize) {
+                    createLine(network, connector, connectors.get((i + 1) * gridSize + j));
+                }
+                if (j + 1 < gridSize) {
+                    createLine(network, connector, connectors.get(i * gridSize + j + 1));
+                }
+            }
+        }
+        setStateVariables(network, new Random(0));
+        return network;
+    }
+
+    /**
+     * Create a network with additional states cloned from the initial one.
+     *
+     * @return the ids of the created states
+     */
+    public static List<String> createStates(Network network, int stateCount) {
+        Objects.requireNonNull(network);
+        List<String> stateIds = new ArrayList<>(stateCount);
+        for (int i = 0; i < stateCount; i++) {
+            stateIds.add("state" + i);
+        }
+        if (!stateIds.isEmpty()) {
+            network.getStateManager().cloneState(StateManager.INITIAL_STATE_ID, stateIds);
+        }
+        return stateIds;
+    }
+}
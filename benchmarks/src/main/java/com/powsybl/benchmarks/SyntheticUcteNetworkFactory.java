@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.benchmarks;
+
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import com.powsybl.commons.datasource.ReadOnlyMemDataSource;
+import com.powsybl.ucte.network.*;
+import com.powsybl.ucte.network.io.UcteWriter;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Synthetic UCTE networks for the benchmarks: a square grid of 380 kV nodes, loads on every node
+ * and generators on every four nodes, connected to their neighbours by lines.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public final class SyntheticUcteNetworkFactory {
+
+    private static final String BASE_NAME = "synthetic";
+
+    private SyntheticUcteNetworkFactory() {
+    }
+
+    private static UcteNodeCode getNodeCode(int i, int j, int gridSize) {
+        // geographical spot is the node number in base 36 on 5 characters
+        String spot = Integer.toString(i * gridSize + j, Character.MAX_RADIX).toUpperCase();
+        while (spot.length() < 5) {
+            spot = "0" + spot;
+        }
+        return new UcteNodeCode(UcteCountryCode.FR, spot, UcteVoltageLevelCode._380, '1');
+    }
+
+    private static void addLine(UcteNetwork network, UcteNodeCode code1, UcteNodeCode code2) {
+        network.addLine(new UcteLine(new UcteElementId(code1, code2, '1'), UcteElementStatus.REAL_ELEMENT_IN_OPERATION,
+                                     1f, 10f, 1e-6f, 1500, null));
+    }
+
+    public static UcteNetwork create(int gridSize) {
+        if (gridSize < 1 || gridSize * gridSize > Math.pow(Character.MAX_RADIX, 5)) {
+            throw new IllegalArgumentException("Bad grid size " + gridSize);
+        }
+        UcteNetwork network = new UcteNetworkImpl();
+        network.setVersion(UcteFormatVersion.SECOND);
+        for (int i = 0; i < gridSize; i++) {
+            for (int j = 0; j < gridSize; j++) {
+                UcteNodeCode code = getNodeCode(i, j, gridSize);
+                UcteNode node;
+                if ((i + j) % 4 == 0) {
+                    node = new UcteNode(code, null, UcteNodeStatus.REAL, UcteNodeTypeCode.PU, 400f,
+                            100f, 30f, -400f, 0f, 0f, -1000f, 500f, -500f,
+                            Float.NaN, Float.NaN, Float.NaN, Float.NaN, UctePowerPlantType.C);
+                } else {
+                    node = new UcteNode(code, null, UcteNodeStatus.REAL, UcteNodeTypeCode.PQ, Float.NaN,
+                            100f, 30f, Float.NaN, Float.NaN, Float.NaN, Float.NaN, Float.NaN, Float.NaN,
+                            Float.NaN, Float.NaN, Float.NaN, Float.NaN, null);
+                }
+                network.addNode(node);
+            }
+        }
+        for (int i = 0; i < gridSize; i++) {
+            for (int j = 0; j < gridSize; j++) {
+                if (i + 1 < gridSize) {
+                    addLine(network, getNodeCode(i, j, gridSize), getNodeCode(i + 1, j, gridSize));
+                }
+                if (j + 1 < gridSize) {
+                    addLine(network, getNodeCode(i, j, gridSize), getNodeCode(i, j + 1, gridSize));
+                }
+            }
+        }
+        network.fix();
+        return network;
+    }
+
+    private static final class UcteMemDataSource extends ReadOnlyMemDataSource {
+
+        private UcteMemDataSource(byte[] data) {
+            super(BASE_NAME);
+            putData(BASE_NAME + ".uct", data);
+        }
+    }
+
+    /**
+     * Write a UCTE network to an in memory data source, to benchmark the import without disk
+     * accesses.
+     */
+    public static ReadOnlyDataSource write(UcteNetwork network) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8))) {
+            new UcteWriter(network).write(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new UcteMemDataSource(os.toByteArray());
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.benchmarks;
+
+import com.powsybl.iidm.network.*;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bus view and connected components computation after a switch change, the switch being a bus
+ * coupler in bus breaker topology and a line breaker in node breaker topology.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TopologyBenchmark {
+
+    @Param({"10", "30"})
+    private int gridSize;
+
+    @Param({"BUS_BREAKER", "NODE_BREAKER"})
+    private TopologyKind topologyKind;
+
+    private Network network;
+
+    private final List<Switch> switches = new ArrayList<>();
+
+    private final Random random = new Random(0);
+
+    @Setup
+    public void setUp() {
+        network = SyntheticNetworkFactory.create(gridSize, topologyKind);
+        for (VoltageLevel vl : network.getVoltageLevels()) {
+            if (topologyKind == TopologyKind.BUS_BREAKER) {
+                vl.getBusBreakerView().getSwitches().forEach(switches::add);
+            } else {
+                for (Switch s : vl.getNodeBreakerView().getSwitches()) {
+                    if (s.getKind() == SwitchKind.BREAKER && s.getId().startsWith("B_L_")) {
+                        switches.add(s);
+                    }
+                }
+            }
+        }
+        network.getBusView().getConnectedComponents();
+    }
+
+    private void toggleRandomSwitch() {
+        Switch s = switches.get(random.nextInt(switches.size()));
+        s.setOpen(!s.isOpen());
+    }
+
+    @Benchmark
+    public int busViewBuses() {
+        toggleRandomSwitch();
+        int count = 0;
+        for (Bus ignored : network.getBusView().getBuses()) {
+            count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int connectedComponents() {
+        toggleRandomSwitch();
+        return network.getBusView().getConnectedComponents().size();
+    }
+}
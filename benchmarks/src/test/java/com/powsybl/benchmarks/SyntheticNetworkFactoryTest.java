@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.benchmarks;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.security.Security;
+import com.powsybl.ucte.converter.UcteImporter;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class SyntheticNetworkFactoryTest {
+
+    private static void check(TopologyKind topologyKind) {
+        Network network = SyntheticNetworkFactory.create(4, topologyKind);
+        assertEquals(16, network.getVoltageLevelCount());
+        assertEquals(2 * 4 * 3, network.getLineCount());
+        assertEquals(16, network.getLoadCount());
+        assertEquals(4, network.getGeneratorCount());
+        // all voltage levels are connected, in a single bus in node breaker topology
+        assertEquals(1, network.getBusView().getConnectedComponents().size());
+        assertEquals(16, network.getBusView().getBusStream().count());
+        assertFalse(Security.checkLimits(network).isEmpty());
+        assertEquals(3, SyntheticNetworkFactory.createStates(network, 3).size());
+        assertEquals(4, network.getStateManager().getStateIds().size());
+    }
+
+    @Test
+    public void busBreakerTest() {
+        check(TopologyKind.BUS_BREAKER);
+    }
+
+    @Test
+    public void nodeBreakerTest() {
+        check(TopologyKind.NODE_BREAKER);
+    }
+
+    @Test
+    public void ucteTest() {
+        Network network = new UcteImporter().importData(SyntheticUcteNetworkFactory.write(SyntheticUcteNetworkFactory.create(4)), new Properties());
+        assertEquals(16, network.getBusView().getBusStream().count());
+        assertEquals(2 * 4 * 3, network.getLineCount());
+        assertEquals(4, network.getGeneratorCount());
+    }
+}
@@ -6,6 +6,7 @@
  */
 package com.powsybl.commons.datasource;
 
+import com.powsybl.commons.io.ReadAheadInputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
 
@@ -33,7 +34,7 @@ public class Bzip2FileDataSource extends FileDataSource {
 
     @Override
     protected InputStream getCompressedInputStream(InputStream is) throws IOException {
-        return new BZip2CompressorInputStream(new BufferedInputStream(is));
+        return new ReadAheadInputStream(new BZip2CompressorInputStream(new BufferedInputStream(is)));
     }
 
     @Override
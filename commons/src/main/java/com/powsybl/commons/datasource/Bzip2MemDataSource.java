@@ -11,6 +11,7 @@ import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * @author Giovanni Ferrari <giovanni.ferrari@techrain.it>
@@ -37,4 +38,11 @@ public class Bzip2MemDataSource extends ReadOnlyMemDataSource {
     public InputStream newInputStream(String fileName) throws IOException {
         return getCompressedInputStream(super.newInputStream(fileName));
     }
+
+    @Override
+    public ByteBuffer newByteBuffer(String fileName) throws IOException {
+        try (InputStream is = newInputStream(fileName)) {
+            return DataSourceUtil.readByteBuffer(is);
+        }
+    }
 }
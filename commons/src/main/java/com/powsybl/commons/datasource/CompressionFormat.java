@@ -17,7 +17,8 @@ import java.util.stream.Collectors;
 public enum CompressionFormat {
     GZIP("gz"),
     BZIP2("bz2"),
-    ZIP("zip");
+    ZIP("zip"),
+    ZSTD("zst");
 
     CompressionFormat(String extension) {
         this.extension = Objects.requireNonNull(extension);
@@ -6,7 +6,11 @@
  */
 package com.powsybl.commons.datasource;
 
+import com.google.common.io.ByteStreams;
+
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -39,6 +43,11 @@ public interface DataSourceUtil {
         return pos == -1 ? fileName : fileName.substring(0, pos);
     }
 
+    static ByteBuffer readByteBuffer(InputStream is) throws IOException {
+        Objects.requireNonNull(is);
+        return ByteBuffer.wrap(ByteStreams.toByteArray(is));
+    }
+
     static DataSource createDataSource(Path directory, String basename, CompressionFormat compressionExtension, DataSourceObserver observer) {
         Objects.requireNonNull(directory);
         Objects.requireNonNull(basename);
@@ -53,6 +62,8 @@ public interface DataSourceUtil {
                     return new Bzip2FileDataSource(directory, basename, observer);
                 case ZIP:
                     return new ZipFileDataSource(directory, basename, observer);
+                case ZSTD:
+                    return new ZstdFileDataSource(directory, basename, observer);
                 default:
                     throw new AssertionError("Unexpected CompressionFormat value: " + compressionExtension);
             }
@@ -69,6 +80,8 @@ public interface DataSourceUtil {
             return new GzFileDataSource(directory, getBaseName(fileNameOrBaseName.substring(0, fileNameOrBaseName.length() - 3)), observer);
         } else if (fileNameOrBaseName.endsWith(".bz2")) {
             return new Bzip2FileDataSource(directory, getBaseName(fileNameOrBaseName.substring(0, fileNameOrBaseName.length() - 4)), observer);
+        } else if (fileNameOrBaseName.endsWith(".zst")) {
+            return new ZstdFileDataSource(directory, getBaseName(fileNameOrBaseName.substring(0, fileNameOrBaseName.length() - 4)), observer);
         } else {
             return new FileDataSource(directory, getBaseName(fileNameOrBaseName), observer);
         }
@@ -51,7 +51,7 @@ public class FileDataSource implements DataSource {
         return os;
     }
 
-    private Path getPath(String fileName) {
+    protected Path getPath(String fileName) {
         Objects.requireNonNull(fileName);
         return directory.resolve(fileName + getCompressionExt());
     }
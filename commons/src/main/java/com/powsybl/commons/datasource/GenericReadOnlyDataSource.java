@@ -9,9 +9,17 @@ package com.powsybl.commons.datasource;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Path;
 
 /**
+ * A data source reading files of a directory, either uncompressed or compressed with one of the supported formats.
+ *
+ * <p>Uncompressed files can be memory mapped on demand, so that {@link #newByteBuffer(String)} gives a view of the
+ * file without any copy. It is not the default: a mapping holds the file until the buffer is garbage collected,
+ * which prevents deleting it on some platforms.
+ *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 public class GenericReadOnlyDataSource implements ReadOnlyDataSource {
@@ -19,11 +27,16 @@ public class GenericReadOnlyDataSource implements ReadOnlyDataSource {
     private final ReadOnlyDataSource[] dataSources;
 
     public GenericReadOnlyDataSource(Path directory, String baseName, DataSourceObserver observer) {
+        this(directory, baseName, observer, false);
+    }
+
+    public GenericReadOnlyDataSource(Path directory, String baseName, DataSourceObserver observer, boolean memoryMapped) {
         dataSources = new DataSource[] {
-            new FileDataSource(directory, baseName, observer),
+            memoryMapped ? new MemoryMappedFileDataSource(directory, baseName, observer) : new FileDataSource(directory, baseName, observer),
             new ZipFileDataSource(directory, baseName + ".zip", baseName, observer),
             new GzFileDataSource(directory, baseName, observer),
-            new Bzip2FileDataSource(directory, baseName, observer)
+            new Bzip2FileDataSource(directory, baseName, observer),
+            new ZstdFileDataSource(directory, baseName, observer)
         };
     }
 
@@ -75,4 +88,44 @@ public class GenericReadOnlyDataSource implements ReadOnlyDataSource {
         }
         throw new IOException(fileName + " not found");
     }
+
+    @Override
+    public ByteBuffer newByteBuffer(String suffix, String ext) throws IOException {
+        for (ReadOnlyDataSource dataSource : dataSources) {
+            if (dataSource.exists(suffix, ext)) {
+                return dataSource.newByteBuffer(suffix, ext);
+            }
+        }
+        throw new IOException(DataSourceUtil.getFileName(getBaseName(), suffix, ext) + " not found");
+    }
+
+    @Override
+    public ByteBuffer newByteBuffer(String fileName) throws IOException {
+        for (ReadOnlyDataSource dataSource : dataSources) {
+            if (dataSource.exists(fileName)) {
+                return dataSource.newByteBuffer(fileName);
+            }
+        }
+        throw new IOException(fileName + " not found");
+    }
+
+    @Override
+    public ReadableByteChannel newChannel(String suffix, String ext) throws IOException {
+        for (ReadOnlyDataSource dataSource : dataSources) {
+            if (dataSource.exists(suffix, ext)) {
+                return dataSource.newChannel(suffix, ext);
+            }
+        }
+        throw new IOException(DataSourceUtil.getFileName(getBaseName(), suffix, ext) + " not found");
+    }
+
+    @Override
+    public ReadableByteChannel newChannel(String fileName) throws IOException {
+        for (ReadOnlyDataSource dataSource : dataSources) {
+            if (dataSource.exists(fileName)) {
+                return dataSource.newChannel(fileName);
+            }
+        }
+        throw new IOException(fileName + " not found");
+    }
 }
@@ -6,14 +6,19 @@
  */
 package com.powsybl.commons.datasource;
 
+import com.powsybl.commons.io.ParallelGzipOutputStream;
+import com.powsybl.commons.io.ReadAheadInputStream;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Path;
 import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 /**
+ * A data source compressing files with gzip. Blocks are compressed in parallel and decompression runs ahead
+ * of the reader on a background thread.
+ *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 public class GzFileDataSource extends FileDataSource {
@@ -33,11 +38,11 @@ public class GzFileDataSource extends FileDataSource {
 
     @Override
     protected InputStream getCompressedInputStream(InputStream is) throws IOException {
-        return new GZIPInputStream(is);
+        return new ReadAheadInputStream(new GZIPInputStream(is));
     }
 
     @Override
     protected OutputStream getCompressedOutputStream(OutputStream os) throws IOException {
-        return new GZIPOutputStream(os);
+        return new ParallelGzipOutputStream(os);
     }
 }
@@ -8,6 +8,7 @@ package com.powsybl.commons.datasource;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.zip.GZIPInputStream;
 
 /**
@@ -36,4 +37,11 @@ public class GzMemDataSource extends ReadOnlyMemDataSource {
     public InputStream newInputStream(String fileName) throws IOException {
         return getCompressedInputStream(super.newInputStream(fileName));
     }
+
+    @Override
+    public ByteBuffer newByteBuffer(String fileName) throws IOException {
+        try (InputStream is = newInputStream(fileName)) {
+            return DataSourceUtil.readByteBuffer(is);
+        }
+    }
 }
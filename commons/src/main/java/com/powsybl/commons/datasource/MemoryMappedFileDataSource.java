@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.datasource;
+
+import com.powsybl.commons.io.mmap.MemoryMappedFile;
+import com.powsybl.commons.io.mmap.MemoryMappedFileFactory;
+import com.powsybl.commons.io.mmap.MemoryMappedFileImpl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * A file data source giving a memory mapped view of the files, so that parsers working on a {@link ByteBuffer} read
+ * the content without any copy. Files which are not on the default file system cannot be mapped and are read through
+ * streams as in {@link FileDataSource}.
+ *
+ * <p>The observer is notified of the opening and the closing of channels, as for streams. A buffer has no closing:
+ * the file is notified as opened then closed when mapped, the mapping itself remaining valid until the buffer is
+ * garbage collected.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class MemoryMappedFileDataSource extends FileDataSource {
+
+    private static final MemoryMappedFileFactory DEFAULT_FACTORY = path -> new MemoryMappedFileImpl(path.toFile());
+
+    private final DataSourceObserver observer;
+
+    private final MemoryMappedFileFactory factory;
+
+    public MemoryMappedFileDataSource(Path directory, String baseName) {
+        this(directory, baseName, null);
+    }
+
+    public MemoryMappedFileDataSource(Path directory, String baseName, DataSourceObserver observer) {
+        this(directory, baseName, observer, DEFAULT_FACTORY);
+    }
+
+    public MemoryMappedFileDataSource(Path directory, String baseName, DataSourceObserver observer, MemoryMappedFileFactory factory) {
+        super(directory, baseName, observer);
+        this.observer = observer;
+        this.factory = Objects.requireNonNull(factory);
+    }
+
+    private static boolean isMappable(Path path) {
+        return path.getFileSystem() == FileSystems.getDefault();
+    }
+
+    @Override
+    public ByteBuffer newByteBuffer(String fileName) throws IOException {
+        Path path = getPath(fileName);
+        if (!isMappable(path)) {
+            return super.newByteBuffer(fileName);
+        }
+        ByteBuffer buffer;
+        try (MemoryMappedFile file = factory.create(path)) {
+            if (!file.exists()) {
+                throw new IOException(path + " does not exist");
+            }
+            if (observer != null) {
+                observer.opened(path.toString());
+            }
+            // the mapping remains valid once the file is closed
+            buffer = file.getReadOnlyBuffer();
+        }
+        if (observer != null) {
+            observer.closed(path.toString());
+        }
+        return buffer;
+    }
+
+    @Override
+    public ReadableByteChannel newChannel(String fileName) throws IOException {
+        Path path = getPath(fileName);
+        if (!isMappable(path)) {
+            return super.newChannel(fileName);
+        }
+        ReadableByteChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        return observer != null ? new ObservableReadableByteChannel(channel, path.toString(), observer) : channel;
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.datasource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class ObservableReadableByteChannel implements ReadableByteChannel {
+
+    private final ReadableByteChannel channel;
+
+    private final String streamName;
+
+    private final DataSourceObserver observer;
+
+    ObservableReadableByteChannel(ReadableByteChannel channel, String streamName, DataSourceObserver observer) {
+        this.channel = Objects.requireNonNull(channel);
+        this.streamName = streamName;
+        this.observer = observer;
+        if (observer != null) {
+            observer.opened(streamName);
+        }
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        return channel.read(dst);
+    }
+
+    @Override
+    public boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+        if (observer != null) {
+            observer.closed(streamName);
+        }
+    }
+}
@@ -8,6 +8,9 @@ package com.powsybl.commons.datasource;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian@rte-france.com>
@@ -23,4 +26,27 @@ public interface ReadOnlyDataSource {
     InputStream newInputStream(String suffix, String ext) throws IOException;
 
     InputStream newInputStream(String fileName) throws IOException;
+
+    /**
+     * Get the whole content of a file as a buffer, which may be read only. The default implementation copies the
+     * content of {@link #newInputStream(String, String)} into a heap buffer, implementations that can do better (in
+     * memory data or memory mapped files) should avoid this copy.
+     */
+    default ByteBuffer newByteBuffer(String suffix, String ext) throws IOException {
+        return newByteBuffer(DataSourceUtil.getFileName(getBaseName(), suffix, ext));
+    }
+
+    default ByteBuffer newByteBuffer(String fileName) throws IOException {
+        try (InputStream is = newInputStream(fileName)) {
+            return DataSourceUtil.readByteBuffer(is);
+        }
+    }
+
+    default ReadableByteChannel newChannel(String suffix, String ext) throws IOException {
+        return newChannel(DataSourceUtil.getFileName(getBaseName(), suffix, ext));
+    }
+
+    default ReadableByteChannel newChannel(String fileName) throws IOException {
+        return Channels.newChannel(newInputStream(fileName));
+    }
 }
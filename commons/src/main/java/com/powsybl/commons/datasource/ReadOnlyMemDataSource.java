@@ -12,6 +12,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -74,13 +75,23 @@ public class ReadOnlyMemDataSource implements ReadOnlyDataSource {
         return newInputStream(DataSourceUtil.getFileName(baseName, suffix, ext));
     }
 
-    @Override
-    public InputStream newInputStream(String fileName) throws IOException {
+    private byte[] getExistingData(String fileName) throws IOException {
         Objects.requireNonNull(fileName);
         byte[] ba = data.get(fileName);
         if (ba == null) {
             throw new IOException(fileName + " does not exist");
         }
-        return new ByteArrayInputStream(ba);
+        return ba;
+    }
+
+    @Override
+    public InputStream newInputStream(String fileName) throws IOException {
+        return new ByteArrayInputStream(getExistingData(fileName));
+    }
+
+    @Override
+    public ByteBuffer newByteBuffer(String fileName) throws IOException {
+        // no copy, data is wrapped
+        return ByteBuffer.wrap(getExistingData(fileName)).asReadOnlyBuffer();
     }
 }
@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.datasource;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import com.powsybl.commons.io.ReadAheadInputStream;
+
+import java.io.*;
+import java.nio.file.Path;
+
+/**
+ * A data source compressing files with Zstandard. Frames are compressed by several worker threads, and
+ * decompression runs ahead of the reader on a background thread.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class ZstdFileDataSource extends FileDataSource {
+
+    private static final int DEFAULT_LEVEL = 3;
+
+    public ZstdFileDataSource(Path directory, String baseName, DataSourceObserver observer) {
+        super(directory, baseName, observer);
+    }
+
+    public ZstdFileDataSource(Path directory, String baseName) {
+        super(directory, baseName);
+    }
+
+    @Override
+    protected String getCompressionExt() {
+        return ".zst";
+    }
+
+    @Override
+    protected InputStream getCompressedInputStream(InputStream is) throws IOException {
+        return new ReadAheadInputStream(new ZstdInputStream(new BufferedInputStream(is)));
+    }
+
+    @Override
+    protected OutputStream getCompressedOutputStream(OutputStream os) throws IOException {
+        return new ZstdOutputStream(new BufferedOutputStream(os), DEFAULT_LEVEL)
+                .setWorkers(Runtime.getRuntime().availableProcessors());
+    }
+}
@@ -6,36 +6,193 @@
  */
 package com.powsybl.commons.io;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.io.Reader;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Consumer;
 
 /**
+ * Parse a text line by line, giving to a consumer a window of the last lines read, the most recent one first.
+ *
+ * <p>Lines are kept in a ring buffer of reused character buffers, so that reading a line does not allocate
+ * anything once the buffers have grown to the size of the longest line.
+ *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 public class BufferedLineParser {
 
-    private final BufferedReader reader;
+    private static final int READ_BUFFER_SIZE = 8192;
 
-    private int bufferSize;
+    private static final int INITIAL_LINE_CAPACITY = 128;
 
-    public BufferedLineParser(BufferedReader reader, int bufferSize) {
-        this.reader = reader;
+    /**
+     * A line of the window, a view over a reused character buffer. It is only valid until the consumer returns,
+     * {@link #toString()} has to be used to keep it.
+     */
+    private static final class Line implements CharSequence {
+
+        private char[] chars = new char[INITIAL_LINE_CAPACITY];
+
+        private int length = 0;
+
+        private void append(char[] buffer, int offset, int count) {
+            if (length + count > chars.length) {
+                chars = Arrays.copyOf(chars, Math.max(length + count, 2 * chars.length));
+            }
+            System.arraycopy(buffer, offset, chars, length, count);
+            length += count;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length);
+            }
+            return chars[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > length || start > end) {
+                throw new IndexOutOfBoundsException("Start: " + start + ", end: " + end + ", length: " + length);
+            }
+            return new String(chars, start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, 0, length);
+        }
+    }
+
+    /**
+     * The window of the last lines read, index 0 being the current line.
+     */
+    public static final class LineWindow extends AbstractList<CharSequence> {
+
+        private final Line[] lines;
+
+        // ring buffer index of the current line
+        private int head = -1;
+
+        private int size = 0;
+
+        private LineWindow(int capacity) {
+            lines = new Line[capacity];
+            for (int i = 0; i < capacity; i++) {
+                lines[i] = new Line();
+            }
+        }
+
+        private Line next() {
+            head = (head + 1) % lines.length;
+            size = Math.min(size + 1, lines.length);
+            Line line = lines[head];
+            line.length = 0;
+            return line;
+        }
+
+        @Override
+        public CharSequence get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+            }
+            return lines[(head - index + lines.length) % lines.length];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private final Reader reader;
+
+    private final int bufferSize;
+
+    public BufferedLineParser(Reader reader, int bufferSize) {
+        this.reader = Objects.requireNonNull(reader);
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Invalid buffer size: " + bufferSize);
+        }
         this.bufferSize = bufferSize;
     }
 
-    public void parse(Consumer<List<String>> consumer) throws IOException {
-        List<String> lineBuffer = new ArrayList<>();
-        String line;
-        while ((line = reader.readLine()) != null) {
-            lineBuffer.add(0, line);
-            if (lineBuffer.size() > bufferSize) {
-                lineBuffer.remove(lineBuffer.size() - 1);
+    /**
+     * Same as {@link #parse(Consumer)}, the window gives the lines as views which are only valid during the call
+     * to the consumer.
+     */
+    public void parseWindow(Consumer<LineWindow> consumer) throws IOException {
+        Objects.requireNonNull(consumer);
+        parse(new LineWindow(bufferSize), consumer);
+    }
+
+    private void parse(LineWindow window, Consumer<LineWindow> consumer) throws IOException {
+        char[] buffer = new char[READ_BUFFER_SIZE];
+        Line line = null;
+        boolean skipLf = false;
+        int n;
+        while ((n = reader.read(buffer)) != -1) {
+            int start = 0;
+            for (int i = 0; i < n; i++) {
+                char c = buffer[i];
+                if (c == '\n' || c == '\r') {
+                    if (c == '\n' && skipLf) {
+                        // second character of a \r\n line break
+                        start = i + 1;
+                    } else {
+                        if (line == null) {
+                            line = window.next();
+                        }
+                        line.append(buffer, start, i - start);
+                        start = i + 1;
+                        consumer.accept(window);
+                        line = null;
+                    }
+                    skipLf = c == '\r';
+                } else {
+                    skipLf = false;
+                }
+            }
+            if (start < n) {
+                if (line == null) {
+                    line = window.next();
+                }
+                line.append(buffer, start, n - start);
             }
-            consumer.accept(lineBuffer);
+        }
+        // last line without line break
+        if (line != null) {
+            consumer.accept(window);
         }
     }
 
+    /**
+     * Parse the text and give to the consumer, for each line, the list of the last lines read, the most recent one
+     * first.
+     */
+    public void parse(Consumer<List<String>> consumer) throws IOException {
+        Objects.requireNonNull(consumer);
+        LineWindow window = new LineWindow(bufferSize);
+        List<String> lines = new AbstractList<String>() {
+            @Override
+            public String get(int index) {
+                return window.get(index).toString();
+            }
+
+            @Override
+            public int size() {
+                return window.size();
+            }
+        };
+        parse(window, w -> consumer.accept(lines));
+    }
 }
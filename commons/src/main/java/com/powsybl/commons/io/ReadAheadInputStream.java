@@ -0,0 +1,259 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An input stream reading its source on a background thread, a few chunks in advance. Wrapping a decompressing
+ * stream with it allows parsing and decompression to run at the same time.
+ *
+ * <p>Background reads run by default on a shared pool of daemon threads, bounded by the number of processors. When
+ * the executor has no thread left, the stream reads its source directly on the calling thread, so opening many
+ * streams never creates more threads nor waits for another stream to be consumed.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class ReadAheadInputStream extends InputStream {
+
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    public static final int DEFAULT_CHUNK_COUNT = 4;
+
+    private static final byte[] END_OF_STREAM = new byte[0];
+
+    private static final int NEW = 0;
+    private static final int RUNNING = 1;
+    private static final int DONE = 2;
+
+    private static final Executor DEFAULT_EXECUTOR = createDefaultExecutor();
+
+    private static Executor createDefaultExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "read-ahead-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        // no queue, a task is rejected when all the threads are busy and the stream is then read directly
+        return new ThreadPoolExecutor(0, Runtime.getRuntime().availableProcessors(), 60, TimeUnit.SECONDS,
+                                      new SynchronousQueue<>(), threadFactory);
+    }
+
+    private final InputStream source;
+
+    private final BlockingQueue<byte[]> chunks;
+
+    // the background reader state, the thread is only interrupted while running this stream task
+    private int state = NEW;
+
+    private Thread reader;
+
+    private final CountDownLatch readerDone = new CountDownLatch(1);
+
+    // true if the source is read on the calling thread, the executor having rejected the background reader
+    private final boolean direct;
+
+    private volatile Exception error;
+
+    private volatile boolean closed = false;
+
+    private byte[] chunk;
+
+    private int position = 0;
+
+    public ReadAheadInputStream(InputStream source) {
+        this(source, DEFAULT_CHUNK_SIZE, DEFAULT_CHUNK_COUNT);
+    }
+
+    public ReadAheadInputStream(InputStream source, int chunkSize, int chunkCount) {
+        this(source, chunkSize, chunkCount, DEFAULT_EXECUTOR);
+    }
+
+    public ReadAheadInputStream(InputStream source, int chunkSize, int chunkCount, Executor executor) {
+        this.source = Objects.requireNonNull(source);
+        Objects.requireNonNull(executor);
+        if (chunkSize <= 0 || chunkCount <= 0) {
+            throw new IllegalArgumentException("Invalid chunk size or count: " + chunkSize + ", " + chunkCount);
+        }
+        chunks = new ArrayBlockingQueue<>(chunkCount);
+        boolean rejected = false;
+        try {
+            executor.execute(() -> runReader(chunkSize));
+        } catch (RejectedExecutionException e) {
+            rejected = true;
+        }
+        direct = rejected;
+    }
+
+    private void runReader(int chunkSize) {
+        synchronized (this) {
+            if (state != NEW) {
+                // closed before being started
+                return;
+            }
+            state = RUNNING;
+            reader = Thread.currentThread();
+        }
+        try {
+            readAhead(chunkSize);
+        } finally {
+            synchronized (this) {
+                state = DONE;
+                reader = null;
+                // an interruption by close must not leak to the next task of the pool thread
+                Thread.interrupted();
+            }
+            readerDone.countDown();
+        }
+    }
+
+    private void readAhead(int chunkSize) {
+        try {
+            while (!closed) {
+                byte[] buffer = new byte[chunkSize];
+                int length = 0;
+                int n = 0;
+                while (length < chunkSize && (n = source.read(buffer, length, chunkSize - length)) != -1) {
+                    length += n;
+                }
+                if (length > 0) {
+                    chunks.put(length == chunkSize ? buffer : Arrays.copyOf(buffer, length));
+                }
+                if (n == -1) {
+                    break;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            error = e;
+        } catch (InterruptedException e) {
+            // interrupted by close
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            chunks.put(END_OF_STREAM);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void checkNotClosed() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    /**
+     * Make sure the current chunk has remaining bytes, return false at the end of the stream.
+     */
+    private boolean nextChunk() throws IOException {
+        checkNotClosed();
+        if (chunk == END_OF_STREAM) {
+            return false;
+        }
+        if (chunk == null || position == chunk.length) {
+            try {
+                chunk = chunks.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            position = 0;
+            if (chunk == END_OF_STREAM) {
+                if (error != null) {
+                    throw error instanceof IOException ? (IOException) error : new IOException(error);
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (direct) {
+            checkNotClosed();
+            return source.read();
+        }
+        if (!nextChunk()) {
+            return -1;
+        }
+        return chunk[position++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.requireNonNull(b);
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (direct) {
+            checkNotClosed();
+            return source.read(b, off, len);
+        }
+        if (!nextChunk()) {
+            return -1;
+        }
+        int n = Math.min(len, chunk.length - position);
+        System.arraycopy(chunk, position, b, off, n);
+        position += n;
+        return n;
+    }
+
+    @Override
+    public int available() throws IOException {
+        if (direct) {
+            return closed ? 0 : source.available();
+        }
+        return chunk == null || chunk == END_OF_STREAM ? 0 : chunk.length - position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        boolean running;
+        synchronized (this) {
+            running = state == RUNNING;
+            if (running) {
+                reader.interrupt();
+            } else if (state == NEW) {
+                // not started yet, the task will return without reading
+                state = DONE;
+            }
+        }
+        try {
+            if (running) {
+                readerDone.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            source.close();
+        }
+    }
+}
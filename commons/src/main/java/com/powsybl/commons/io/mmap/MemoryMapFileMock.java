@@ -24,6 +24,11 @@ public class MemoryMapFileMock implements MemoryMappedFile {
         return ByteBuffer.allocate(size);
     }
 
+    @Override
+    public ByteBuffer getReadOnlyBuffer() throws IOException {
+        return ByteBuffer.allocate(0).asReadOnlyBuffer();
+    }
+
     @Override
     public void close() throws IOException {
         // nothing to close in the mock
@@ -19,6 +19,11 @@ public interface MemoryMappedFile extends AutoCloseable {
 
     ByteBuffer getBuffer(int size) throws IOException;
 
+    /**
+     * Map the whole file in read only mode. The returned buffer stays valid after the file is closed.
+     */
+    ByteBuffer getReadOnlyBuffer() throws IOException;
+
     @Override
     void close() throws IOException;
 
@@ -11,6 +11,7 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.Objects;
 
 /**
@@ -40,6 +41,17 @@ public class MemoryMappedFileImpl implements MemoryMappedFile {
         return raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
     }
 
+    @Override
+    public ByteBuffer getReadOnlyBuffer() throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File " + file + " is too large to be mapped (" + size + " bytes)");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
     @Override
     public void close() throws IOException {
         if (raf != null) {
@@ -16,6 +16,7 @@ import org.junit.Test;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
@@ -94,6 +95,10 @@ public abstract class AbstractDataSourceTest {
         try (InputStream is = dataSource.newInputStream("dummy.txt")) {
             assertEquals("otherline1", new String(ByteStreams.toByteArray(is), StandardCharsets.UTF_8));
         }
+        assertEquals("otherline1", StandardCharsets.UTF_8.decode(dataSource.newByteBuffer("dummy.txt")).toString());
+        try (InputStream is = Channels.newInputStream(dataSource.newChannel("dummy.txt"))) {
+            assertEquals("otherline1", new String(ByteStreams.toByteArray(is), StandardCharsets.UTF_8));
+        }
     }
 
     @Test
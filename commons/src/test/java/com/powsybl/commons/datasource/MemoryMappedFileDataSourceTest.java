@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.datasource;
+
+import com.google.common.io.ByteStreams;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class MemoryMappedFileDataSourceTest extends AbstractDataSourceTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Override
+    protected DataSource createDataSource() {
+        return new MemoryMappedFileDataSource(testDir, getBaseName());
+    }
+
+    @Test
+    public void mappingTest() throws IOException {
+        Path dir = folder.newFolder().toPath();
+        Files.write(dir.resolve("foo.bar"), "content".getBytes(StandardCharsets.UTF_8));
+        DataSource dataSource = new MemoryMappedFileDataSource(dir, "foo");
+
+        ByteBuffer buffer = dataSource.newByteBuffer(null, "bar");
+        assertTrue(buffer instanceof MappedByteBuffer);
+        assertTrue(buffer.isReadOnly());
+        assertEquals("content", StandardCharsets.UTF_8.decode(buffer).toString());
+
+        try (ReadableByteChannel channel = dataSource.newChannel(null, "bar")) {
+            assertTrue(channel instanceof FileChannel);
+            try (InputStream is = Channels.newInputStream(channel)) {
+                assertEquals("content", new String(ByteStreams.toByteArray(is), StandardCharsets.UTF_8));
+            }
+        }
+
+        // generic data source maps uncompressed files only on demand
+        assertFalse(new GenericReadOnlyDataSource(dir, "foo").newByteBuffer(null, "bar") instanceof MappedByteBuffer);
+        assertTrue(new GenericReadOnlyDataSource(dir, "foo", null, true).newByteBuffer(null, "bar") instanceof MappedByteBuffer);
+    }
+
+    @Test
+    public void observerTest() throws IOException {
+        Path dir = folder.newFolder().toPath();
+        Path file = dir.resolve("foo.bar");
+        Files.write(file, "content".getBytes(StandardCharsets.UTF_8));
+        List<String> events = new ArrayList<>();
+        DataSourceObserver observer = new DataSourceObserver() {
+            @Override
+            public void opened(String streamName) {
+                events.add("opened " + streamName);
+            }
+
+            @Override
+            public void closed(String streamName) {
+                events.add("closed " + streamName);
+            }
+        };
+        DataSource dataSource = new MemoryMappedFileDataSource(dir, "foo", observer);
+
+        // a buffer is notified as opened and closed once mapped
+        assertEquals("content", StandardCharsets.UTF_8.decode(dataSource.newByteBuffer(null, "bar")).toString());
+        assertEquals(Arrays.asList("opened " + file, "closed " + file), events);
+
+        events.clear();
+        try (ReadableByteChannel channel = dataSource.newChannel(null, "bar")) {
+            assertEquals(Collections.singletonList("opened " + file), events);
+            assertTrue(channel.isOpen());
+            assertEquals(7, channel.read(ByteBuffer.allocate(16)));
+        }
+        assertEquals(Arrays.asList("opened " + file, "closed " + file), events);
+    }
+
+    @Test(expected = IOException.class)
+    public void notFoundTest() throws IOException {
+        new MemoryMappedFileDataSource(folder.newFolder().toPath(), "foo").newByteBuffer(null, "bar");
+    }
+}
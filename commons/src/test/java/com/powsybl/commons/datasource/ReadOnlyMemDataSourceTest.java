@@ -11,6 +11,8 @@ import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 
 import static org.junit.Assert.*;
@@ -49,11 +51,19 @@ public class ReadOnlyMemDataSourceTest {
         assertArrayEquals(getUncompressedData(), ByteStreams.toByteArray(dataSource.newInputStream("data.xiidm")));
         assertArrayEquals(getUncompressedData(), ByteStreams.toByteArray(dataSource.newInputStream(null, "xiidm")));
 
+        ByteBuffer buffer = dataSource.newByteBuffer(null, "xiidm");
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        assertArrayEquals(getUncompressedData(), bytes);
+        assertArrayEquals(getUncompressedData(), ByteStreams.toByteArray(Channels.newInputStream(dataSource.newChannel(null, "xiidm"))));
+
         return dataSource;
     }
 
     @Test
     public void test() throws IOException {
-        testDataSource("");
+        ReadOnlyMemDataSource dataSource = testDataSource("");
+        // in memory data is not copied but cannot be modified
+        assertTrue(dataSource.newByteBuffer("data.xiidm").isReadOnly());
     }
 }
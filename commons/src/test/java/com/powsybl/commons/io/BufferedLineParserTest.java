@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.io;
+
+import com.google.common.base.Strings;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class BufferedLineParserTest {
+
+    private static List<List<String>> parse(String text, int bufferSize) throws IOException {
+        List<List<String>> windows = new ArrayList<>();
+        new BufferedLineParser(new StringReader(text), bufferSize).parse(lines -> windows.add(new ArrayList<>(lines)));
+        return windows;
+    }
+
+    private static List<List<String>> parseWindow(String text, int bufferSize) throws IOException {
+        List<List<String>> windows = new ArrayList<>();
+        new BufferedLineParser(new StringReader(text), bufferSize)
+                .parseWindow(window -> windows.add(window.stream().map(CharSequence::toString).collect(Collectors.toList())));
+        return windows;
+    }
+
+    @Test
+    public void test() throws IOException {
+        List<List<String>> expected = Arrays.asList(Collections.singletonList("a"),
+                                                    Arrays.asList("b", "a"),
+                                                    Arrays.asList("", "b"),
+                                                    Arrays.asList("d", ""));
+        for (String text : Arrays.asList("a\nb\n\nd", "a\nb\n\nd\n", "a\r\nb\r\n\r\nd\r\n", "a\rb\r\rd")) {
+            assertEquals(expected, parse(text, 2));
+            assertEquals(expected, parseWindow(text, 2));
+        }
+        assertTrue(parse("", 2).isEmpty());
+        assertEquals(Collections.singletonList(Collections.singletonList("")), parse("\n", 2));
+    }
+
+    @Test
+    public void longLinesTest() throws IOException {
+        // lines longer than the read buffer and than the initial line capacity
+        String line1 = Strings.repeat("x", 10000);
+        String line2 = Strings.repeat("y", 200);
+        List<List<String>> windows = parseWindow(line1 + "\r\n" + line2 + "\n" + line1, 3);
+        assertEquals(3, windows.size());
+        assertEquals(Arrays.asList(line1, line2, line1), windows.get(2));
+    }
+
+    @Test
+    public void lineViewTest() throws IOException {
+        new BufferedLineParser(new StringReader("hello world\n"), 1).parseWindow(window -> {
+            CharSequence line = window.get(0);
+            assertEquals(11, line.length());
+            assertEquals('w', line.charAt(6));
+            assertEquals("world", line.subSequence(6, 11).toString());
+            try {
+                window.get(1);
+                fail();
+            } catch (IndexOutOfBoundsException ignored) {
+            }
+        });
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.io;
+
+import com.google.common.io.ByteStreams;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class ParallelGzipOutputStreamTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static byte[] createData(int size) {
+        // compressible data with some randomness
+        Random random = new Random(0);
+        StringBuilder builder = new StringBuilder(size);
+        while (builder.length() < size) {
+            builder.append("<bus id=\"B").append(random.nextInt(1000)).append("\" v=\"").append(random.nextFloat()).append("\"/>\n");
+        }
+        return builder.substring(0, size).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private byte[] compress(byte[] data, int blockSize) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (OutputStream os = new ParallelGzipOutputStream(bos, blockSize, Deflater.DEFAULT_COMPRESSION, executor, 3)) {
+            // write with a buffer size not aligned with blocks
+            for (int i = 0; i < data.length; i += 1000) {
+                os.write(data, i, Math.min(1000, data.length - i));
+            }
+        }
+        return bos.toByteArray();
+    }
+
+    private static byte[] decompress(byte[] compressed) throws IOException {
+        try (GZIPInputStream is = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return ByteStreams.toByteArray(is);
+        }
+    }
+
+    @Test
+    public void test() throws IOException {
+        for (int size : new int[] {0, 10, 4096, 100000, 1000000}) {
+            byte[] data = createData(size);
+            byte[] compressed = compress(data, 16 * 1024);
+            assertArrayEquals(data, decompress(compressed));
+            if (size > 4096) {
+                assertTrue(compressed.length < data.length / 2);
+            }
+        }
+    }
+
+    @Test
+    public void singleByteWriteTest() throws IOException {
+        byte[] data = createData(50000);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (OutputStream os = new ParallelGzipOutputStream(bos, 1024, Deflater.BEST_SPEED, executor, 3)) {
+            for (byte b : data) {
+                os.write(b);
+            }
+            os.flush();
+        }
+        assertArrayEquals(data, decompress(bos.toByteArray()));
+    }
+
+    @Test(expected = IOException.class)
+    public void writeAfterCloseTest() throws IOException {
+        OutputStream os = new ParallelGzipOutputStream(new ByteArrayOutputStream());
+        os.close();
+        os.close();
+        os.write(1);
+    }
+}
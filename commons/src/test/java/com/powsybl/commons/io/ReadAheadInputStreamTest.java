@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.io;
+
+import com.google.common.io.ByteStreams;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class ReadAheadInputStreamTest {
+
+    private static byte[] createData(int size) {
+        byte[] data = new byte[size];
+        new Random(0).nextBytes(data);
+        return data;
+    }
+
+    @Test
+    public void test() throws IOException {
+        for (int size : new int[] {0, 1, 99, 100, 101, 12345}) {
+            byte[] data = createData(size);
+            try (InputStream is = new ReadAheadInputStream(new ByteArrayInputStream(data), 100, 2)) {
+                assertArrayEquals(data, ByteStreams.toByteArray(is));
+                assertEquals(-1, is.read());
+            }
+        }
+    }
+
+    @Test
+    public void singleByteReadTest() throws IOException {
+        byte[] data = createData(1000);
+        try (InputStream is = new ReadAheadInputStream(new ByteArrayInputStream(data), 64, 2)) {
+            for (byte b : data) {
+                assertEquals(b & 0xff, is.read());
+            }
+            assertEquals(-1, is.read());
+        }
+    }
+
+    @Test
+    public void earlyCloseTest() throws IOException {
+        boolean[] closed = new boolean[1];
+        InputStream source = new ByteArrayInputStream(createData(100000)) {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        InputStream is = new ReadAheadInputStream(source, 100, 2);
+        assertTrue(is.read() != -1);
+        // the background reader is blocked on a full queue and has to be stopped
+        is.close();
+        assertTrue(closed[0]);
+        try {
+            is.read();
+            fail();
+        } catch (IOException ignored) {
+        }
+    }
+
+    @Test
+    public void errorTest() throws IOException {
+        InputStream source = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("broken");
+            }
+        };
+        try (InputStream is = new ReadAheadInputStream(source)) {
+            is.read();
+            fail();
+        } catch (IOException e) {
+            assertEquals("broken", e.getMessage());
+        }
+    }
+
+    @Test
+    public void rejectedTest() throws IOException {
+        byte[] data = createData(12345);
+        // no thread available, the source is read on the calling thread
+        try (InputStream is = new ReadAheadInputStream(new ByteArrayInputStream(data), 100, 2, runnable -> {
+            throw new RejectedExecutionException();
+        })) {
+            assertEquals(data[0] & 0xff, is.read());
+            byte[] rest = ByteStreams.toByteArray(is);
+            assertEquals(data.length - 1, rest.length);
+            assertEquals(data[data.length - 1], rest[rest.length - 1]);
+            assertEquals(-1, is.read());
+        }
+    }
+
+    @Test
+    public void closeBeforeStartTest() throws IOException {
+        boolean[] closed = new boolean[1];
+        InputStream source = new ByteArrayInputStream(createData(1000)) {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        List<Runnable> tasks = new ArrayList<>();
+        InputStream is = new ReadAheadInputStream(source, 100, 2, tasks::add);
+        // the reader has not been started, close must not wait for it
+        is.close();
+        assertTrue(closed[0]);
+        assertEquals(1, tasks.size());
+        // started late, the reader does not touch the closed source
+        tasks.get(0).run();
+        assertEquals(1000, source.available());
+    }
+
+    @Test
+    public void executorTest() throws IOException {
+        byte[] data = createData(12345);
+        List<Runnable> tasks = new ArrayList<>();
+        try (InputStream is = new ReadAheadInputStream(new ByteArrayInputStream(data), 100, 200, tasks::add)) {
+            // run the reader synchronously, the queue being large enough for the whole data
+            tasks.forEach(Runnable::run);
+            assertArrayEquals(data, ByteStreams.toByteArray(is));
+        }
+    }
+}
@@ -44,4 +44,11 @@ public class MemoryMapFileMockTest {
         assertEquals(100, buffer.remaining());
     }
 
+    @Test
+    public void getReadOnlyBuffer() throws IOException {
+        ByteBuffer buffer = memoryMappedFile.getReadOnlyBuffer();
+        assertTrue(buffer.isReadOnly());
+        assertEquals(0, buffer.remaining());
+    }
+
 }
@@ -49,4 +49,13 @@ public class MemoryMappedFileImplTest {
         assertEquals(100, buffer.remaining());
     }
 
+    @Test
+    public void getReadOnlyBuffer() throws IOException {
+        memoryMappedFile.getBuffer(100).put((byte) 1);
+        ByteBuffer buffer = memoryMappedFile.getReadOnlyBuffer();
+        assertTrue(buffer.isReadOnly());
+        assertEquals(100, buffer.remaining());
+        assertEquals(1, buffer.get(0));
+    }
+
 }
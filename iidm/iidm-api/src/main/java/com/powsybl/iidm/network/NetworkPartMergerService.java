@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network;
+
+/**
+ * Service of a network implementation merging the parts of a network: each part is a network with
+ * the same id, built independently, for instance by another thread. Unlike
+ * {@link Network#merge(Network)}, the id of the network is kept and the dangling lines are not
+ * replaced by tie lines, so that the result is the same as if the network was built at once.
+ * <p>
+ * This is an extension point for the network readers, not part of the {@link Network} contract.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public interface NetworkPartMergerService {
+
+    /**
+     * @return true if the parts of this network can be merged by this service
+     */
+    boolean isMergeable(Network network);
+
+    /**
+     * Merge a part of a network. At the end of the merge the part is empty.
+     * @param network the network
+     * @param part the part, with the same id as the network
+     */
+    void mergePart(Network network, Network part);
+}
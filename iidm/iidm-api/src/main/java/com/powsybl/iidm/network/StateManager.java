@@ -66,6 +66,20 @@ public interface StateManager {
      */
     void cloneState(String sourceStateId, String targetStateId);
 
+    /**
+     * Clone an existing state to a new one or, if allowed, overwrite an existing
+     * one. Overwriting a state is a way to reset it to the values of the source
+     * state, reusing its memory instead of removing it and cloning a new one.
+     *
+     * @param sourceStateId the source state id
+     * @param targetStateId the target state id
+     * @param mayOverwrite if true, the target state is overwritten if it already exists
+     * @throws com.powsybl.commons.PowsyblException
+     *                         if the source state is not found or if the target
+     *                         state already exists and mayOverwrite is false
+     */
+    void cloneState(String sourceStateId, String targetStateId, boolean mayOverwrite);
+
     /**
      * Remove a state.
      *
@@ -83,4 +97,15 @@ public interface StateManager {
 
     boolean isStateMultiThreadAccessAllowed();
 
+    /**
+     * Allows states to be cloned lazily. When this option is activated, values
+     * of a cloned state are shared with the source state and only copied at the
+     * first modification, so that the cost of a clone is proportional to what is
+     * actually modified in the new state.
+     * @param allow
+     */
+    void allowStateCopyOnWrite(boolean allow);
+
+    boolean isStateCopyOnWriteAllowed();
+
 }
@@ -26,7 +26,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -256,6 +259,74 @@ public final class Importers {
         return importData(format, new FileDataSource(Paths.get(directory), baseName), parameters);
     }
 
+    private static Network merge(Network network, Network other) {
+        network.merge(other);
+        return network;
+    }
+
+    /**
+     * Import several data sources in parallel and merge the resulting networks, for instance the
+     * networks of the different TSOs of a UCTE area. Data sources are imported and converted on the
+     * executor of the computation manager, then networks are merged pairwise, as soon as both
+     * networks of a pair are available: the first with the second, the third with the fourth, and so
+     * on, until only one network remains. Merges of the same level run in parallel and the size of
+     * the networks to merge only grows logarithmically with the number of data sources.
+     * <p>
+     * The order of the data sources is kept, so the merged network is the same as the one obtained
+     * by importing and merging the data sources one after the other.
+     *
+     * @param importer the importer
+     * @param dataSources data sources to import
+     * @param parameters some properties to configure the import
+     * @param computationManager computation manager providing the executor
+     * @return the merged network
+     */
+    public static Network importAndMerge(Importer importer, List<ReadOnlyDataSource> dataSources, Properties parameters,
+                                         ComputationManager computationManager) {
+        Objects.requireNonNull(importer);
+        Objects.requireNonNull(dataSources);
+        Objects.requireNonNull(computationManager);
+        if (dataSources.isEmpty()) {
+            throw new IllegalArgumentException("Empty data source list");
+        }
+        Executor executor = computationManager.getExecutor();
+        List<CompletableFuture<Network>> networks = dataSources.stream()
+                .map(dataSource -> CompletableFuture.supplyAsync(() -> importer.importData(dataSource, parameters), executor))
+                .collect(Collectors.toList());
+        while (networks.size() > 1) {
+            List<CompletableFuture<Network>> mergedNetworks = new ArrayList<>((networks.size() + 1) / 2);
+            for (int i = 0; i < networks.size(); i += 2) {
+                if (i + 1 < networks.size()) {
+                    mergedNetworks.add(networks.get(i).thenCombineAsync(networks.get(i + 1), Importers::merge, executor));
+                } else {
+                    mergedNetworks.add(networks.get(i));
+                }
+            }
+            networks = mergedNetworks;
+        }
+        try {
+            return networks.get(0).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public static Network importAndMerge(String format, List<ReadOnlyDataSource> dataSources, Properties parameters,
+                                         ComputationManager computationManager) {
+        Importer importer = getImporter(format, computationManager);
+        if (importer == null) {
+            throw new PowsyblException("Import format " + format + " not supported");
+        }
+        return importAndMerge(importer, dataSources, parameters, computationManager);
+    }
+
+    public static Network importAndMerge(String format, List<ReadOnlyDataSource> dataSources, Properties parameters) {
+        return importAndMerge(format, dataSources, parameters, LocalComputationManager.getDefault());
+    }
+
     public static void importAll(Path dir, Importer importer, boolean parallel, Consumer<Network> consumer) throws IOException, InterruptedException, ExecutionException {
         importAll(dir, importer, parallel, consumer, null);
     }
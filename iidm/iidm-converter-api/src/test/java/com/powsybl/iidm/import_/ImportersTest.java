@@ -9,14 +9,24 @@ package com.powsybl.iidm.import_;
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
 import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import com.powsybl.commons.datasource.ReadOnlyMemDataSource;
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.iidm.network.*;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -43,4 +53,93 @@ public class ImportersTest {
         assertTrue(dataSource.exists("foo.txt"));
     }
 
+    private static void createDanglingLine(VoltageLevel vl, String busId, String id, String xnode) {
+        vl.newDanglingLine()
+                .setId(id)
+                .setConnectableBus(busId)
+                .setBus(busId)
+                .setP0(0f)
+                .setQ0(0f)
+                .setR(1f)
+                .setX(1f)
+                .setG(0f)
+                .setB(0f)
+                .setUcteXnodeCode(xnode)
+                .add();
+    }
+
+    /**
+     * Importer of a chain of networks: network i is connected to network i - 1 and network i + 1
+     * by dangling lines having the same xnode code.
+     */
+    private static class ChainImporter implements Importer {
+
+        private final int size;
+
+        ChainImporter(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public String getFormat() {
+            return "CHAIN";
+        }
+
+        @Override
+        public String getComment() {
+            return "";
+        }
+
+        @Override
+        public boolean exists(ReadOnlyDataSource dataSource) {
+            return true;
+        }
+
+        @Override
+        public Network importData(ReadOnlyDataSource dataSource, Properties parameters) {
+            int i = Integer.parseInt(dataSource.getBaseName().substring(1));
+            Network network = NetworkFactory.create(dataSource.getBaseName(), getFormat());
+            VoltageLevel vl = network.newSubstation()
+                    .setId("s" + i)
+                    .setCountry(Country.values()[i])
+                    .add()
+                    .newVoltageLevel()
+                    .setId("vl" + i)
+                    .setNominalV(380f)
+                    .setTopologyKind(TopologyKind.BUS_BREAKER)
+                    .add();
+            vl.getBusBreakerView().newBus()
+                    .setId("b" + i)
+                    .add();
+            if (i > 0) {
+                createDanglingLine(vl, "b" + i, "dl" + i + "_left", "X" + (i - 1));
+            }
+            if (i < size - 1) {
+                createDanglingLine(vl, "b" + i, "dl" + i + "_right", "X" + i);
+            }
+            return network;
+        }
+    }
+
+    @Test
+    public void importAndMerge() {
+        int size = 5;
+        List<ReadOnlyDataSource> dataSources = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            dataSources.add(new ReadOnlyMemDataSource("n" + i));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ComputationManager computationManager = Mockito.mock(ComputationManager.class);
+            Mockito.when(computationManager.getExecutor()).thenReturn(executor);
+            Network network = Importers.importAndMerge(new ChainImporter(size), dataSources, null, computationManager);
+            assertEquals("n0 + n1 + n2 + n3 + n4", network.getId());
+            assertEquals(size, network.getSubstationCount());
+            assertEquals(0, network.getDanglingLineCount());
+            assertEquals(size - 1, network.getLineCount());
+            assertTrue(network.getLine("dl0_right + dl1_left").isTieLine());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -16,7 +16,7 @@ import java.util.List;
  *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
-abstract class AbstractConnectable<I extends Connectable<I>> extends AbstractIdentifiable<I> implements Connectable<I>, Stateful {
+abstract class AbstractConnectable<I extends Connectable<I>> extends AbstractIdentifiable<I> implements Connectable<I> {
 
     protected final List<TerminalExt> terminals = new ArrayList<>();
 
@@ -50,38 +50,13 @@ abstract class AbstractConnectable<I extends Connectable<I>> extends AbstractIde
             vl.clean();
         }
         network.getListeners().notifyRemoval(this);
+        for (TerminalExt terminal : terminals) {
+            terminal.releaseStateColumns();
+        }
     }
 
     protected void notifyUpdate(String attribute, Object oldValue, Object newValue) {
         getNetwork().getListeners().notifyUpdate(this, attribute, oldValue, newValue);
     }
 
-    @Override
-    public void extendStateArraySize(int initStateArraySize, int number, int sourceIndex) {
-        for (TerminalExt t : terminals) {
-            t.extendStateArraySize(initStateArraySize, number, sourceIndex);
-        }
-    }
-
-    @Override
-    public void reduceStateArraySize(int number) {
-        for (TerminalExt t : terminals) {
-            t.reduceStateArraySize(number);
-        }
-    }
-
-    @Override
-    public void deleteStateArrayElement(int index) {
-        for (TerminalExt t : terminals) {
-            t.deleteStateArrayElement(index);
-        }
-    }
-
-    @Override
-    public void allocateStateArrayElement(int[] indexes, int sourceIndex) {
-        for (TerminalExt t : terminals) {
-            t.allocateStateArrayElement(indexes, sourceIndex);
-        }
-    }
-
 }
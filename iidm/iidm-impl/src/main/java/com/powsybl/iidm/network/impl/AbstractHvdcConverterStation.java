@@ -17,6 +17,8 @@ abstract class AbstractHvdcConverterStation<T extends HvdcConverterStation<T>> e
 
     private float lossFactor = Float.NaN;
 
+    private HvdcLineImpl hvdcLine;
+
     AbstractHvdcConverterStation(String id, String name, float lossFactor) {
         super(id, name);
         this.lossFactor = lossFactor;
@@ -27,6 +29,14 @@ abstract class AbstractHvdcConverterStation<T extends HvdcConverterStation<T>> e
         return terminals.get(0);
     }
 
+    HvdcLineImpl getHvdcLine() {
+        return hvdcLine;
+    }
+
+    void setHvdcLine(HvdcLineImpl hvdcLine) {
+        this.hvdcLine = hvdcLine;
+    }
+
     @Override
     public ConnectableType getType() {
         return ConnectableType.HVDC_CONVERTER_STATION;
@@ -8,15 +8,13 @@ package com.powsybl.iidm.network.impl;
 
 import com.powsybl.iidm.network.Terminal;
 import com.powsybl.iidm.network.impl.util.Ref;
-import gnu.trove.list.array.TIntArrayList;
-import java.util.BitSet;
 import java.util.List;
 
 /**
  *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
-abstract class AbstractTapChanger<H extends TapChangerParent, C extends AbstractTapChanger<H, C, S>, S extends TapChangerStepImpl<S>> implements Stateful {
+abstract class AbstractTapChanger<H extends TapChangerParent, C extends AbstractTapChanger<H, C, S>, S extends TapChangerStepImpl<S>> {
 
     protected final Ref<? extends MultiStateObject> network;
 
@@ -28,27 +26,34 @@ abstract class AbstractTapChanger<H extends TapChangerParent, C extends Abstract
 
     protected TerminalExt regulationTerminal;
 
-    // attributes depending on the state
+    // attributes depending on the state, the int and boolean columns of the
+    // layout of the subclasses starting with the tap position and the regulating
+    // status
 
-    protected final TIntArrayList tapPosition;
+    protected static final int TAP_POSITION_COLUMN = 0;
 
-    protected final BitSet regulating;
+    protected static final int INT_COLUMN_COUNT = 1;
+
+    protected static final int REGULATING_COLUMN = 0;
+
+    protected static final int BOOLEAN_COLUMN_COUNT = 1;
+
+    protected final StateColumnStore stateColumns;
+
+    protected final int stateColumnNum;
 
     protected AbstractTapChanger(Ref<? extends MultiStateObject> network, H parent,
                                  int lowTapPosition, List<S> steps, TerminalExt regulationTerminal,
-                                 int tapPosition, boolean regulating) {
+                                 int tapPosition, boolean regulating, StateColumnStore.Layout stateColumnLayout) {
         this.network = network;
         this.parent = parent;
         this.lowTapPosition = lowTapPosition;
         this.steps = steps;
         this.regulationTerminal = regulationTerminal;
-        int stateArraySize = network.get().getStateManager().getStateArraySize();
-        this.tapPosition = new TIntArrayList(stateArraySize);
-        this.regulating = new BitSet(stateArraySize);
-        this.regulating.set(0, stateArraySize, regulating);
-        for (int i = 0; i < stateArraySize; i++) {
-            this.tapPosition.add(tapPosition);
-        }
+        stateColumns = network.get().getStateManager().getColumnStore(stateColumnLayout);
+        stateColumnNum = stateColumns.newNumber();
+        stateColumns.initInt(TAP_POSITION_COLUMN, stateColumnNum, tapPosition);
+        stateColumns.initBoolean(REGULATING_COLUMN, stateColumnNum, regulating);
     }
 
     protected abstract NetworkImpl getNetwork();
@@ -66,7 +71,7 @@ abstract class AbstractTapChanger<H extends TapChangerParent, C extends Abstract
     }
 
     public int getTapPosition() {
-        return tapPosition.get(network.get().getStateIndex());
+        return stateColumns.getInt(TAP_POSITION_COLUMN, network.get().getStateIndex(), stateColumnNum);
     }
 
     protected abstract String getTapChangerAttribute();
@@ -78,7 +83,7 @@ abstract class AbstractTapChanger<H extends TapChangerParent, C extends Abstract
                     + tapPosition + " [" + lowTapPosition + ", "
                     + getHighTapPosition() + "]");
         }
-        int oldValue = this.tapPosition.set(network.get().getStateIndex(), tapPosition);
+        int oldValue = stateColumns.setInt(TAP_POSITION_COLUMN, network.get().getStateIndex(), stateColumnNum, tapPosition);
         parent.getNetwork().getListeners().notifyUpdate(parent.getTransformer(), getTapChangerAttribute() + ".tapPosition", oldValue, tapPosition);
         return (C) this;
     }
@@ -97,11 +102,11 @@ abstract class AbstractTapChanger<H extends TapChangerParent, C extends Abstract
     }
 
     public boolean isRegulating() {
-        return regulating.get(network.get().getStateIndex());
+        return stateColumns.getBoolean(REGULATING_COLUMN, network.get().getStateIndex(), stateColumnNum);
     }
 
     public C setRegulating(boolean regulating) {
-        this.regulating.set(network.get().getStateIndex(), regulating);
+        stateColumns.setBoolean(REGULATING_COLUMN, network.get().getStateIndex(), stateColumnNum, regulating);
         return (C) this;
     }
 
@@ -120,31 +125,11 @@ abstract class AbstractTapChanger<H extends TapChangerParent, C extends Abstract
         return (C) this;
     }
 
-    @Override
-    public void extendStateArraySize(int initStateArraySize, int number, int sourceIndex) {
-        tapPosition.ensureCapacity(tapPosition.size() + number);
-        for (int i = 0; i < number; i++) {
-            regulating.set(initStateArraySize + i, regulating.get(sourceIndex));
-            tapPosition.add(tapPosition.get(sourceIndex));
-        }
-    }
-
-    @Override
-    public void reduceStateArraySize(int number) {
-        tapPosition.remove(tapPosition.size() - number, number);
-    }
-
-    @Override
-    public void deleteStateArrayElement(int index) {
-        // nothing to do
-    }
-
-    @Override
-    public void allocateStateArrayElement(int[] indexes, final int sourceIndex) {
-        for (int index : indexes) {
-            regulating.set(index, regulating.get(sourceIndex));
-            tapPosition.set(index, tapPosition.get(sourceIndex));
-        }
+    /**
+     * Release the attributes depending on the state, once the tap changer is removed.
+     */
+    void releaseStateColumns() {
+        stateColumns.releaseNumber(stateColumnNum);
     }
 
 }
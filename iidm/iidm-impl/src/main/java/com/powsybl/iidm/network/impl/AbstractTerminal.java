@@ -9,7 +9,6 @@ package com.powsybl.iidm.network.impl;
 import com.powsybl.iidm.network.ConnectableType;
 import com.powsybl.iidm.network.Terminal;
 import com.powsybl.iidm.network.impl.util.Ref;
-import gnu.trove.list.array.TFloatArrayList;
 
 /**
  *
@@ -25,21 +24,25 @@ abstract class AbstractTerminal implements TerminalExt {
 
     protected int num = -1;
 
-    // attributes depending on the state
+    // attributes depending on the state, the float columns of the layout of
+    // the subclasses starting with p and q
 
-    protected final TFloatArrayList p;
+    protected static final int P_COLUMN = 0;
 
-    protected final TFloatArrayList q;
+    protected static final int Q_COLUMN = 1;
 
-    AbstractTerminal(Ref<? extends MultiStateObject> network) {
+    protected static final int FLOAT_COLUMN_COUNT = 2;
+
+    protected final StateColumnStore stateColumns;
+
+    protected final int stateColumnNum;
+
+    AbstractTerminal(Ref<? extends MultiStateObject> network, StateColumnStore.Layout stateColumnLayout) {
         this.network = network;
-        int stateArraySize = network.get().getStateManager().getStateArraySize();
-        p = new TFloatArrayList(stateArraySize);
-        q = new TFloatArrayList(stateArraySize);
-        for (int i = 0; i < stateArraySize; i++) {
-            p.add(Float.NaN);
-            q.add(Float.NaN);
-        }
+        stateColumns = network.get().getStateManager().getColumnStore(stateColumnLayout);
+        stateColumnNum = stateColumns.newNumber();
+        stateColumns.initFloat(P_COLUMN, stateColumnNum, Float.NaN);
+        stateColumns.initFloat(Q_COLUMN, stateColumnNum, Float.NaN);
     }
 
     @Override
@@ -69,7 +72,7 @@ abstract class AbstractTerminal implements TerminalExt {
 
     @Override
     public float getP() {
-        return p.get(network.get().getStateIndex());
+        return stateColumns.getFloat(P_COLUMN, network.get().getStateIndex(), stateColumnNum);
     }
 
     @Override
@@ -80,14 +83,14 @@ abstract class AbstractTerminal implements TerminalExt {
         if (!Float.isNaN(p) && connectable.getType() == ConnectableType.SHUNT_COMPENSATOR) {
             throw new ValidationException(connectable, "cannot set active power on a shunt compensator");
         }
-        float oldValue = this.p.set(network.get().getStateIndex(), p);
+        float oldValue = stateColumns.setFloat(P_COLUMN, network.get().getStateIndex(), stateColumnNum, p);
         getConnectable().notifyUpdate("p" + (num != -1 ? num : ""), oldValue, p);
         return this;
     }
 
     @Override
     public float getQ() {
-        return q.get(network.get().getStateIndex());
+        return stateColumns.getFloat(Q_COLUMN, network.get().getStateIndex(), stateColumnNum);
     }
 
     @Override
@@ -95,7 +98,7 @@ abstract class AbstractTerminal implements TerminalExt {
         if (connectable.getType() == ConnectableType.BUSBAR_SECTION) {
             throw new ValidationException(connectable, "cannot set reactive power on a busbar section");
         }
-        float oldValue = this.q.set(network.get().getStateIndex(), q);
+        float oldValue = stateColumns.setFloat(Q_COLUMN, network.get().getStateIndex(), stateColumnNum, q);
         getConnectable().notifyUpdate("q" + (num != -1 ? num : ""), oldValue, q);
         return this;
     }
@@ -108,7 +111,8 @@ abstract class AbstractTerminal implements TerminalExt {
             return 0;
         }
         int stateIndex = network.get().getStateIndex();
-        return (float) (Math.hypot(p.get(stateIndex), q.get(stateIndex))
+        return (float) (Math.hypot(stateColumns.getFloat(P_COLUMN, stateIndex, stateColumnNum),
+                                   stateColumns.getFloat(Q_COLUMN, stateIndex, stateColumnNum))
                 / (Math.sqrt(3.) * getV() / 1000));
     }
 
@@ -123,32 +127,8 @@ abstract class AbstractTerminal implements TerminalExt {
     }
 
     @Override
-    public void extendStateArraySize(int initStateArraySize, int number, int sourceIndex) {
-        p.ensureCapacity(p.size() + number);
-        q.ensureCapacity(q.size() + number);
-        for (int i = 0; i < number; i++) {
-            p.add(p.get(sourceIndex));
-            q.add(q.get(sourceIndex));
-        }
-    }
-
-    @Override
-    public void reduceStateArraySize(int number) {
-        p.remove(p.size() - number, number);
-        q.remove(q.size() - number, number);
-    }
-
-    @Override
-    public void deleteStateArrayElement(int index) {
-        // nothing to do
-    }
-
-    @Override
-    public void allocateStateArrayElement(int[] indexes, int sourceIndex) {
-        for (int index : indexes) {
-            p.set(index, p.get(sourceIndex));
-            q.set(index, q.get(sourceIndex));
-        }
+    public void releaseStateColumns() {
+        stateColumns.releaseNumber(stateColumnNum);
     }
 
 }
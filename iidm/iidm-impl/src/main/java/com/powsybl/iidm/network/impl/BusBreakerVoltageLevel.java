@@ -212,7 +212,7 @@ class BusBreakerVoltageLevel extends AbstractVoltageLevel {
         }
 
         private void updateCache() {
-            if (states.get().cache != null) {
+            if (getState().cache != null) {
                 return;
             }
 
@@ -248,27 +248,27 @@ class BusBreakerVoltageLevel extends AbstractVoltageLevel {
                 }
             }
 
-            states.get().cache = new BusCache(mergedBuses, mapping);
+            getState().cache = new BusCache(mergedBuses, mapping);
         }
 
         private void invalidateCache() {
             // detach buses
-            if (states.get().cache != null) {
-                for (MergedBus bus : states.get().cache.getMergedBuses()) {
+            if (getState().cache != null) {
+                for (MergedBus bus : getState().cache.getMergedBuses()) {
                     bus.invalidate();
                 }
-                states.get().cache = null;
+                getState().cache = null;
             }
         }
 
         private Collection<MergedBus> getMergedBuses() {
             updateCache();
-            return states.get().cache.getMergedBuses();
+            return getState().cache.getMergedBuses();
         }
 
         private MergedBus getMergedBus(String mergedBusId, boolean throwException) {
             updateCache();
-            MergedBus bus = states.get().cache.getMergedBus(mergedBusId);
+            MergedBus bus = getState().cache.getMergedBus(mergedBusId);
             if (throwException && bus == null) {
                 throw new PowsyblException("Bus " + mergedBusId
                         + " not found in substation voltage level "
@@ -280,7 +280,7 @@ class BusBreakerVoltageLevel extends AbstractVoltageLevel {
         MergedBus getMergedBus(ConfiguredBus bus) {
             Objects.requireNonNull(bus, "bus is null");
             updateCache();
-            return states.get().cache.getMergedBus(bus);
+            return getState().cache.getMergedBus(bus);
         }
 
     }
@@ -288,33 +288,40 @@ class BusBreakerVoltageLevel extends AbstractVoltageLevel {
     final CalculatedBusTopology calculatedBusTopology
             = new CalculatedBusTopology();
 
-    private static final class StateImpl implements State {
+    private static final StateColumnStore.Layout STATE_COLUMN_LAYOUT = new StateColumnStore.Layout("BusBreakerVoltageLevel").caches(1);
 
-        private BusCache cache;
-
-        private StateImpl() {
-        }
+    private static final int STATE_COLUMN = 0;
 
-        private StateImpl(StateImpl other) {
-        }
+    private static final class StateImpl {
 
-        @Override
-        public StateImpl copy() {
-            return new StateImpl(this);
-        }
+        private BusCache cache;
 
     }
 
-    protected final StateArray<StateImpl> states;
+    // merged buses of each state, lazily created
+    private final StateColumnStore stateColumns;
+
+    private final int stateColumnNum;
 
     BusBreakerVoltageLevel(String id, String name, SubstationImpl substation,
                            float nominalV, float lowVoltageLimit, float highVoltageLimit) {
         super(id, name, substation, nominalV, lowVoltageLimit, highVoltageLimit);
-        states = new StateArray<>(substation.getNetwork().getRef(), StateImpl::new);
+        stateColumns = substation.getNetwork().getStateManager().getColumnStore(STATE_COLUMN_LAYOUT);
+        stateColumnNum = stateColumns.newNumber();
         // invalidate topology and connected components
         graph.addListener(this::invalidateCache);
     }
 
+    private StateImpl getState() {
+        int stateIndex = getNetwork().getStateIndex();
+        StateImpl state = stateColumns.getCache(STATE_COLUMN, stateIndex, stateColumnNum);
+        if (state == null) {
+            state = new StateImpl();
+            stateColumns.setCache(STATE_COLUMN, stateIndex, stateColumnNum, state);
+        }
+        return state;
+    }
+
     @Override
     public void invalidateCache() {
         calculatedBusTopology.invalidateCache();
@@ -322,6 +329,11 @@ class BusBreakerVoltageLevel extends AbstractVoltageLevel {
         getNetwork().getSynchronousComponentsManager().invalidate();
     }
 
+    @Override
+    public void invalidateCache(SwitchImpl aSwitch) {
+        invalidateCache();
+    }
+
     @Override
     public Iterable<Terminal> getTerminals() {
         return FluentIterable.from(graph.getVerticesObj())
@@ -594,6 +606,7 @@ class BusBreakerVoltageLevel extends AbstractVoltageLevel {
         getNetwork().getObjectStore().remove(bus);
         int v = buses.remove(bus.getId());
         graph.removeVertex(v);
+        bus.releaseStateColumns();
     }
 
     private void removeAllBuses() {
@@ -608,6 +621,7 @@ class BusBreakerVoltageLevel extends AbstractVoltageLevel {
         }
         for (ConfiguredBus bus : graph.getVerticesObj()) {
             getNetwork().getObjectStore().remove(bus);
+            bus.releaseStateColumns();
         }
         graph.removeAllVertices();
         buses.clear();
@@ -629,11 +643,13 @@ class BusBreakerVoltageLevel extends AbstractVoltageLevel {
         }
         SwitchImpl aSwitch = graph.removeEdge(e);
         getNetwork().getObjectStore().remove(aSwitch);
+        aSwitch.releaseStateColumns();
     }
 
     private void removeAllSwitches() {
         for (SwitchImpl s : graph.getEdgesObject()) {
             getNetwork().getObjectStore().remove(s);
+            s.releaseStateColumns();
         }
         graph.removeAllEdges();
         switches.clear();
@@ -793,26 +809,6 @@ class BusBreakerVoltageLevel extends AbstractVoltageLevel {
         }
     }
 
-    @Override
-    public void extendStateArraySize(int initStateArraySize, int number, int sourceIndex) {
-        states.push(number, () -> states.copy(sourceIndex));
-    }
-
-    @Override
-    public void reduceStateArraySize(int number) {
-        states.pop(number);
-    }
-
-    @Override
-    public void deleteStateArrayElement(int index) {
-        states.delete(index);
-    }
-
-    @Override
-    public void allocateStateArrayElement(int[] indexes, final int sourceIndex) {
-        states.allocate(indexes, () -> states.copy(sourceIndex));
-    }
-
     @Override
     public void printTopology() {
         printTopology(System.out, null);
@@ -10,8 +10,6 @@ import com.powsybl.iidm.network.Terminal;
 import com.powsybl.iidm.network.VoltageLevel;
 import com.powsybl.iidm.network.impl.util.Ref;
 
-import java.util.ArrayList;
-import java.util.BitSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -22,6 +20,15 @@ import java.util.Set;
  */
 class BusTerminal extends AbstractTerminal {
 
+    private static final StateColumnStore.Layout STATE_COLUMN_LAYOUT = new StateColumnStore.Layout("BusTerminal")
+            .floats(FLOAT_COLUMN_COUNT)
+            .booleans(1)
+            .objects(1);
+
+    private static final int CONNECTED_COLUMN = 0;
+
+    private static final int CONNECTABLE_BUS_ID_COLUMN = 0;
+
     private final NodeBreakerView nodeBreakerView = new NodeBreakerView() {
 
         @Override
@@ -67,39 +74,28 @@ class BusTerminal extends AbstractTerminal {
 
     };
 
-    // attributes depending on the state
-
-    private final BitSet connected;
-
-    private final ArrayList<String> connectableBusId;
-
     BusTerminal(Ref<? extends MultiStateObject> network, String connectableBusId, boolean connected) {
-        super(network);
+        super(network, STATE_COLUMN_LAYOUT);
         Objects.requireNonNull(connectableBusId);
-        int stateArraySize = network.get().getStateManager().getStateArraySize();
-        this.connectableBusId = new ArrayList<>(stateArraySize);
-        for (int i = 0; i < stateArraySize; i++) {
-            this.connectableBusId.add(connectableBusId);
-        }
-        this.connected = new BitSet(stateArraySize);
-        this.connected.set(0, stateArraySize, connected);
+        stateColumns.initObject(CONNECTABLE_BUS_ID_COLUMN, stateColumnNum, connectableBusId);
+        stateColumns.initBoolean(CONNECTED_COLUMN, stateColumnNum, connected);
     }
 
     void setConnectableBusId(String connectableBusId) {
-        this.connectableBusId.set(network.get().getStateIndex(), connectableBusId);
+        stateColumns.setObject(CONNECTABLE_BUS_ID_COLUMN, network.get().getStateIndex(), stateColumnNum, connectableBusId);
     }
 
     String getConnectableBusId() {
-        return this.connectableBusId.get(network.get().getStateIndex());
+        return stateColumns.getObject(CONNECTABLE_BUS_ID_COLUMN, network.get().getStateIndex(), stateColumnNum);
     }
 
     void setConnected(boolean connected) {
-        this.connected.set(network.get().getStateIndex(), connected);
+        stateColumns.setBoolean(CONNECTED_COLUMN, network.get().getStateIndex(), stateColumnNum, connected);
     }
 
     @Override
     public boolean isConnected() {
-        return this.connected.get(network.get().getStateIndex());
+        return stateColumns.getBoolean(CONNECTED_COLUMN, network.get().getStateIndex(), stateColumnNum);
     }
 
     @Override
@@ -137,37 +133,4 @@ class BusTerminal extends AbstractTerminal {
         return getClass().getSimpleName() + "[" + getConnectableBusId() + "]";
     }
 
-    @Override
-    public void extendStateArraySize(int initStateArraySize, int number, int sourceIndex) {
-        super.extendStateArraySize(initStateArraySize, number, sourceIndex);
-        connectableBusId.ensureCapacity(connectableBusId.size() + number);
-        for (int i = 0; i < number; i++) {
-            connectableBusId.add(connectableBusId.get(sourceIndex));
-            connected.set(initStateArraySize + i, connected.get(sourceIndex));
-        }
-    }
-
-    @Override
-    public void reduceStateArraySize(int number) {
-        super.reduceStateArraySize(number);
-        for (int i = 0; i < number; i++) {
-            connectableBusId.remove(connectableBusId.size() - 1);
-        }
-    }
-
-    @Override
-    public void deleteStateArrayElement(int index) {
-        super.deleteStateArrayElement(index);
-        connectableBusId.set(index, null);
-    }
-
-    @Override
-    public void allocateStateArrayElement(int[] indexes, int sourceIndex) {
-        super.allocateStateArrayElement(indexes, sourceIndex);
-        for (int index : indexes) {
-            connectableBusId.set(index, connectableBusId.get(sourceIndex));
-            connected.set(index, connected.get(sourceIndex));
-        }
-    }
-
 }
@@ -22,4 +22,9 @@ interface ConfiguredBus extends BusExt {
 
     void removeTerminal(BusTerminal t);
 
+    /**
+     * Release the attributes depending on the state, once the bus is removed.
+     */
+    void releaseStateColumns();
+
 }
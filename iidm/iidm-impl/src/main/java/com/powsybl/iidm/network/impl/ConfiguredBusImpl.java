@@ -9,9 +9,8 @@ package com.powsybl.iidm.network.impl;
 import com.powsybl.iidm.network.Component;
 import com.powsybl.iidm.network.Terminal;
 import com.powsybl.iidm.network.impl.util.Ref;
-import gnu.trove.list.array.TFloatArrayList;
-import gnu.trove.list.array.TIntArrayList;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -21,36 +20,43 @@ import java.util.stream.Stream;
  *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
-class ConfiguredBusImpl extends AbstractBus implements ConfiguredBus, Stateful {
+class ConfiguredBusImpl extends AbstractBus implements ConfiguredBus {
 
-    private final Ref<NetworkImpl> network;
+    private static final StateColumnStore.Layout STATE_COLUMN_LAYOUT = new StateColumnStore.Layout("ConfiguredBus")
+            .floats(2)
+            .ints(2)
+            .objects(1);
+
+    private static final int V_COLUMN = 0;
+
+    private static final int ANGLE_COLUMN = 1;
+
+    private static final int CONNECTED_COMPONENT_NUMBER_COLUMN = 0;
 
-    private final ArrayList<List<BusTerminal>> terminals;
+    private static final int SYNCHRONOUS_COMPONENT_NUMBER_COLUMN = 1;
 
-    private final TFloatArrayList v;
+    // unmodifiable list, replaced when a terminal is added or removed as it is
+    // shared between states
+    private static final int TERMINALS_COLUMN = 0;
 
-    private final TFloatArrayList angle;
+    private final Ref<NetworkImpl> network;
+
+    // attributes depending on the state
 
-    private final TIntArrayList connectedComponentNumber;
+    private final StateColumnStore stateColumns;
 
-    private final TIntArrayList synchronousComponentNumber;
+    private final int stateColumnNum;
 
     ConfiguredBusImpl(String id, VoltageLevelExt voltageLevel) {
         super(id, voltageLevel);
         network = voltageLevel.getNetwork().getRef();
-        int stateArraySize = network.get().getStateManager().getStateArraySize();
-        terminals = new ArrayList<>(stateArraySize);
-        v = new TFloatArrayList(stateArraySize);
-        angle = new TFloatArrayList(stateArraySize);
-        connectedComponentNumber = new TIntArrayList(stateArraySize);
-        synchronousComponentNumber = new TIntArrayList(stateArraySize);
-        for (int i = 0; i < stateArraySize; i++) {
-            terminals.add(new ArrayList<>());
-            v.add(Float.NaN);
-            angle.add(Float.NaN);
-            connectedComponentNumber.add(-1);
-            synchronousComponentNumber.add(-1);
-        }
+        stateColumns = network.get().getStateManager().getColumnStore(STATE_COLUMN_LAYOUT);
+        stateColumnNum = stateColumns.newNumber();
+        stateColumns.initObject(TERMINALS_COLUMN, stateColumnNum, Collections.emptyList());
+        stateColumns.initFloat(V_COLUMN, stateColumnNum, Float.NaN);
+        stateColumns.initFloat(ANGLE_COLUMN, stateColumnNum, Float.NaN);
+        stateColumns.initInt(CONNECTED_COMPONENT_NUMBER_COLUMN, stateColumnNum, -1);
+        stateColumns.initInt(SYNCHRONOUS_COMPONENT_NUMBER_COLUMN, stateColumnNum, -1);
     }
 
     @Override
@@ -70,24 +76,28 @@ class ConfiguredBusImpl extends AbstractBus implements ConfiguredBus, Stateful {
 
     @Override
     public int getTerminalCount() {
-        return terminals.get(network.get().getStateIndex()).size();
+        return getTerminals().size();
     }
 
     @Override
     public List<BusTerminal> getTerminals() {
-        return terminals.get(network.get().getStateIndex());
+        return stateColumns.getObject(TERMINALS_COLUMN, network.get().getStateIndex(), stateColumnNum);
     }
 
     @Override
     public void addTerminal(BusTerminal t) {
-        terminals.get(network.get().getStateIndex()).add(t);
+        List<BusTerminal> terminals = new ArrayList<>(getTerminals());
+        terminals.add(t);
+        stateColumns.setObject(TERMINALS_COLUMN, network.get().getStateIndex(), stateColumnNum, Collections.unmodifiableList(terminals));
     }
 
     @Override
     public void removeTerminal(BusTerminal t) {
-        if (!terminals.get(network.get().getStateIndex()).remove(t)) {
+        List<BusTerminal> terminals = new ArrayList<>(getTerminals());
+        if (!terminals.remove(t)) {
             throw new IllegalStateException("Terminal " + t + " not found");
         }
+        stateColumns.setObject(TERMINALS_COLUMN, network.get().getStateIndex(), stateColumnNum, Collections.unmodifiableList(terminals));
     }
 
     protected void notifyUpdate(String attribute, Object oldValue, Object newValue) {
@@ -96,7 +106,7 @@ class ConfiguredBusImpl extends AbstractBus implements ConfiguredBus, Stateful {
 
     @Override
     public float getV() {
-        return v.get(network.get().getStateIndex());
+        return stateColumns.getFloat(V_COLUMN, network.get().getStateIndex(), stateColumnNum);
     }
 
     @Override
@@ -104,88 +114,50 @@ class ConfiguredBusImpl extends AbstractBus implements ConfiguredBus, Stateful {
         if (v <= 0) {
             throw new ValidationException(this, "voltage cannot be <= 0");
         }
-        float oldValue = this.v.set(network.get().getStateIndex(), v);
+        float oldValue = stateColumns.setFloat(V_COLUMN, network.get().getStateIndex(), stateColumnNum, v);
         notifyUpdate("v", oldValue, v);
         return this;
     }
 
     @Override
     public float getAngle() {
-        return angle.get(network.get().getStateIndex());
+        return stateColumns.getFloat(ANGLE_COLUMN, network.get().getStateIndex(), stateColumnNum);
     }
 
     @Override
     public BusExt setAngle(float angle) {
-        float oldValue = this.angle.set(network.get().getStateIndex(), angle);
+        float oldValue = stateColumns.setFloat(ANGLE_COLUMN, network.get().getStateIndex(), stateColumnNum, angle);
         notifyUpdate("angle", oldValue, angle);
         return this;
     }
 
     @Override
     public void setConnectedComponentNumber(int connectedComponentNumber) {
-        this.connectedComponentNumber.set(network.get().getStateIndex(), connectedComponentNumber);
+        stateColumns.setInt(CONNECTED_COMPONENT_NUMBER_COLUMN, network.get().getStateIndex(), stateColumnNum, connectedComponentNumber);
     }
 
     @Override
     public Component getConnectedComponent() {
         NetworkImpl.ConnectedComponentsManager ccm = voltageLevel.getNetwork().getConnectedComponentsManager();
         ccm.update();
-        return ccm.getComponent(connectedComponentNumber.get(network.get().getStateIndex()));
+        return ccm.getComponent(stateColumns.getInt(CONNECTED_COMPONENT_NUMBER_COLUMN, network.get().getStateIndex(), stateColumnNum));
     }
 
     @Override
     public void setSynchronousComponentNumber(int componentNumber) {
-        this.synchronousComponentNumber.set(network.get().getStateIndex(), componentNumber);
+        stateColumns.setInt(SYNCHRONOUS_COMPONENT_NUMBER_COLUMN, network.get().getStateIndex(), stateColumnNum, componentNumber);
     }
 
     @Override
     public Component getSynchronousComponent() {
         NetworkImpl.SynchronousComponentsManager scm = voltageLevel.getNetwork().getSynchronousComponentsManager();
         scm.update();
-        return scm.getComponent(synchronousComponentNumber.get(network.get().getStateIndex()));
-    }
-
-    @Override
-    public void extendStateArraySize(int initStateArraySize, int number, int sourceIndex) {
-        terminals.ensureCapacity(terminals.size() + number);
-        v.ensureCapacity(v.size() + number);
-        angle.ensureCapacity(angle.size() + number);
-        connectedComponentNumber.ensureCapacity(connectedComponentNumber.size() + number);
-        synchronousComponentNumber.ensureCapacity(synchronousComponentNumber.size() + number);
-        for (int i = 0; i < number; i++) {
-            terminals.add(new ArrayList<>(terminals.get(sourceIndex)));
-            v.add(v.get(sourceIndex));
-            angle.add(angle.get(sourceIndex));
-            connectedComponentNumber.add(connectedComponentNumber.get(sourceIndex));
-            synchronousComponentNumber.add(synchronousComponentNumber.get(sourceIndex));
-        }
+        return scm.getComponent(stateColumns.getInt(SYNCHRONOUS_COMPONENT_NUMBER_COLUMN, network.get().getStateIndex(), stateColumnNum));
     }
 
     @Override
-    public void reduceStateArraySize(int number) {
-        for (int i = 0; i < number; i++) {
-            terminals.remove(terminals.size() - 1);
-        }
-        v.remove(v.size() - number, number);
-        angle.remove(angle.size() - number, number);
-        connectedComponentNumber.remove(connectedComponentNumber.size() - number, number);
-        synchronousComponentNumber.remove(synchronousComponentNumber.size() - number, number);
-    }
-
-    @Override
-    public void deleteStateArrayElement(int index) {
-        terminals.set(index, null);
-    }
-
-    @Override
-    public void allocateStateArrayElement(int[] indexes, int sourceIndex) {
-        for (int index : indexes) {
-            terminals.set(index, new ArrayList<>(terminals.get(sourceIndex)));
-            v.set(index, v.get(sourceIndex));
-            angle.set(index, angle.get(sourceIndex));
-            connectedComponentNumber.set(index, connectedComponentNumber.get(sourceIndex));
-            synchronousComponentNumber.set(index, synchronousComponentNumber.get(sourceIndex));
-        }
+    public void releaseStateColumns() {
+        stateColumns.releaseNumber(stateColumnNum);
     }
 
 }
@@ -10,7 +10,6 @@ import com.powsybl.iidm.network.CurrentLimitsAdder;
 import com.powsybl.iidm.network.ConnectableType;
 import com.powsybl.iidm.network.DanglingLine;
 import com.powsybl.iidm.network.impl.util.Ref;
-import gnu.trove.list.array.TFloatArrayList;
 
 /**
  *
@@ -18,6 +17,12 @@ import gnu.trove.list.array.TFloatArrayList;
  */
 class DanglingLineImpl extends AbstractConnectable<DanglingLine> implements DanglingLine, CurrentLimitsOwner<Void> {
 
+    private static final StateColumnStore.Layout STATE_COLUMN_LAYOUT = new StateColumnStore.Layout("DanglingLine").floats(2);
+
+    private static final int P0_COLUMN = 0;
+
+    private static final int Q0_COLUMN = 1;
+
     private final Ref<? extends MultiStateObject> network;
 
     private float r;
@@ -34,20 +39,17 @@ class DanglingLineImpl extends AbstractConnectable<DanglingLine> implements Dang
 
     // attributes depending on the state
 
-    private final TFloatArrayList p0;
+    private final StateColumnStore stateColumns;
 
-    private final TFloatArrayList q0;
+    private final int stateColumnNum;
 
     DanglingLineImpl(Ref<? extends MultiStateObject> network, String id, String name, float p0, float q0, float r, float x, float g, float b, String ucteXnodeCode) {
         super(id, name);
         this.network = network;
-        int stateArraySize = network.get().getStateManager().getStateArraySize();
-        this.p0 = new TFloatArrayList(stateArraySize);
-        this.q0 = new TFloatArrayList(stateArraySize);
-        for (int i = 0; i < stateArraySize; i++) {
-            this.p0.add(p0);
-            this.q0.add(q0);
-        }
+        stateColumns = network.get().getStateManager().getColumnStore(STATE_COLUMN_LAYOUT);
+        stateColumnNum = stateColumns.newNumber();
+        stateColumns.initFloat(P0_COLUMN, stateColumnNum, p0);
+        stateColumns.initFloat(Q0_COLUMN, stateColumnNum, q0);
         this.r = r;
         this.x = x;
         this.g = g;
@@ -65,6 +67,12 @@ class DanglingLineImpl extends AbstractConnectable<DanglingLine> implements Dang
         return terminals.get(0);
     }
 
+    @Override
+    public void remove() {
+        super.remove();
+        stateColumns.releaseNumber(stateColumnNum);
+    }
+
     @Override
     protected String getTypeDescription() {
         return "Dangling line";
@@ -72,26 +80,26 @@ class DanglingLineImpl extends AbstractConnectable<DanglingLine> implements Dang
 
     @Override
     public float getP0() {
-        return p0.get(network.get().getStateIndex());
+        return stateColumns.getFloat(P0_COLUMN, network.get().getStateIndex(), stateColumnNum);
     }
 
     @Override
     public DanglingLineImpl setP0(float p0) {
         ValidationUtil.checkP0(this, p0);
-        float oldValue = this.p0.set(network.get().getStateIndex(), p0);
+        float oldValue = stateColumns.setFloat(P0_COLUMN, network.get().getStateIndex(), stateColumnNum, p0);
         notifyUpdate("p0", oldValue, p0);
         return this;
     }
 
     @Override
     public float getQ0() {
-        return q0.get(network.get().getStateIndex());
+        return stateColumns.getFloat(Q0_COLUMN, network.get().getStateIndex(), stateColumnNum);
     }
 
     @Override
     public DanglingLineImpl setQ0(float q0) {
         ValidationUtil.checkQ0(this, q0);
-        float oldValue = this.q0.set(network.get().getStateIndex(), q0);
+        float oldValue = stateColumns.setFloat(Q0_COLUMN, network.get().getStateIndex(), stateColumnNum, q0);
         notifyUpdate("q0", oldValue, q0);
         return this;
     }
@@ -172,37 +180,4 @@ class DanglingLineImpl extends AbstractConnectable<DanglingLine> implements Dang
         return new CurrentLimitsAdderImpl<>(null, this);
     }
 
-    @Override
-    public void extendStateArraySize(int initStateArraySize, int number, int sourceIndex) {
-        super.extendStateArraySize(initStateArraySize, number, sourceIndex);
-        p0.ensureCapacity(p0.size() + number);
-        q0.ensureCapacity(q0.size() + number);
-        for (int i = 0; i < number; i++) {
-            p0.add(p0.get(sourceIndex));
-            q0.add(q0.get(sourceIndex));
-        }
-    }
-
-    @Override
-    public void reduceStateArraySize(int number) {
-        super.reduceStateArraySize(number);
-        p0.remove(p0.size() - number, number);
-        q0.remove(q0.size() - number, number);
-    }
-
-    @Override
-    public void deleteStateArrayElement(int index) {
-        super.deleteStateArrayElement(index);
-        // nothing to do
-    }
-
-    @Override
-    public void allocateStateArrayElement(int[] indexes, int sourceIndex) {
-        super.allocateStateArrayElement(indexes, sourceIndex);
-        for (int index : indexes) {
-            p0.set(index, p0.get(sourceIndex));
-            q0.set(index, q0.get(sourceIndex));
-        }
-    }
-
 }
@@ -8,9 +8,6 @@ package com.powsybl.iidm.network.impl;
 
 import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.impl.util.Ref;
-import gnu.trove.list.array.TFloatArrayList;
-
-import java.util.BitSet;
 
 /**
  *
@@ -18,6 +15,16 @@ import java.util.BitSet;
  */
 class GeneratorImpl extends AbstractConnectable<Generator> implements Generator, ReactiveLimitsOwner {
 
+    private static final StateColumnStore.Layout STATE_COLUMN_LAYOUT = new StateColumnStore.Layout("Generator").floats(3).booleans(1);
+
+    private static final int TARGET_P_COLUMN = 0;
+
+    private static final int TARGET_Q_COLUMN = 1;
+
+    private static final int TARGET_V_COLUMN = 2;
+
+    private static final int VOLTAGE_REGULATOR_ON_COLUMN = 0;
+
     private EnergySource energySource;
 
     private float minP;
@@ -32,13 +39,9 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
 
     // attributes depending on the state
 
-    private final BitSet voltageRegulatorOn;
-
-    private final TFloatArrayList targetP;
-
-    private final TFloatArrayList targetQ;
+    private final StateColumnStore stateColumns;
 
-    private final TFloatArrayList targetV;
+    private final int stateColumnNum;
 
     GeneratorImpl(Ref<? extends MultiStateObject> ref,
                   String id, String name, EnergySource energySource,
@@ -53,17 +56,12 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
         reactiveLimits = new MinMaxReactiveLimitsImpl(-Float.MAX_VALUE, Float.MAX_VALUE);
         this.regulatingTerminal = regulatingTerminal;
         this.ratedS = ratedS;
-        int stateArraySize = ref.get().getStateManager().getStateArraySize();
-        this.voltageRegulatorOn = new BitSet(stateArraySize);
-        this.targetP = new TFloatArrayList(stateArraySize);
-        this.targetQ = new TFloatArrayList(stateArraySize);
-        this.targetV = new TFloatArrayList(stateArraySize);
-        this.voltageRegulatorOn.set(0, stateArraySize, voltageRegulatorOn);
-        for (int i = 0; i < stateArraySize; i++) {
-            this.targetP.add(targetP);
-            this.targetQ.add(targetQ);
-            this.targetV.add(targetV);
-        }
+        stateColumns = ref.get().getStateManager().getColumnStore(STATE_COLUMN_LAYOUT);
+        stateColumnNum = stateColumns.newNumber();
+        stateColumns.initBoolean(VOLTAGE_REGULATOR_ON_COLUMN, stateColumnNum, voltageRegulatorOn);
+        stateColumns.initFloat(TARGET_P_COLUMN, stateColumnNum, targetP);
+        stateColumns.initFloat(TARGET_Q_COLUMN, stateColumnNum, targetQ);
+        stateColumns.initFloat(TARGET_V_COLUMN, stateColumnNum, targetV);
     }
 
     @Override
@@ -122,15 +120,16 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
 
     @Override
     public boolean isVoltageRegulatorOn() {
-        return voltageRegulatorOn.get(getNetwork().getStateIndex());
+        return stateColumns.getBoolean(VOLTAGE_REGULATOR_ON_COLUMN, getNetwork().getStateIndex(), stateColumnNum);
     }
 
     @Override
     public GeneratorImpl setVoltageRegulatorOn(boolean voltageRegulatorOn) {
         int stateIndex = getNetwork().getStateIndex();
-        ValidationUtil.checkVoltageControl(this, voltageRegulatorOn, targetV.get(stateIndex), targetQ.get(stateIndex));
-        boolean oldValue = this.voltageRegulatorOn.get(stateIndex);
-        this.voltageRegulatorOn.set(stateIndex, voltageRegulatorOn);
+        ValidationUtil.checkVoltageControl(this, voltageRegulatorOn,
+                stateColumns.getFloat(TARGET_V_COLUMN, stateIndex, stateColumnNum),
+                stateColumns.getFloat(TARGET_Q_COLUMN, stateIndex, stateColumnNum));
+        boolean oldValue = stateColumns.setBoolean(VOLTAGE_REGULATOR_ON_COLUMN, stateIndex, stateColumnNum, voltageRegulatorOn);
         notifyUpdate("voltageRegulatorOn", oldValue, voltageRegulatorOn);
         return this;
     }
@@ -149,41 +148,47 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
 
     @Override
     public float getTargetP() {
-        return targetP.get(getNetwork().getStateIndex());
+        return stateColumns.getFloat(TARGET_P_COLUMN, getNetwork().getStateIndex(), stateColumnNum);
     }
 
     @Override
     public GeneratorImpl setTargetP(float targetP) {
         ValidationUtil.checkActivePowerSetpoint(this, targetP);
-        float oldValue = this.targetP.set(getNetwork().getStateIndex(), targetP);
+        float oldValue = stateColumns.setFloat(TARGET_P_COLUMN, getNetwork().getStateIndex(), stateColumnNum, targetP);
         notifyUpdate("targetP", oldValue, targetP);
         return this;
     }
 
     @Override
     public float getTargetQ() {
-        return targetQ.get(getNetwork().getStateIndex());
+        return stateColumns.getFloat(TARGET_Q_COLUMN, getNetwork().getStateIndex(), stateColumnNum);
     }
 
     @Override
     public GeneratorImpl setTargetQ(float targetQ) {
         int stateIndex = getNetwork().getStateIndex();
-        ValidationUtil.checkVoltageControl(this, voltageRegulatorOn.get(stateIndex), targetV.get(stateIndex), targetQ);
-        float oldValue = this.targetQ.set(stateIndex, targetQ);
+        ValidationUtil.checkVoltageControl(this,
+                stateColumns.getBoolean(VOLTAGE_REGULATOR_ON_COLUMN, stateIndex, stateColumnNum),
+                stateColumns.getFloat(TARGET_V_COLUMN, stateIndex, stateColumnNum),
+                targetQ);
+        float oldValue = stateColumns.setFloat(TARGET_Q_COLUMN, stateIndex, stateColumnNum, targetQ);
         notifyUpdate("targetQ", oldValue, targetQ);
         return this;
     }
 
     @Override
     public float getTargetV() {
-        return this.targetV.get(getNetwork().getStateIndex());
+        return stateColumns.getFloat(TARGET_V_COLUMN, getNetwork().getStateIndex(), stateColumnNum);
     }
 
     @Override
     public GeneratorImpl setTargetV(float targetV) {
         int stateIndex = getNetwork().getStateIndex();
-        ValidationUtil.checkVoltageControl(this, voltageRegulatorOn.get(stateIndex), targetV, targetQ.get(stateIndex));
-        float oldValue = this.targetV.set(stateIndex, targetV);
+        ValidationUtil.checkVoltageControl(this,
+                stateColumns.getBoolean(VOLTAGE_REGULATOR_ON_COLUMN, stateIndex, stateColumnNum),
+                targetV,
+                stateColumns.getFloat(TARGET_Q_COLUMN, stateIndex, stateColumnNum));
+        float oldValue = stateColumns.setFloat(TARGET_V_COLUMN, stateIndex, stateColumnNum, targetV);
         notifyUpdate("targetV", oldValue, targetV);
         return this;
     }
@@ -236,42 +241,9 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
     }
 
     @Override
-    public void extendStateArraySize(int initStateArraySize, int number, int sourceIndex) {
-        super.extendStateArraySize(initStateArraySize, number, sourceIndex);
-        targetP.ensureCapacity(targetP.size() + number);
-        targetQ.ensureCapacity(targetQ.size() + number);
-        targetV.ensureCapacity(targetV.size() + number);
-        for (int i = 0; i < number; i++) {
-            voltageRegulatorOn.set(initStateArraySize + i, voltageRegulatorOn.get(sourceIndex));
-            targetP.add(targetP.get(sourceIndex));
-            targetQ.add(targetQ.get(sourceIndex));
-            targetV.add(targetV.get(sourceIndex));
-        }
-    }
-
-    @Override
-    public void reduceStateArraySize(int number) {
-        super.reduceStateArraySize(number);
-        targetP.remove(targetP.size() - number, number);
-        targetQ.remove(targetQ.size() - number, number);
-        targetV.remove(targetV.size() - number, number);
-    }
-
-    @Override
-    public void deleteStateArrayElement(int index) {
-        super.deleteStateArrayElement(index);
-        // nothing to do
-    }
-
-    @Override
-    public void allocateStateArrayElement(int[] indexes, int sourceIndex) {
-        super.allocateStateArrayElement(indexes, sourceIndex);
-        for (int index : indexes) {
-            voltageRegulatorOn.set(index, voltageRegulatorOn.get(sourceIndex));
-            targetP.set(index, targetP.get(sourceIndex));
-            targetQ.set(index, targetQ.get(sourceIndex));
-            targetV.set(index, targetV.get(sourceIndex));
-        }
+    public void remove() {
+        super.remove();
+        stateColumns.releaseNumber(stateColumnNum);
     }
 
     @Override
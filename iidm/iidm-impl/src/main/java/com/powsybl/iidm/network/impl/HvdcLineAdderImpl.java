@@ -111,6 +111,8 @@ public class HvdcLineAdderImpl extends AbstractIdentifiableAdder<HvdcLineAdderIm
         HvdcLineImpl hvdcLine = new HvdcLineImpl(id, name, r, nominalV, maxP, convertersMode, activePowerSetpoint,
                                                  converterStation1, converterStation2, networkRef);
         getNetwork().getObjectStore().checkAndAdd(hvdcLine);
+        converterStation1.setHvdcLine(hvdcLine);
+        converterStation2.setHvdcLine(hvdcLine);
         getNetwork().getListeners().notifyCreation(hvdcLine);
         return hvdcLine;
     }
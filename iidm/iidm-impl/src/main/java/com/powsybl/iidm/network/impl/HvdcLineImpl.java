@@ -8,19 +8,25 @@ package com.powsybl.iidm.network.impl;
 
 import com.powsybl.iidm.network.HvdcLine;
 import com.powsybl.iidm.network.impl.util.Ref;
-import gnu.trove.list.array.TFloatArrayList;
 
-import java.util.BitSet;
 import java.util.Objects;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  * @author Mathieu Bague <mathieu.bague at rte-france.com>
  */
-class HvdcLineImpl extends AbstractIdentifiable<HvdcLine> implements HvdcLine, Stateful {
+class HvdcLineImpl extends AbstractIdentifiable<HvdcLine> implements HvdcLine {
 
     static final String TYPE_DESCRIPTION = "hvdcLine";
 
+    private static final StateColumnStore.Layout STATE_COLUMN_LAYOUT = new StateColumnStore.Layout("HvdcLine")
+            .floats(1)
+            .booleans(1);
+
+    private static final int ACTIVE_POWER_SETPOINT_COLUMN = 0;
+
+    private static final int CONVERTERS_MODE_COLUMN = 0;
+
     private float r;
 
     private float nominalV;
@@ -29,9 +35,9 @@ class HvdcLineImpl extends AbstractIdentifiable<HvdcLine> implements HvdcLine, S
 
     // attributes depending on the state
 
-    private final BitSet convertersMode;
+    private final StateColumnStore stateColumns;
 
-    private final TFloatArrayList activePowerSetpoint;
+    private final int stateColumnNum;
 
     //
 
@@ -48,11 +54,10 @@ class HvdcLineImpl extends AbstractIdentifiable<HvdcLine> implements HvdcLine, S
         this.r = r;
         this.nominalV = nominalV;
         this.maxP = maxP;
-        int stateArraySize = networkRef.get().getStateManager().getStateArraySize();
-        this.convertersMode = new BitSet(stateArraySize);
-        this.convertersMode.set(0, stateArraySize, convertersMode == ConvertersMode.SIDE_1_RECTIFIER_SIDE_2_INVERTER);
-        this.activePowerSetpoint = new TFloatArrayList(stateArraySize);
-        this.activePowerSetpoint.fill(0, stateArraySize, activePowerSetpoint);
+        stateColumns = networkRef.get().getStateManager().getColumnStore(STATE_COLUMN_LAYOUT);
+        stateColumnNum = stateColumns.newNumber();
+        stateColumns.initBoolean(CONVERTERS_MODE_COLUMN, stateColumnNum, fromEnum(convertersMode));
+        stateColumns.initFloat(ACTIVE_POWER_SETPOINT_COLUMN, stateColumnNum, activePowerSetpoint);
         this.converterStation1 = converterStation1;
         this.converterStation2 = converterStation2;
         this.networkRef = networkRef;
@@ -77,15 +82,14 @@ class HvdcLineImpl extends AbstractIdentifiable<HvdcLine> implements HvdcLine, S
 
     @Override
     public ConvertersMode getConvertersMode() {
-        return toEnum(convertersMode.get(getNetwork().getStateIndex()));
+        return toEnum(stateColumns.getBoolean(CONVERTERS_MODE_COLUMN, getNetwork().getStateIndex(), stateColumnNum));
     }
 
     @Override
     public HvdcLineImpl setConvertersMode(ConvertersMode convertersMode) {
         ValidationUtil.checkConvertersMode(this, convertersMode);
         int stateIndex = getNetwork().getStateIndex();
-        boolean oldValue = this.convertersMode.get(stateIndex);
-        this.convertersMode.set(stateIndex, fromEnum(Objects.requireNonNull(convertersMode)));
+        boolean oldValue = stateColumns.setBoolean(CONVERTERS_MODE_COLUMN, stateIndex, stateColumnNum, fromEnum(Objects.requireNonNull(convertersMode)));
         notifyUpdate("convertersMode", toEnum(oldValue), convertersMode);
         return this;
     }
@@ -134,13 +138,13 @@ class HvdcLineImpl extends AbstractIdentifiable<HvdcLine> implements HvdcLine, S
 
     @Override
     public float getActivePowerSetpoint() {
-        return activePowerSetpoint.get(getNetwork().getStateIndex());
+        return stateColumns.getFloat(ACTIVE_POWER_SETPOINT_COLUMN, getNetwork().getStateIndex(), stateColumnNum);
     }
 
     @Override
     public HvdcLineImpl setActivePowerSetpoint(float activePowerSetpoint) {
         ValidationUtil.checkActivePowerSetpoint(this, activePowerSetpoint);
-        float oldValue = this.activePowerSetpoint.set(getNetwork().getStateIndex(), activePowerSetpoint);
+        float oldValue = stateColumns.setFloat(ACTIVE_POWER_SETPOINT_COLUMN, getNetwork().getStateIndex(), stateColumnNum, activePowerSetpoint);
         notifyUpdate("activePowerSetpoint", oldValue, activePowerSetpoint);
         return this;
     }
@@ -155,37 +159,14 @@ class HvdcLineImpl extends AbstractIdentifiable<HvdcLine> implements HvdcLine, S
         return converterStation2;
     }
 
-    @Override
-    public void extendStateArraySize(int initStateArraySize, int number, int sourceIndex) {
-        convertersMode.set(initStateArraySize, initStateArraySize + number, convertersMode.get(sourceIndex));
-
-        activePowerSetpoint.ensureCapacity(activePowerSetpoint.size() + number);
-        activePowerSetpoint.fill(initStateArraySize, initStateArraySize + number, activePowerSetpoint.get(sourceIndex));
-    }
-
-    @Override
-    public void reduceStateArraySize(int number) {
-        activePowerSetpoint.remove(activePowerSetpoint.size() - number, number);
-    }
-
-    @Override
-    public void deleteStateArrayElement(int index) {
-        // nothing to do
-    }
-
-    @Override
-    public void allocateStateArrayElement(int[] indexes, int sourceIndex) {
-        for (int index : indexes) {
-            convertersMode.set(index, convertersMode.get(sourceIndex));
-            activePowerSetpoint.set(index, activePowerSetpoint.get(sourceIndex));
-        }
-    }
-
     @Override
     public void remove() {
         NetworkImpl network = getNetwork();
         network.getObjectStore().remove(this);
+        converterStation1.setHvdcLine(null);
+        converterStation2.setHvdcLine(null);
         network.getListeners().notifyRemoval(this);
+        stateColumns.releaseNumber(stateColumnNum);
     }
 
     @Override
@@ -8,8 +8,7 @@ package com.powsybl.iidm.network.impl;
 
 import com.google.common.collect.*;
 import com.powsybl.commons.PowsyblException;
-import com.powsybl.math.graph.GraphUtil;
-import com.powsybl.math.graph.GraphUtil.ConnectedComponentsComputationResult;
+import com.powsybl.math.graph.DynamicConnectedComponents;
 import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.TwoTerminalsConnectable.Side;
 import com.powsybl.iidm.network.impl.util.RefChain;
@@ -563,10 +562,107 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Mult
             this.network = Objects.requireNonNull(network);
         }
 
+        // component number of the connectivity -> component, the number of a bus
+        // being the one of the connectivity so that it does not change when the
+        // components are ordered again
         private List<C> components;
 
+        // components ordered by decreasing size, computed on demand
+        private List<C> orderedComponents;
+
+        // kept after a full computation so that components can then be updated
+        // incrementally when only a few buses are modified
+        private DynamicConnectedComponents connectivity;
+
+        private final Map<BusExt, Integer> bus2vertex = new HashMap<>();
+
+        private final List<BusExt> vertex2bus = new ArrayList<>();
+
+        private boolean updated = true;
+
         void invalidate() {
             components = null;
+            orderedComponents = null;
+            connectivity = null;
+            bus2vertex.clear();
+            vertex2bus.clear();
+        }
+
+        /**
+         * Update the components after some buses of the bus view have been replaced
+         * by new ones. Must be called before the removed buses are invalidated. Falls
+         * back to a full invalidation when the change cannot be applied incrementally.
+         */
+        void update(Collection<? extends BusExt> removedBuses, Collection<? extends BusExt> createdBuses) {
+            if (connectivity == null) {
+                // nothing to update, will be fully computed at next access
+                return;
+            }
+            if (updateConnectivity(removedBuses, createdBuses)) {
+                updated = false;
+            } else {
+                invalidate();
+            }
+        }
+
+        /**
+         * @return the terminals of the branch connecting the buses of the terminals
+         * of this connectable, an empty list if it is not part of a branch
+         */
+        protected List<? extends TerminalExt> getBranchTerminals(AbstractConnectable<?> connectable) {
+            if (connectable instanceof LineImpl
+                    || connectable instanceof TwoWindingsTransformerImpl
+                    || connectable instanceof ThreeWindingsTransformerImpl) {
+                return connectable.getTerminals();
+            }
+            return Collections.emptyList();
+        }
+
+        private boolean updateConnectivity(Collection<? extends BusExt> removedBuses, Collection<? extends BusExt> createdBuses) {
+            for (BusExt bus : removedBuses) {
+                Integer v = bus2vertex.remove(bus);
+                if (v == null) {
+                    return false;
+                }
+                connectivity.removeVertex(v);
+                vertex2bus.set(v, null);
+                // terminals not part of a created bus are not connected anymore
+                setComponentNumber(bus, -1);
+            }
+            Set<List<? extends TerminalExt>> branches = new LinkedHashSet<>();
+            for (BusExt bus : createdBuses) {
+                int v = connectivity.addVertex();
+                bus2vertex.put(bus, v);
+                if (v < vertex2bus.size()) {
+                    vertex2bus.set(v, bus);
+                } else {
+                    vertex2bus.add(bus);
+                }
+                for (TerminalExt terminal : bus.getConnectedTerminals()) {
+                    List<? extends TerminalExt> terminals = getBranchTerminals(terminal.getConnectable());
+                    if (!terminals.isEmpty()) {
+                        branches.add(terminals);
+                    }
+                }
+            }
+            // only add the edges connected to a created bus, the other ones are already there
+            for (List<? extends TerminalExt> terminals : branches) {
+                for (int i = 0; i < terminals.size(); i++) {
+                    for (int j = i + 1; j < terminals.size(); j++) {
+                        BusExt bus1 = terminals.get(i).getBusView().getBus();
+                        BusExt bus2 = terminals.get(j).getBusView().getBus();
+                        if (bus1 != null && bus2 != null && (createdBuses.contains(bus1) || createdBuses.contains(bus2))) {
+                            Integer v1 = bus2vertex.get(bus1);
+                            Integer v2 = bus2vertex.get(bus2);
+                            if (v1 == null || v2 == null) {
+                                return false;
+                            }
+                            connectivity.addEdge(v1, v2);
+                        }
+                    }
+                }
+            }
+            return true;
         }
 
         protected void addToAdjacencyList(Bus bus1, Bus bus2, Map<String, Integer> id2num, TIntArrayList[] adjacencyList) {
@@ -607,6 +703,9 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Mult
 
         void update() {
             if (components != null) {
+                if (!updated) {
+                    updateComponents();
+                }
                 return;
             }
 
@@ -619,9 +718,9 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Mult
 
             int num = 0;
             Map<String, Integer> id2num = new HashMap<>();
-            List<BusExt> num2bus = new ArrayList<>();
             for (Bus bus : network.getBusView().getBuses()) {
-                num2bus.add((BusExt) bus);
+                vertex2bus.add((BusExt) bus);
+                bus2vertex.put((BusExt) bus, num);
                 id2num.put(bus.getId(), num);
                 num++;
             }
@@ -631,24 +730,60 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Mult
             }
             fillAdjacencyList(id2num, adjacencyList);
 
-            ConnectedComponentsComputationResult result = GraphUtil.computeConnectedComponents(adjacencyList);
-
-            components = new ArrayList<>(result.getComponentSize().length);
-            for (int i = 0; i < result.getComponentSize().length; i++) {
-                components.add(createComponent(i, result.getComponentSize()[i]));
+            // component numbers of the initial computation are ordered
+            connectivity = new DynamicConnectedComponents(adjacencyList);
+            components = new ArrayList<>(connectivity.getComponentCount());
+            for (int i = 0; i < connectivity.getComponentCount(); i++) {
+                components.add(createComponent(i, connectivity.getComponentSize(i)));
             }
+            orderedComponents = null;
+            updated = true;
 
-            for (int i = 0; i < result.getComponentNumber().length; i++) {
-                BusExt bus = num2bus.get(i);
-                setComponentNumber(bus, result.getComponentNumber()[i]);
+            for (int i = 0; i < vertex2bus.size(); i++) {
+                setComponentNumber(vertex2bus.get(i), connectivity.getComponentNumber(i));
             }
 
             LOGGER.debug(getComponentLabel() + " components computed in {} ms", System.currentTimeMillis() - startTime);
         }
 
+        private void updateComponents() {
+            long startTime = System.currentTimeMillis();
+
+            // only the buses whose component has changed are renumbered, and only
+            // the components whose size or ordered number has changed are replaced
+            BitSet changedVertices = connectivity.getChangedVertices();
+            for (int v = changedVertices.nextSetBit(0); v >= 0; v = changedVertices.nextSetBit(v + 1)) {
+                setComponentNumber(vertex2bus.get(v), connectivity.getComponentNumber(v));
+            }
+            while (components.size() < connectivity.getMaxComponentNumber()) {
+                components.add(null);
+            }
+            BitSet changedComponents = connectivity.getChangedComponents();
+            for (int c = changedComponents.nextSetBit(0); c >= 0; c = changedComponents.nextSetBit(c + 1)) {
+                int num = connectivity.getOrderedComponentNumber(c);
+                components.set(c, num != -1 ? createComponent(num, connectivity.getComponentSize(c)) : null);
+            }
+            if (!changedComponents.isEmpty()) {
+                orderedComponents = null;
+            }
+            connectivity.clearChanges();
+            updated = true;
+
+            LOGGER.debug(getComponentLabel() + " components updated in {} ms", System.currentTimeMillis() - startTime);
+        }
+
         List<C> getConnectedComponents() {
             update();
-            return components;
+            if (orderedComponents == null) {
+                C[] ordered = (C[]) new Component[connectivity.getComponentCount()];
+                for (C component : components) {
+                    if (component != null) {
+                        ordered[component.getNum()] = component;
+                    }
+                }
+                orderedComponents = Arrays.asList(ordered);
+            }
+            return orderedComponents;
         }
 
         C getComponent(int num) {
@@ -676,6 +811,17 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Mult
             }
         }
 
+        @Override
+        protected List<? extends TerminalExt> getBranchTerminals(AbstractConnectable<?> connectable) {
+            if (connectable instanceof AbstractHvdcConverterStation) {
+                HvdcLineImpl line = ((AbstractHvdcConverterStation<?>) connectable).getHvdcLine();
+                return line != null
+                        ? Arrays.asList(line.getConverterStation1().getTerminal(), line.getConverterStation2().getTerminal())
+                        : Collections.emptyList();
+            }
+            return super.getBranchTerminals(connectable);
+        }
+
         @Override
         protected String getComponentLabel() {
             return "Connected";
@@ -773,6 +919,24 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Mult
 
     @Override
     public void merge(Network other) {
+        merge(other, false);
+    }
+
+    /**
+     * Merge a part of this network, see {@link NetworkPartMergerService}.
+     */
+    void mergePart(Network part) {
+        if (!id.equals(part.getId())) {
+            throw new PowsyblException("Network part " + part.getId() + " is not a part of network " + id);
+        }
+        merge(part, true);
+    }
+
+    /**
+     * @param parts if true, the other network is a part of this network, with the same id, for instance
+     *              read in parallel: the id is kept and the dangling lines are not coupled
+     */
+    private void merge(Network other, boolean parts) {
         NetworkImpl otherNetwork = (NetworkImpl) other;
 
         // this check must not be done on the number of state but on the size
@@ -789,7 +953,8 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Mult
         Multimap<Class<? extends Identifiable>, String> intersection = objectStore.intersection(otherNetwork.objectStore);
         for (Map.Entry<Class<? extends Identifiable>, Collection<String>> entry : intersection.asMap().entrySet()) {
             Class<? extends Identifiable> clazz = entry.getKey();
-            if (clazz == DanglingLineImpl.class) { // fine for dangling lines
+            if ((clazz == DanglingLineImpl.class && !parts) // fine for dangling lines
+                    || (clazz == NetworkImpl.class && parts)) {
                 continue;
             }
             Collection<String> objs = entry.getValue();
@@ -847,7 +1012,7 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Mult
             }
         }
         List<LineMerge> lines = new ArrayList<>();
-        for (DanglingLine dl2 : Lists.newArrayList(other.getDanglingLines())) {
+        for (DanglingLine dl2 : parts ? Collections.<DanglingLine>emptyList() : Lists.newArrayList(other.getDanglingLines())) {
             DanglingLine dl1 = getDanglingLine(dl2.getId());
             if (dl1 == null) {
                 // mapping by ucte xnode code
@@ -921,7 +1086,11 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Mult
                 l.country2 = vl2.getSubstation().getCountry();
                 lines.add(l);
 
-                // remove the 2 dangling lines
+                // remove the 2 dangling lines, and from the xnode index so that a dangling line
+                // of the other network with the same xnode code is not merged with a removed one
+                if (dl1.getUcteXnodeCode() != null) {
+                    dl1byXnodeCode.remove(dl1.getUcteXnodeCode(), dl1);
+                }
                 dl1.remove();
                 dl2.remove();
             }
@@ -930,6 +1099,9 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Mult
         // do not forget to remove the other network from its store!!!
         otherNetwork.objectStore.remove(otherNetwork);
 
+        // the other network objects keep their state columns
+        stateManager.mergeColumnStores(otherNetwork.stateManager);
+
         // merge the stores
         objectStore.merge(otherNetwork.objectStore);
 
@@ -999,7 +1171,9 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Mult
         }
 
         // change the network id
-        setId(getId() + " + " + otherNetwork.getId());
+        if (!parts) {
+            setId(getId() + " + " + otherNetwork.getId());
+        }
 
         LOGGER.info("Merging of {} done in {} ms", id, System.currentTimeMillis() - start);
     }
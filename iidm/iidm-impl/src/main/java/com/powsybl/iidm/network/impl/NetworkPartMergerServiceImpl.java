@@ -0,0 +1,28 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.NetworkPartMergerService;
+
+/**
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class NetworkPartMergerServiceImpl implements NetworkPartMergerService {
+
+    @Override
+    public boolean isMergeable(Network network) {
+        return network instanceof NetworkImpl;
+    }
+
+    @Override
+    public void mergePart(Network network, Network part) {
+        ((NetworkImpl) network).mergePart(part);
+    }
+
+}
@@ -59,7 +59,11 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
 
     private final Map<String, Integer> switches = new HashMap<>();
 
-    private class StateImpl implements State {
+    private static final StateColumnStore.Layout STATE_COLUMN_LAYOUT = new StateColumnStore.Layout("NodeBreakerVoltageLevel").caches(1);
+
+    private static final int STATE_COLUMN = 0;
+
+    private class StateImpl {
 
         final CalculatedBusTopology calculatedBusTopology
                 = new CalculatedBusTopology();
@@ -67,14 +71,12 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
         final CalculatedBusBreakerTopology calculatedBusBreakerTopology
                 = new CalculatedBusBreakerTopology();
 
-        @Override
-        public StateImpl copy() {
-            return new StateImpl();
-        }
-
     }
 
-    private final StateArray<StateImpl> states;
+    // calculated topologies of each state, lazily created
+    private final StateColumnStore stateColumns;
+
+    private final int stateColumnNum;
 
     private final class SwitchAdderImpl extends AbstractIdentifiableAdder<SwitchAdderImpl> implements NodeBreakerView.SwitchAdder {
 
@@ -264,40 +266,49 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
             return CALCULATED_BUS_CHECKER;
         }
 
-        private void traverse(int n, boolean[] encountered, Predicate<SwitchImpl> terminate, Map<String, CalculatedBus> id2bus, CalculatedBus[] node2bus) {
-            if (!encountered[n]) {
-                final TIntArrayList nodes = new TIntArrayList(1);
-                nodes.add(n);
-                graph.traverse(n, new Traverser<SwitchImpl>() {
-                    @Override
-                    public TraverseResult traverse(int n1, int e, int n2) {
-                        SwitchImpl aSwitch = graph.getEdgeObject(e);
-                        if (aSwitch != null && terminate.apply(aSwitch)) {
-                            return TraverseResult.TERMINATE;
-                        } else {
-                            nodes.add(n2);
-                            return TraverseResult.CONTINUE;
-                        }
+        private TIntArrayList traverse(int n, boolean[] encountered, Predicate<SwitchImpl> terminate) {
+            final TIntArrayList nodes = new TIntArrayList(1);
+            nodes.add(n);
+            graph.traverse(n, new Traverser<SwitchImpl>() {
+                @Override
+                public TraverseResult traverse(int n1, int e, int n2) {
+                    SwitchImpl aSwitch = graph.getEdgeObject(e);
+                    if (aSwitch != null && terminate.apply(aSwitch)) {
+                        return TraverseResult.TERMINATE;
+                    } else {
+                        nodes.add(n2);
+                        return TraverseResult.CONTINUE;
                     }
-                }, encountered);
+                }
+            }, encountered);
+            return nodes;
+        }
 
-                // check that the component is a bus
-                String busId = NAMING_STRATEGY.getName(NodeBreakerVoltageLevel.this, nodes);
-                CopyOnWriteArrayList<NodeTerminal> terminals = new CopyOnWriteArrayList<>();
-                for (int i = 0; i < nodes.size(); i++) {
-                    int n2 = nodes.getQuick(i);
-                    NodeTerminal terminal2 = graph.getVertexObject(n2);
-                    if (terminal2 != null) {
-                        terminals.add(terminal2);
-                    }
+        private CalculatedBus createBus(TIntArrayList nodes, Map<String, CalculatedBus> id2bus, CalculatedBus[] node2bus) {
+            // check that the component is a bus
+            String busId = NAMING_STRATEGY.getName(NodeBreakerVoltageLevel.this, nodes);
+            CopyOnWriteArrayList<NodeTerminal> terminals = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < nodes.size(); i++) {
+                int n2 = nodes.getQuick(i);
+                NodeTerminal terminal2 = graph.getVertexObject(n2);
+                if (terminal2 != null) {
+                    terminals.add(terminal2);
                 }
-                if (getBusChecker().isValid(graph, nodes, terminals)) {
-                    CalculatedBusImpl bus = new CalculatedBusImpl(busId, NodeBreakerVoltageLevel.this, terminals);
-                    id2bus.put(busId, bus);
-                    for (int i = 0; i < nodes.size(); i++) {
-                        node2bus[nodes.getQuick(i)] = bus;
-                    }
+            }
+            if (getBusChecker().isValid(graph, nodes, terminals)) {
+                CalculatedBusImpl bus = new CalculatedBusImpl(busId, NodeBreakerVoltageLevel.this, terminals);
+                id2bus.put(busId, bus);
+                for (int i = 0; i < nodes.size(); i++) {
+                    node2bus[nodes.getQuick(i)] = bus;
                 }
+                return bus;
+            }
+            return null;
+        }
+
+        private void traverse(int n, boolean[] encountered, Predicate<SwitchImpl> terminate, Map<String, CalculatedBus> id2bus, CalculatedBus[] node2bus) {
+            if (!encountered[n]) {
+                createBus(traverse(n, encountered, terminate), id2bus, node2bus);
             }
         }
 
@@ -318,6 +329,78 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
             LOGGER.trace("Found buses {}", id2bus.values());
         }
 
+        /**
+         * Update the cache after a switch has been opened or closed. Opening or
+         * closing a switch can only split or merge the buses containing its
+         * nodes, so only these ones are recomputed, other buses are kept.
+         * Removed buses are not invalidated, so that they can still be used to
+         * update data depending on them, it is up to the caller to invalidate them.
+         *
+         * @return false if the cache could not be updated incrementally and has
+         * been invalidated
+         */
+        protected boolean updateCache(SwitchImpl aSwitch, int node1, int node2,
+                                      List<CalculatedBus> removedBuses, List<CalculatedBus> createdBuses) {
+            return updateCache(node1, node2, Switch::isOpen, removedBuses, createdBuses);
+        }
+
+        protected boolean updateCache(int node1, int node2, final Predicate<SwitchImpl> terminate,
+                                      List<CalculatedBus> removedBuses, List<CalculatedBus> createdBuses) {
+            if (busCache == null) {
+                // nothing to update, will be fully computed at next access
+                return false;
+            }
+            if (busCache.node2bus.length < graph.getMaxVertex()) {
+                invalidateCache();
+                return false;
+            }
+
+            // new components of the switch nodes
+            boolean[] encountered = new boolean[graph.getMaxVertex()];
+            List<TIntArrayList> components = new ArrayList<>(2);
+            components.add(traverse(node1, encountered, terminate));
+            if (!encountered[node2]) {
+                components.add(traverse(node2, encountered, terminate));
+            }
+
+            // buses of the nodes before the change
+            Set<CalculatedBus> oldBuses = new HashSet<>();
+            boolean nodeWithoutBus = false;
+            for (TIntArrayList nodes : components) {
+                for (int i = 0; i < nodes.size(); i++) {
+                    CalculatedBus bus = busCache.node2bus[nodes.getQuick(i)];
+                    if (bus != null) {
+                        oldBuses.add(bus);
+                    } else {
+                        nodeWithoutBus = true;
+                    }
+                }
+            }
+
+            // switch nodes are still connected and were already part of the same bus,
+            // buses are unchanged
+            if (components.size() == 1 && oldBuses.size() == 1 && !nodeWithoutBus) {
+                return true;
+            }
+
+            // remove old buses and create new ones
+            for (CalculatedBus bus : oldBuses) {
+                busCache.id2bus.remove(bus.getId());
+                removedBuses.add(bus);
+            }
+            for (TIntArrayList nodes : components) {
+                for (int i = 0; i < nodes.size(); i++) {
+                    busCache.node2bus[nodes.getQuick(i)] = null;
+                }
+                CalculatedBus bus = createBus(nodes, busCache.id2bus, busCache.node2bus);
+                if (bus != null) {
+                    createdBuses.add(bus);
+                }
+            }
+            LOGGER.trace("Update buses {} of voltage level {}", oldBuses, NodeBreakerVoltageLevel.this.id);
+            return true;
+        }
+
         protected void invalidateCache() {
             // detach buses
             if (busCache != null) {
@@ -389,6 +472,16 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
             return CALCULATED_BUS_BREAKER_CHECKER;
         }
 
+        @Override
+        protected boolean updateCache(SwitchImpl aSwitch, int node1, int node2,
+                                      List<CalculatedBus> removedBuses, List<CalculatedBus> createdBuses) {
+            if (aSwitch.isRetained()) {
+                // a retained switch is always an edge of the bus breaker topology
+                return true;
+            }
+            return updateCache(node1, node2, sw -> sw.isOpen() || sw.isRetained(), removedBuses, createdBuses);
+        }
+
         Bus getBus1(String switchId, boolean throwException) {
             int edge = getEdge(switchId, throwException);
             SwitchImpl aSwitch = graph.getEdgeObject(edge);
@@ -525,14 +618,56 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
     NodeBreakerVoltageLevel(String id, String name, SubstationImpl substation,
                            float nominalV, float lowVoltageLimit, float highVoltageLimit) {
         super(id, name, substation, nominalV, lowVoltageLimit, highVoltageLimit);
-        states = new StateArray<>(substation.getNetwork().getRef(), StateImpl::new);
+        stateColumns = substation.getNetwork().getStateManager().getColumnStore(STATE_COLUMN_LAYOUT);
+        stateColumnNum = stateColumns.newNumber();
+    }
+
+    private StateImpl getState() {
+        int stateIndex = getNetwork().getStateIndex();
+        StateImpl state = stateColumns.getCache(STATE_COLUMN, stateIndex, stateColumnNum);
+        if (state == null) {
+            state = new StateImpl();
+            stateColumns.setCache(STATE_COLUMN, stateIndex, stateColumnNum, state);
+        }
+        return state;
     }
 
     @Override
     public void invalidateCache() {
-        states.get().calculatedBusBreakerTopology.invalidateCache();
-        states.get().calculatedBusTopology.invalidateCache();
+        getState().calculatedBusBreakerTopology.invalidateCache();
+        getState().calculatedBusTopology.invalidateCache();
         getNetwork().getConnectedComponentsManager().invalidate();
+        getNetwork().getSynchronousComponentsManager().invalidate();
+    }
+
+    @Override
+    public void invalidateCache(SwitchImpl aSwitch) {
+        Integer edge = switches.get(aSwitch.getId());
+        if (edge == null) {
+            invalidateCache();
+            return;
+        }
+        int node1 = graph.getEdgeVertex1(edge);
+        int node2 = graph.getEdgeVertex2(edge);
+        StateImpl state = getState();
+        List<CalculatedBus> removedBuses = new ArrayList<>();
+        List<CalculatedBus> createdBuses = new ArrayList<>();
+        state.calculatedBusBreakerTopology.updateCache(aSwitch, node1, node2, removedBuses, createdBuses);
+        removedBuses.forEach(CalculatedBus::invalidate);
+        removedBuses.clear();
+        createdBuses.clear();
+        if (state.calculatedBusTopology.updateCache(aSwitch, node1, node2, removedBuses, createdBuses)) {
+            // components are computed from the bus view, only update them with
+            // the modified buses
+            if (!removedBuses.isEmpty() || !createdBuses.isEmpty()) {
+                getNetwork().getConnectedComponentsManager().update(removedBuses, createdBuses);
+                getNetwork().getSynchronousComponentsManager().update(removedBuses, createdBuses);
+            }
+            removedBuses.forEach(CalculatedBus::invalidate);
+        } else {
+            getNetwork().getConnectedComponentsManager().invalidate();
+            getNetwork().getSynchronousComponentsManager().invalidate();
+        }
     }
 
     private Integer getEdge(String switchId, boolean throwException) {
@@ -580,11 +715,11 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
     }
 
     CalculatedBusBreakerTopology getCalculatedBusBreakerTopology() {
-        return states.get().calculatedBusBreakerTopology;
+        return getState().calculatedBusBreakerTopology;
     }
 
     CalculatedBusTopology getCalculatedBusTopology() {
-        return states.get().calculatedBusTopology;
+        return getState().calculatedBusTopology;
     }
 
     private final NodeBreakerViewExt nodeBreakerView = new NodeBreakerViewExt() {
@@ -697,17 +832,17 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
 
         @Override
         public Iterable<Bus> getBuses() {
-            return Collections.unmodifiableCollection(states.get().calculatedBusTopology.getBuses());
+            return Collections.unmodifiableCollection(getState().calculatedBusTopology.getBuses());
         }
 
         @Override
         public Stream<Bus> getBusStream() {
-            return states.get().calculatedBusTopology.getBuses().stream().map(Function.identity());
+            return getState().calculatedBusTopology.getBuses().stream().map(Function.identity());
         }
 
         @Override
         public CalculatedBus getBus(String id) {
-            return states.get().calculatedBusTopology.getBus(id, false);
+            return getState().calculatedBusTopology.getBus(id, false);
         }
 
     };
@@ -721,17 +856,17 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
 
         @Override
         public Iterable<Bus> getBuses() {
-            return Collections.unmodifiableCollection(states.get().calculatedBusBreakerTopology.getBuses());
+            return Collections.unmodifiableCollection(getState().calculatedBusBreakerTopology.getBuses());
         }
 
         @Override
         public Stream<Bus> getBusStream() {
-            return states.get().calculatedBusBreakerTopology.getBuses().stream().map(Function.identity());
+            return getState().calculatedBusBreakerTopology.getBuses().stream().map(Function.identity());
         }
 
         @Override
         public CalculatedBus getBus(String id) {
-            return states.get().calculatedBusBreakerTopology.getBus(id, false);
+            return getState().calculatedBusBreakerTopology.getBus(id, false);
         }
 
         @Override
@@ -751,12 +886,12 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
 
         @Override
         public Iterable<Switch> getSwitches() {
-            return Iterables.filter(states.get().calculatedBusBreakerTopology.getSwitches(), Switch.class); // just to upcast and return an unmodifiable iterable
+            return Iterables.filter(getState().calculatedBusBreakerTopology.getSwitches(), Switch.class); // just to upcast and return an unmodifiable iterable
         }
 
         @Override
         public Stream<Switch> getSwitchStream() {
-            return states.get().calculatedBusBreakerTopology.getSwitchStream();
+            return getState().calculatedBusBreakerTopology.getSwitchStream();
         }
 
         @Override
@@ -771,17 +906,17 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
 
         @Override
         public Bus getBus1(String switchId) {
-            return states.get().calculatedBusBreakerTopology.getBus1(switchId, true);
+            return getState().calculatedBusBreakerTopology.getBus1(switchId, true);
         }
 
         @Override
         public Bus getBus2(String switchId) {
-            return states.get().calculatedBusBreakerTopology.getBus2(switchId, true);
+            return getState().calculatedBusBreakerTopology.getBus2(switchId, true);
         }
 
         @Override
         public Switch getSwitch(String switchId) {
-            return states.get().calculatedBusBreakerTopology.getSwitch(switchId, true);
+            return getState().calculatedBusBreakerTopology.getSwitch(switchId, true);
         }
 
         @Override
@@ -980,26 +1115,6 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
         }
     }
 
-    @Override
-    public void extendStateArraySize(int initStateArraySize, int number, int sourceIndex) {
-        states.push(number, StateImpl::new);
-    }
-
-    @Override
-    public void reduceStateArraySize(int number) {
-        states.pop(number);
-    }
-
-    @Override
-    public void deleteStateArrayElement(int index) {
-        states.delete(index);
-    }
-
-    @Override
-    public void allocateStateArrayElement(int[] indexes, final int sourceIndex) {
-        states.allocate(indexes, StateImpl::new);
-    }
-
     @Override
     public void printTopology() {
         printTopology(System.out, null);
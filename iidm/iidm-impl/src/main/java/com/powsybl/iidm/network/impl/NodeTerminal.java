@@ -9,8 +9,6 @@ package com.powsybl.iidm.network.impl;
 import com.powsybl.iidm.network.Terminal;
 import com.powsybl.iidm.network.VoltageLevel;
 import com.powsybl.iidm.network.impl.util.Ref;
-import gnu.trove.list.array.TFloatArrayList;
-import gnu.trove.list.array.TIntArrayList;
 
 import java.util.Set;
 
@@ -21,17 +19,19 @@ import java.util.Set;
  */
 class NodeTerminal extends AbstractTerminal {
 
-    private final int node;
+    private static final int V_COLUMN = FLOAT_COLUMN_COUNT;
 
-    // attributes depending on the state
+    private static final int ANGLE_COLUMN = FLOAT_COLUMN_COUNT + 1;
 
-    protected final TFloatArrayList v;
+    private static final int CONNECTED_COMPONENT_NUMBER_COLUMN = 0;
 
-    protected final TFloatArrayList angle;
+    private static final int SYNCHRONOUS_COMPONENT_NUMBER_COLUMN = 1;
 
-    protected final TIntArrayList connectedComponentNumber;
+    private static final StateColumnStore.Layout STATE_COLUMN_LAYOUT = new StateColumnStore.Layout("NodeTerminal")
+            .floats(FLOAT_COLUMN_COUNT + 2)
+            .ints(2);
 
-    protected final TIntArrayList synchronousComponentNumber;
+    private final int node;
 
     private final NodeBreakerView nodeBreakerView = new NodeBreakerView() {
 
@@ -75,19 +75,12 @@ class NodeTerminal extends AbstractTerminal {
     };
 
     NodeTerminal(Ref<? extends MultiStateObject> network, int node) {
-        super(network);
+        super(network, STATE_COLUMN_LAYOUT);
         this.node = node;
-        int stateArraySize = network.get().getStateManager().getStateArraySize();
-        v = new TFloatArrayList(stateArraySize);
-        angle = new TFloatArrayList(stateArraySize);
-        connectedComponentNumber = new TIntArrayList(stateArraySize);
-        synchronousComponentNumber = new TIntArrayList(stateArraySize);
-        for (int i = 0; i < stateArraySize; i++) {
-            v.add(Float.NaN);
-            angle.add(Float.NaN);
-            connectedComponentNumber.add(0);
-            synchronousComponentNumber.add(0);
-        }
+        stateColumns.initFloat(V_COLUMN, stateColumnNum, Float.NaN);
+        stateColumns.initFloat(ANGLE_COLUMN, stateColumnNum, Float.NaN);
+        stateColumns.initInt(CONNECTED_COMPONENT_NUMBER_COLUMN, stateColumnNum, 0);
+        stateColumns.initInt(SYNCHRONOUS_COMPONENT_NUMBER_COLUMN, stateColumnNum, 0);
     }
 
     public int getNode() {
@@ -96,38 +89,38 @@ class NodeTerminal extends AbstractTerminal {
 
     @Override
     protected float getV() {
-        return v.get(network.get().getStateIndex());
+        return stateColumns.getFloat(V_COLUMN, network.get().getStateIndex(), stateColumnNum);
     }
 
     void setV(float v) {
         if (v <= 0) {
             throw new ValidationException(connectable, "voltage cannot be <= 0");
         }
-        this.v.set(network.get().getStateIndex(), v);
+        stateColumns.setFloat(V_COLUMN, network.get().getStateIndex(), stateColumnNum, v);
     }
 
     float getAngle() {
-        return angle.get(network.get().getStateIndex());
+        return stateColumns.getFloat(ANGLE_COLUMN, network.get().getStateIndex(), stateColumnNum);
     }
 
     void setAngle(float angle) {
-        this.angle.set(network.get().getStateIndex(), angle);
+        stateColumns.setFloat(ANGLE_COLUMN, network.get().getStateIndex(), stateColumnNum, angle);
     }
 
     int getConnectedComponentNumber() {
-        return connectedComponentNumber.get(network.get().getStateIndex());
+        return stateColumns.getInt(CONNECTED_COMPONENT_NUMBER_COLUMN, network.get().getStateIndex(), stateColumnNum);
     }
 
     void setConnectedComponentNumber(int connectedComponentNumber) {
-        this.connectedComponentNumber.set(network.get().getStateIndex(), connectedComponentNumber);
+        stateColumns.setInt(CONNECTED_COMPONENT_NUMBER_COLUMN, network.get().getStateIndex(), stateColumnNum, connectedComponentNumber);
     }
 
     int getSynchronousComponentNumber() {
-        return synchronousComponentNumber.get(network.get().getStateIndex());
+        return stateColumns.getInt(SYNCHRONOUS_COMPONENT_NUMBER_COLUMN, network.get().getStateIndex(), stateColumnNum);
     }
 
     void setSynchronousComponentNumber(int componentNumber) {
-        this.synchronousComponentNumber.set(network.get().getStateIndex(), componentNumber);
+        stateColumns.setInt(SYNCHRONOUS_COMPONENT_NUMBER_COLUMN, network.get().getStateIndex(), stateColumnNum, componentNumber);
     }
 
     @Override
@@ -160,47 +153,6 @@ class NodeTerminal extends AbstractTerminal {
         ((NodeBreakerVoltageLevel) voltageLevel).traverse(this, traverser);
     }
 
-    @Override
-    public void extendStateArraySize(int initStateArraySize, int number, int sourceIndex) {
-        super.extendStateArraySize(initStateArraySize, number, sourceIndex);
-        v.ensureCapacity(v.size() + number);
-        angle.ensureCapacity(angle.size() + number);
-        connectedComponentNumber.ensureCapacity(connectedComponentNumber.size() + number);
-        synchronousComponentNumber.ensureCapacity(synchronousComponentNumber.size() + number);
-        for (int i = 0; i < number; i++) {
-            v.add(v.get(sourceIndex));
-            angle.add(angle.get(sourceIndex));
-            connectedComponentNumber.add(connectedComponentNumber.get(sourceIndex));
-            synchronousComponentNumber.add(synchronousComponentNumber.get(sourceIndex));
-        }
-    }
-
-    @Override
-    public void reduceStateArraySize(int number) {
-        super.reduceStateArraySize(number);
-        v.remove(v.size() - number, number);
-        angle.remove(angle.size() - number, number);
-        connectedComponentNumber.remove(connectedComponentNumber.size() - number, number);
-        synchronousComponentNumber.remove(synchronousComponentNumber.size() - number, number);
-    }
-
-    @Override
-    public void deleteStateArrayElement(int index) {
-        super.deleteStateArrayElement(index);
-        // nothing to do
-    }
-
-    @Override
-    public void allocateStateArrayElement(int[] indexes, int sourceIndex) {
-        super.allocateStateArrayElement(indexes, sourceIndex);
-        for (int index : indexes) {
-            v.set(index, v.get(sourceIndex));
-            angle.set(index, angle.get(sourceIndex));
-            connectedComponentNumber.set(index, connectedComponentNumber.get(sourceIndex));
-            synchronousComponentNumber.set(index, synchronousComponentNumber.get(sourceIndex));
-        }
-    }
-
     @Override
     public String toString() {
         return getClass().getSimpleName() + "[" + node + "]";
@@ -28,6 +28,9 @@ class ObjectStore {
 
     private final Map<Class<? extends Identifiable>, Set<Identifiable<?>>> objectsByClass = new HashMap<>();
 
+    // objects managing their own state array, so that the state manager does not have to go through all the objects
+    private final Set<Stateful> statefulObjects = new LinkedHashSet<>();
+
     static void checkId(String id) {
         if (id == null || id.isEmpty()) {
             throw new PowsyblException("Invalid id '" + id + "'");
@@ -72,6 +75,9 @@ class ObjectStore {
             objectsByClass.put(obj.getClass(), all);
         }
         all.add(obj);
+        if (obj instanceof Stateful) {
+            statefulObjects.add((Stateful) obj);
+        }
     }
 
     Identifiable get(String id) {
@@ -101,6 +107,10 @@ class ObjectStore {
         return (Set<T>) all;
     }
 
+    Collection<Stateful> getStatefulObjects() {
+        return statefulObjects;
+    }
+
     boolean contains(String id) {
         checkId(id);
         return objectsById.containsKey(id);
@@ -117,11 +127,15 @@ class ObjectStore {
         if (all != null) {
             all.remove(obj);
         }
+        if (obj instanceof Stateful) {
+            statefulObjects.remove(obj);
+        }
     }
 
     void clean() {
         objectsById.clear();
         objectsByClass.clear();
+        statefulObjects.clear();
     }
 
     /**
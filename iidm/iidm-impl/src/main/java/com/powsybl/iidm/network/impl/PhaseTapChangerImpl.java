@@ -8,7 +8,6 @@ package com.powsybl.iidm.network.impl;
 
 import com.powsybl.iidm.network.PhaseTapChanger;
 import com.powsybl.iidm.network.Terminal;
-import gnu.trove.list.array.TFloatArrayList;
 
 import java.util.List;
 
@@ -19,22 +18,21 @@ import java.util.List;
 class PhaseTapChangerImpl extends AbstractTapChanger<TwoWindingsTransformerImpl, PhaseTapChangerImpl, PhaseTapChangerStepImpl>
                           implements PhaseTapChanger {
 
-    private RegulationMode regulationMode;
+    private static final StateColumnStore.Layout STATE_COLUMN_LAYOUT = new StateColumnStore.Layout("PhaseTapChanger")
+            .floats(1)
+            .ints(INT_COLUMN_COUNT)
+            .booleans(BOOLEAN_COLUMN_COUNT);
 
-    // attributes depending on the state
+    private static final int REGULATION_VALUE_COLUMN = 0;
 
-    private final TFloatArrayList regulationValue;
+    private RegulationMode regulationMode;
 
     PhaseTapChangerImpl(TwoWindingsTransformerImpl parent, int lowTapPosition,
                         List<PhaseTapChangerStepImpl> steps, TerminalExt regulationTerminal,
                         int tapPosition, boolean regulating, RegulationMode regulationMode, float regulationValue) {
-        super(parent.getNetwork().getRef(), parent, lowTapPosition, steps, regulationTerminal, tapPosition, regulating);
-        int stateArraySize = network.get().getStateManager().getStateArraySize();
+        super(parent.getNetwork().getRef(), parent, lowTapPosition, steps, regulationTerminal, tapPosition, regulating, STATE_COLUMN_LAYOUT);
         this.regulationMode = regulationMode;
-        this.regulationValue = new TFloatArrayList(stateArraySize);
-        for (int i = 0; i < stateArraySize; i++) {
-            this.regulationValue.add(regulationValue);
-        }
+        stateColumns.initFloat(REGULATION_VALUE_COLUMN, stateColumnNum, regulationValue);
     }
 
     @Override
@@ -56,13 +54,13 @@ class PhaseTapChangerImpl extends AbstractTapChanger<TwoWindingsTransformerImpl,
 
     @Override
     public float getRegulationValue() {
-        return regulationValue.get(network.get().getStateIndex());
+        return stateColumns.getFloat(REGULATION_VALUE_COLUMN, network.get().getStateIndex(), stateColumnNum);
     }
 
     @Override
     public PhaseTapChangerImpl setRegulationValue(float regulationValue) {
         ValidationUtil.checkPhaseTapChangerRegulation(parent, regulationMode, regulationValue, isRegulating(), getRegulationTerminal(), getNetwork());
-        this.regulationValue.set(network.get().getStateIndex(), regulationValue);
+        stateColumns.setFloat(REGULATION_VALUE_COLUMN, network.get().getStateIndex(), stateColumnNum, regulationValue);
         return this;
     }
 
@@ -77,35 +75,6 @@ class PhaseTapChangerImpl extends AbstractTapChanger<TwoWindingsTransformerImpl,
         parent.setPhaseTapChanger(null);
     }
 
-    @Override
-    public void extendStateArraySize(int initStateArraySize, int number, int sourceIndex) {
-        super.extendStateArraySize(initStateArraySize, number, sourceIndex);
-        regulationValue.ensureCapacity(regulationValue.size() + number);
-        for (int i = 0; i < number; i++) {
-            regulationValue.add(regulationValue.get(sourceIndex));
-        }
-    }
-
-    @Override
-    public void reduceStateArraySize(int number) {
-        super.reduceStateArraySize(number);
-        regulationValue.remove(regulationValue.size() - number, number);
-    }
-
-    @Override
-    public void deleteStateArrayElement(int index) {
-        super.deleteStateArrayElement(index);
-        // nothing to do
-    }
-
-    @Override
-    public void allocateStateArrayElement(int[] indexes, final int sourceIndex) {
-        super.allocateStateArrayElement(indexes, sourceIndex);
-        for (int index : indexes) {
-            regulationValue.set(index, regulationValue.get(sourceIndex));
-        }
-    }
-
     @Override
     protected String getTapChangerAttribute() {
         return "phaseTapChanger";
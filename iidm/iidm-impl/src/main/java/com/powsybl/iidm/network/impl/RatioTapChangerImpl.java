@@ -8,7 +8,6 @@ package com.powsybl.iidm.network.impl;
 
 import com.powsybl.iidm.network.RatioTapChanger;
 import com.powsybl.iidm.network.Terminal;
-import gnu.trove.list.array.TFloatArrayList;
 import java.util.List;
 
 /**
@@ -17,22 +16,21 @@ import java.util.List;
  */
 class RatioTapChangerImpl extends AbstractTapChanger<RatioTapChangerParent, RatioTapChangerImpl, RatioTapChangerStepImpl> implements RatioTapChanger {
 
-    private boolean loadTapChangingCapabilities;
+    private static final StateColumnStore.Layout STATE_COLUMN_LAYOUT = new StateColumnStore.Layout("RatioTapChanger")
+            .floats(1)
+            .ints(INT_COLUMN_COUNT)
+            .booleans(BOOLEAN_COLUMN_COUNT);
 
-    // attributes depending on the state
+    private static final int TARGET_V_COLUMN = 0;
 
-    private final TFloatArrayList targetV;
+    private boolean loadTapChangingCapabilities;
 
     RatioTapChangerImpl(RatioTapChangerParent parent, int lowTapPosition,
                         List<RatioTapChangerStepImpl> steps, TerminalExt regulationTerminal, boolean loadTapChangingCapabilities,
                         int tapPosition, boolean regulating, float targetV) {
-        super(parent.getNetwork().getRef(), parent, lowTapPosition, steps, regulationTerminal, tapPosition, regulating);
+        super(parent.getNetwork().getRef(), parent, lowTapPosition, steps, regulationTerminal, tapPosition, regulating, STATE_COLUMN_LAYOUT);
         this.loadTapChangingCapabilities = loadTapChangingCapabilities;
-        int stateArraySize = network.get().getStateManager().getStateArraySize();
-        this.targetV = new TFloatArrayList(stateArraySize);
-        for (int i = 0; i < stateArraySize; i++) {
-            this.targetV.add(targetV);
-        }
+        stateColumns.initFloat(TARGET_V_COLUMN, stateColumnNum, targetV);
     }
 
     @Override
@@ -53,13 +51,13 @@ class RatioTapChangerImpl extends AbstractTapChanger<RatioTapChangerParent, Rati
 
     @Override
     public float getTargetV() {
-        return targetV.get(network.get().getStateIndex());
+        return stateColumns.getFloat(TARGET_V_COLUMN, network.get().getStateIndex(), stateColumnNum);
     }
 
     @Override
     public RatioTapChangerImpl setTargetV(float targetV) {
         ValidationUtil.checkRatioTapChangerRegulation(parent, loadTapChangingCapabilities, isRegulating(), regulationTerminal, targetV, getNetwork());
-        this.targetV.set(network.get().getStateIndex(), targetV);
+        stateColumns.setFloat(TARGET_V_COLUMN, network.get().getStateIndex(), stateColumnNum, targetV);
         return this;
     }
 
@@ -74,35 +72,6 @@ class RatioTapChangerImpl extends AbstractTapChanger<RatioTapChangerParent, Rati
         parent.setRatioTapChanger(null);
     }
 
-    @Override
-    public void extendStateArraySize(int initStateArraySize, int number, int sourceIndex) {
-        super.extendStateArraySize(initStateArraySize, number, sourceIndex);
-        targetV.ensureCapacity(targetV.size() + number);
-        for (int i = 0; i < number; i++) {
-            targetV.add(targetV.get(sourceIndex));
-        }
-    }
-
-    @Override
-    public void reduceStateArraySize(int number) {
-        super.reduceStateArraySize(number);
-        targetV.remove(targetV.size() - number, number);
-    }
-
-    @Override
-    public void deleteStateArrayElement(int index) {
-        super.deleteStateArrayElement(index);
-        // nothing to do
-    }
-
-    @Override
-    public void allocateStateArrayElement(int[] indexes, final int sourceIndex) {
-        super.allocateStateArrayElement(indexes, sourceIndex);
-        for (int index : indexes) {
-            targetV.set(index, targetV.get(sourceIndex));
-        }
-    }
-
     @Override
     protected String getTapChangerAttribute() {
         return parent.getTapChangerAttribute();
@@ -9,7 +9,6 @@ package com.powsybl.iidm.network.impl;
 import com.powsybl.iidm.network.ConnectableType;
 import com.powsybl.iidm.network.ShuntCompensator;
 import com.powsybl.iidm.network.impl.util.Ref;
-import gnu.trove.list.array.TIntArrayList;
 
 /**
  *
@@ -17,6 +16,11 @@ import gnu.trove.list.array.TIntArrayList;
  */
 class ShuntCompensatorImpl extends AbstractConnectable<ShuntCompensator> implements ShuntCompensator {
 
+    private static final StateColumnStore.Layout STATE_COLUMN_LAYOUT = new StateColumnStore.Layout("ShuntCompensator").ints(1);
+
+    /* the current number of section switched on */
+    private static final int CURRENT_SECTION_COUNT_COLUMN = 0;
+
     private final Ref<? extends MultiStateObject> network;
 
     /* susceptance per section */
@@ -27,8 +31,9 @@ class ShuntCompensatorImpl extends AbstractConnectable<ShuntCompensator> impleme
 
     // attributes depending on the state
 
-    /* the current number of section switched on */
-    private final TIntArrayList currentSectionCount;
+    private final StateColumnStore stateColumns;
+
+    private final int stateColumnNum;
 
     ShuntCompensatorImpl(Ref<? extends MultiStateObject> network,
                          String id, String name, float bPerSection, int maximumSectionCount,
@@ -37,11 +42,9 @@ class ShuntCompensatorImpl extends AbstractConnectable<ShuntCompensator> impleme
         this.network = network;
         this.bPerSection = bPerSection;
         this.maximumSectionCount = maximumSectionCount;
-        int stateArraySize = network.get().getStateManager().getStateArraySize();
-        this.currentSectionCount = new TIntArrayList(stateArraySize);
-        for (int i = 0; i < stateArraySize; i++) {
-            this.currentSectionCount.add(currentSectionCount);
-        }
+        stateColumns = network.get().getStateManager().getColumnStore(STATE_COLUMN_LAYOUT);
+        stateColumnNum = stateColumns.newNumber();
+        stateColumns.initInt(CURRENT_SECTION_COUNT_COLUMN, stateColumnNum, currentSectionCount);
     }
 
     @Override
@@ -84,13 +87,13 @@ class ShuntCompensatorImpl extends AbstractConnectable<ShuntCompensator> impleme
 
     @Override
     public int getCurrentSectionCount() {
-        return currentSectionCount.get(network.get().getStateIndex());
+        return stateColumns.getInt(CURRENT_SECTION_COUNT_COLUMN, network.get().getStateIndex(), stateColumnNum);
     }
 
     @Override
     public ShuntCompensatorImpl setCurrentSectionCount(int currentSectionCount) {
         ValidationUtil.checkSections(this, currentSectionCount, maximumSectionCount);
-        int oldValue = this.currentSectionCount.set(network.get().getStateIndex(), currentSectionCount);
+        int oldValue = stateColumns.setInt(CURRENT_SECTION_COUNT_COLUMN, network.get().getStateIndex(), stateColumnNum, currentSectionCount);
         notifyUpdate("currentSectionCount", oldValue, currentSectionCount);
         return this;
     }
@@ -106,32 +109,9 @@ class ShuntCompensatorImpl extends AbstractConnectable<ShuntCompensator> impleme
     }
 
     @Override
-    public void extendStateArraySize(int initStateArraySize, int number, int sourceIndex) {
-        super.extendStateArraySize(initStateArraySize, number, sourceIndex);
-        currentSectionCount.ensureCapacity(currentSectionCount.size() + number);
-        for (int i = 0; i < number; i++) {
-            currentSectionCount.add(currentSectionCount.get(sourceIndex));
-        }
-    }
-
-    @Override
-    public void reduceStateArraySize(int number) {
-        super.reduceStateArraySize(number);
-        currentSectionCount.remove(currentSectionCount.size() - number, number);
-    }
-
-    @Override
-    public void deleteStateArrayElement(int index) {
-        super.deleteStateArrayElement(index);
-        // nothing to do
-    }
-
-    @Override
-    public void allocateStateArrayElement(int[] indexes, final int sourceIndex) {
-        super.allocateStateArrayElement(indexes, sourceIndex);
-        for (int index : indexes) {
-            currentSectionCount.set(index, currentSectionCount.get(sourceIndex));
-        }
+    public void remove() {
+        super.remove();
+        stateColumns.releaseNumber(stateColumnNum);
     }
 
     @Override
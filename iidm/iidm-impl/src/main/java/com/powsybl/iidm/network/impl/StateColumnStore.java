@@ -0,0 +1,614 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network.impl;
+
+import gnu.trove.list.array.TIntArrayList;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Column oriented storage of the attributes depending on the state for a type
+ * of equipment.
+ * <p>
+ * Instead of each equipment managing its own state array, each equipment is
+ * given a number and for each attribute (a column) and each state, values of all
+ * the equipments are stored in arrays indexed by this number. Each array is a
+ * page of {@link #PAGE_SIZE} equipments, so cloning a state only needs a few
+ * page copies per column whatever the number of equipments.
+ * <p>
+ * In copy-on-write mode, the pages are not even copied when a state is cloned
+ * but shared between the source state and the new ones. A page counts the
+ * states referencing it and is only copied at the first modification of one of
+ * its values in a state, so the cost of a modification does not depend on the
+ * size of the network. Once the other states are removed or have their own
+ * copy, the remaining state modifies the page in place again.
+ * <p>
+ * Values of object columns are shared between states, so they have to be
+ * immutable or replaced instead of being modified. Values of cache columns are
+ * not cloned at all: a new state starts with null values, to be computed again.
+ * <p>
+ * Changes of the states (cloning, removal) are serialized by the state manager,
+ * while values may be read and written without lock by threads each working on
+ * its own state: the states of a column are published through a volatile array
+ * which is replaced, never modified in place, at each change.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class StateColumnStore implements Stateful {
+
+    static final int PAGE_SIZE = 256;
+
+    private static final int PAGE_SHIFT = Integer.numberOfTrailingZeros(PAGE_SIZE);
+
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    /**
+     * Name and number of columns of each type of a store.
+     */
+    static final class Layout {
+
+        private final String name;
+
+        private int floatColumnCount = 0;
+
+        private int intColumnCount = 0;
+
+        private int booleanColumnCount = 0;
+
+        private int objectColumnCount = 0;
+
+        private int cacheColumnCount = 0;
+
+        Layout(String name) {
+            this.name = Objects.requireNonNull(name);
+        }
+
+        String getName() {
+            return name;
+        }
+
+        Layout floats(int count) {
+            floatColumnCount = count;
+            return this;
+        }
+
+        Layout ints(int count) {
+            intColumnCount = count;
+            return this;
+        }
+
+        Layout booleans(int count) {
+            booleanColumnCount = count;
+            return this;
+        }
+
+        Layout objects(int count) {
+            objectColumnCount = count;
+            return this;
+        }
+
+        Layout caches(int count) {
+            cacheColumnCount = count;
+            return this;
+        }
+    }
+
+    /**
+     * Values of a column for a page of equipments. The value of the atomic
+     * integer is the number of states referencing the page.
+     *
+     * @param <A> the type of the array of values
+     */
+    private static final class Page<A> extends AtomicInteger {
+
+        private final A values;
+
+        private Page(A values) {
+            super(1);
+            this.values = values;
+        }
+    }
+
+    /**
+     * Pages of a column for a state. The holder of a state is kept when the
+     * states are resized, so a copy on write made by the thread working on the
+     * state is never lost.
+     *
+     * @param <A> the type of the array of values
+     */
+    private static final class StatePages<A> {
+
+        private Page<A>[] pages;
+
+        private StatePages(Page<A>[] pages) {
+            this.pages = pages;
+        }
+    }
+
+    /**
+     * Values of a column for each state.
+     *
+     * @param <A> the type of the array of values of a page
+     */
+    private abstract static class AbstractColumn<A> {
+
+        // state index -> pages of the equipments. The array is never modified
+        // in place: changes of the states are serialized by the state manager and
+        // publish a new array, so threads working on their own state read it
+        // without any lock
+        private volatile StatePages<A>[] states;
+
+        AbstractColumn(int stateArraySize, Collection<Integer> stateIndexes, int pageCount) {
+            StatePages<A>[] newStates = newStates(stateArraySize);
+            for (int i : stateIndexes) {
+                Page<A>[] pages = newPages(pageCount);
+                for (int p = 0; p < pageCount; p++) {
+                    pages[p] = newPage();
+                }
+                newStates[i] = new StatePages<>(pages);
+            }
+            states = newStates;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <A> StatePages<A>[] newStates(int size) {
+            return (StatePages<A>[]) new StatePages<?>[size];
+        }
+
+        @SuppressWarnings("unchecked")
+        static <A> Page<A>[] newPages(int size) {
+            return (Page<A>[]) new Page<?>[size];
+        }
+
+        abstract A newValues();
+
+        abstract A copyValues(A values);
+
+        Page<A> newPage() {
+            return new Page<>(newValues());
+        }
+
+        StatePages<A>[] getStates() {
+            return states;
+        }
+
+        Page<A> getPage(int stateIndex, int num) {
+            return states[stateIndex].pages[num >>> PAGE_SHIFT];
+        }
+
+        A get(int stateIndex, int num) {
+            return getPage(stateIndex, num).values;
+        }
+
+        A getForWrite(int stateIndex, int num) {
+            StatePages<A> statePages = states[stateIndex];
+            int p = num >>> PAGE_SHIFT;
+            Page<A> page = statePages.pages[p];
+            if (page.get() > 1) {
+                Page<A> copy = new Page<>(copyValues(page.values));
+                statePages.pages[p] = copy;
+                // released once copied, so that the last state referencing the
+                // page modifies it in place
+                page.decrementAndGet();
+                page = copy;
+            }
+            return page.values;
+        }
+
+        void addPage() {
+            for (StatePages<A> statePages : states) {
+                if (statePages != null) {
+                    Page<A>[] pages = Arrays.copyOf(statePages.pages, statePages.pages.length + 1);
+                    pages[pages.length - 1] = newPage();
+                    statePages.pages = pages;
+                }
+            }
+        }
+
+        StatePages<A> clone(StatePages<A> source, boolean copyOnWrite) {
+            Page<A>[] pages = newPages(source.pages.length);
+            for (int p = 0; p < pages.length; p++) {
+                Page<A> page = source.pages[p];
+                if (copyOnWrite) {
+                    page.incrementAndGet();
+                    pages[p] = page;
+                } else {
+                    pages[p] = new Page<>(copyValues(page.values));
+                }
+            }
+            return new StatePages<>(pages);
+        }
+
+        void release(StatePages<A> statePages) {
+            if (statePages != null) {
+                for (Page<A> page : statePages.pages) {
+                    if (page != null) {
+                        page.decrementAndGet();
+                    }
+                }
+            }
+        }
+
+        void extend(int initStateArraySize, int number, int sourceIndex, boolean copyOnWrite) {
+            StatePages<A>[] newStates = Arrays.copyOf(states, initStateArraySize + number);
+            for (int i = initStateArraySize; i < newStates.length; i++) {
+                newStates[i] = clone(newStates[sourceIndex], copyOnWrite);
+            }
+            states = newStates;
+        }
+
+        void reduce(int number) {
+            for (int i = states.length - number; i < states.length; i++) {
+                release(states[i]);
+            }
+            states = Arrays.copyOf(states, states.length - number);
+        }
+
+        void delete(int index) {
+            StatePages<A>[] newStates = states.clone();
+            release(newStates[index]);
+            newStates[index] = null;
+            states = newStates;
+        }
+
+        void allocate(int[] indexes, int sourceIndex, boolean copyOnWrite) {
+            StatePages<A>[] newStates = states.clone();
+            for (int index : indexes) {
+                newStates[index] = clone(newStates[sourceIndex], copyOnWrite);
+            }
+            states = newStates;
+        }
+    }
+
+    private static final class FloatColumn extends AbstractColumn<float[]> {
+
+        FloatColumn(int stateArraySize, Collection<Integer> stateIndexes, int pageCount) {
+            super(stateArraySize, stateIndexes, pageCount);
+        }
+
+        @Override
+        float[] newValues() {
+            return new float[PAGE_SIZE];
+        }
+
+        @Override
+        float[] copyValues(float[] values) {
+            return values.clone();
+        }
+    }
+
+    private static final class IntColumn extends AbstractColumn<int[]> {
+
+        IntColumn(int stateArraySize, Collection<Integer> stateIndexes, int pageCount) {
+            super(stateArraySize, stateIndexes, pageCount);
+        }
+
+        @Override
+        int[] newValues() {
+            return new int[PAGE_SIZE];
+        }
+
+        @Override
+        int[] copyValues(int[] values) {
+            return values.clone();
+        }
+    }
+
+    private static final class BooleanColumn extends AbstractColumn<boolean[]> {
+
+        BooleanColumn(int stateArraySize, Collection<Integer> stateIndexes, int pageCount) {
+            super(stateArraySize, stateIndexes, pageCount);
+        }
+
+        @Override
+        boolean[] newValues() {
+            return new boolean[PAGE_SIZE];
+        }
+
+        @Override
+        boolean[] copyValues(boolean[] values) {
+            return values.clone();
+        }
+    }
+
+    private static class ObjectColumn extends AbstractColumn<Object[]> {
+
+        ObjectColumn(int stateArraySize, Collection<Integer> stateIndexes, int pageCount) {
+            super(stateArraySize, stateIndexes, pageCount);
+        }
+
+        @Override
+        Object[] newValues() {
+            return new Object[PAGE_SIZE];
+        }
+
+        @Override
+        Object[] copyValues(Object[] values) {
+            return values.clone();
+        }
+    }
+
+    private static final class CacheColumn extends ObjectColumn {
+
+        CacheColumn(int stateArraySize, Collection<Integer> stateIndexes, int pageCount) {
+            super(stateArraySize, stateIndexes, pageCount);
+        }
+
+        @Override
+        Page<Object[]> newPage() {
+            // allocated at the first cached value of the page
+            return null;
+        }
+
+        @Override
+        StatePages<Object[]> clone(StatePages<Object[]> source, boolean copyOnWrite) {
+            // never shared, so never copied on write
+            return new StatePages<>(newPages(source.pages.length));
+        }
+
+        Object getValue(int stateIndex, int num) {
+            Page<Object[]> page = getPage(stateIndex, num);
+            return page != null ? page.values[num & PAGE_MASK] : null;
+        }
+
+        void setValue(int stateIndex, int num, Object value) {
+            StatePages<Object[]> statePages = getStates()[stateIndex];
+            int p = num >>> PAGE_SHIFT;
+            Page<Object[]> page = statePages.pages[p];
+            if (page == null) {
+                page = new Page<>(newValues());
+                statePages.pages[p] = page;
+            }
+            page.values[num & PAGE_MASK] = value;
+        }
+    }
+
+    private final String name;
+
+    private final FloatColumn[] floatColumns;
+
+    private final IntColumn[] intColumns;
+
+    private final BooleanColumn[] booleanColumns;
+
+    private final ObjectColumn[] objectColumns;
+
+    private final CacheColumn[] cacheColumns;
+
+    private final AbstractColumn<?>[] columns;
+
+    private boolean copyOnWrite = false;
+
+    private int pageCount = 1;
+
+    private int size = 0;
+
+    private final TIntArrayList freeNumbers = new TIntArrayList();
+
+    StateColumnStore(Layout layout, int stateArraySize, Collection<Integer> stateIndexes) {
+        name = layout.getName();
+        floatColumns = new FloatColumn[layout.floatColumnCount];
+        for (int c = 0; c < floatColumns.length; c++) {
+            floatColumns[c] = new FloatColumn(stateArraySize, stateIndexes, pageCount);
+        }
+        intColumns = new IntColumn[layout.intColumnCount];
+        for (int c = 0; c < intColumns.length; c++) {
+            intColumns[c] = new IntColumn(stateArraySize, stateIndexes, pageCount);
+        }
+        booleanColumns = new BooleanColumn[layout.booleanColumnCount];
+        for (int c = 0; c < booleanColumns.length; c++) {
+            booleanColumns[c] = new BooleanColumn(stateArraySize, stateIndexes, pageCount);
+        }
+        objectColumns = new ObjectColumn[layout.objectColumnCount];
+        for (int c = 0; c < objectColumns.length; c++) {
+            objectColumns[c] = new ObjectColumn(stateArraySize, stateIndexes, pageCount);
+        }
+        cacheColumns = new CacheColumn[layout.cacheColumnCount];
+        for (int c = 0; c < cacheColumns.length; c++) {
+            cacheColumns[c] = new CacheColumn(stateArraySize, stateIndexes, pageCount);
+        }
+        columns = new AbstractColumn<?>[floatColumns.length + intColumns.length + booleanColumns.length
+                                + objectColumns.length + cacheColumns.length];
+        int c = 0;
+        for (AbstractColumn<?>[] typedColumns : new AbstractColumn<?>[][] {floatColumns, intColumns, booleanColumns, objectColumns, cacheColumns}) {
+            System.arraycopy(typedColumns, 0, columns, c, typedColumns.length);
+            c += typedColumns.length;
+        }
+    }
+
+    String getName() {
+        return name;
+    }
+
+    boolean isCopyOnWrite() {
+        return copyOnWrite;
+    }
+
+    void setCopyOnWrite(boolean copyOnWrite) {
+        this.copyOnWrite = copyOnWrite;
+    }
+
+    int getSize() {
+        return size - freeNumbers.size();
+    }
+
+    /**
+     * Get a free equipment number. Values of the columns at this number are
+     * undefined and have to be initialized by the caller.
+     */
+    int newNumber() {
+        if (!freeNumbers.isEmpty()) {
+            return freeNumbers.removeAt(freeNumbers.size() - 1);
+        }
+        if (size == pageCount * PAGE_SIZE) {
+            pageCount++;
+            for (AbstractColumn<?> column : columns) {
+                column.addPage();
+            }
+        }
+        return size++;
+    }
+
+    void releaseNumber(int num) {
+        // so that objects can be garbage collected
+        for (ObjectColumn column : objectColumns) {
+            fill(column, num, null);
+        }
+        for (CacheColumn column : cacheColumns) {
+            fill(column, num, null);
+        }
+        freeNumbers.add(num);
+    }
+
+    /**
+     * Number of states referencing the page of a float value, for testing.
+     */
+    int getFloatPageReferenceCount(int column, int stateIndex, int num) {
+        return floatColumns[column].getPage(stateIndex, num).get();
+    }
+
+    float getFloat(int column, int stateIndex, int num) {
+        return floatColumns[column].get(stateIndex, num)[num & PAGE_MASK];
+    }
+
+    float setFloat(int column, int stateIndex, int num, float value) {
+        float[] values = floatColumns[column].getForWrite(stateIndex, num);
+        float oldValue = values[num & PAGE_MASK];
+        values[num & PAGE_MASK] = value;
+        return oldValue;
+    }
+
+    /**
+     * Set the value of an equipment for all the states. As the value is the same
+     * for all the states, shared pages do not need to be copied.
+     */
+    void initFloat(int column, int num, float value) {
+        for (StatePages<float[]> statePages : floatColumns[column].getStates()) {
+            if (statePages != null) {
+                statePages.pages[num >>> PAGE_SHIFT].values[num & PAGE_MASK] = value;
+            }
+        }
+    }
+
+    int getInt(int column, int stateIndex, int num) {
+        return intColumns[column].get(stateIndex, num)[num & PAGE_MASK];
+    }
+
+    int setInt(int column, int stateIndex, int num, int value) {
+        int[] values = intColumns[column].getForWrite(stateIndex, num);
+        int oldValue = values[num & PAGE_MASK];
+        values[num & PAGE_MASK] = value;
+        return oldValue;
+    }
+
+    /**
+     * Set the value of an equipment for all the states.
+     */
+    void initInt(int column, int num, int value) {
+        for (StatePages<int[]> statePages : intColumns[column].getStates()) {
+            if (statePages != null) {
+                statePages.pages[num >>> PAGE_SHIFT].values[num & PAGE_MASK] = value;
+            }
+        }
+    }
+
+    boolean getBoolean(int column, int stateIndex, int num) {
+        return booleanColumns[column].get(stateIndex, num)[num & PAGE_MASK];
+    }
+
+    boolean setBoolean(int column, int stateIndex, int num, boolean value) {
+        boolean[] values = booleanColumns[column].getForWrite(stateIndex, num);
+        boolean oldValue = values[num & PAGE_MASK];
+        values[num & PAGE_MASK] = value;
+        return oldValue;
+    }
+
+    /**
+     * Set the value of an equipment for all the states.
+     */
+    void initBoolean(int column, int num, boolean value) {
+        for (StatePages<boolean[]> statePages : booleanColumns[column].getStates()) {
+            if (statePages != null) {
+                statePages.pages[num >>> PAGE_SHIFT].values[num & PAGE_MASK] = value;
+            }
+        }
+    }
+
+    <T> T getObject(int column, int stateIndex, int num) {
+        return (T) objectColumns[column].get(stateIndex, num)[num & PAGE_MASK];
+    }
+
+    <T> T setObject(int column, int stateIndex, int num, T value) {
+        Object[] values = objectColumns[column].getForWrite(stateIndex, num);
+        T oldValue = (T) values[num & PAGE_MASK];
+        values[num & PAGE_MASK] = value;
+        return oldValue;
+    }
+
+    /**
+     * Set the value of an equipment for all the states.
+     */
+    void initObject(int column, int num, Object value) {
+        fill(objectColumns[column], num, value);
+    }
+
+    private static void fill(ObjectColumn column, int num, Object value) {
+        for (StatePages<Object[]> statePages : column.getStates()) {
+            if (statePages != null) {
+                Page<Object[]> page = statePages.pages[num >>> PAGE_SHIFT];
+                // cache pages are only allocated once a value is cached
+                if (page != null) {
+                    page.values[num & PAGE_MASK] = value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the cached value of an equipment for a state, null if not computed yet.
+     */
+    <T> T getCache(int column, int stateIndex, int num) {
+        return (T) cacheColumns[column].getValue(stateIndex, num);
+    }
+
+    void setCache(int column, int stateIndex, int num, Object value) {
+        cacheColumns[column].setValue(stateIndex, num, value);
+    }
+
+    @Override
+    public void extendStateArraySize(int initStateArraySize, int number, int sourceIndex) {
+        for (AbstractColumn<?> column : columns) {
+            column.extend(initStateArraySize, number, sourceIndex, copyOnWrite);
+        }
+    }
+
+    @Override
+    public void reduceStateArraySize(int number) {
+        for (AbstractColumn<?> column : columns) {
+            column.reduce(number);
+        }
+    }
+
+    @Override
+    public void deleteStateArrayElement(int index) {
+        // so that state data can be garbage collected
+        for (AbstractColumn<?> column : columns) {
+            column.delete(index);
+        }
+    }
+
+    @Override
+    public void allocateStateArrayElement(int[] indexes, int sourceIndex) {
+        for (AbstractColumn<?> column : columns) {
+            column.allocate(indexes, sourceIndex, copyOnWrite);
+        }
+    }
+
+}
@@ -7,8 +7,8 @@
 package com.powsybl.iidm.network.impl;
 
 import com.google.common.collect.BiMap;
-import com.google.common.collect.FluentIterable;
 import com.google.common.collect.HashBiMap;
+import com.google.common.collect.Iterables;
 import com.google.common.primitives.Ints;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.StateManager;
@@ -18,7 +18,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.locks.ReentrantLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,6 +47,14 @@ class StateManagerImpl implements StateManager {
 
     private final ReentrantLock stateLock = new ReentrantLock();
 
+    // column stores used to create new equipments, by name
+    private final Map<String, StateColumnStore> columnStoresByName = new HashMap<>();
+
+    // all the column stores, including the ones of the merged networks
+    private final List<StateColumnStore> columnStores = new ArrayList<>();
+
+    private boolean copyOnWrite = false;
+
     StateManagerImpl(ObjectStore objectStore) {
         this.stateContext = new MultiStateContext(INITIAL_STATE_INDEX);
         this.objectStore = objectStore;
@@ -109,8 +119,45 @@ class StateManagerImpl implements StateManager {
         }
     }
 
+    /**
+     * Get the column store used by a type of equipment to store its attributes
+     * depending on the state, created on first access.
+     */
+    StateColumnStore getColumnStore(StateColumnStore.Layout layout) {
+        stateLock.lock();
+        try {
+            return columnStoresByName.computeIfAbsent(layout.getName(), k -> {
+                StateColumnStore columnStore = new StateColumnStore(layout, stateArraySize, id2index.values());
+                columnStore.setCopyOnWrite(copyOnWrite);
+                columnStores.add(columnStore);
+                return columnStore;
+            });
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * Take over the column stores of the state manager of a merged network, so
+     * that its equipments keep their column store and number. Both state
+     * managers are expected to have only the initial state.
+     */
+    void mergeColumnStores(StateManagerImpl other) {
+        stateLock.lock();
+        try {
+            for (StateColumnStore columnStore : other.columnStores) {
+                columnStore.setCopyOnWrite(copyOnWrite);
+                columnStores.add(columnStore);
+            }
+            other.columnStoresByName.clear();
+            other.columnStores.clear();
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
     private Iterable<Stateful> getStafulObjects() {
-        return FluentIterable.from(objectStore.getAll()).filter(Stateful.class);
+        return Iterables.concat(objectStore.getStatefulObjects(), columnStores);
     }
 
     @Override
@@ -164,6 +211,30 @@ class StateManagerImpl implements StateManager {
         }
     }
 
+    @Override
+    public void cloneState(String sourceStateId, String targetStateId, boolean mayOverwrite) {
+        stateLock.lock();
+        try {
+            if (!mayOverwrite || !id2index.containsKey(targetStateId)) {
+                cloneState(sourceStateId, targetStateId);
+                return;
+            }
+            int sourceIndex = getStateIndex(sourceStateId);
+            int targetIndex = getStateIndex(targetStateId);
+            if (sourceIndex == targetIndex) {
+                return;
+            }
+            LOGGER.debug("Overwriting state {}", targetStateId);
+            int[] indexes = new int[] {targetIndex};
+            for (Stateful obj : getStafulObjects()) {
+                obj.deleteStateArrayElement(targetIndex);
+                obj.allocateStateArrayElement(indexes, sourceIndex);
+            }
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
     @Override
     public void removeState(String stateId) {
         stateLock.lock();
@@ -233,6 +304,29 @@ class StateManagerImpl implements StateManager {
         }
     }
 
+    @Override
+    public void allowStateCopyOnWrite(boolean allow) {
+        stateLock.lock();
+        try {
+            copyOnWrite = allow;
+            for (StateColumnStore columnStore : columnStores) {
+                columnStore.setCopyOnWrite(allow);
+            }
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isStateCopyOnWriteAllowed() {
+        stateLock.lock();
+        try {
+            return copyOnWrite;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
     void forEachState(Runnable r) {
         stateLock.lock();
         try {
@@ -10,8 +10,6 @@ import com.powsybl.iidm.network.ConnectableType;
 import com.powsybl.iidm.network.StaticVarCompensator;
 import com.powsybl.iidm.network.Terminal;
 import com.powsybl.iidm.network.impl.util.Ref;
-import gnu.trove.list.array.TFloatArrayList;
-import gnu.trove.list.array.TIntArrayList;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -20,32 +18,36 @@ class StaticVarCompensatorImpl extends AbstractConnectable<StaticVarCompensator>
 
     static final String TYPE_DESCRIPTION = "staticVarCompensator";
 
+    private static final StateColumnStore.Layout STATE_COLUMN_LAYOUT = new StateColumnStore.Layout("StaticVarCompensator")
+            .floats(2)
+            .ints(1);
+
+    private static final int VOLTAGE_SET_POINT_COLUMN = 0;
+
+    private static final int REACTIVE_POWER_SET_POINT_COLUMN = 1;
+
+    private static final int REGULATION_MODE_COLUMN = 0;
+
     private float bMin;
 
     private float bMax;
 
     // attributes depending on the state
 
-    private final TFloatArrayList voltageSetPoint;
-
-    private final TFloatArrayList reactivePowerSetPoint;
+    private final StateColumnStore stateColumns;
 
-    private final TIntArrayList regulationMode;
+    private final int stateColumnNum;
 
     StaticVarCompensatorImpl(String id, String name, float bMin, float bMax, float voltageSetPoint, float reactivePowerSetPoint,
                              RegulationMode regulationMode, Ref<? extends MultiStateObject> ref) {
         super(id, name);
         this.bMin = bMin;
         this.bMax = bMax;
-        int stateArraySize = ref.get().getStateManager().getStateArraySize();
-        this.voltageSetPoint = new TFloatArrayList(stateArraySize);
-        this.reactivePowerSetPoint = new TFloatArrayList(stateArraySize);
-        this.regulationMode = new TIntArrayList(stateArraySize);
-        for (int i = 0; i < stateArraySize; i++) {
-            this.voltageSetPoint.add(voltageSetPoint);
-            this.reactivePowerSetPoint.add(reactivePowerSetPoint);
-            this.regulationMode.add(regulationMode.ordinal());
-        }
+        stateColumns = ref.get().getStateManager().getColumnStore(STATE_COLUMN_LAYOUT);
+        stateColumnNum = stateColumns.newNumber();
+        stateColumns.initFloat(VOLTAGE_SET_POINT_COLUMN, stateColumnNum, voltageSetPoint);
+        stateColumns.initFloat(REACTIVE_POWER_SET_POINT_COLUMN, stateColumnNum, reactivePowerSetPoint);
+        stateColumns.initInt(REGULATION_MODE_COLUMN, stateColumnNum, regulationMode.ordinal());
     }
 
     @Override
@@ -58,6 +60,12 @@ class StaticVarCompensatorImpl extends AbstractConnectable<StaticVarCompensator>
         return ConnectableType.STATIC_VAR_COMPENSATOR;
     }
 
+    @Override
+    public void remove() {
+        super.remove();
+        stateColumns.releaseNumber(stateColumnNum);
+    }
+
     @Override
     protected String getTypeDescription() {
         return TYPE_DESCRIPTION;
@@ -89,78 +97,41 @@ class StaticVarCompensatorImpl extends AbstractConnectable<StaticVarCompensator>
 
     @Override
     public float getVoltageSetPoint() {
-        return voltageSetPoint.get(getNetwork().getStateIndex());
+        return stateColumns.getFloat(VOLTAGE_SET_POINT_COLUMN, getNetwork().getStateIndex(), stateColumnNum);
     }
 
     @Override
     public StaticVarCompensatorImpl setVoltageSetPoint(float voltageSetPoint) {
         ValidationUtil.checkSvcRegulator(this, voltageSetPoint, getReactivePowerSetPoint(), getRegulationMode());
-        float oldValue = this.voltageSetPoint.set(getNetwork().getStateIndex(), voltageSetPoint);
+        float oldValue = stateColumns.setFloat(VOLTAGE_SET_POINT_COLUMN, getNetwork().getStateIndex(), stateColumnNum, voltageSetPoint);
         notifyUpdate("voltageSetPoint", oldValue, voltageSetPoint);
         return this;
     }
 
     @Override
     public float getReactivePowerSetPoint() {
-        return reactivePowerSetPoint.get(getNetwork().getStateIndex());
+        return stateColumns.getFloat(REACTIVE_POWER_SET_POINT_COLUMN, getNetwork().getStateIndex(), stateColumnNum);
     }
 
     @Override
     public StaticVarCompensatorImpl setReactivePowerSetPoint(float reactivePowerSetPoint) {
         ValidationUtil.checkSvcRegulator(this, getVoltageSetPoint(), reactivePowerSetPoint, getRegulationMode());
-        float oldValue = this.reactivePowerSetPoint.set(getNetwork().getStateIndex(), reactivePowerSetPoint);
+        float oldValue = stateColumns.setFloat(REACTIVE_POWER_SET_POINT_COLUMN, getNetwork().getStateIndex(), stateColumnNum, reactivePowerSetPoint);
         notifyUpdate("reactivePowerSetPoint", oldValue, reactivePowerSetPoint);
         return this;
     }
 
     @Override
     public RegulationMode getRegulationMode() {
-        return RegulationMode.values()[regulationMode.get(getNetwork().getStateIndex())];
+        return RegulationMode.values()[stateColumns.getInt(REGULATION_MODE_COLUMN, getNetwork().getStateIndex(), stateColumnNum)];
     }
 
     @Override
     public StaticVarCompensatorImpl setRegulationMode(RegulationMode regulationMode) {
         ValidationUtil.checkSvcRegulator(this, getVoltageSetPoint(), getReactivePowerSetPoint(), regulationMode);
-        RegulationMode oldValue = RegulationMode.values()[this.regulationMode.set(getNetwork().getStateIndex(), regulationMode.ordinal())];
+        RegulationMode oldValue = RegulationMode.values()[stateColumns.setInt(REGULATION_MODE_COLUMN, getNetwork().getStateIndex(), stateColumnNum, regulationMode.ordinal())];
         notifyUpdate("regulationMode", oldValue, regulationMode);
         return this;
     }
 
-    @Override
-    public void extendStateArraySize(int initStateArraySize, int number, int sourceIndex) {
-        super.extendStateArraySize(initStateArraySize, number, sourceIndex);
-        voltageSetPoint.ensureCapacity(voltageSetPoint.size() + number);
-        reactivePowerSetPoint.ensureCapacity(reactivePowerSetPoint.size() + number);
-        regulationMode.ensureCapacity(regulationMode.size() + number);
-        for (int i = 0; i < number; i++) {
-            voltageSetPoint.add(voltageSetPoint.get(sourceIndex));
-            reactivePowerSetPoint.add(reactivePowerSetPoint.get(sourceIndex));
-            regulationMode.add(regulationMode.get(sourceIndex));
-        }
-    }
-
-    @Override
-    public void reduceStateArraySize(int number) {
-        super.reduceStateArraySize(number);
-        voltageSetPoint.remove(voltageSetPoint.size() - number, number);
-        reactivePowerSetPoint.remove(reactivePowerSetPoint.size() - number, number);
-        regulationMode.remove(regulationMode.size() - number, number);
-    }
-
-    @Override
-    public void deleteStateArrayElement(int index) {
-        super.deleteStateArrayElement(index);
-        // nothing to do
-    }
-
-    @Override
-    public void allocateStateArrayElement(int[] indexes, int sourceIndex) {
-        super.allocateStateArrayElement(indexes, sourceIndex);
-        for (int index : indexes) {
-            voltageSetPoint.set(index, voltageSetPoint.get(sourceIndex));
-            reactivePowerSetPoint.set(index, reactivePowerSetPoint.get(sourceIndex));
-            regulationMode.set(index, regulationMode.get(sourceIndex));
-        }
-    }
-
 }
@@ -10,13 +10,15 @@ import com.powsybl.iidm.network.Switch;
 import com.powsybl.iidm.network.SwitchKind;
 import com.powsybl.iidm.network.TopologyKind;
 
-import java.util.BitSet;
-
 /**
  *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
-class SwitchImpl extends AbstractIdentifiable<Switch> implements Switch, Stateful {
+class SwitchImpl extends AbstractIdentifiable<Switch> implements Switch {
+
+    private static final StateColumnStore.Layout STATE_COLUMN_LAYOUT = new StateColumnStore.Layout("Switch").booleans(1);
+
+    private static final int OPEN_COLUMN = 0;
 
     private final VoltageLevelExt voltageLevel;
 
@@ -26,7 +28,11 @@ class SwitchImpl extends AbstractIdentifiable<Switch> implements Switch, Statefu
 
     private boolean fictitious;
 
-    private final BitSet open;
+    // attributes depending on the state
+
+    private final StateColumnStore stateColumns;
+
+    private final int stateColumnNum;
 
     SwitchImpl(VoltageLevelExt voltageLevel,
                String id, String name, SwitchKind kind, final boolean open, boolean retained, boolean fictitious) {
@@ -35,9 +41,9 @@ class SwitchImpl extends AbstractIdentifiable<Switch> implements Switch, Statefu
         this.kind = kind;
         this.retained = retained;
         this.fictitious = fictitious;
-        int stateArraySize = voltageLevel.getNetwork().getStateManager().getStateArraySize();
-        this.open = new BitSet(stateArraySize);
-        this.open.set(0, stateArraySize, open);
+        stateColumns = voltageLevel.getNetwork().getStateManager().getColumnStore(STATE_COLUMN_LAYOUT);
+        stateColumnNum = stateColumns.newNumber();
+        stateColumns.initBoolean(OPEN_COLUMN, stateColumnNum, open);
     }
 
     @Override
@@ -52,17 +58,17 @@ class SwitchImpl extends AbstractIdentifiable<Switch> implements Switch, Statefu
 
     @Override
     public boolean isOpen() {
-        return open.get(voltageLevel.getNetwork().getStateIndex());
+        return stateColumns.getBoolean(OPEN_COLUMN, voltageLevel.getNetwork().getStateIndex(), stateColumnNum);
     }
 
     @Override
     public void setOpen(boolean open) {
         NetworkImpl network = voltageLevel.getNetwork();
         int index = network.getStateIndex();
-        boolean oldValue = this.open.get(index);
+        boolean oldValue = stateColumns.getBoolean(OPEN_COLUMN, index, stateColumnNum);
         if (oldValue != open) {
-            this.open.set(index, open);
-            voltageLevel.invalidateCache();
+            stateColumns.setBoolean(OPEN_COLUMN, index, stateColumnNum, open);
+            voltageLevel.invalidateCache(this);
             network.getListeners().notifyUpdate(this, "open", oldValue, open);
         }
     }
@@ -102,28 +108,11 @@ class SwitchImpl extends AbstractIdentifiable<Switch> implements Switch, Statefu
         }
     }
 
-    @Override
-    public void extendStateArraySize(int initStateArraySize, int number, int sourceIndex) {
-        for (int i = 0; i < number; i++) {
-            this.open.set(initStateArraySize + i, this.open.get(sourceIndex));
-        }
-    }
-
-    @Override
-    public void reduceStateArraySize(int number) {
-        // nothing to do
-    }
-
-    @Override
-    public void deleteStateArrayElement(int index) {
-        // nothing to do
-    }
-
-    @Override
-    public void allocateStateArrayElement(int[] indexes, final int sourceIndex) {
-        for (int index : indexes) {
-            open.set(index, open.get(sourceIndex));
-        }
+    /**
+     * Release the attributes depending on the state, once the switch is removed.
+     */
+    void releaseStateColumns() {
+        stateColumns.releaseNumber(stateColumnNum);
     }
 
     @Override
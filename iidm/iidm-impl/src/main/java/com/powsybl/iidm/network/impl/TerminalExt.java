@@ -15,7 +15,7 @@ import java.util.Set;
  *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
-interface TerminalExt extends Terminal, Stateful {
+interface TerminalExt extends Terminal {
 
     interface BusBreakerViewExt extends BusBreakerView {
 
@@ -46,4 +46,9 @@ interface TerminalExt extends Terminal, Stateful {
 
     void traverse(VoltageLevel.TopologyTraverser traverser, Set<Terminal> traversedTerminals);
 
+    /**
+     * Release the attributes depending on the state, once the terminal is removed.
+     */
+    void releaseStateColumns();
+
 }
@@ -8,9 +8,11 @@ package com.powsybl.iidm.network.impl;
 
 import com.powsybl.commons.PowsyblException;
 
-import java.util.function.Supplier;
-
 /**
+ * A state context where each thread has its own working state.
+ * <p>
+ * The index is kept unboxed in a per thread mutable holder so that getting the
+ * working state index does not allocate.
  *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
@@ -18,12 +20,14 @@ public class ThreadLocalMultiStateContext implements StateContext {
 
     public static final ThreadLocalMultiStateContext INSTANCE = new ThreadLocalMultiStateContext();
 
-    private final ThreadLocal<Integer> index = ThreadLocal.withInitial((Supplier<Integer>) () -> null);
+    private static final int UNSET_INDEX = -1;
+
+    private final ThreadLocal<int[]> index = ThreadLocal.withInitial(() -> new int[] {UNSET_INDEX});
 
     @Override
     public int getStateIndex() {
-        Integer i = index.get();
-        if (i == null) {
+        int i = index.get()[0];
+        if (i == UNSET_INDEX) {
             throw new PowsyblException("State not set for current thread " + Thread.currentThread().getName());
         }
         return i;
@@ -31,7 +35,7 @@ public class ThreadLocalMultiStateContext implements StateContext {
 
     @Override
     public void setStateIndex(int index) {
-        this.index.set(index);
+        this.index.get()[0] = index;
     }
 
     public void reset() {
@@ -40,9 +44,9 @@ public class ThreadLocalMultiStateContext implements StateContext {
 
     @Override
     public void resetIfStateIndexIs(int index) {
-        Integer i = this.index.get();
-        if (i != null && i == index) {
-            this.index.remove();
+        int[] i = this.index.get();
+        if (i[0] == index) {
+            i[0] = UNSET_INDEX;
         }
     }
 }
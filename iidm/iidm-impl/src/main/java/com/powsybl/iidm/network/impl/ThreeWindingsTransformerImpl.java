@@ -184,6 +184,9 @@ class ThreeWindingsTransformerImpl extends AbstractConnectable<ThreeWindingsTran
 
         @Override
         public void setRatioTapChanger(RatioTapChangerImpl ratioTapChanger) {
+            if (this.ratioTapChanger != null && this.ratioTapChanger != ratioTapChanger) {
+                this.ratioTapChanger.releaseStateColumns();
+            }
             this.ratioTapChanger = ratioTapChanger;
         }
 
@@ -316,46 +319,13 @@ class ThreeWindingsTransformerImpl extends AbstractConnectable<ThreeWindingsTran
     }
 
     @Override
-    public void extendStateArraySize(int initStateArraySize, int number, int sourceIndex) {
-        super.extendStateArraySize(initStateArraySize, number, sourceIndex);
-        if (leg2.getRatioTapChanger() != null) {
-            leg2.getRatioTapChanger().extendStateArraySize(initStateArraySize, number, sourceIndex);
-        }
-        if (leg3.getRatioTapChanger() != null) {
-            leg3.getRatioTapChanger().extendStateArraySize(initStateArraySize, number, sourceIndex);
-        }
-    }
-
-    @Override
-    public void reduceStateArraySize(int number) {
-        super.reduceStateArraySize(number);
-        if (leg2.getRatioTapChanger() != null) {
-            leg2.getRatioTapChanger().reduceStateArraySize(number);
-        }
-        if (leg3.getRatioTapChanger() != null) {
-            leg3.getRatioTapChanger().reduceStateArraySize(number);
-        }
-    }
-
-    @Override
-    public void deleteStateArrayElement(int index) {
-        super.deleteStateArrayElement(index);
-        if (leg2.getRatioTapChanger() != null) {
-            leg2.getRatioTapChanger().deleteStateArrayElement(index);
-        }
-        if (leg3.getRatioTapChanger() != null) {
-            leg3.getRatioTapChanger().deleteStateArrayElement(index);
-        }
-    }
-
-    @Override
-    public void allocateStateArrayElement(int[] indexes, int sourceIndex) {
-        super.allocateStateArrayElement(indexes, sourceIndex);
+    public void remove() {
+        super.remove();
         if (leg2.getRatioTapChanger() != null) {
-            leg2.getRatioTapChanger().allocateStateArrayElement(indexes, sourceIndex);
+            leg2.getRatioTapChanger().releaseStateColumns();
         }
         if (leg3.getRatioTapChanger() != null) {
-            leg3.getRatioTapChanger().allocateStateArrayElement(indexes, sourceIndex);
+            leg3.getRatioTapChanger().releaseStateColumns();
         }
     }
 
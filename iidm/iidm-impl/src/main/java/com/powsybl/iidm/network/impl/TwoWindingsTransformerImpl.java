@@ -168,54 +168,27 @@ class TwoWindingsTransformerImpl extends AbstractBranch<TwoWindingsTransformer>
 
     @Override
     public void setRatioTapChanger(RatioTapChangerImpl ratioTapChanger) {
+        if (this.ratioTapChanger != null && this.ratioTapChanger != ratioTapChanger) {
+            this.ratioTapChanger.releaseStateColumns();
+        }
         this.ratioTapChanger = ratioTapChanger;
     }
 
     void setPhaseTapChanger(PhaseTapChangerImpl phaseTapChanger) {
-        this.phaseTapChanger = phaseTapChanger;
-    }
-
-    @Override
-    public void extendStateArraySize(int initStateArraySize, int number, int sourceIndex) {
-        super.extendStateArraySize(initStateArraySize, number, sourceIndex);
-        if (ratioTapChanger != null) {
-            ratioTapChanger.extendStateArraySize(initStateArraySize, number, sourceIndex);
-        }
-        if (phaseTapChanger != null) {
-            phaseTapChanger.extendStateArraySize(initStateArraySize, number, sourceIndex);
-        }
-    }
-
-    @Override
-    public void reduceStateArraySize(int number) {
-        super.reduceStateArraySize(number);
-        if (ratioTapChanger != null) {
-            ratioTapChanger.reduceStateArraySize(number);
-        }
-        if (phaseTapChanger != null) {
-            phaseTapChanger.reduceStateArraySize(number);
-        }
-    }
-
-    @Override
-    public void deleteStateArrayElement(int index) {
-        super.deleteStateArrayElement(index);
-        if (ratioTapChanger != null) {
-            ratioTapChanger.deleteStateArrayElement(index);
-        }
-        if (phaseTapChanger != null) {
-            phaseTapChanger.deleteStateArrayElement(index);
+        if (this.phaseTapChanger != null && this.phaseTapChanger != phaseTapChanger) {
+            this.phaseTapChanger.releaseStateColumns();
         }
+        this.phaseTapChanger = phaseTapChanger;
     }
 
     @Override
-    public void allocateStateArrayElement(int[] indexes, int sourceIndex) {
-        super.allocateStateArrayElement(indexes, sourceIndex);
+    public void remove() {
+        super.remove();
         if (ratioTapChanger != null) {
-            ratioTapChanger.allocateStateArrayElement(indexes, sourceIndex);
+            ratioTapChanger.releaseStateColumns();
         }
         if (phaseTapChanger != null) {
-            phaseTapChanger.allocateStateArrayElement(indexes, sourceIndex);
+            phaseTapChanger.releaseStateColumns();
         }
     }
 
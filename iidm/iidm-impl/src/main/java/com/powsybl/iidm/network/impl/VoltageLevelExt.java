@@ -15,7 +15,7 @@ import java.util.stream.Stream;
  *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
-interface VoltageLevelExt extends VoltageLevel, Stateful {
+interface VoltageLevelExt extends VoltageLevel {
 
     interface NodeBreakerViewExt extends NodeBreakerView {
 
@@ -66,4 +66,10 @@ interface VoltageLevelExt extends VoltageLevel, Stateful {
     boolean disconnect(TerminalExt terminal);
 
     void invalidateCache();
+
+    /**
+     * Invalidate the part of the cache impacted by the opening or the closing
+     * of a switch.
+     */
+    void invalidateCache(SwitchImpl aSwitch);
 }
@@ -9,9 +9,6 @@ package com.powsybl.iidm.network.impl;
 import com.powsybl.iidm.network.ReactiveLimits;
 import com.powsybl.iidm.network.VscConverterStation;
 import com.powsybl.iidm.network.impl.util.Ref;
-import gnu.trove.list.array.TFloatArrayList;
-
-import java.util.BitSet;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -21,24 +18,32 @@ class VscConverterStationImpl extends AbstractHvdcConverterStation<VscConverterS
 
     static final String TYPE_DESCRIPTION = "vscConverterStation";
 
+    private static final StateColumnStore.Layout STATE_COLUMN_LAYOUT = new StateColumnStore.Layout("VscConverterStation")
+            .floats(2)
+            .booleans(1);
+
+    private static final int REACTIVE_POWER_SETPOINT_COLUMN = 0;
+
+    private static final int VOLTAGE_SETPOINT_COLUMN = 1;
+
+    private static final int VOLTAGE_REGULATOR_ON_COLUMN = 0;
+
     private ReactiveLimits reactiveLimits;
 
-    private final BitSet voltageRegulatorOn;
+    // attributes depending on the state
 
-    private final TFloatArrayList reactivePowerSetpoint;
+    private final StateColumnStore stateColumns;
 
-    private final TFloatArrayList voltageSetpoint;
+    private final int stateColumnNum;
 
     VscConverterStationImpl(String id, String name, float lossFactor, Ref<? extends MultiStateObject> ref,
                             boolean voltageRegulatorOn, float reactivePowerSetpoint, float voltageSetpoint) {
         super(id, name, lossFactor);
-        int stateArraySize = ref.get().getStateManager().getStateArraySize();
-        this.voltageRegulatorOn = new BitSet(stateArraySize);
-        this.reactivePowerSetpoint = new TFloatArrayList(stateArraySize);
-        this.voltageSetpoint = new TFloatArrayList(stateArraySize);
-        this.voltageRegulatorOn.set(0, stateArraySize, voltageRegulatorOn);
-        this.reactivePowerSetpoint.fill(0, stateArraySize, reactivePowerSetpoint);
-        this.voltageSetpoint.fill(0, stateArraySize, voltageSetpoint);
+        stateColumns = ref.get().getStateManager().getColumnStore(STATE_COLUMN_LAYOUT);
+        stateColumnNum = stateColumns.newNumber();
+        stateColumns.initBoolean(VOLTAGE_REGULATOR_ON_COLUMN, stateColumnNum, voltageRegulatorOn);
+        stateColumns.initFloat(REACTIVE_POWER_SETPOINT_COLUMN, stateColumnNum, reactivePowerSetpoint);
+        stateColumns.initFloat(VOLTAGE_SETPOINT_COLUMN, stateColumnNum, voltageSetpoint);
         this.reactiveLimits = new MinMaxReactiveLimitsImpl(-Float.MAX_VALUE, Float.MAX_VALUE);
     }
 
@@ -47,6 +52,12 @@ class VscConverterStationImpl extends AbstractHvdcConverterStation<VscConverterS
         return HvdcType.VSC;
     }
 
+    @Override
+    public void remove() {
+        super.remove();
+        stateColumns.releaseNumber(stateColumnNum);
+    }
+
     @Override
     protected String getTypeDescription() {
         return TYPE_DESCRIPTION;
@@ -54,43 +65,42 @@ class VscConverterStationImpl extends AbstractHvdcConverterStation<VscConverterS
 
     @Override
     public boolean isVoltageRegulatorOn() {
-        return voltageRegulatorOn.get(getNetwork().getStateIndex());
+        return stateColumns.getBoolean(VOLTAGE_REGULATOR_ON_COLUMN, getNetwork().getStateIndex(), stateColumnNum);
     }
 
     @Override
     public VscConverterStationImpl setVoltageRegulatorOn(boolean voltageRegulatorOn) {
         int stateIndex = getNetwork().getStateIndex();
-        ValidationUtil.checkVoltageControl(this, voltageRegulatorOn, voltageSetpoint.get(stateIndex), reactivePowerSetpoint.get(stateIndex));
-        boolean oldValue = this.voltageRegulatorOn.get(stateIndex);
-        this.voltageRegulatorOn.set(stateIndex, voltageRegulatorOn);
+        ValidationUtil.checkVoltageControl(this, voltageRegulatorOn, stateColumns.getFloat(VOLTAGE_SETPOINT_COLUMN, stateIndex, stateColumnNum), stateColumns.getFloat(REACTIVE_POWER_SETPOINT_COLUMN, stateIndex, stateColumnNum));
+        boolean oldValue = stateColumns.setBoolean(VOLTAGE_REGULATOR_ON_COLUMN, stateIndex, stateColumnNum, voltageRegulatorOn);
         notifyUpdate("voltageRegulatorOn", oldValue, voltageRegulatorOn);
         return this;
     }
 
     @Override
     public float getVoltageSetpoint() {
-        return this.voltageSetpoint.get(getNetwork().getStateIndex());
+        return stateColumns.getFloat(VOLTAGE_SETPOINT_COLUMN, getNetwork().getStateIndex(), stateColumnNum);
     }
 
     @Override
     public VscConverterStationImpl setVoltageSetpoint(float voltageSetpoint) {
         int stateIndex = getNetwork().getStateIndex();
-        ValidationUtil.checkVoltageControl(this, voltageRegulatorOn.get(stateIndex), voltageSetpoint, reactivePowerSetpoint.get(stateIndex));
-        float oldValue = this.voltageSetpoint.set(stateIndex, voltageSetpoint);
+        ValidationUtil.checkVoltageControl(this, stateColumns.getBoolean(VOLTAGE_REGULATOR_ON_COLUMN, stateIndex, stateColumnNum), voltageSetpoint, stateColumns.getFloat(REACTIVE_POWER_SETPOINT_COLUMN, stateIndex, stateColumnNum));
+        float oldValue = stateColumns.setFloat(VOLTAGE_SETPOINT_COLUMN, stateIndex, stateColumnNum, voltageSetpoint);
         notifyUpdate("voltageSetpoint", oldValue, voltageSetpoint);
         return this;
     }
 
     @Override
     public float getReactivePowerSetpoint() {
-        return reactivePowerSetpoint.get(getNetwork().getStateIndex());
+        return stateColumns.getFloat(REACTIVE_POWER_SETPOINT_COLUMN, getNetwork().getStateIndex(), stateColumnNum);
     }
 
     @Override
     public VscConverterStationImpl setReactivePowerSetpoint(float reactivePowerSetpoint) {
         int stateIndex = getNetwork().getStateIndex();
-        ValidationUtil.checkVoltageControl(this, voltageRegulatorOn.get(stateIndex), voltageSetpoint.get(stateIndex), reactivePowerSetpoint);
-        float oldValue = this.reactivePowerSetpoint.set(stateIndex, reactivePowerSetpoint);
+        ValidationUtil.checkVoltageControl(this, stateColumns.getBoolean(VOLTAGE_REGULATOR_ON_COLUMN, stateIndex, stateColumnNum), stateColumns.getFloat(VOLTAGE_SETPOINT_COLUMN, stateIndex, stateColumnNum), reactivePowerSetpoint);
+        float oldValue = stateColumns.setFloat(REACTIVE_POWER_SETPOINT_COLUMN, stateIndex, stateColumnNum, reactivePowerSetpoint);
         notifyUpdate("reactivePowerSetpoint", oldValue, reactivePowerSetpoint);
         return this;
     }
@@ -128,39 +138,4 @@ class VscConverterStationImpl extends AbstractHvdcConverterStation<VscConverterS
         }
     }
 
-    @Override
-    public void extendStateArraySize(int initStateArraySize, int number, int sourceIndex) {
-        super.extendStateArraySize(initStateArraySize, number, sourceIndex);
-
-        reactivePowerSetpoint.ensureCapacity(reactivePowerSetpoint.size() + number);
-        reactivePowerSetpoint.fill(initStateArraySize, initStateArraySize + number, reactivePowerSetpoint.get(sourceIndex));
-
-        voltageSetpoint.ensureCapacity(voltageSetpoint.size() + number);
-        voltageSetpoint.fill(initStateArraySize, initStateArraySize + number, voltageSetpoint.get(sourceIndex));
-
-        voltageRegulatorOn.set(initStateArraySize, initStateArraySize + number, voltageRegulatorOn.get(sourceIndex));
-    }
-
-    @Override
-    public void reduceStateArraySize(int number) {
-        super.reduceStateArraySize(number);
-        reactivePowerSetpoint.remove(reactivePowerSetpoint.size() - number, number);
-        voltageSetpoint.remove(voltageSetpoint.size() - number, number);
-    }
-
-    @Override
-    public void deleteStateArrayElement(int index) {
-        super.deleteStateArrayElement(index);
-        // nothing to do
-    }
-
-    @Override
-    public void allocateStateArrayElement(int[] indexes, int sourceIndex) {
-        super.allocateStateArrayElement(indexes, sourceIndex);
-        for (int index : indexes) {
-            voltageRegulatorOn.set(index, voltageRegulatorOn.get(sourceIndex));
-            reactivePowerSetpoint.set(index, reactivePowerSetpoint.get(sourceIndex));
-            voltageSetpoint.set(index, voltageSetpoint.get(sourceIndex));
-        }
-    }
 }
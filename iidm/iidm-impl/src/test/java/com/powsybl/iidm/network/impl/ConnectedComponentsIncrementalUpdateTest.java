@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.FictitiousSwitchFactory;
+import com.powsybl.iidm.network.test.HvdcTestNetwork;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class ConnectedComponentsIncrementalUpdateTest {
+
+    private static Map<String, Set<String>> getComponents(Network network, Function<Bus, Component> componentGetter) {
+        Map<Integer, Set<String>> num2buses = new HashMap<>();
+        for (Bus bus : network.getBusView().getBuses()) {
+            num2buses.computeIfAbsent(componentGetter.apply(bus).getNum(), k -> new TreeSet<>()).add(bus.getId());
+        }
+        Map<String, Set<String>> components = new TreeMap<>();
+        for (Bus bus : network.getBusView().getBuses()) {
+            Component component = componentGetter.apply(bus);
+            Set<String> buses = num2buses.get(component.getNum());
+            assertEquals(buses.size(), component.getSize());
+            components.put(bus.getId(), buses);
+        }
+        return components;
+    }
+
+    private static void checkComponents(NetworkImpl network) {
+        Map<String, Set<String>> connectedComponents = getComponents(network, Bus::getConnectedComponent);
+        Map<String, Set<String>> synchronousComponents = getComponents(network, Bus::getSynchronousComponent);
+
+        // compare with a full computation
+        network.getConnectedComponentsManager().invalidate();
+        network.getSynchronousComponentsManager().invalidate();
+        assertEquals(getComponents(network, Bus::getConnectedComponent), connectedComponents);
+        assertEquals(getComponents(network, Bus::getSynchronousComponent), synchronousComponents);
+    }
+
+    @Test
+    public void test() {
+        NetworkImpl network = (NetworkImpl) FictitiousSwitchFactory.create();
+        checkComponents(network);
+
+        List<Switch> switches = new ArrayList<>();
+        for (VoltageLevel vl : network.getVoltageLevels()) {
+            for (Switch s : vl.getNodeBreakerView().getSwitches()) {
+                switches.add(s);
+            }
+        }
+        Random random = new Random(0);
+        for (int i = 0; i < 200; i++) {
+            Switch s = switches.get(random.nextInt(switches.size()));
+            s.setOpen(!s.isOpen());
+            checkComponents(network);
+        }
+    }
+
+    @Test
+    public void hvdcTest() {
+        NetworkImpl network = (NetworkImpl) HvdcTestNetwork.createVsc();
+        checkComponents(network);
+        Bus bus1 = network.getVscConverterStation("C1").getTerminal().getBusView().getBus();
+        Switch breaker = network.getSwitch("BK1");
+        for (int i = 0; i < 4; i++) {
+            breaker.setOpen(!breaker.isOpen());
+            Bus bus2 = network.getVscConverterStation("C2").getTerminal().getBusView().getBus();
+            if (bus2 != null) {
+                // both stations are connected through the HVDC line
+                assertSame(bus1.getConnectedComponent(), bus2.getConnectedComponent());
+                assertNotSame(bus1.getSynchronousComponent(), bus2.getSynchronousComponent());
+            }
+            checkComponents(network);
+        }
+    }
+
+    @Test
+    public void disconnectedTerminalTest() {
+        Network network = FictitiousSwitchFactory.create();
+        Terminal terminal = network.getGeneratorStream()
+                .map(Generator::getTerminal)
+                .filter(t -> t.getBusView().getBus() != null)
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+        assertNotNull(terminal.getBusView().getBus().getConnectedComponent());
+        // open all the switches around the generator
+        terminal.disconnect();
+        assertNull(terminal.getBusView().getBus());
+        // terminal is not part of a connected component anymore
+        network.getBusView().getConnectedComponents();
+        assertEquals(-1, ((NodeTerminal) terminal).getConnectedComponentNumber());
+    }
+}
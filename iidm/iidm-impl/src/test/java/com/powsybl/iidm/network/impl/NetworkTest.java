@@ -7,6 +7,7 @@
 package com.powsybl.iidm.network.impl;
 
 import com.google.common.collect.Iterables;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.VoltageLevel.NodeBreakerView;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
@@ -26,6 +27,7 @@ import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -265,4 +267,69 @@ public class NetworkTest {
         assertEquals(sourceFormat, network.getSourceFormat());
         assertEquals(ContainerType.NETWORK, network.getContainerType());
     }
+
+    private static void createDanglingLine(Network network, String id) {
+        VoltageLevel vl = network.newSubstation()
+                .setId("S_" + id)
+                .setCountry(Country.FR)
+                .add()
+                .newVoltageLevel()
+                .setId("VL_" + id)
+                .setNominalV(400f)
+                .setTopologyKind(TopologyKind.BUS_BREAKER)
+                .add();
+        vl.getBusBreakerView().newBus()
+                .setId("B_" + id)
+                .add();
+        vl.newDanglingLine()
+                .setId(id)
+                .setBus("B_" + id)
+                .setConnectableBus("B_" + id)
+                .setP0(0f)
+                .setQ0(0f)
+                .setR(1f)
+                .setX(1f)
+                .setG(0f)
+                .setB(0f)
+                .setUcteXnodeCode("XNODE")
+                .add();
+    }
+
+    @Test
+    public void testMergeParts() {
+        Network network = NetworkFactory.create("n", "test");
+        createDanglingLine(network, "DL1");
+        Network part = NetworkFactory.create("n", "test");
+        createDanglingLine(part, "DL2");
+        new NetworkPartMergerServiceImpl().mergePart(network, part);
+        assertEquals("n", network.getId());
+        assertEquals(2, network.getSubstationCount());
+        assertEquals(2, network.getDanglingLineCount());
+        assertEquals(0, network.getLineCount());
+
+        // dangling lines of different networks are replaced by a tie line
+        Network other = NetworkFactory.create("other", "test");
+        createDanglingLine(other, "DL3");
+        network.merge(other);
+        assertEquals("n + other", network.getId());
+        assertEquals(1, network.getDanglingLineCount());
+        assertEquals(1, network.getLineCount());
+    }
+
+    @Test
+    public void testMergeSameId() {
+        // networks with the same id cannot be merged, only parts of a network
+        Network network = NetworkFactory.create("n", "test");
+        Network other = NetworkFactory.create("n", "test");
+        try {
+            network.merge(other);
+            fail();
+        } catch (PowsyblException ignored) {
+        }
+        try {
+            new NetworkPartMergerServiceImpl().mergePart(network, NetworkFactory.create("other", "test"));
+            fail();
+        } catch (PowsyblException ignored) {
+        }
+    }
 }
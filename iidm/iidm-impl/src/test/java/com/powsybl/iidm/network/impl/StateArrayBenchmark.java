@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.iidm.network.NetworkFactory;
+import com.powsybl.iidm.network.StateManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare concurrent reads of the lock free {@link StateArray} with the previous
+ * implementation based on a synchronized list and a boxed thread local state
+ * index.
+ * <p>
+ * Not run by the build, use <code>org.openjdk.jmh.Main StateArrayBenchmark</code>
+ * with the test classpath.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StateArrayBenchmark {
+
+    private static final int STATE_COUNT = 32;
+
+    private static final class StateImpl implements State {
+
+        private final int value;
+
+        private StateImpl(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public StateImpl copy() {
+            return new StateImpl(value);
+        }
+    }
+
+    private final List<String> stateIds = new ArrayList<>();
+
+    private NetworkImpl network;
+
+    private StateArray<StateImpl> lockFreeStates;
+
+    private List<StateImpl> synchronizedStates;
+
+    private final ThreadLocal<Integer> boxedStateIndex = new ThreadLocal<>();
+
+    @org.openjdk.jmh.annotations.State(Scope.Thread)
+    public static class ThreadContext {
+
+        @Setup
+        public void setUp(StateArrayBenchmark benchmark) {
+            int index = ThreadLocalRandom.current().nextInt(STATE_COUNT);
+            benchmark.network.getStateManager().setWorkingState(benchmark.stateIds.get(index));
+            benchmark.boxedStateIndex.set(index);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        network = (NetworkImpl) NetworkFactory.create("test", "test");
+        StateManager stateManager = network.getStateManager();
+        stateManager.allowStateMultiThreadAccess(true);
+        stateIds.add(StateManager.INITIAL_STATE_ID);
+        for (int i = 1; i < STATE_COUNT; i++) {
+            stateIds.add("state" + i);
+        }
+        stateManager.cloneState(StateManager.INITIAL_STATE_ID, stateIds.subList(1, STATE_COUNT));
+
+        int[] counter = new int[1];
+        lockFreeStates = new StateArray<>(network.getRef(), () -> new StateImpl(counter[0]++));
+
+        synchronizedStates = Collections.synchronizedList(new ArrayList<>(STATE_COUNT));
+        for (int i = 0; i < STATE_COUNT; i++) {
+            synchronizedStates.add(new StateImpl(i));
+        }
+    }
+
+    private int readLockFree() {
+        return lockFreeStates.get().value;
+    }
+
+    private int readSynchronized() {
+        return synchronizedStates.get(boxedStateIndex.get()).value;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int lockFree1Thread(ThreadContext context) {
+        return readLockFree();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public int lockFree8Threads(ThreadContext context) {
+        return readLockFree();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public int lockFree32Threads(ThreadContext context) {
+        return readLockFree();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int synchronized1Thread(ThreadContext context) {
+        return readSynchronized();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public int synchronized8Threads(ThreadContext context) {
+        return readSynchronized();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public int synchronized32Threads(ThreadContext context) {
+        return readSynchronized();
+    }
+}
@@ -0,0 +1,296 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.iidm.network.test.FictitiousSwitchFactory;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class StateColumnStoreTest {
+
+    private static final StateColumnStore.Layout LAYOUT = new StateColumnStore.Layout("test")
+            .floats(1)
+            .ints(1)
+            .booleans(1)
+            .objects(1)
+            .caches(1);
+
+    @Test
+    public void test() {
+        StateColumnStore store = new StateColumnStore(LAYOUT, 1, Collections.singletonList(0));
+        int num1 = store.newNumber();
+        int num2 = store.newNumber();
+        assertEquals(2, store.getSize());
+        store.initFloat(0, num1, 1f);
+        store.initFloat(0, num2, 2f);
+        store.initBoolean(0, num1, true);
+        store.initBoolean(0, num2, false);
+
+        // clone state 0 to 1 and 2
+        store.extendStateArraySize(1, 2, 0);
+        assertEquals(1f, store.setFloat(0, 1, num1, 10f), 0f);
+        assertEquals(1f, store.getFloat(0, 0, num1), 0f);
+        assertEquals(10f, store.getFloat(0, 1, num1), 0f);
+        assertEquals(1f, store.getFloat(0, 2, num1), 0f);
+        assertTrue(store.setBoolean(0, 2, num1, false));
+        assertTrue(store.getBoolean(0, 0, num1));
+        assertFalse(store.getBoolean(0, 2, num1));
+
+        // recycle state 1 from state 2
+        store.deleteStateArrayElement(1);
+        store.allocateStateArrayElement(new int[] {1}, 2);
+        assertEquals(1f, store.getFloat(0, 1, num1), 0f);
+        assertFalse(store.getBoolean(0, 1, num1));
+
+        store.reduceStateArraySize(2);
+        assertEquals(1f, store.getFloat(0, 0, num1), 0f);
+
+        // equipment number recycling
+        store.releaseNumber(num1);
+        assertEquals(1, store.getSize());
+        assertEquals(num1, store.newNumber());
+
+        // page allocation keeps existing values
+        for (int i = 0; i < 2 * StateColumnStore.PAGE_SIZE; i++) {
+            store.initFloat(0, store.newNumber(), i);
+        }
+        assertEquals(2f, store.getFloat(0, 0, num2), 0f);
+    }
+
+    @Test
+    public void intObjectAndCacheTest() {
+        StateColumnStore store = new StateColumnStore(LAYOUT, 1, Collections.singletonList(0));
+        int num = store.newNumber();
+        store.initInt(0, num, 1);
+        store.initObject(0, num, "a");
+        store.setCache(0, 0, num, "cache");
+
+        store.extendStateArraySize(1, 1, 0);
+        assertEquals(1, store.setInt(0, 1, num, 2));
+        assertEquals("a", store.setObject(0, 1, num, "b"));
+        assertEquals(1, store.getInt(0, 0, num));
+        assertEquals(2, store.getInt(0, 1, num));
+        assertEquals("a", store.getObject(0, 0, num));
+        assertEquals("b", store.getObject(0, 1, num));
+
+        // caches are not cloned
+        assertEquals("cache", store.getCache(0, 0, num));
+        assertNull(store.getCache(0, 1, num));
+
+        // a released number does not retain its objects
+        store.releaseNumber(num);
+        assertEquals(num, store.newNumber());
+        assertNull(store.getObject(0, 0, num));
+        assertNull(store.getCache(0, 0, num));
+    }
+
+    @Test
+    public void copyOnWriteTest() {
+        StateColumnStore store = new StateColumnStore(LAYOUT, 1, Collections.singletonList(0));
+        store.setCopyOnWrite(true);
+        int num = store.newNumber();
+        store.initFloat(0, num, 1f);
+        store.initBoolean(0, num, true);
+
+        store.extendStateArraySize(1, 2, 0);
+        store.setFloat(0, 1, num, 2f);
+        store.setFloat(0, 0, num, 3f);
+        store.setBoolean(0, 2, num, false);
+        assertEquals(3f, store.getFloat(0, 0, num), 0f);
+        assertEquals(2f, store.getFloat(0, 1, num), 0f);
+        assertEquals(1f, store.getFloat(0, 2, num), 0f);
+        assertTrue(store.getBoolean(0, 0, num));
+        assertTrue(store.getBoolean(0, 1, num));
+        assertFalse(store.getBoolean(0, 2, num));
+
+        // new equipment is initialized in all states, even shared ones
+        int num2 = store.newNumber();
+        store.initFloat(0, num2, 4f);
+        store.deleteStateArrayElement(1);
+        store.allocateStateArrayElement(new int[] {1}, 2);
+        store.setFloat(0, 1, num2, 5f);
+        assertEquals(4f, store.getFloat(0, 0, num2), 0f);
+        assertEquals(5f, store.getFloat(0, 1, num2), 0f);
+        assertEquals(4f, store.getFloat(0, 2, num2), 0f);
+    }
+
+    @Test
+    public void copyOnWritePageTest() {
+        StateColumnStore store = new StateColumnStore(LAYOUT, 1, Collections.singletonList(0));
+        store.setCopyOnWrite(true);
+        int[] nums = new int[2 * StateColumnStore.PAGE_SIZE];
+        for (int i = 0; i < nums.length; i++) {
+            nums[i] = store.newNumber();
+            store.initFloat(0, nums[i], i);
+        }
+        int first = nums[0];
+        int last = nums[nums.length - 1];
+
+        // only the modified page is copied
+        store.extendStateArraySize(1, 1, 0);
+        assertEquals(2, store.getFloatPageReferenceCount(0, 0, first));
+        store.setFloat(0, 1, first, -1f);
+        assertEquals(1, store.getFloatPageReferenceCount(0, 0, first));
+        assertEquals(1, store.getFloatPageReferenceCount(0, 1, first));
+        assertEquals(2, store.getFloatPageReferenceCount(0, 1, last));
+        assertEquals(0f, store.getFloat(0, 0, first), 0f);
+        assertEquals(-1f, store.getFloat(0, 1, first), 0f);
+        assertEquals(last, store.getFloat(0, 1, last), 0f);
+
+        // pages are no longer shared once the clone is removed
+        store.reduceStateArraySize(1);
+        assertEquals(1, store.getFloatPageReferenceCount(0, 0, last));
+        store.setFloat(0, 0, last, -2f);
+        assertEquals(-2f, store.getFloat(0, 0, last), 0f);
+    }
+
+    @Test
+    public void concurrentCloneAndWriteTest() throws Exception {
+        int writerCount = 3;
+        int iterationCount = 5000;
+        StateColumnStore store = new StateColumnStore(LAYOUT, 1, Collections.singletonList(0));
+        store.setCopyOnWrite(true);
+        int[] nums = new int[10];
+        for (int i = 0; i < nums.length; i++) {
+            nums[i] = store.newNumber();
+            store.initFloat(0, nums[i], -1f);
+        }
+        // states 1 to 3 are each written by their own thread
+        store.extendStateArraySize(1, writerCount, 0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(writerCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writerCount; w++) {
+                int stateIndex = 1 + w;
+                futures.add(executor.submit(() -> {
+                    for (int k = 0; k < iterationCount; k++) {
+                        for (int num : nums) {
+                            store.setFloat(0, stateIndex, num, k);
+                        }
+                    }
+                }));
+            }
+            // meanwhile, states are cloned from the written ones, which resizes
+            // the states and makes the written values shared again
+            for (int k = 0; k < iterationCount; k++) {
+                store.extendStateArraySize(1 + writerCount, 1, 1 + k % writerCount);
+                store.reduceStateArraySize(1);
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // no write has been lost
+        for (int w = 0; w < writerCount; w++) {
+            for (int num : nums) {
+                assertEquals(iterationCount - 1, store.getFloat(0, 1 + w, num), 0f);
+            }
+        }
+        assertEquals(-1f, store.getFloat(0, 0, nums[0]), 0f);
+    }
+
+    @Test
+    public void copyOnWriteNetworkTest() {
+        Network network = EurostagTutorialExample1Factory.create();
+        Load load = network.getLoad("LOAD");
+        StateManager manager = network.getStateManager();
+        manager.allowStateCopyOnWrite(true);
+        assertTrue(manager.isStateCopyOnWriteAllowed());
+        manager.cloneState(StateManager.INITIAL_STATE_ID, Arrays.asList("s1", "s2"));
+        manager.setWorkingState("s1");
+        load.setP0(1f);
+        manager.setWorkingState(StateManager.INITIAL_STATE_ID);
+        load.setP0(2f);
+        assertEquals(2f, load.getP0(), 0f);
+        manager.setWorkingState("s1");
+        assertEquals(1f, load.getP0(), 0f);
+        manager.setWorkingState("s2");
+        assertEquals(600f, load.getP0(), 0f);
+    }
+
+    @Test
+    public void copyOnWriteTopologyTest() {
+        Network network = EurostagTutorialExample1Factory.create();
+        Terminal terminal = network.getLoad("LOAD").getTerminal();
+        Bus bus = network.getVoltageLevel("VLLOAD").getBusBreakerView().getBus("NLOAD");
+        StateManager manager = network.getStateManager();
+        manager.allowStateCopyOnWrite(true);
+        manager.cloneState(StateManager.INITIAL_STATE_ID, "s");
+        manager.setWorkingState("s");
+        terminal.setP(1f);
+        bus.setV(2f);
+        terminal.disconnect();
+        manager.setWorkingState(StateManager.INITIAL_STATE_ID);
+        assertTrue(Float.isNaN(terminal.getP()));
+        assertTrue(Float.isNaN(bus.getV()));
+        assertTrue(terminal.isConnected());
+        manager.setWorkingState("s");
+        assertEquals(1f, terminal.getP(), 0f);
+        assertEquals(2f, bus.getV(), 0f);
+        assertFalse(terminal.isConnected());
+
+        Network nodeBreakerNetwork = FictitiousSwitchFactory.create();
+        Switch sw = nodeBreakerNetwork.getSwitch("J");
+        StateManager nodeBreakerManager = nodeBreakerNetwork.getStateManager();
+        nodeBreakerManager.allowStateCopyOnWrite(true);
+        nodeBreakerManager.cloneState(StateManager.INITIAL_STATE_ID, "s");
+        nodeBreakerManager.setWorkingState("s");
+        sw.setOpen(true);
+        nodeBreakerManager.setWorkingState(StateManager.INITIAL_STATE_ID);
+        assertFalse(sw.isOpen());
+        nodeBreakerManager.setWorkingState("s");
+        assertTrue(sw.isOpen());
+    }
+
+    @Test
+    public void noStatefulEquipmentTest() {
+        NetworkImpl network = (NetworkImpl) EurostagTutorialExample1Factory.create();
+        // all the state of the equipments is stored in columns, only the network itself is stateful
+        assertEquals(Collections.singletonList(network), new ArrayList<>(network.getObjectStore().getStatefulObjects()));
+    }
+
+    @Test
+    public void cloneAndMergeTest() {
+        Network network = EurostagTutorialExample1Factory.create();
+        Load load = network.getLoad("LOAD");
+        Generator generator = network.getGenerator("GEN");
+        StateManager manager = network.getStateManager();
+        manager.cloneState(StateManager.INITIAL_STATE_ID, "s");
+        manager.setWorkingState("s");
+        load.setP0(1f);
+        generator.setTargetP(2f);
+        manager.setWorkingState(StateManager.INITIAL_STATE_ID);
+        assertEquals(600f, load.getP0(), 0f);
+        assertEquals(607f, generator.getTargetP(), 0f);
+        manager.removeState("s");
+
+        Network merged = NetworkFactory.create("merged", "test");
+        merged.merge(network);
+        assertEquals(600f, merged.getLoad("LOAD").getP0(), 0f);
+        assertEquals(607f, merged.getGenerator("GEN").getTargetP(), 0f);
+        merged.getLoad("LOAD").setP0(3f);
+        assertEquals(3f, merged.getLoad("LOAD").getP0(), 0f);
+    }
+}
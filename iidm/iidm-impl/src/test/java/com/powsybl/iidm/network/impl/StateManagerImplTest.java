@@ -9,7 +9,10 @@ package com.powsybl.iidm.network.impl;
 import com.google.common.collect.Sets;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Load;
+import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.StateManager;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
 
 import java.util.Collection;
 import java.util.HashSet;
@@ -172,4 +175,31 @@ public class StateManagerImplTest {
         assertTrue(Sets.newHashSet(0).equals(stateManager.getStateIndexes()));
         assertTrue(identifiable1.reducedCount == 2);
     }
+
+    @Test
+    public void overwriteTest() {
+        Network network = EurostagTutorialExample1Factory.create();
+        Load load = network.getLoad("LOAD");
+        StateManager stateManager = network.getStateManager();
+        stateManager.cloneState(StateManager.INITIAL_STATE_ID, "s1");
+        stateManager.setWorkingState("s1");
+        load.setP0(1f);
+        load.getTerminal().disconnect();
+        try {
+            stateManager.cloneState(StateManager.INITIAL_STATE_ID, "s1", false);
+            fail();
+        } catch (PowsyblException ignored) {
+        }
+
+        // reset s1 to the initial state
+        stateManager.cloneState(StateManager.INITIAL_STATE_ID, "s1", true);
+        assertEquals("s1", stateManager.getWorkingStateId());
+        assertEquals(600f, load.getP0(), 0f);
+        assertTrue(load.getTerminal().isConnected());
+        assertEquals(2, stateManager.getStateIds().size());
+
+        // state is created if it does not exist
+        stateManager.cloneState("s1", "s2", true);
+        assertEquals(3, stateManager.getStateIds().size());
+    }
 }
@@ -10,8 +10,7 @@ import com.google.common.collect.Iterables;
 import com.powsybl.iidm.network.*;
 import org.junit.Test;
 
-import static org.junit.Assert.assertNotNull;
-import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.*;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -95,4 +94,53 @@ public class SwitchOpenCloseNodeBreakerTopoTest {
         s.setOpen(true);
         assertTrue(Iterables.size(vl.getBusView().getBuses()) == 2);
     }
+
+    @Test
+    public void incrementalUpdateTest() {
+        Network network = createNetwork();
+        VoltageLevel vl = network.getVoltageLevel("VL");
+        Terminal l1 = network.getLoad("L1").getTerminal();
+        Terminal l2 = network.getLoad("L2").getTerminal();
+        Bus bus1 = l1.getBusView().getBus();
+        assertNotNull(bus1);
+        assertNotNull(l2.getBusView().getBus());
+        assertNotNull(bus1.getConnectedComponent());
+
+        // isolate L2, bus of L1 is not impacted
+        vl.getNodeBreakerView().getSwitch("B3").setOpen(true);
+        assertNull(l2.getBusView().getBus());
+        assertSame(bus1, l1.getBusView().getBus());
+        assertEquals(1, Iterables.size(vl.getBusView().getBuses()));
+        assertNotNull(bus1.getConnectedComponent());
+
+        vl.getNodeBreakerView().getSwitch("B3").setOpen(false);
+        assertSame(bus1, l1.getBusView().getBus());
+        assertNotNull(l2.getBusView().getBus());
+        assertNotSame(bus1, l2.getBusView().getBus());
+
+        // merge the 2 buses
+        vl.getNodeBreakerView().getSwitch("B1").setOpen(false);
+        Bus mergedBus = l1.getBusView().getBus();
+        assertSame(mergedBus, l2.getBusView().getBus());
+        assertEquals(1, Iterables.size(vl.getBusView().getBuses()));
+
+        // add a coupling in parallel, opening B1 does not split the bus anymore
+        vl.getNodeBreakerView().newBreaker()
+                .setId("B4")
+                .setNode1(0)
+                .setNode2(3)
+                .setOpen(false)
+                .add();
+        mergedBus = l1.getBusView().getBus();
+        vl.getNodeBreakerView().getSwitch("B1").setOpen(true);
+        assertSame(mergedBus, l1.getBusView().getBus());
+        assertSame(mergedBus, l2.getBusView().getBus());
+        assertEquals(1, Iterables.size(vl.getBusView().getBuses()));
+
+        // retained switches are always part of the bus breaker topology
+        vl.getNodeBreakerView().getSwitch("B3").setRetained(true);
+        Bus bbBus = l1.getBusBreakerView().getBus();
+        vl.getNodeBreakerView().getSwitch("B3").setOpen(true);
+        assertSame(bbBus, l1.getBusBreakerView().getBus());
+    }
 }
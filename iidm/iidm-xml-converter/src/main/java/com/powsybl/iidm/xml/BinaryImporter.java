@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.xml;
+
+import com.google.auto.service.AutoService;
+import com.google.common.io.ByteStreams;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.config.PlatformConfig;
+import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import com.powsybl.iidm.import_.Importer;
+import com.powsybl.iidm.import_.Importers;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.parameters.Parameter;
+import com.powsybl.iidm.parameters.ParameterDefaultValueConfig;
+import com.powsybl.iidm.parameters.ParameterType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Import of an IIDM model written by the {@link BinaryExporter}.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+@AutoService(Importer.class)
+public class BinaryImporter implements Importer, XmlConstants {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinaryImporter.class);
+
+    private static final Parameter THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND
+            = new Parameter("throwExceptionIfExtensionNotFound", ParameterType.BOOLEAN, "Throw exception if extension not found", Boolean.FALSE);
+
+    private final ParameterDefaultValueConfig defaultValueConfig;
+
+    public BinaryImporter() {
+        this(PlatformConfig.defaultConfig());
+    }
+
+    public BinaryImporter(PlatformConfig platformConfig) {
+        defaultValueConfig = new ParameterDefaultValueConfig(platformConfig);
+    }
+
+    @Override
+    public String getFormat() {
+        return "BIIDM";
+    }
+
+    @Override
+    public InputStream get16x16Icon() {
+        return BinaryImporter.class.getResourceAsStream("/icons/iidm16x16.png");
+    }
+
+    @Override
+    public List<Parameter> getParameters() {
+        return Collections.singletonList(THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND);
+    }
+
+    @Override
+    public String getComment() {
+        return "IIDM binary v" + VERSION + " importer";
+    }
+
+    @Override
+    public boolean exists(ReadOnlyDataSource dataSource) {
+        try {
+            if (dataSource.exists(null, BinaryExporter.EXTENSION)) {
+                try (InputStream is = dataSource.newInputStream(null, BinaryExporter.EXTENSION)) {
+                    return BinaryXmlStreamReader.isBinary(is);
+                }
+            }
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void copy(ReadOnlyDataSource fromDataSource, DataSource toDataSource) {
+        if (!exists(fromDataSource)) {
+            throw new PowsyblException("From data source is not importable");
+        }
+        try {
+            try (InputStream is = fromDataSource.newInputStream(null, BinaryExporter.EXTENSION);
+                 OutputStream os = toDataSource.newOutputStream(null, BinaryExporter.EXTENSION, false)) {
+                ByteStreams.copy(is, os);
+            }
+            // and also anonymization file if exists
+            if (fromDataSource.exists("_mapping", "csv")) {
+                try (InputStream is = fromDataSource.newInputStream("_mapping", "csv");
+                     OutputStream os = toDataSource.newOutputStream("_mapping", "csv", false)) {
+                    ByteStreams.copy(is, os);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Network importData(ReadOnlyDataSource dataSource, Properties parameters) {
+        Objects.requireNonNull(dataSource);
+        Network network;
+        long startTime = System.currentTimeMillis();
+        try {
+            if (!dataSource.exists(null, BinaryExporter.EXTENSION)) {
+                throw new PowsyblException("File " + dataSource.getBaseName() + "." + BinaryExporter.EXTENSION + " not found");
+            }
+            XmlImportConfig config = new XmlImportConfig((Boolean) Importers.readParameter(getFormat(), parameters, THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND, defaultValueConfig));
+            Anonymizer anonymizer = null;
+            if (dataSource.exists("_mapping", "csv")) {
+                anonymizer = new SimpleAnonymizer();
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(dataSource.newInputStream("_mapping", "csv"), StandardCharsets.UTF_8))) {
+                    anonymizer.read(reader);
+                }
+            }
+            try (InputStream is = new BufferedInputStream(dataSource.newInputStream(null, BinaryExporter.EXTENSION))) {
+                network = NetworkXml.readBinary(is, config, anonymizer);
+            }
+            LOGGER.debug("BIIDM import done in {} ms", System.currentTimeMillis() - startTime);
+        } catch (IOException e) {
+            throw new PowsyblException(e);
+        }
+        return network;
+    }
+}
@@ -0,0 +1,586 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.xml;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static com.powsybl.iidm.xml.BinaryXmlStreamWriter.*;
+
+/**
+ * {@link XMLStreamReader} reading the binary encoding of the XML events written by
+ * {@link BinaryXmlStreamWriter}. Strings are decoded once, when first seen in the string table.
+ * Float and integer attributes stored raw are only converted to a string when their value is
+ * requested.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class BinaryXmlStreamReader implements XMLStreamReader {
+
+    private static final int NO_TAG = -1;
+
+    private static final Location UNKNOWN_LOCATION = new Location() {
+        @Override
+        public int getLineNumber() {
+            return -1;
+        }
+
+        @Override
+        public int getColumnNumber() {
+            return -1;
+        }
+
+        @Override
+        public int getCharacterOffset() {
+            return -1;
+        }
+
+        @Override
+        public String getPublicId() {
+            return null;
+        }
+
+        @Override
+        public String getSystemId() {
+            return null;
+        }
+    };
+
+    private final DataInputStream is;
+
+    private final List<String> strings = new ArrayList<>();
+
+    // namespace URI and local name of the open elements
+    private final Deque<String[]> elements = new ArrayDeque<>();
+
+    // namespace URI to prefix
+    private final Map<String, String> prefixes = new HashMap<>();
+
+    private int eventType = START_DOCUMENT;
+
+    private String namespaceURI;
+
+    private String localName;
+
+    private String text;
+
+    // current element is empty, next event is its end
+    private boolean emptyElement = false;
+
+    // tag read after the attributes of the current element
+    private int pendingTag = NO_TAG;
+
+    private int attributeCount = 0;
+
+    private String[] attributeNamespaces = new String[8];
+
+    private String[] attributeNames = new String[8];
+
+    // null for a float or integer attribute not converted yet
+    private String[] attributeValues = new String[8];
+
+    private int[] attributeTags = new int[8];
+
+    private float[] attributeFloatValues = new float[8];
+
+    private int[] attributeIntValues = new int[8];
+
+    private final List<String> namespacePrefixes = new ArrayList<>();
+
+    private final List<String> namespaceUris = new ArrayList<>();
+
+    BinaryXmlStreamReader(InputStream is) throws XMLStreamException {
+        this.is = new DataInputStream(Objects.requireNonNull(is));
+        try {
+            byte[] magic = new byte[MAGIC.length];
+            this.is.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new XMLStreamException("Not a binary IIDM document");
+            }
+            int version = this.is.readUnsignedByte();
+            if (version != VERSION) {
+                throw new XMLStreamException("Unsupported binary IIDM version " + version);
+            }
+        } catch (IOException e) {
+            throw new XMLStreamException(e);
+        }
+    }
+
+    /**
+     * Check the header of a binary document, without reading the stream further.
+     */
+    static boolean isBinary(InputStream is) throws IOException {
+        byte[] magic = new byte[MAGIC.length];
+        int n = 0;
+        while (n < magic.length) {
+            int read = is.read(magic, n, magic.length - n);
+            if (read == -1) {
+                return false;
+            }
+            n += read;
+        }
+        return Arrays.equals(magic, MAGIC);
+    }
+
+    private int readVarInt() throws IOException {
+        int value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = is.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private String readString() throws IOException {
+        int ref = readVarInt();
+        if (ref == NULL_STRING) {
+            return null;
+        }
+        if (ref == NEW_STRING) {
+            byte[] bytes = new byte[readVarInt()];
+            is.readFully(bytes);
+            String str = new String(bytes, StandardCharsets.UTF_8);
+            strings.add(str);
+            return str;
+        }
+        return strings.get(ref - STRING_INDEX_OFFSET);
+    }
+
+    private int readTag() throws IOException {
+        if (pendingTag != NO_TAG) {
+            int tag = pendingTag;
+            pendingTag = NO_TAG;
+            return tag;
+        }
+        return is.readUnsignedByte();
+    }
+
+    private int addAttribute(int tag) throws IOException {
+        if (attributeCount == attributeNames.length) {
+            int length = attributeCount * 2;
+            attributeNamespaces = Arrays.copyOf(attributeNamespaces, length);
+            attributeNames = Arrays.copyOf(attributeNames, length);
+            attributeValues = Arrays.copyOf(attributeValues, length);
+            attributeTags = Arrays.copyOf(attributeTags, length);
+            attributeFloatValues = Arrays.copyOf(attributeFloatValues, length);
+            attributeIntValues = Arrays.copyOf(attributeIntValues, length);
+        }
+        attributeNamespaces[attributeCount] = readString();
+        attributeNames[attributeCount] = readString();
+        attributeValues[attributeCount] = null;
+        attributeTags[attributeCount] = tag;
+        return attributeCount++;
+    }
+
+    // read the namespaces and attributes following a start element
+    private void readAttributes() throws IOException {
+        attributeCount = 0;
+        namespacePrefixes.clear();
+        namespaceUris.clear();
+        while (true) {
+            int tag = is.readUnsignedByte();
+            switch (tag) {
+                case NAMESPACE_TAG:
+                    String prefix = readString();
+                    String uri = readString();
+                    namespacePrefixes.add(prefix);
+                    namespaceUris.add(uri);
+                    prefixes.put(uri, prefix);
+                    break;
+
+                case ATTRIBUTE_TAG:
+                    int index = addAttribute(tag);
+                    attributeValues[index] = readString();
+                    break;
+
+                case FLOAT_ATTRIBUTE_TAG:
+                    index = addAttribute(tag);
+                    attributeFloatValues[index] = is.readFloat();
+                    break;
+
+                case INT_ATTRIBUTE_TAG:
+                    index = addAttribute(tag);
+                    int zigzag = readVarInt();
+                    attributeIntValues[index] = (zigzag >>> 1) ^ -(zigzag & 1);
+                    break;
+
+                default:
+                    pendingTag = tag;
+                    return;
+            }
+        }
+    }
+
+    private void endElement() {
+        String[] element = elements.pop();
+        namespaceURI = element[0];
+        localName = element[1];
+        attributeCount = 0;
+        namespacePrefixes.clear();
+        namespaceUris.clear();
+        eventType = END_ELEMENT;
+    }
+
+    @Override
+    public int next() throws XMLStreamException {
+        if (eventType == END_DOCUMENT) {
+            throw new IllegalStateException("End of document reached");
+        }
+        if (emptyElement) {
+            emptyElement = false;
+            endElement();
+            return eventType;
+        }
+        try {
+            int tag = readTag();
+            switch (tag) {
+                case START_ELEMENT_TAG:
+                case EMPTY_ELEMENT_TAG:
+                    namespaceURI = readString();
+                    localName = readString();
+                    elements.push(new String[] {namespaceURI, localName});
+                    readAttributes();
+                    emptyElement = tag == EMPTY_ELEMENT_TAG;
+                    eventType = START_ELEMENT;
+                    break;
+
+                case END_ELEMENT_TAG:
+                    if (elements.isEmpty()) {
+                        throw new XMLStreamException("Unexpected end of element");
+                    }
+                    endElement();
+                    break;
+
+                case CHARACTERS_TAG:
+                    text = readString();
+                    eventType = CHARACTERS;
+                    break;
+
+                case END_DOCUMENT_TAG:
+                    eventType = END_DOCUMENT;
+                    break;
+
+                default:
+                    throw new XMLStreamException("Unexpected record " + tag);
+            }
+        } catch (IOException e) {
+            throw new XMLStreamException(e);
+        }
+        return eventType;
+    }
+
+    @Override
+    public boolean hasNext() throws XMLStreamException {
+        return eventType != END_DOCUMENT;
+    }
+
+    @Override
+    public int nextTag() throws XMLStreamException {
+        int event = next();
+        while (event == CHARACTERS && isWhiteSpace()) {
+            event = next();
+        }
+        if (event != START_ELEMENT && event != END_ELEMENT) {
+            throw new XMLStreamException("Expected start or end tag");
+        }
+        return event;
+    }
+
+    @Override
+    public String getElementText() throws XMLStreamException {
+        if (eventType != START_ELEMENT) {
+            throw new XMLStreamException("Current event is not a start element");
+        }
+        StringBuilder builder = new StringBuilder();
+        int event = next();
+        while (event != END_ELEMENT) {
+            if (event == CHARACTERS) {
+                builder.append(text);
+            } else {
+                throw new XMLStreamException("Element text expected");
+            }
+            event = next();
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public void require(int type, String namespaceURI, String localName) throws XMLStreamException {
+        if (type != eventType
+                || (namespaceURI != null && !namespaceURI.equals(getNamespaceURI()))
+                || (localName != null && !localName.equals(getLocalName()))) {
+            throw new XMLStreamException("Required event " + type + " " + localName + " does not match");
+        }
+    }
+
+    @Override
+    public void close() throws XMLStreamException {
+        // as specified, the underlying stream is not closed
+    }
+
+    @Override
+    public int getEventType() {
+        return eventType;
+    }
+
+    @Override
+    public boolean isStartElement() {
+        return eventType == START_ELEMENT;
+    }
+
+    @Override
+    public boolean isEndElement() {
+        return eventType == END_ELEMENT;
+    }
+
+    @Override
+    public boolean isCharacters() {
+        return eventType == CHARACTERS;
+    }
+
+    @Override
+    public boolean isWhiteSpace() {
+        return eventType == CHARACTERS && text.trim().isEmpty();
+    }
+
+    private void checkElement() {
+        if (eventType != START_ELEMENT && eventType != END_ELEMENT) {
+            throw new IllegalStateException("Current event is not an element");
+        }
+    }
+
+    @Override
+    public boolean hasName() {
+        return eventType == START_ELEMENT || eventType == END_ELEMENT;
+    }
+
+    @Override
+    public String getLocalName() {
+        checkElement();
+        return localName;
+    }
+
+    @Override
+    public String getNamespaceURI() {
+        checkElement();
+        return namespaceURI;
+    }
+
+    @Override
+    public String getPrefix() {
+        checkElement();
+        return namespaceURI != null ? prefixes.get(namespaceURI) : null;
+    }
+
+    @Override
+    public QName getName() {
+        checkElement();
+        String prefix = getPrefix();
+        return new QName(namespaceURI != null ? namespaceURI : "", localName, prefix != null ? prefix : "");
+    }
+
+    private void checkStartElement() {
+        if (eventType != START_ELEMENT) {
+            throw new IllegalStateException("Current event is not a start element");
+        }
+    }
+
+    @Override
+    public int getAttributeCount() {
+        checkStartElement();
+        return attributeCount;
+    }
+
+    @Override
+    public String getAttributeValue(String namespaceURI, String localName) {
+        checkStartElement();
+        for (int i = 0; i < attributeCount; i++) {
+            if (attributeNames[i].equals(localName) && (namespaceURI == null || namespaceURI.equals(attributeNamespaces[i]))) {
+                return getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String getAttributeValue(int index) {
+        checkStartElement();
+        String value = attributeValues[index];
+        if (value == null) {
+            switch (attributeTags[index]) {
+                case FLOAT_ATTRIBUTE_TAG:
+                    value = Float.toString(attributeFloatValues[index]);
+                    break;
+                case INT_ATTRIBUTE_TAG:
+                    value = Integer.toString(attributeIntValues[index]);
+                    break;
+                default:
+                    // null string value
+                    return null;
+            }
+            attributeValues[index] = value;
+        }
+        return value;
+    }
+
+    @Override
+    public QName getAttributeName(int index) {
+        String namespace = getAttributeNamespace(index);
+        return new QName(namespace != null ? namespace : "", getAttributeLocalName(index), getAttributePrefix(index));
+    }
+
+    @Override
+    public String getAttributeNamespace(int index) {
+        checkStartElement();
+        return attributeNamespaces[index];
+    }
+
+    @Override
+    public String getAttributeLocalName(int index) {
+        checkStartElement();
+        return attributeNames[index];
+    }
+
+    @Override
+    public String getAttributePrefix(int index) {
+        String namespace = getAttributeNamespace(index);
+        String prefix = namespace != null ? prefixes.get(namespace) : null;
+        return prefix != null ? prefix : "";
+    }
+
+    @Override
+    public String getAttributeType(int index) {
+        return "CDATA";
+    }
+
+    @Override
+    public boolean isAttributeSpecified(int index) {
+        return true;
+    }
+
+    @Override
+    public int getNamespaceCount() {
+        checkElement();
+        return namespacePrefixes.size();
+    }
+
+    @Override
+    public String getNamespacePrefix(int index) {
+        return namespacePrefixes.get(index);
+    }
+
+    @Override
+    public String getNamespaceURI(int index) {
+        return namespaceUris.get(index);
+    }
+
+    @Override
+    public String getNamespaceURI(String prefix) {
+        for (Map.Entry<String, String> e : prefixes.entrySet()) {
+            if (Objects.equals(e.getValue(), prefix)) {
+                return e.getKey();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public NamespaceContext getNamespaceContext() {
+        throw new UnsupportedOperationException("Namespace context is not supported");
+    }
+
+    @Override
+    public boolean hasText() {
+        return eventType == CHARACTERS;
+    }
+
+    @Override
+    public String getText() {
+        if (eventType != CHARACTERS) {
+            throw new IllegalStateException("Current event is not characters");
+        }
+        return text;
+    }
+
+    @Override
+    public char[] getTextCharacters() {
+        return getText().toCharArray();
+    }
+
+    @Override
+    public int getTextCharacters(int sourceStart, char[] target, int targetStart, int length) throws XMLStreamException {
+        int n = Math.min(length, getText().length() - sourceStart);
+        text.getChars(sourceStart, sourceStart + n, target, targetStart);
+        return n;
+    }
+
+    @Override
+    public int getTextStart() {
+        return 0;
+    }
+
+    @Override
+    public int getTextLength() {
+        return getText().length();
+    }
+
+    @Override
+    public Location getLocation() {
+        return UNKNOWN_LOCATION;
+    }
+
+    @Override
+    public String getEncoding() {
+        return null;
+    }
+
+    @Override
+    public String getVersion() {
+        return null;
+    }
+
+    @Override
+    public boolean isStandalone() {
+        return false;
+    }
+
+    @Override
+    public boolean standaloneSet() {
+        return false;
+    }
+
+    @Override
+    public String getCharacterEncodingScheme() {
+        return null;
+    }
+
+    @Override
+    public String getPITarget() {
+        return null;
+    }
+
+    @Override
+    public String getPIData() {
+        return null;
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        return null;
+    }
+}
@@ -0,0 +1,362 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.xml;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * {@link XMLStreamWriter} writing a compact binary encoding of the XML events, read back by
+ * {@link BinaryXmlStreamReader}, so that the XML serializers of the network, including the
+ * extension ones, can be used unchanged to write a binary document.
+ * <p>
+ * The document is a header followed by a sequence of records, each one beginning with a tag byte.
+ * Strings (names, namespaces, ids and other values) are written the first time they are seen and
+ * then referenced by their varint index in a string table, so that repeated names and ids, which
+ * are most of an IIDM document, take one or two bytes. Attribute values which are the canonical
+ * string of an int or a float, as written by {@link Integer#toString(int)} and
+ * {@link Float#toString(float)}, are stored raw instead (zigzag varint or 4 bytes) and not added
+ * to the table: they are seldom repeated and converting them back gives the same string.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class BinaryXmlStreamWriter implements XMLStreamWriter {
+
+    static final byte[] MAGIC = {'B', 'I', 'I', 'D', 'M'};
+
+    static final int VERSION = 2;
+
+    static final int START_ELEMENT_TAG = 1;
+    static final int EMPTY_ELEMENT_TAG = 2;
+    static final int END_ELEMENT_TAG = 3;
+    static final int NAMESPACE_TAG = 4;
+    static final int ATTRIBUTE_TAG = 5;
+    static final int CHARACTERS_TAG = 6;
+    static final int END_DOCUMENT_TAG = 7;
+    static final int FLOAT_ATTRIBUTE_TAG = 8;
+    static final int INT_ATTRIBUTE_TAG = 9;
+
+    // string references: null, a new string added to the table, or the index in the table plus this offset
+    static final int NULL_STRING = 0;
+    static final int NEW_STRING = 1;
+    static final int STRING_INDEX_OFFSET = 2;
+
+    private final DataOutputStream os;
+
+    private final Map<String, Integer> strings = new HashMap<>();
+
+    private final Map<String, String> prefixes = new HashMap<>();
+
+    // number of elements not closed
+    private int depth = 0;
+
+    BinaryXmlStreamWriter(OutputStream os) throws XMLStreamException {
+        this.os = new DataOutputStream(Objects.requireNonNull(os));
+        try {
+            this.os.write(MAGIC);
+            this.os.writeByte(VERSION);
+        } catch (IOException e) {
+            throw new XMLStreamException(e);
+        }
+    }
+
+    private void writeVarInt(int value) throws IOException {
+        int v = value;
+        while ((v & ~0x7F) != 0) {
+            os.writeByte((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        os.writeByte(v);
+    }
+
+    private void writeString(String str) throws IOException {
+        if (str == null) {
+            writeVarInt(NULL_STRING);
+            return;
+        }
+        Integer index = strings.get(str);
+        if (index != null) {
+            writeVarInt(index + STRING_INDEX_OFFSET);
+        } else {
+            strings.put(str, strings.size());
+            byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(NEW_STRING);
+            writeVarInt(bytes.length);
+            os.write(bytes);
+        }
+    }
+
+    private void writeRecord(int tag, String str1, String str2) throws XMLStreamException {
+        try {
+            os.writeByte(tag);
+            writeString(str1);
+            writeString(str2);
+        } catch (IOException e) {
+            throw new XMLStreamException(e);
+        }
+    }
+
+    @Override
+    public void writeStartElement(String localName) throws XMLStreamException {
+        writeStartElement(null, localName);
+    }
+
+    @Override
+    public void writeStartElement(String namespaceURI, String localName) throws XMLStreamException {
+        writeRecord(START_ELEMENT_TAG, namespaceURI, localName);
+        depth++;
+    }
+
+    @Override
+    public void writeStartElement(String prefix, String localName, String namespaceURI) throws XMLStreamException {
+        setPrefix(prefix, namespaceURI);
+        writeStartElement(namespaceURI, localName);
+    }
+
+    @Override
+    public void writeEmptyElement(String namespaceURI, String localName) throws XMLStreamException {
+        writeRecord(EMPTY_ELEMENT_TAG, namespaceURI, localName);
+    }
+
+    @Override
+    public void writeEmptyElement(String prefix, String localName, String namespaceURI) throws XMLStreamException {
+        setPrefix(prefix, namespaceURI);
+        writeEmptyElement(namespaceURI, localName);
+    }
+
+    @Override
+    public void writeEmptyElement(String localName) throws XMLStreamException {
+        writeEmptyElement(null, localName);
+    }
+
+    @Override
+    public void writeEndElement() throws XMLStreamException {
+        if (depth == 0) {
+            throw new XMLStreamException("No element to close");
+        }
+        try {
+            os.writeByte(END_ELEMENT_TAG);
+        } catch (IOException e) {
+            throw new XMLStreamException(e);
+        }
+        depth--;
+    }
+
+    @Override
+    public void writeEndDocument() throws XMLStreamException {
+        while (depth > 0) {
+            writeEndElement();
+        }
+        try {
+            os.writeByte(END_DOCUMENT_TAG);
+            os.flush();
+        } catch (IOException e) {
+            throw new XMLStreamException(e);
+        }
+    }
+
+    @Override
+    public void close() throws XMLStreamException {
+        flush();
+    }
+
+    @Override
+    public void flush() throws XMLStreamException {
+        try {
+            os.flush();
+        } catch (IOException e) {
+            throw new XMLStreamException(e);
+        }
+    }
+
+    @Override
+    public void writeAttribute(String localName, String value) throws XMLStreamException {
+        writeAttribute(null, localName, value);
+    }
+
+    @Override
+    public void writeAttribute(String prefix, String namespaceURI, String localName, String value) throws XMLStreamException {
+        writeAttribute(namespaceURI, localName, value);
+    }
+
+    /**
+     * @return the value of the canonical string of an int, null otherwise
+     */
+    private static Integer parseIntString(String value) {
+        int length = value.length();
+        boolean negative = length > 0 && value.charAt(0) == '-';
+        int start = negative ? 1 : 0;
+        // no leading zero, no "-0"
+        if (length == start || length - start > 10
+                || (value.charAt(start) == '0' && (length > start + 1 || negative))) {
+            return null;
+        }
+        long v = 0;
+        for (int i = start; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return null;
+            }
+            v = v * 10 + (c - '0');
+        }
+        v = negative ? -v : v;
+        return v >= Integer.MIN_VALUE && v <= Integer.MAX_VALUE ? (int) v : null;
+    }
+
+    private static boolean isFloatString(String value) {
+        if ("NaN".equals(value) || "Infinity".equals(value) || "-Infinity".equals(value)) {
+            return true;
+        }
+        // the string of a finite float always has a decimal point
+        if (value.indexOf('.') == -1) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && c != '.' && c != '-' && c != 'E') {
+                return false;
+            }
+        }
+        try {
+            return Float.toString(Float.parseFloat(value)).equals(value);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void writeAttribute(String namespaceURI, String localName, String value) throws XMLStreamException {
+        try {
+            Integer intValue = value != null ? parseIntString(value) : null;
+            if (intValue != null) {
+                os.writeByte(INT_ATTRIBUTE_TAG);
+                writeString(namespaceURI);
+                writeString(localName);
+                int v = intValue;
+                writeVarInt((v << 1) ^ (v >> 31));
+            } else if (value != null && isFloatString(value)) {
+                os.writeByte(FLOAT_ATTRIBUTE_TAG);
+                writeString(namespaceURI);
+                writeString(localName);
+                os.writeFloat(Float.parseFloat(value));
+            } else {
+                os.writeByte(ATTRIBUTE_TAG);
+                writeString(namespaceURI);
+                writeString(localName);
+                writeString(value);
+            }
+        } catch (IOException e) {
+            throw new XMLStreamException(e);
+        }
+    }
+
+    @Override
+    public void writeNamespace(String prefix, String namespaceURI) throws XMLStreamException {
+        writeRecord(NAMESPACE_TAG, prefix, namespaceURI);
+    }
+
+    @Override
+    public void writeDefaultNamespace(String namespaceURI) throws XMLStreamException {
+        writeNamespace(null, namespaceURI);
+    }
+
+    @Override
+    public void writeComment(String data) throws XMLStreamException {
+        // comments are not kept
+    }
+
+    @Override
+    public void writeProcessingInstruction(String target) throws XMLStreamException {
+        throw new UnsupportedOperationException("Processing instructions are not supported");
+    }
+
+    @Override
+    public void writeProcessingInstruction(String target, String data) throws XMLStreamException {
+        throw new UnsupportedOperationException("Processing instructions are not supported");
+    }
+
+    @Override
+    public void writeCData(String data) throws XMLStreamException {
+        writeCharacters(data);
+    }
+
+    @Override
+    public void writeDTD(String dtd) throws XMLStreamException {
+        throw new UnsupportedOperationException("DTD is not supported");
+    }
+
+    @Override
+    public void writeEntityRef(String name) throws XMLStreamException {
+        throw new UnsupportedOperationException("Entity references are not supported");
+    }
+
+    @Override
+    public void writeStartDocument() throws XMLStreamException {
+        // the header is written at creation
+    }
+
+    @Override
+    public void writeStartDocument(String version) throws XMLStreamException {
+        // the header is written at creation
+    }
+
+    @Override
+    public void writeStartDocument(String encoding, String version) throws XMLStreamException {
+        // the header is written at creation
+    }
+
+    @Override
+    public void writeCharacters(String text) throws XMLStreamException {
+        try {
+            os.writeByte(CHARACTERS_TAG);
+            writeString(text);
+        } catch (IOException e) {
+            throw new XMLStreamException(e);
+        }
+    }
+
+    @Override
+    public void writeCharacters(char[] text, int start, int len) throws XMLStreamException {
+        writeCharacters(new String(text, start, len));
+    }
+
+    @Override
+    public String getPrefix(String uri) throws XMLStreamException {
+        return prefixes.get(uri);
+    }
+
+    @Override
+    public void setPrefix(String prefix, String uri) throws XMLStreamException {
+        prefixes.put(uri, prefix);
+    }
+
+    @Override
+    public void setDefaultNamespace(String uri) throws XMLStreamException {
+        setPrefix("", uri);
+    }
+
+    @Override
+    public void setNamespaceContext(NamespaceContext context) throws XMLStreamException {
+        throw new UnsupportedOperationException("Namespace context is not supported");
+    }
+
+    @Override
+    public NamespaceContext getNamespaceContext() {
+        throw new UnsupportedOperationException("Namespace context is not supported");
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        throw new IllegalArgumentException("Property " + name + " is not supported");
+    }
+}
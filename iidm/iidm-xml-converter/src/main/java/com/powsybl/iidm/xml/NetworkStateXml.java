@@ -0,0 +1,265 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.xml;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.Iterables;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.exceptions.UncheckedXmlStreamException;
+import com.powsybl.iidm.network.*;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Export and import of the state variables of a network, i.e. the values which change from a
+ * state of the {@link StateManager} to another one, the topology being not written: switch
+ * positions, tap positions, bus voltages, injection and branch flows.
+ * <p>
+ * Only the working state is written and the values are applied in place to the working state of
+ * a network having the same id, typically to ship load flow results between processes. The state
+ * is written either as XML or, using the same events, in the binary IIDM format.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public final class NetworkStateXml implements XmlConstants {
+
+    static final String ROOT_ELEMENT_NAME = "networkState";
+    private static final String SWITCH_ELEMENT_NAME = "switch";
+    private static final String BUS_ELEMENT_NAME = "bus";
+    private static final String INJECTION_ELEMENT_NAME = "injection";
+    private static final String BRANCH_ELEMENT_NAME = "branch";
+    private static final String THREE_WINDINGS_TRANSFORMER_ELEMENT_NAME = "threeWindingsTransformer";
+
+    private static final String ID = "id";
+    private static final String RATIO_TAP_POSITION = "ratioTapPosition";
+    private static final String PHASE_TAP_POSITION = "phaseTapPosition";
+
+    private static final Supplier<XMLOutputFactory> XML_OUTPUT_FACTORY_SUPPLIER = Suppliers.memoize(XMLOutputFactory::newFactory);
+
+    private NetworkStateXml() {
+    }
+
+    private static Iterable<Bus> getBuses(VoltageLevel vl) {
+        // in a node/breaker voltage level, the voltages are kept by the buses of the bus view
+        return vl.getTopologyKind() == TopologyKind.NODE_BREAKER ? vl.getBusView().getBuses() : vl.getBusBreakerView().getBuses();
+    }
+
+    private static void writeFlow(Terminal t, String suffix, XMLStreamWriter writer) throws XMLStreamException {
+        XmlUtil.writeFloat("p" + suffix, t.getP(), writer);
+        XmlUtil.writeFloat("q" + suffix, t.getQ(), writer);
+    }
+
+    private static void write(Network n, XMLStreamWriter writer) throws XMLStreamException {
+        writer.writeStartDocument(StandardCharsets.UTF_8.toString(), "1.0");
+        writer.setPrefix(IIDM_PREFIX, IIDM_URI);
+        writer.writeStartElement(IIDM_URI, ROOT_ELEMENT_NAME);
+        writer.writeNamespace(IIDM_PREFIX, IIDM_URI);
+        writer.writeAttribute(ID, n.getId());
+        writer.writeAttribute("stateId", n.getStateManager().getWorkingStateId());
+
+        // switches first, buses of the node/breaker voltage levels depending on them
+        for (Switch sw : (Iterable<Switch>) n.getSwitchStream()::iterator) {
+            writer.writeEmptyElement(IIDM_URI, SWITCH_ELEMENT_NAME);
+            writer.writeAttribute(ID, sw.getId());
+            writer.writeAttribute("open", Boolean.toString(sw.isOpen()));
+        }
+        for (VoltageLevel vl : n.getVoltageLevels()) {
+            for (Bus b : getBuses(vl)) {
+                writer.writeEmptyElement(IIDM_URI, BUS_ELEMENT_NAME);
+                writer.writeAttribute("voltageLevelId", vl.getId());
+                writer.writeAttribute(ID, b.getId());
+                XmlUtil.writeFloat("v", b.getV(), writer);
+                XmlUtil.writeFloat("angle", b.getAngle(), writer);
+            }
+        }
+        for (Injection<?> injection : Iterables.<Injection<?>>concat(n.getGenerators(), n.getLoads(), n.getShunts(), n.getDanglingLines(),
+                                                                   n.getStaticVarCompensators(), n.getHvdcConverterStations())) {
+            writer.writeEmptyElement(IIDM_URI, INJECTION_ELEMENT_NAME);
+            writer.writeAttribute(ID, injection.getId());
+            writeFlow(injection.getTerminal(), "", writer);
+        }
+        for (Branch branch : n.getBranches()) {
+            writer.writeEmptyElement(IIDM_URI, BRANCH_ELEMENT_NAME);
+            writer.writeAttribute(ID, branch.getId());
+            writeFlow(branch.getTerminal1(), "1", writer);
+            writeFlow(branch.getTerminal2(), "2", writer);
+            if (branch instanceof TwoWindingsTransformer) {
+                TwoWindingsTransformer twt = (TwoWindingsTransformer) branch;
+                if (twt.getRatioTapChanger() != null) {
+                    XmlUtil.writeInt(RATIO_TAP_POSITION, twt.getRatioTapChanger().getTapPosition(), writer);
+                }
+                if (twt.getPhaseTapChanger() != null) {
+                    XmlUtil.writeInt(PHASE_TAP_POSITION, twt.getPhaseTapChanger().getTapPosition(), writer);
+                }
+            }
+        }
+        for (ThreeWindingsTransformer twt : n.getThreeWindingsTransformers()) {
+            writer.writeEmptyElement(IIDM_URI, THREE_WINDINGS_TRANSFORMER_ELEMENT_NAME);
+            writer.writeAttribute(ID, twt.getId());
+            writeFlow(twt.getLeg1().getTerminal(), "1", writer);
+            writeFlow(twt.getLeg2().getTerminal(), "2", writer);
+            writeFlow(twt.getLeg3().getTerminal(), "3", writer);
+            if (twt.getLeg2().getRatioTapChanger() != null) {
+                XmlUtil.writeInt(RATIO_TAP_POSITION + "2", twt.getLeg2().getRatioTapChanger().getTapPosition(), writer);
+            }
+            if (twt.getLeg3().getRatioTapChanger() != null) {
+                XmlUtil.writeInt(RATIO_TAP_POSITION + "3", twt.getLeg3().getRatioTapChanger().getTapPosition(), writer);
+            }
+        }
+
+        writer.writeEndElement();
+        writer.writeEndDocument();
+        writer.flush();
+    }
+
+    /**
+     * Write the state variables of the working state of the network as XML.
+     */
+    public static void write(Network n, OutputStream os) {
+        Objects.requireNonNull(n);
+        try {
+            write(n, XML_OUTPUT_FACTORY_SUPPLIER.get().createXMLStreamWriter(os, StandardCharsets.UTF_8.toString()));
+        } catch (XMLStreamException e) {
+            throw new UncheckedXmlStreamException(e);
+        }
+    }
+
+    /**
+     * Write the state variables of the working state of the network in the binary IIDM format.
+     */
+    public static void writeBinary(Network n, OutputStream os) {
+        Objects.requireNonNull(n);
+        try {
+            write(n, new BinaryXmlStreamWriter(os));
+        } catch (XMLStreamException e) {
+            throw new UncheckedXmlStreamException(e);
+        }
+    }
+
+    private static <T extends Identifiable> T getIdentifiable(Network network, String id, Class<T> clazz) {
+        Identifiable identifiable = network.getIdentifiable(id);
+        if (!clazz.isInstance(identifiable)) {
+            throw new PowsyblException(clazz.getSimpleName() + " '" + id + "' not found");
+        }
+        return clazz.cast(identifiable);
+    }
+
+    private static void readFlow(Terminal t, String suffix, XMLStreamReader reader) {
+        t.setP(XmlUtil.readOptionalFloatAttribute(reader, "p" + suffix))
+                .setQ(XmlUtil.readOptionalFloatAttribute(reader, "q" + suffix));
+    }
+
+    private static void readTapPosition(TapChanger<?, ?> tapChanger, String attributeName, XMLStreamReader reader) {
+        Integer tapPosition = XmlUtil.readOptionalIntegerAttribute(reader, attributeName);
+        if (tapChanger != null && tapPosition != null) {
+            tapChanger.setTapPosition(tapPosition);
+        }
+    }
+
+    private static void readBus(Network network, XMLStreamReader reader) {
+        String voltageLevelId = reader.getAttributeValue(null, "voltageLevelId");
+        String id = reader.getAttributeValue(null, ID);
+        VoltageLevel vl = network.getVoltageLevel(voltageLevelId);
+        if (vl == null) {
+            throw new PowsyblException("Voltage level '" + voltageLevelId + "' not found");
+        }
+        Bus b = vl.getTopologyKind() == TopologyKind.NODE_BREAKER ? vl.getBusView().getBus(id) : vl.getBusBreakerView().getBus(id);
+        if (b == null) {
+            throw new PowsyblException("Bus '" + id + "' not found");
+        }
+        b.setV(XmlUtil.readOptionalFloatAttribute(reader, "v"))
+                .setAngle(XmlUtil.readOptionalFloatAttribute(reader, "angle"));
+    }
+
+    private static void readElement(Network network, XMLStreamReader reader) {
+        String id = reader.getAttributeValue(null, ID);
+        switch (reader.getLocalName()) {
+            case SWITCH_ELEMENT_NAME:
+                Switch sw = network.getSwitch(id);
+                if (sw == null) {
+                    throw new PowsyblException("Switch '" + id + "' not found");
+                }
+                sw.setOpen(XmlUtil.readBoolAttribute(reader, "open"));
+                break;
+
+            case BUS_ELEMENT_NAME:
+                readBus(network, reader);
+                break;
+
+            case INJECTION_ELEMENT_NAME:
+                readFlow(getIdentifiable(network, id, Injection.class).getTerminal(), "", reader);
+                break;
+
+            case BRANCH_ELEMENT_NAME:
+                Branch branch = getIdentifiable(network, id, Branch.class);
+                readFlow(branch.getTerminal1(), "1", reader);
+                readFlow(branch.getTerminal2(), "2", reader);
+                if (branch instanceof TwoWindingsTransformer) {
+                    TwoWindingsTransformer twt = (TwoWindingsTransformer) branch;
+                    readTapPosition(twt.getRatioTapChanger(), RATIO_TAP_POSITION, reader);
+                    readTapPosition(twt.getPhaseTapChanger(), PHASE_TAP_POSITION, reader);
+                }
+                break;
+
+            case THREE_WINDINGS_TRANSFORMER_ELEMENT_NAME:
+                ThreeWindingsTransformer twt = getIdentifiable(network, id, ThreeWindingsTransformer.class);
+                readFlow(twt.getLeg1().getTerminal(), "1", reader);
+                readFlow(twt.getLeg2().getTerminal(), "2", reader);
+                readFlow(twt.getLeg3().getTerminal(), "3", reader);
+                readTapPosition(twt.getLeg2().getRatioTapChanger(), RATIO_TAP_POSITION + "2", reader);
+                readTapPosition(twt.getLeg3().getRatioTapChanger(), RATIO_TAP_POSITION + "3", reader);
+                break;
+
+            default:
+                throw new AssertionError("Unexpected element: " + reader.getLocalName());
+        }
+    }
+
+    private static void update(Network network, XMLStreamReader reader) throws XMLStreamException {
+        reader.nextTag();
+        if (!ROOT_ELEMENT_NAME.equals(reader.getLocalName())) {
+            throw new PowsyblException("Not a network state document");
+        }
+        String id = reader.getAttributeValue(null, ID);
+        if (!network.getId().equals(id)) {
+            throw new PowsyblException("State of network '" + id + "' cannot be applied to network '" + network.getId() + "'");
+        }
+        XmlUtil.readUntilEndElement(ROOT_ELEMENT_NAME, reader, () -> readElement(network, reader));
+    }
+
+    /**
+     * Apply XML state variables to the working state of the network.
+     */
+    public static void update(Network network, InputStream is) {
+        Objects.requireNonNull(network);
+        try {
+            update(network, NetworkXml.XML_INPUT_FACTORY_SUPPLIER.get().createXMLStreamReader(is));
+        } catch (XMLStreamException e) {
+            throw new UncheckedXmlStreamException(e);
+        }
+    }
+
+    /**
+     * Apply binary state variables to the working state of the network.
+     */
+    public static void updateBinary(Network network, InputStream is) {
+        Objects.requireNonNull(network);
+        try {
+            update(network, new BinaryXmlStreamReader(is));
+        } catch (XMLStreamException e) {
+            throw new UncheckedXmlStreamException(e);
+        }
+    }
+}
@@ -50,7 +50,7 @@ public final class NetworkXml implements XmlConstants {
     // cache XMLOutputFactory to improve performance
     private static final Supplier<XMLOutputFactory> XML_OUTPUT_FACTORY_SUPPLIER = Suppliers.memoize(XMLOutputFactory::newFactory);
 
-    private static final Supplier<XMLInputFactory> XML_INPUT_FACTORY_SUPPLIER = Suppliers.memoize(XMLInputFactory::newInstance);
+    static final Supplier<XMLInputFactory> XML_INPUT_FACTORY_SUPPLIER = Suppliers.memoize(XMLInputFactory::newInstance);
 
     private static final Supplier<Map<String, ExtensionXml>> EXTENSIONS_SUPPLIER
             = Suppliers.memoize(() -> new ServiceLoaderCache<>(ExtensionXml.class).getServices().stream()
@@ -182,9 +182,8 @@ public final class NetworkXml implements XmlConstants {
         }
     }
 
-    public static Anonymizer write(Network n, XMLExportOptions options, OutputStream os) {
+    private static Anonymizer write(Network n, XMLExportOptions options, XMLStreamWriter writer) {
         try {
-            final XMLStreamWriter writer = createXmlStreamWriter(options, os);
             writer.writeStartDocument(StandardCharsets.UTF_8.toString(), "1.0");
 
             writer.setPrefix(IIDM_PREFIX, IIDM_URI);
@@ -237,10 +236,33 @@ public final class NetworkXml implements XmlConstants {
         }
     }
 
+    public static Anonymizer write(Network n, XMLExportOptions options, OutputStream os) {
+        try {
+            return write(n, options, createXmlStreamWriter(options, os));
+        } catch (XMLStreamException e) {
+            throw new UncheckedXmlStreamException(e);
+        }
+    }
+
     public static Anonymizer write(Network n, OutputStream os) {
         return write(n, new XMLExportOptions(), os);
     }
 
+    /**
+     * Write the network in the binary IIDM format, the indent option being ignored.
+     */
+    public static Anonymizer writeBinary(Network n, XMLExportOptions options, OutputStream os) {
+        try {
+            return write(n, options, new BinaryXmlStreamWriter(os));
+        } catch (XMLStreamException e) {
+            throw new UncheckedXmlStreamException(e);
+        }
+    }
+
+    public static Anonymizer writeBinary(Network n, OutputStream os) {
+        return writeBinary(n, new XMLExportOptions(), os);
+    }
+
     public static Anonymizer write(Network n, XMLExportOptions options, Path xmlFile) {
         try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(xmlFile))) {
             return write(n, options, os);
@@ -263,93 +285,130 @@ public final class NetworkXml implements XmlConstants {
         return read(is, new XmlImportConfig(), null);
     }
 
-    public static Network read(InputStream is, XmlImportConfig config, Anonymizer anonymizer) {
-        try {
-            XMLStreamReader reader = XML_INPUT_FACTORY_SUPPLIER.get().createXMLStreamReader(is);
-            int state = reader.next();
-            while (state == XMLStreamReader.COMMENT) {
-                state = reader.next();
+    static Network readNetworkAttributes(XMLStreamReader reader) throws XMLStreamException {
+        int state = reader.next();
+        while (state == XMLStreamReader.COMMENT) {
+            state = reader.next();
+        }
+        String id = reader.getAttributeValue(null, "id");
+        DateTime date = DateTime.parse(reader.getAttributeValue(null, "caseDate"));
+        int forecastDistance = XmlUtil.readOptionalIntegerAttribute(reader, "forecastDistance", 0);
+        String sourceFormat = reader.getAttributeValue(null, "sourceFormat");
+
+        Network network = NetworkFactory.create(id, sourceFormat);
+        network.setCaseDate(date);
+        network.setForecastDistance(forecastDistance);
+        return network;
+    }
+
+    private static void readExtensions(Network network, XmlReaderContext context, Set<String> extensionNamesNotFound) throws XMLStreamException {
+        XMLStreamReader reader = context.getReader();
+        String id2 = context.getAnonymizer().deanonymizeString(reader.getAttributeValue(null, "id"));
+        Identifiable identifiable = network.getIdentifiable(id2);
+        if (identifiable == null) {
+            throw new PowsyblException("Identifiable " + id2 + " not found");
+        }
+        XmlUtil.readUntilEndElement(EXTENSION_ELEMENT_NAME, reader, new XmlUtil.XmlEventHandler() {
+
+            private boolean topLevel = true;
+
+            @Override
+            public void onStartElement() throws XMLStreamException {
+                if (topLevel) {
+                    String extensionName = reader.getLocalName();
+                    ExtensionXml extensionXml = findExtensionXml(extensionName);
+                    if (extensionXml != null) {
+                        Identifiable.Extension<? extends Identifiable<?>> extension = extensionXml.read(identifiable, context);
+                        identifiable.addExtension(extensionXml.getExtensionClass(), extension);
+                        topLevel = true;
+                    } else {
+                        extensionNamesNotFound.add(extensionName);
+                        topLevel = false;
+                    }
+                }
             }
-            String id = reader.getAttributeValue(null, "id");
-            DateTime date = DateTime.parse(reader.getAttributeValue(null, "caseDate"));
-            int forecastDistance = XmlUtil.readOptionalIntegerAttribute(reader, "forecastDistance", 0);
-            String sourceFormat = reader.getAttributeValue(null, "sourceFormat");
+        });
+    }
 
-            Network network = NetworkFactory.create(id, sourceFormat);
-            network.setCaseDate(date);
-            network.setForecastDistance(forecastDistance);
+    static void readNetworkSubElement(Network network, XmlReaderContext context, Set<String> extensionNamesNotFound) throws XMLStreamException {
+        switch (context.getReader().getLocalName()) {
+            case SubstationXml.ROOT_ELEMENT_NAME:
+                SubstationXml.INSTANCE.read(network, context);
+                break;
 
-            XmlReaderContext context = new XmlReaderContext(anonymizer, reader);
+            case LineXml.ROOT_ELEMENT_NAME:
+                LineXml.INSTANCE.read(network, context);
+                break;
 
-            Set<String> extensionNamesNotFound = new TreeSet<>();
+            case TieLineXml.ROOT_ELEMENT_NAME:
+                TieLineXml.INSTANCE.read(network, context);
+                break;
 
-            XmlUtil.readUntilEndElement(NETWORK_ROOT_ELEMENT_NAME, reader, () -> {
-                switch (reader.getLocalName()) {
-                    case SubstationXml.ROOT_ELEMENT_NAME:
-                        SubstationXml.INSTANCE.read(network, context);
-                        break;
+            case HvdcLineXml.ROOT_ELEMENT_NAME:
+                HvdcLineXml.INSTANCE.read(network, context);
+                break;
 
-                    case LineXml.ROOT_ELEMENT_NAME:
-                        LineXml.INSTANCE.read(network, context);
-                        break;
+            case EXTENSION_ELEMENT_NAME:
+                readExtensions(network, context, extensionNamesNotFound);
+                break;
 
-                    case TieLineXml.ROOT_ELEMENT_NAME:
-                        TieLineXml.INSTANCE.read(network, context);
-                        break;
+            default:
+                throw new AssertionError();
+        }
+    }
 
-                    case HvdcLineXml.ROOT_ELEMENT_NAME:
-                        HvdcLineXml.INSTANCE.read(network, context);
-                        break;
+    static void checkExtensionsNotFound(Set<String> extensionNamesNotFound, XmlImportConfig config) {
+        if (!extensionNamesNotFound.isEmpty()) {
+            if (config.isThrowExceptionIfExtensionNotFound()) {
+                throw new PowsyblException("Extensions " + extensionNamesNotFound + " not found");
+            } else {
+                LOGGER.error("Extensions {} not found", extensionNamesNotFound);
+            }
+        }
+    }
 
-                    case EXTENSION_ELEMENT_NAME:
-                        String id2 = context.getAnonymizer().deanonymizeString(reader.getAttributeValue(null, "id"));
-                        Identifiable identifiable = network.getIdentifiable(id2);
-                        if (identifiable == null) {
-                            throw new PowsyblException("Identifiable " + id2 + " not found");
-                        }
-                        XmlUtil.readUntilEndElement(EXTENSION_ELEMENT_NAME, reader, new XmlUtil.XmlEventHandler() {
-
-                            private boolean topLevel = true;
-
-                            @Override
-                            public void onStartElement() throws XMLStreamException {
-                                if (topLevel) {
-                                    String extensionName = reader.getLocalName();
-                                    ExtensionXml extensionXml = findExtensionXml(extensionName);
-                                    if (extensionXml != null) {
-                                        Identifiable.Extension<? extends Identifiable<?>> extension = extensionXml.read(identifiable, context);
-                                        identifiable.addExtension(extensionXml.getExtensionClass(), extension);
-                                        topLevel = true;
-                                    } else {
-                                        extensionNamesNotFound.add(extensionName);
-                                        topLevel = false;
-                                    }
-                                }
-                            }
-                        });
-                        break;
+    static Network read(XMLStreamReader reader, XmlImportConfig config, Anonymizer anonymizer) throws XMLStreamException {
+        Network network = readNetworkAttributes(reader);
 
-                    default:
-                        throw new AssertionError();
-                }
-            });
+        XmlReaderContext context = new XmlReaderContext(anonymizer, reader);
 
-            context.getEndTasks().forEach(Runnable::run);
+        Set<String> extensionNamesNotFound = new TreeSet<>();
 
-            if (!extensionNamesNotFound.isEmpty()) {
-                if (config.isThrowExceptionIfExtensionNotFound()) {
-                    throw new PowsyblException("Extensions " + extensionNamesNotFound + " not found");
-                } else {
-                    LOGGER.error("Extensions {} not found", extensionNamesNotFound);
-                }
-            }
+        XmlUtil.readUntilEndElement(NETWORK_ROOT_ELEMENT_NAME, reader, () -> readNetworkSubElement(network, context, extensionNamesNotFound));
 
-            return network;
+        context.getEndTasks().forEach(Runnable::run);
+
+        checkExtensionsNotFound(extensionNamesNotFound, config);
+
+        return network;
+    }
+
+    public static Network read(InputStream is, XmlImportConfig config, Anonymizer anonymizer) {
+        if (config.isParallel()) {
+            return new ParallelNetworkXmlReader(config, anonymizer).read(is);
+        }
+        try {
+            return read(XML_INPUT_FACTORY_SUPPLIER.get().createXMLStreamReader(is), config, anonymizer);
         } catch (XMLStreamException e) {
             throw new UncheckedXmlStreamException(e);
         }
     }
 
+    /**
+     * Read a network in the binary IIDM format, the parallel option being ignored.
+     */
+    public static Network readBinary(InputStream is, XmlImportConfig config, Anonymizer anonymizer) {
+        try {
+            return read(new BinaryXmlStreamReader(is), config, anonymizer);
+        } catch (XMLStreamException e) {
+            throw new UncheckedXmlStreamException(e);
+        }
+    }
+
+    public static Network readBinary(InputStream is) {
+        return readBinary(is, new XmlImportConfig(), null);
+    }
+
     public static Network read(Path xmlFile) {
         try (InputStream is = Files.newInputStream(xmlFile)) {
             return read(is);
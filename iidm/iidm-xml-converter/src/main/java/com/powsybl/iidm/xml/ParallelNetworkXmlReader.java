@@ -0,0 +1,422 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.xml;
+
+import com.google.common.io.ByteSource;
+import com.google.common.io.ByteStreams;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.exceptions.UncheckedInterruptedException;
+import com.powsybl.commons.exceptions.UncheckedXmlStreamException;
+import com.powsybl.commons.util.ServiceLoaderCache;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.NetworkFactory;
+import com.powsybl.iidm.network.NetworkPartMergerService;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Read a network from an IIDM XML document, building the substations in parallel.
+ * <p>
+ * The document is loaded in memory, in a single byte buffer, and the children of the root element
+ * are located by a light scan of the bytes, without decoding them: this is only possible for an
+ * encoding in which the markup characters are single ASCII bytes never part of another character
+ * (UTF-8, US-ASCII or ISO-8859-1), other documents are read by a single thread. Substation elements
+ * are grouped in chunks which are read by the executor of the {@link XmlImportConfig}, each chunk
+ * into its own network having the same id, so that no network is shared by several threads. Chunks
+ * are read directly from ranges of the buffer, without copy. These networks are then merged as
+ * parts of the network, see {@link NetworkPartMergerService}, in the document order, and the other
+ * elements (lines, tie lines, HVDC lines and extensions), which may reference any substation, are
+ * read by a single thread. If the network implementation cannot be built by parts, these elements
+ * include the substations.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class ParallelNetworkXmlReader {
+
+    // minimal size, in bytes, of the substation chunks
+    private static final int DEFAULT_CHUNK_SIZE = 256 * 1024;
+
+    private static final ServiceLoaderCache<NetworkPartMergerService> MERGER_LOADER
+            = new ServiceLoaderCache<>(NetworkPartMergerService.class);
+
+    private static final class Shard {
+
+        private final Network network;
+
+        private final List<Runnable> endTasks;
+
+        private Shard(Network network, List<Runnable> endTasks) {
+            this.network = network;
+            this.endTasks = endTasks;
+        }
+    }
+
+    /**
+     * Bytes of the document, shared by all the readers.
+     */
+    private static final class Document {
+
+        private final byte[] bytes;
+
+        private final Charset charset;
+
+        private Document(byte[] bytes, Charset charset) {
+            this.bytes = bytes;
+            this.charset = charset;
+        }
+
+        private ByteSource range(int rangeBegin, int rangeEnd) {
+            return ByteSource.wrap(bytes).slice(rangeBegin, (long) rangeEnd - rangeBegin);
+        }
+
+        private int indexOf(char c, int fromIndex) {
+            for (int i = fromIndex; i < bytes.length; i++) {
+                if (bytes[i] == c) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private boolean startsWith(String str, int i) {
+            if (i + str.length() > bytes.length) {
+                return false;
+            }
+            for (int j = 0; j < str.length(); j++) {
+                if (bytes[i + j] != str.charAt(j)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int indexOf(String str, int fromIndex) {
+            int i = indexOf(str.charAt(0), fromIndex);
+            while (i != -1 && !startsWith(str, i)) {
+                i = indexOf(str.charAt(0), i + 1);
+            }
+            if (i == -1) {
+                throw new PowsyblException("Unexpected end of document, '" + str + "' not found");
+            }
+            return i;
+        }
+
+        // index of the end of the tag beginning at i, attribute values may contain '>'
+        private int tagEnd(int i) {
+            byte quote = 0;
+            for (int j = i; j < bytes.length; j++) {
+                byte b = bytes[j];
+                if (quote != 0) {
+                    if (b == quote) {
+                        quote = 0;
+                    }
+                } else if (b == '"' || b == '\'') {
+                    quote = b;
+                } else if (b == '>') {
+                    return j;
+                }
+            }
+            throw new PowsyblException("Unexpected end of document, tag not closed");
+        }
+
+        private static boolean isNameEnd(byte b) {
+            return b == ' ' || b == '\t' || b == '\n' || b == '\r' || b == '/' || b == '>';
+        }
+    }
+
+    private final XmlImportConfig config;
+
+    private final Anonymizer anonymizer;
+
+    private final int chunkSize;
+
+    ParallelNetworkXmlReader(XmlImportConfig config, Anonymizer anonymizer) {
+        this(config, anonymizer, DEFAULT_CHUNK_SIZE);
+    }
+
+    ParallelNetworkXmlReader(XmlImportConfig config, Anonymizer anonymizer, int chunkSize) {
+        this.config = Objects.requireNonNull(config);
+        this.anonymizer = anonymizer;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @return true if the markup of a document in this encoding can be located in its bytes
+     */
+    private static boolean isAsciiCompatible(Charset charset) {
+        return charset.equals(StandardCharsets.UTF_8)
+                || charset.equals(StandardCharsets.US_ASCII)
+                || charset.equals(StandardCharsets.ISO_8859_1);
+    }
+
+    private static String escape(String str) {
+        return str.replace("&", "&amp;").replace("<", "&lt;").replace("\"", "&quot;");
+    }
+
+    /**
+     * Create the XML declaration and the start tag of the root element, with its namespace
+     * declarations, to read the chunks.
+     */
+    private static String createRootStartTag(XMLStreamReader reader, Charset charset) {
+        StringBuilder builder = new StringBuilder("<?xml version=\"1.0\" encoding=\"")
+                .append(charset.name())
+                .append("\"?><");
+        if (reader.getPrefix() != null && !reader.getPrefix().isEmpty()) {
+            builder.append(reader.getPrefix()).append(':');
+        }
+        builder.append(reader.getLocalName());
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+            String prefix = reader.getNamespacePrefix(i);
+            builder.append(" xmlns");
+            if (prefix != null && !prefix.isEmpty()) {
+                builder.append(':').append(prefix);
+            }
+            builder.append("=\"").append(escape(reader.getNamespaceURI(i))).append('"');
+        }
+        return builder.append('>').toString();
+    }
+
+    private static String createRootEndTag(XMLStreamReader reader) {
+        return reader.getPrefix() != null && !reader.getPrefix().isEmpty()
+                ? "</" + reader.getPrefix() + ":" + reader.getLocalName() + ">"
+                : "</" + reader.getLocalName() + ">";
+    }
+
+    private static XMLStreamReader createReader(ByteSource source) throws IOException, XMLStreamException {
+        return NetworkXml.XML_INPUT_FACTORY_SUPPLIER.get().createXMLStreamReader(source.openStream());
+    }
+
+    private Shard readShard(ByteSource source, String networkId, String sourceFormat) {
+        try {
+            XMLStreamReader reader = createReader(source);
+            try {
+                reader.nextTag();
+                Network shard = NetworkFactory.create(networkId, sourceFormat);
+                XmlReaderContext context = new XmlReaderContext(anonymizer, reader);
+                XmlUtil.readUntilEndElement(NetworkXml.NETWORK_ROOT_ELEMENT_NAME, reader, () -> SubstationXml.INSTANCE.read(shard, context));
+                return new Shard(shard, context.getEndTasks());
+            } finally {
+                reader.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (XMLStreamException e) {
+            throw new UncheckedXmlStreamException(e);
+        }
+    }
+
+    private static Shard getShard(Future<Shard> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedInterruptedException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new PowsyblException(e.getCause());
+        }
+    }
+
+    /**
+     * Range of bytes of a child element of the root element.
+     */
+    private static final class Element {
+
+        private final String localName;
+
+        private final int begin;
+
+        private final int end;
+
+        private Element(String localName, int begin, int end) {
+            this.localName = localName;
+            this.begin = begin;
+            this.end = end;
+        }
+    }
+
+    /**
+     * Locate the children of the root element. The document is expected to be well formed, it is
+     * checked when the elements are read.
+     */
+    private static List<Element> scanRootChildren(Document xml) {
+        List<Element> elements = new ArrayList<>();
+        int depth = 0;
+        int elementBegin = -1;
+        String elementName = null;
+        int i = xml.indexOf('<', 0);
+        while (i != -1) {
+            if (xml.startsWith("<!--", i)) {
+                i = xml.indexOf("-->", i) + 3;
+            } else if (xml.startsWith("<![CDATA[", i)) {
+                i = xml.indexOf("]]>", i) + 3;
+            } else if (xml.startsWith("<?", i)) {
+                i = xml.indexOf("?>", i) + 2;
+            } else if (xml.startsWith("<!", i)) { // document type declaration
+                i = xml.tagEnd(i) + 1;
+            } else if (xml.startsWith("</", i)) {
+                int end = xml.tagEnd(i) + 1;
+                depth--;
+                if (depth == 0) {
+                    break; // end of the root element
+                }
+                if (depth == 1) {
+                    elements.add(new Element(elementName, elementBegin, end));
+                }
+                i = end;
+            } else {
+                int end = xml.tagEnd(i) + 1;
+                boolean empty = xml.bytes[end - 2] == '/';
+                if (depth == 1) {
+                    int nameEnd = i + 1;
+                    while (nameEnd < end && !Document.isNameEnd(xml.bytes[nameEnd])) {
+                        nameEnd++;
+                    }
+                    String name = new String(xml.bytes, i + 1, nameEnd - i - 1, xml.charset);
+                    elementName = name.substring(name.indexOf(':') + 1);
+                    elementBegin = i;
+                    if (empty) {
+                        elements.add(new Element(elementName, elementBegin, end));
+                    }
+                }
+                if (!empty) {
+                    depth++;
+                }
+                i = end;
+            }
+            i = xml.indexOf('<', i);
+        }
+        return elements;
+    }
+
+    private Future<Shard> submitChunk(Document xml, List<Element> chunk, ByteSource rootStartTag, ByteSource rootEndTag,
+                                      Network network) {
+        ByteSource source = ByteSource.concat(rootStartTag, xml.range(chunk.get(0).begin, chunk.get(chunk.size() - 1).end), rootEndTag);
+        String networkId = network.getId();
+        String sourceFormat = network.getSourceFormat();
+        return CompletableFuture.supplyAsync(() -> readShard(source, networkId, sourceFormat), config.getExecutor());
+    }
+
+    private static NetworkPartMergerService findMerger(Network network) {
+        for (NetworkPartMergerService merger : MERGER_LOADER.getServices()) {
+            if (merger.isMergeable(network)) {
+                return merger;
+            }
+        }
+        return null;
+    }
+
+    private static List<Runnable> mergeShards(Network network, NetworkPartMergerService merger, List<Future<Shard>> shards) {
+        List<Runnable> endTasks = new ArrayList<>();
+        try {
+            for (Future<Shard> future : shards) {
+                Shard shard = getShard(future);
+                merger.mergePart(network, shard.network);
+                endTasks.addAll(shard.endTasks);
+            }
+        } catch (RuntimeException e) {
+            // the chunks not read yet are useless
+            shards.forEach(future -> future.cancel(false));
+            throw e;
+        }
+        return endTasks;
+    }
+
+    private Network read(byte[] bytes) throws IOException, XMLStreamException {
+        // let the parser detect the encoding
+        XMLStreamReader reader = createReader(ByteSource.wrap(bytes));
+        Document xml;
+        Network network;
+        ByteSource rootStartTag;
+        ByteSource rootEndTag;
+        try {
+            Charset charset = reader.getEncoding() != null ? Charset.forName(reader.getEncoding()) : StandardCharsets.UTF_8;
+            if (!isAsciiCompatible(charset)) {
+                return NetworkXml.read(reader, config, anonymizer);
+            }
+            xml = new Document(bytes, charset);
+            network = NetworkXml.readNetworkAttributes(reader);
+            rootStartTag = ByteSource.wrap(createRootStartTag(reader, charset).getBytes(charset));
+            rootEndTag = ByteSource.wrap(createRootEndTag(reader).getBytes(charset));
+        } finally {
+            reader.close();
+        }
+
+        // substations are read by chunks of consecutive substations, in parallel, the other elements
+        // are gathered in a document read once all the substations are built
+        NetworkPartMergerService merger = findMerger(network);
+        boolean multiPart = merger != null;
+        List<Future<Shard>> shards = new ArrayList<>();
+        List<ByteSource> otherElements = new ArrayList<>();
+        otherElements.add(rootStartTag);
+        List<Element> chunk = new ArrayList<>();
+        int chunkLength = 0;
+        for (Element element : scanRootChildren(xml)) {
+            if (multiPart && SubstationXml.ROOT_ELEMENT_NAME.equals(element.localName)) {
+                chunk.add(element);
+                chunkLength += element.end - element.begin;
+                if (chunkLength >= chunkSize) {
+                    shards.add(submitChunk(xml, chunk, rootStartTag, rootEndTag, network));
+                    chunk.clear();
+                    chunkLength = 0;
+                }
+            } else {
+                if (!chunk.isEmpty()) {
+                    shards.add(submitChunk(xml, chunk, rootStartTag, rootEndTag, network));
+                    chunk.clear();
+                    chunkLength = 0;
+                }
+                otherElements.add(xml.range(element.begin, element.end));
+            }
+        }
+        if (!chunk.isEmpty()) {
+            shards.add(submitChunk(xml, chunk, rootStartTag, rootEndTag, network));
+        }
+        otherElements.add(rootEndTag);
+
+        List<Runnable> endTasks = multiPart ? mergeShards(network, merger, shards) : new ArrayList<>();
+
+        XMLStreamReader otherReader = createReader(ByteSource.concat(otherElements));
+        try {
+            otherReader.nextTag();
+            XmlReaderContext context = new XmlReaderContext(anonymizer, otherReader);
+            Set<String> extensionNamesNotFound = new TreeSet<>();
+            XmlUtil.readUntilEndElement(NetworkXml.NETWORK_ROOT_ELEMENT_NAME, otherReader, () -> NetworkXml.readNetworkSubElement(network, context, extensionNamesNotFound));
+
+            endTasks.addAll(context.getEndTasks());
+            endTasks.forEach(Runnable::run);
+
+            NetworkXml.checkExtensionsNotFound(extensionNamesNotFound, config);
+        } finally {
+            otherReader.close();
+        }
+
+        return network;
+    }
+
+    Network read(InputStream is) {
+        try {
+            return read(ByteStreams.toByteArray(is));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (XMLStreamException e) {
+            throw new UncheckedXmlStreamException(e);
+        }
+    }
+}
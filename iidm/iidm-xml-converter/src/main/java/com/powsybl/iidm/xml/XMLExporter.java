@@ -77,12 +77,7 @@ public class XMLExporter implements Exporter, XmlConstants {
         return "IIDM XML v" + VERSION + " exporter";
     }
 
-    @Override
-    public void export(Network network, Properties parameters, DataSource dataSource) {
-        if (network == null) {
-            throw new IllegalArgumentException("network is null");
-        }
-
+    static XMLExportOptions createExportOptions(Properties parameters) {
         XMLExportOptions options = new XMLExportOptions();
         if (parameters != null) {
             options.setIndent(Boolean.parseBoolean(parameters.getProperty(INDENT_PROPERTY, Boolean.TRUE.toString())))
@@ -92,6 +87,16 @@ public class XMLExporter implements Exporter, XmlConstants {
                 .setSkipExtensions(Boolean.parseBoolean(parameters.getProperty(SKIP_EXTENSIONS_PROPERTIES, Boolean.FALSE.toString())))
                 .setTopologyLevel(TopologyLevel.valueOf(parameters.getProperty(TOPOLOGY_LEVEL_PROPERTY, TopologyLevel.NODE_BREAKER.name())));
         }
+        return options;
+    }
+
+    @Override
+    public void export(Network network, Properties parameters, DataSource dataSource) {
+        if (network == null) {
+            throw new IllegalArgumentException("network is null");
+        }
+
+        XMLExportOptions options = createExportOptions(parameters);
 
         try {
             long startTime = System.currentTimeMillis();
@@ -47,6 +47,9 @@ public class XMLImporter implements Importer, XmlConstants {
     private static final Parameter THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND
             = new Parameter("throwExceptionIfExtensionNotFound", ParameterType.BOOLEAN, "Throw exception if extension not found", Boolean.FALSE);
 
+    private static final Parameter PARALLEL
+            = new Parameter("parallel", ParameterType.BOOLEAN, "Read substations in parallel", Boolean.FALSE);
+
     private final ParameterDefaultValueConfig defaultValueConfig;
 
     public XMLImporter() {
@@ -69,7 +72,7 @@ public class XMLImporter implements Importer, XmlConstants {
 
     @Override
     public List<Parameter> getParameters() {
-        return Collections.singletonList(THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND);
+        return Arrays.asList(THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND, PARALLEL);
     }
 
     @Override
@@ -162,7 +165,8 @@ public class XMLImporter implements Importer, XmlConstants {
                 throw new PowsyblException("File " + dataSource.getBaseName()
                         + "." + Joiner.on("|").join(EXTENSIONS) + " not found");
             }
-            boolean throwExceptionIfExtensionNotFound = (Boolean) Importers.readParameter(getFormat(), parameters, THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND, defaultValueConfig);
+            XmlImportConfig config = new XmlImportConfig((Boolean) Importers.readParameter(getFormat(), parameters, THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND, defaultValueConfig));
+            config.setParallel((Boolean) Importers.readParameter(getFormat(), parameters, PARALLEL, defaultValueConfig));
             Anonymizer anonymizer = null;
             if (dataSource.exists("_mapping", "csv")) {
                 anonymizer = new SimpleAnonymizer();
@@ -171,7 +175,7 @@ public class XMLImporter implements Importer, XmlConstants {
                 }
             }
             try (InputStream is = dataSource.newInputStream(null, ext)) {
-                network = NetworkXml.read(is, new XmlImportConfig(throwExceptionIfExtensionNotFound), anonymizer);
+                network = NetworkXml.read(is, config, anonymizer);
             }
             LOGGER.debug("XIIDM import done in {} ms", System.currentTimeMillis() - startTime);
         } catch (IOException e) {
@@ -6,6 +6,10 @@
  */
 package com.powsybl.iidm.xml;
 
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
@@ -13,6 +17,10 @@ public class XmlImportConfig {
 
     private boolean throwExceptionIfExtensionNotFound;
 
+    private boolean parallel = false;
+
+    private Executor executor = ForkJoinPool.commonPool();
+
     public XmlImportConfig() {
         this(false);
     }
@@ -28,4 +36,28 @@ public class XmlImportConfig {
     public void setThrowExceptionIfExtensionNotFound(boolean throwExceptionIfExtensionNotFound) {
         this.throwExceptionIfExtensionNotFound = throwExceptionIfExtensionNotFound;
     }
+
+    /**
+     * If true, substations are read and built in parallel, the whole document being loaded in
+     * memory. Lines, tie lines, HVDC lines and extensions are then read by a single thread.
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Executor reading the substations when the read is parallel, by default the common fork join
+     * pool, as the local computation manager.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public void setExecutor(Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+    }
 }
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.xml;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import com.powsybl.commons.config.InMemoryPlatformConfig;
+import com.powsybl.commons.datasource.FileDataSource;
+import com.powsybl.commons.datasource.GzFileDataSource;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.util.Properties;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class BinaryImporterTest {
+
+    private FileSystem fileSystem;
+
+    private BinaryImporter importer;
+
+    @Before
+    public void setUp() throws IOException {
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+        importer = new BinaryImporter(new InMemoryPlatformConfig(fileSystem));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        fileSystem.close();
+    }
+
+    private static String write(Network network) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkXml.write(network, os);
+        return os.toString();
+    }
+
+    @Test
+    public void baseTest() {
+        assertEquals("BIIDM", importer.getFormat());
+        assertEquals("BIIDM", new BinaryExporter().getFormat());
+        assertEquals(1, importer.getParameters().size());
+        assertEquals("IIDM binary v1.0 importer", importer.getComment());
+        assertNotNull(importer.get16x16Icon());
+    }
+
+    @Test
+    public void exportImportTest() throws IOException {
+        Network network = EurostagTutorialExample1Factory.create();
+        Properties parameters = new Properties();
+        parameters.setProperty(XMLExporter.ANONYMISED_PROPERTIES, "true");
+        for (FileDataSource dataSource : new FileDataSource[] {new FileDataSource(fileSystem.getPath("/"), "test"),
+                                                               new GzFileDataSource(fileSystem.getPath("/"), "test")}) {
+            new BinaryExporter().export(network, parameters, dataSource);
+            assertTrue(importer.exists(dataSource));
+            assertTrue(dataSource.exists("_mapping", "csv"));
+            assertEquals(write(network), write(importer.importData(dataSource, new Properties())));
+
+            FileDataSource dataSource2 = new FileDataSource(fileSystem.getPath("/"), "test2");
+            importer.copy(dataSource, dataSource2);
+            assertTrue(importer.exists(dataSource2));
+            assertTrue(dataSource2.exists("_mapping", "csv"));
+        }
+    }
+
+    @Test
+    public void notBinaryTest() throws IOException {
+        Files.write(fileSystem.getPath("/test.biidm"), "<network/>".getBytes());
+        assertFalse(importer.exists(new FileDataSource(fileSystem.getPath("/"), "test")));
+        assertFalse(importer.exists(new FileDataSource(fileSystem.getPath("/"), "missing")));
+    }
+}
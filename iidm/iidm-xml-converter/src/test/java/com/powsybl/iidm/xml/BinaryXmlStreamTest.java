@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.xml;
+
+import org.junit.Test;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class BinaryXmlStreamTest {
+
+    private static final String[] VALUES = {
+        // stored raw
+        "0", "-12", "2147483647", "-2147483648", "1.5", "-0.0", "1.0E10", "NaN", "-Infinity",
+        // not canonical, kept as strings
+        "01", "-0", "+1", "2147483648", "1.50", "1e3", ".5", "1.", "", "NHV1", "1.2.3", "E.-"
+    };
+
+    @Test
+    public void attributeValuesTest() throws XMLStreamException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        BinaryXmlStreamWriter writer = new BinaryXmlStreamWriter(os);
+        writer.writeStartElement("element");
+        for (int i = 0; i < VALUES.length; i++) {
+            writer.writeAttribute("a" + i, VALUES[i]);
+        }
+        writer.writeEndDocument();
+
+        XMLStreamReader reader = new BinaryXmlStreamReader(new ByteArrayInputStream(os.toByteArray()));
+        assertEquals(XMLStreamReader.START_ELEMENT, reader.next());
+        assertEquals(VALUES.length, reader.getAttributeCount());
+        for (int i = 0; i < VALUES.length; i++) {
+            assertEquals(VALUES[i], reader.getAttributeValue(null, "a" + i));
+            // converted once
+            assertSame(reader.getAttributeValue(i), reader.getAttributeValue(i));
+        }
+        assertEquals(XMLStreamReader.END_ELEMENT, reader.next());
+        assertEquals(XMLStreamReader.END_DOCUMENT, reader.next());
+    }
+}
@@ -64,6 +64,23 @@ public class IdentifiableExtensionXmlTest extends AbstractConverterTest {
             "/multiple-extensions.xml");
     }
 
+    @Test
+    public void testMultipleExtensionsBinary() throws IOException {
+        Network network = createMultipleExtensionsNetwork();
+        byte[] buffer;
+        try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
+            NetworkXml.writeBinary(network, os);
+            buffer = os.toByteArray();
+        }
+        try (ByteArrayInputStream is = new ByteArrayInputStream(buffer)) {
+            Network network2 = NetworkXml.readBinary(is);
+            try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
+                NetworkXml.write(network2, os);
+                compareXml(getClass().getResourceAsStream("/multiple-extensions.xml"), new ByteArrayInputStream(os.toByteArray()));
+            }
+        }
+    }
+
     private Network createMultipleExtensionsNetwork() {
         Network network = NetworkFactory.create("test", "test");
         network.setCaseDate(DateTime.parse("2017-11-17T12:00:00+01:00"));
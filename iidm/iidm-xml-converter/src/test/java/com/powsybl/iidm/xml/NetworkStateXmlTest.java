@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.xml;
+
+import com.google.common.collect.Iterables;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.*;
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class NetworkStateXmlTest {
+
+    private static final String STATE_ID = "s";
+
+    private static final DateTime CASE_DATE = DateTime.parse("2017-11-17T12:00:00+01:00");
+
+    private static String write(Network network) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkXml.write(network, os);
+        return new String(os.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static List<Bus> getBuses(Network network) {
+        List<Bus> buses = new ArrayList<>();
+        for (VoltageLevel vl : network.getVoltageLevels()) {
+            Iterables.addAll(buses, vl.getTopologyKind() == TopologyKind.NODE_BREAKER ? vl.getBusView().getBuses() : vl.getBusBreakerView().getBuses());
+        }
+        return buses;
+    }
+
+    private static void setFlow(Terminal t, float value) {
+        t.setP(value).setQ(-value);
+    }
+
+    // change all the state variables
+    private static void changeState(Network network) {
+        network.getSwitchStream().forEach(sw -> sw.setOpen(!sw.isOpen()));
+        float value = 1;
+        for (Bus b : getBuses(network)) {
+            b.setV(value++).setAngle(value++);
+        }
+        for (Injection<?> injection : Iterables.<Injection<?>>concat(network.getGenerators(), network.getLoads(), network.getShunts(),
+                                                                   network.getStaticVarCompensators(), network.getHvdcConverterStations())) {
+            setFlow(injection.getTerminal(), value++);
+        }
+        for (Branch branch : network.getBranches()) {
+            setFlow(branch.getTerminal1(), value++);
+            setFlow(branch.getTerminal2(), value++);
+        }
+        for (TwoWindingsTransformer twt : network.getTwoWindingsTransformers()) {
+            if (twt.getRatioTapChanger() != null) {
+                twt.getRatioTapChanger().setTapPosition(twt.getRatioTapChanger().getLowTapPosition());
+            }
+            if (twt.getPhaseTapChanger() != null) {
+                twt.getPhaseTapChanger().setTapPosition(twt.getPhaseTapChanger().getHighTapPosition());
+            }
+        }
+    }
+
+    private static Network createNetwork(Supplier<Network> factory) {
+        Network network = factory.get();
+        network.setCaseDate(CASE_DATE);
+        return network;
+    }
+
+    private static Network createNetworkWithState(Supplier<Network> factory) {
+        Network network = createNetwork(factory);
+        network.getStateManager().cloneState(StateManager.INITIAL_STATE_ID, STATE_ID);
+        network.getStateManager().setWorkingState(STATE_ID);
+        return network;
+    }
+
+    @Test
+    public void test() {
+        List<Supplier<Network>> factories = new ArrayList<>();
+        factories.add(EurostagTutorialExample1Factory::create);
+        factories.add(FictitiousSwitchFactory::create);
+        factories.add(PhaseShifterTestCaseFactory::create);
+        factories.add(HvdcTestNetwork::createVsc);
+        factories.add(SvcTestCaseFactory::create);
+        for (Supplier<Network> factory : factories) {
+            Network network = createNetworkWithState(factory);
+            changeState(network);
+            String xml = write(network);
+
+            for (boolean binary : new boolean[] {false, true}) {
+                ByteArrayOutputStream os = new ByteArrayOutputStream();
+                if (binary) {
+                    NetworkStateXml.writeBinary(network, os);
+                } else {
+                    NetworkStateXml.write(network, os);
+                }
+
+                Network network2 = createNetworkWithState(factory);
+                ByteArrayInputStream is = new ByteArrayInputStream(os.toByteArray());
+                if (binary) {
+                    NetworkStateXml.updateBinary(network2, is);
+                } else {
+                    NetworkStateXml.update(network2, is);
+                }
+                assertEquals(xml, write(network2));
+                List<Bus> buses = getBuses(network);
+                List<Bus> buses2 = getBuses(network2);
+                assertEquals(buses.size(), buses2.size());
+                for (int i = 0; i < buses.size(); i++) {
+                    assertEquals(buses.get(i).getId(), buses2.get(i).getId());
+                    assertEquals(buses.get(i).getV(), buses2.get(i).getV(), 0f);
+                    assertEquals(buses.get(i).getAngle(), buses2.get(i).getAngle(), 0f);
+                }
+
+                // other states are not changed
+                network2.getStateManager().setWorkingState(StateManager.INITIAL_STATE_ID);
+                assertEquals(write(createNetwork(factory)), write(network2));
+            }
+        }
+    }
+
+    @Test(expected = PowsyblException.class)
+    public void otherNetworkTest() {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkStateXml.write(EurostagTutorialExample1Factory.create(), os);
+        NetworkStateXml.update(FictitiousSwitchFactory.create(), new ByteArrayInputStream(os.toByteArray()));
+    }
+}
@@ -7,15 +7,21 @@
 package com.powsybl.iidm.xml;
 
 import com.powsybl.commons.AbstractConverterTest;
+import com.powsybl.commons.exceptions.UncheckedXmlStreamException;
 import com.powsybl.iidm.network.Network;
-import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.iidm.network.test.*;
 import org.joda.time.DateTime;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -54,4 +60,65 @@ public class NetworkXmlTest extends AbstractConverterTest {
         NetworkXml.write(network2, file2);
         assertArrayEquals(Files.readAllBytes(file1), Files.readAllBytes(file2));
     }
+
+    private static String write(Network network) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkXml.write(network, os);
+        return new String(os.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void parallelReadTest() {
+        XmlImportConfig config = new XmlImportConfig();
+        config.setParallel(true);
+        assertTrue(config.isParallel());
+        AtomicInteger taskCount = new AtomicInteger();
+        config.setExecutor(command -> {
+            taskCount.incrementAndGet();
+            ForkJoinPool.commonPool().execute(command);
+        });
+        for (Network network : new Network[] {createEurostagTutorialExample1(), FictitiousSwitchFactory.create(),
+                                              PhaseShifterTestCaseFactory.create(), HvdcTestNetwork.createVsc(),
+                                              NetworkTest1Factory.create(), NoEquipmentNetworkFactory.create()}) {
+            String xml = write(network);
+            // one chunk, or one chunk per substation
+            for (int chunkSize : new int[] {Integer.MAX_VALUE, 1}) {
+                Network network2 = new ParallelNetworkXmlReader(config, null, chunkSize)
+                        .read(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+                assertEquals(network.getId(), network2.getId());
+                assertEquals(xml, write(network2));
+            }
+            Network network3 = NetworkXml.read(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), config, null);
+            assertEquals(xml, write(network3));
+        }
+        // substations are read by the executor of the configuration
+        assertTrue(taskCount.get() > 0);
+
+        // byte order mark and other encodings, UTF-16 being read by a single thread
+        String xml = write(createEurostagTutorialExample1());
+        byte[] bytes = ("\uFEFF" + xml).getBytes(StandardCharsets.UTF_8);
+        assertEquals(xml, write(new ParallelNetworkXmlReader(config, null, 1).read(new ByteArrayInputStream(bytes))));
+        bytes = xml.replace("encoding=\"UTF-8\"", "encoding=\"ISO-8859-1\"").getBytes(StandardCharsets.ISO_8859_1);
+        assertEquals(xml, write(new ParallelNetworkXmlReader(config, null, 1).read(new ByteArrayInputStream(bytes))));
+        bytes = ("\uFEFF" + xml.replace("encoding=\"UTF-8\"", "encoding=\"UTF-16\"")).getBytes(StandardCharsets.UTF_16BE);
+        assertEquals(xml, write(new ParallelNetworkXmlReader(config, null, 1).read(new ByteArrayInputStream(bytes))));
+    }
+
+    @Test
+    public void binaryRoundTripTest() {
+        for (Network network : new Network[] {createEurostagTutorialExample1(), FictitiousSwitchFactory.create(),
+                                              PhaseShifterTestCaseFactory.create(), HvdcTestNetwork.createVsc(),
+                                              HvdcTestNetwork.createLcc(), NetworkTest1Factory.create(),
+                                              NoEquipmentNetworkFactory.create()}) {
+            ByteArrayOutputStream os = new ByteArrayOutputStream();
+            NetworkXml.writeBinary(network, os);
+            Network network2 = NetworkXml.readBinary(new ByteArrayInputStream(os.toByteArray()));
+            assertEquals(write(network), write(network2));
+        }
+    }
+
+    @Test(expected = UncheckedXmlStreamException.class)
+    public void readBinaryNotBinaryTest() {
+        NetworkXml.readBinary(new ByteArrayInputStream(write(createEurostagTutorialExample1()).getBytes(StandardCharsets.UTF_8)));
+    }
 }
@@ -110,8 +110,9 @@ public class XMLImporterTest {
 
     @Test
     public void getParameters() throws Exception {
-        assertEquals(1, importer.getParameters().size());
+        assertEquals(2, importer.getParameters().size());
         assertEquals("throwExceptionIfExtensionNotFound", importer.getParameters().get(0).getName());
+        assertEquals("parallel", importer.getParameters().get(1).getName());
     }
 
     @Test
@@ -73,14 +73,17 @@ public:
           _ptr(_env->GetIntArrayElements(obj, 0)) {
     }
 
+    // the elements are copied to a new Java array, they are not pinned so there is nothing to release
     IntArray(JNIEnv* env, int* ptr, int length)
         : JniWrapper<jintArray>(env, env->NewIntArray(length)),
-          _ptr(ptr) {
+          _ptr(0) {
         _env->SetIntArrayRegion(_obj, 0, length, ptr);
     }
 
     ~IntArray() {
-        _env->ReleaseIntArrayElements(_obj, _ptr, 0);
+        if (_ptr) {
+            _env->ReleaseIntArrayElements(_obj, _ptr, 0);
+        }
     }
 
     size_t length() const {
@@ -102,14 +105,17 @@ public:
           _ptr(_env->GetDoubleArrayElements(obj, 0)) {
     }
 
+    // the elements are copied to a new Java array, they are not pinned so there is nothing to release
     DoubleArray(JNIEnv* env, double* ptr, int length)
         : JniWrapper<jdoubleArray>(env, env->NewDoubleArray(length)),
-          _ptr(ptr) {
+          _ptr(0) {
         _env->SetDoubleArrayRegion(_obj, 0, length, ptr);
     }
 
     ~DoubleArray() {
-        _env->ReleaseDoubleArrayElements(_obj, _ptr, 0);
+        if (_ptr) {
+            _env->ReleaseDoubleArrayElements(_obj, _ptr, 0);
+        }
     }
 
     size_t length() const {
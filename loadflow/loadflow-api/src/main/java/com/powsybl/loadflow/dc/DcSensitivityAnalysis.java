@@ -0,0 +1,398 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.loadflow.dc;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Branch;
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Line;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TwoWindingsTransformer;
+import com.powsybl.math.matrix.DenseMatrix;
+import com.powsybl.math.matrix.LUDecomposition;
+import com.powsybl.math.matrix.Matrix;
+import com.powsybl.math.matrix.MatrixFactory;
+import com.powsybl.math.matrix.SparseMatrix;
+import com.powsybl.math.matrix.SparseMatrixFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * DC sensitivity analysis of the main synchronous component of a network: power transfer distribution factors
+ * (PTDF) and line outage distribution factors (LODF), which allow screening contingencies without running a load
+ * flow for each of them.
+ *
+ * <p>The susceptance matrix of the network, without the slack bus, is built and decomposed once. Sensitivities are
+ * then computed by solving blocks of right hand sides, one per injection, the blocks being solved in parallel.
+ * A decomposition not being thread safe, each thread solves with its own one, sharing the symbolic analysis of
+ * the first one when the matrix is sparse.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class DcSensitivityAnalysis implements AutoCloseable {
+
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private static final double BASE_POWER = 100;
+
+    // per unit reactance of zero impedance branches
+    private static final double MIN_X = 0.0001;
+
+    // an outaged branch whose PTDF of its own transfer is this close to 1 splits the network
+    private static final double SPLITTING_EPSILON = 0.00001;
+
+    private final Executor executor;
+
+    private final int batchSize;
+
+    private final List<String> busIds = new ArrayList<>();
+
+    private final Map<String, Integer> busIndexes = new HashMap<>();
+
+    private final int slackBus;
+
+    private final List<String> branchIds = new ArrayList<>();
+
+    private final Map<String, Integer> branchIndexes = new HashMap<>();
+
+    private final int[] branchBus1;
+
+    private final int[] branchBus2;
+
+    private final double[] branchX;
+
+    // row and column of each bus in the matrix, -1 for the slack bus
+    private final int[] busRows;
+
+    private final Matrix matrix;
+
+    private final LUDecomposition decomposition;
+
+    private final List<LUDecomposition> decompositions = new ArrayList<>();
+
+    private final Deque<LUDecomposition> idleDecompositions = new ArrayDeque<>();
+
+    public DcSensitivityAnalysis(Network network) {
+        this(network, null, new SparseMatrixFactory(), ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param network the network
+     * @param slackBusId the id of the slack bus in the bus view, or null to use the bus with the most branches
+     * @param matrixFactory the factory of the susceptance matrix
+     * @param executor the executor solving the blocks of right hand sides
+     * @param batchSize the number of right hand sides of a block
+     */
+    public DcSensitivityAnalysis(Network network, String slackBusId, MatrixFactory matrixFactory, Executor executor, int batchSize) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(matrixFactory);
+        this.executor = Objects.requireNonNull(executor);
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Invalid batch size: " + batchSize);
+        }
+        this.batchSize = batchSize;
+
+        for (Bus bus : network.getBusView().getBuses()) {
+            if (bus.isInMainSynchronousComponent()) {
+                busIndexes.put(bus.getId(), busIds.size());
+                busIds.add(bus.getId());
+            }
+        }
+        if (busIds.isEmpty()) {
+            throw new PowsyblException("Network '" + network.getId() + "' has no bus in its main synchronous component");
+        }
+
+        List<Branch> branches = new ArrayList<>();
+        List<int[]> branchBuses = new ArrayList<>();
+        for (Branch branch : network.getBranches()) {
+            Bus bus1 = branch.getTerminal1().getBusView().getBus();
+            Bus bus2 = branch.getTerminal2().getBusView().getBus();
+            if (bus1 != null && bus2 != null && bus1 != bus2 && busIndexes.containsKey(bus1.getId())
+                    && busIndexes.containsKey(bus2.getId())) {
+                branchIndexes.put(branch.getId(), branches.size());
+                branchIds.add(branch.getId());
+                branches.add(branch);
+                branchBuses.add(new int[] {busIndexes.get(bus1.getId()), busIndexes.get(bus2.getId())});
+            }
+        }
+        branchBus1 = new int[branches.size()];
+        branchBus2 = new int[branches.size()];
+        branchX = new double[branches.size()];
+        for (int l = 0; l < branches.size(); l++) {
+            branchBus1[l] = branchBuses.get(l)[0];
+            branchBus2[l] = branchBuses.get(l)[1];
+            branchX[l] = getPerUnitX(branches.get(l));
+        }
+
+        slackBus = slackBusId != null ? getBusIndex(slackBusId) : findMostConnectedBus();
+        busRows = new int[busIds.size()];
+        int row = 0;
+        for (int b = 0; b < busIds.size(); b++) {
+            busRows[b] = b == slackBus ? -1 : row++;
+        }
+
+        matrix = createSusceptanceMatrix(matrixFactory);
+        decomposition = matrix.decomposeLU();
+        decompositions.add(decomposition);
+        idleDecompositions.add(decomposition);
+    }
+
+    private static double getPerUnitX(Branch branch) {
+        double nominalV = branch.getTerminal2().getVoltageLevel().getNominalV();
+        double x;
+        if (branch instanceof Line) {
+            x = ((Line) branch).getX();
+        } else if (branch instanceof TwoWindingsTransformer) {
+            TwoWindingsTransformer transformer = (TwoWindingsTransformer) branch;
+            x = transformer.getX()
+                    * (1 + (transformer.getRatioTapChanger() != null ? transformer.getRatioTapChanger().getCurrentStep().getX() / 100 : 0)
+                         + (transformer.getPhaseTapChanger() != null ? transformer.getPhaseTapChanger().getCurrentStep().getX() / 100 : 0));
+        } else {
+            throw new AssertionError("Unexpected branch type: " + branch.getClass());
+        }
+        return Math.max(Math.abs(x) * BASE_POWER / (nominalV * nominalV), MIN_X);
+    }
+
+    private int findMostConnectedBus() {
+        int[] branchCounts = new int[busIds.size()];
+        for (int l = 0; l < branchX.length; l++) {
+            branchCounts[branchBus1[l]]++;
+            branchCounts[branchBus2[l]]++;
+        }
+        int bus = 0;
+        for (int b = 1; b < branchCounts.length; b++) {
+            if (branchCounts[b] > branchCounts[bus]) {
+                bus = b;
+            }
+        }
+        return bus;
+    }
+
+    private Matrix createSusceptanceMatrix(MatrixFactory matrixFactory) {
+        int size = busIds.size() - 1;
+        List<Map<Integer, Double>> columns = new ArrayList<>(size);
+        for (int c = 0; c < size; c++) {
+            columns.add(new TreeMap<>());
+        }
+        for (int l = 0; l < branchX.length; l++) {
+            double b = 1 / branchX[l];
+            int row1 = busRows[branchBus1[l]];
+            int row2 = busRows[branchBus2[l]];
+            if (row1 != -1) {
+                columns.get(row1).merge(row1, b, Double::sum);
+                if (row2 != -1) {
+                    columns.get(row1).merge(row2, -b, Double::sum);
+                }
+            }
+            if (row2 != -1) {
+                columns.get(row2).merge(row2, b, Double::sum);
+                if (row1 != -1) {
+                    columns.get(row2).merge(row1, -b, Double::sum);
+                }
+            }
+        }
+        int nonZeroValueCount = columns.stream().mapToInt(Map::size).sum();
+        Matrix susceptances = matrixFactory.create(size, size, nonZeroValueCount);
+        // sparse matrices have to be filled column by column
+        for (int c = 0; c < size; c++) {
+            for (Map.Entry<Integer, Double> e : columns.get(c).entrySet()) {
+                susceptances.setValue(e.getKey(), c, e.getValue());
+            }
+        }
+        return susceptances;
+    }
+
+    private int getBusIndex(String busId) {
+        Integer index = busIndexes.get(Objects.requireNonNull(busId));
+        if (index == null) {
+            throw new PowsyblException("Bus '" + busId + "' not found in the main synchronous component");
+        }
+        return index;
+    }
+
+    private int getBranchIndex(String branchId) {
+        Integer index = branchIndexes.get(Objects.requireNonNull(branchId));
+        if (index == null) {
+            throw new PowsyblException("Branch '" + branchId + "' not found in the main synchronous component");
+        }
+        return index;
+    }
+
+    /**
+     * Get the ids of the buses of the main synchronous component, in the bus view.
+     */
+    public List<String> getBusIds() {
+        return Collections.unmodifiableList(busIds);
+    }
+
+    /**
+     * Get the ids of the branches connected on both sides to the main synchronous component, in the order of the
+     * rows of the sensitivity matrices.
+     */
+    public List<String> getBranchIds() {
+        return Collections.unmodifiableList(branchIds);
+    }
+
+    public String getSlackBusId() {
+        return busIds.get(slackBus);
+    }
+
+    private synchronized LUDecomposition acquireDecomposition() {
+        LUDecomposition idleDecomposition = idleDecompositions.pollFirst();
+        if (idleDecomposition != null) {
+            return idleDecomposition;
+        }
+        LUDecomposition newDecomposition = matrix instanceof SparseMatrix
+                ? ((SparseMatrix) matrix).decomposeLU(decomposition)
+                : matrix.decomposeLU();
+        decompositions.add(newDecomposition);
+        return newDecomposition;
+    }
+
+    private synchronized void releaseDecomposition(LUDecomposition usedDecomposition) {
+        idleDecompositions.addFirst(usedDecomposition);
+    }
+
+    /**
+     * Compute the flow of each branch for the injection of 1 at a bus and its withdrawal at another one, the
+     * {@code k}-th column of the result being the flows for the {@code k}-th injection.
+     *
+     * @param injectionBuses the bus of each injection
+     * @param withdrawalBuses the bus of each withdrawal, the slack bus if -1
+     */
+    private DenseMatrix computeBranchFlows(int[] injectionBuses, int[] withdrawalBuses) {
+        DenseMatrix flows = new DenseMatrix(branchX.length, injectionBuses.length);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int start = 0; start < injectionBuses.length; start += batchSize) {
+            int first = start;
+            int last = Math.min(start + batchSize, injectionBuses.length);
+            futures.add(CompletableFuture.runAsync(() -> computeBranchFlows(injectionBuses, withdrawalBuses, first, last, flows), executor));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return flows;
+    }
+
+    private void computeBranchFlows(int[] injectionBuses, int[] withdrawalBuses, int first, int last, DenseMatrix flows) {
+        DenseMatrix angles = new DenseMatrix(busIds.size() - 1, last - first);
+        for (int k = first; k < last; k++) {
+            int injectionRow = busRows[injectionBuses[k]];
+            if (injectionRow != -1) {
+                angles.addValue(injectionRow, k - first, 1);
+            }
+            int withdrawalRow = withdrawalBuses[k] != -1 ? busRows[withdrawalBuses[k]] : -1;
+            if (withdrawalRow != -1) {
+                angles.addValue(withdrawalRow, k - first, -1);
+            }
+        }
+
+        LUDecomposition usedDecomposition = acquireDecomposition();
+        try {
+            usedDecomposition.solve(angles);
+        } finally {
+            releaseDecomposition(usedDecomposition);
+        }
+
+        for (int k = first; k < last; k++) {
+            for (int l = 0; l < branchX.length; l++) {
+                int row1 = busRows[branchBus1[l]];
+                int row2 = busRows[branchBus2[l]];
+                double angle1 = row1 != -1 ? angles.getValue(row1, k - first) : 0;
+                double angle2 = row2 != -1 ? angles.getValue(row2, k - first) : 0;
+                flows.setValue(l, k, (angle1 - angle2) / branchX[l]);
+            }
+        }
+    }
+
+    /**
+     * Compute the PTDF of all the buses.
+     *
+     * @see #computePtdf(List)
+     */
+    public DenseMatrix computePtdf() {
+        return computePtdf(busIds);
+    }
+
+    /**
+     * Compute the power transfer distribution factors of some buses: the variation of the flow of each branch, from
+     * side 1 to side 2, for an injection of 1 MW at a bus compensated at the slack bus. Rows are in the order of
+     * {@link #getBranchIds()} and columns in the order of the given buses.
+     *
+     * @param busIds the ids of the buses of the injections
+     */
+    public DenseMatrix computePtdf(List<String> busIds) {
+        Objects.requireNonNull(busIds);
+        int[] injectionBuses = busIds.stream().mapToInt(this::getBusIndex).toArray();
+        int[] withdrawalBuses = new int[injectionBuses.length];
+        Arrays.fill(withdrawalBuses, -1);
+        return computeBranchFlows(injectionBuses, withdrawalBuses);
+    }
+
+    /**
+     * Compute the line outage distribution factors of some branches: the variation of the flow of each branch for
+     * the outage of a branch, as a fraction of the flow of the outaged branch before the outage. The post contingency
+     * flow of branch {@code l} for the outage of branch {@code c} is {@code flow(l) + lodf(l, c) * flow(c)}. Rows are
+     * in the order of {@link #getBranchIds()} and columns in the order of the given branches. The factors of a branch
+     * whose outage splits the network are {@link Double#NaN}.
+     *
+     * @param outageBranchIds the ids of the outaged branches
+     */
+    public DenseMatrix computeLodf(List<String> outageBranchIds) {
+        Objects.requireNonNull(outageBranchIds);
+        int[] outageBranches = outageBranchIds.stream().mapToInt(this::getBranchIndex).toArray();
+        // a transfer from side 1 to side 2 of the outaged branch
+        int[] injectionBuses = new int[outageBranches.length];
+        int[] withdrawalBuses = new int[outageBranches.length];
+        for (int c = 0; c < outageBranches.length; c++) {
+            injectionBuses[c] = branchBus1[outageBranches[c]];
+            withdrawalBuses[c] = branchBus2[outageBranches[c]];
+        }
+        DenseMatrix lodf = computeBranchFlows(injectionBuses, withdrawalBuses);
+        for (int c = 0; c < outageBranches.length; c++) {
+            int outageBranch = outageBranches[c];
+            double denominator = 1 - lodf.getValue(outageBranch, c);
+            for (int l = 0; l < branchX.length; l++) {
+                double value;
+                if (Math.abs(denominator) < SPLITTING_EPSILON) {
+                    value = Double.NaN;
+                } else if (l == outageBranch) {
+                    value = -1;
+                } else {
+                    value = lodf.getValue(l, c) / denominator;
+                }
+                lodf.setValue(l, c, value);
+            }
+        }
+        return lodf;
+    }
+
+    @Override
+    public synchronized void close() {
+        decompositions.forEach(LUDecomposition::close);
+        decompositions.clear();
+        idleDecompositions.clear();
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.loadflow.dc;
+
+import com.google.common.collect.ImmutableList;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.math.matrix.DenseMatrix;
+import com.powsybl.math.matrix.DenseMatrixFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class DcSensitivityAnalysisTest {
+
+    private static final double EPSILON = Math.pow(10, -10);
+
+    private Network network;
+
+    private String genBusId;
+    private String hv1BusId;
+    private String hv2BusId;
+    private String loadBusId;
+
+    @Before
+    public void setUp() {
+        network = EurostagTutorialExample1Factory.create();
+        genBusId = network.getTwoWindingsTransformer("NGEN_NHV1").getTerminal1().getBusView().getBus().getId();
+        hv1BusId = network.getTwoWindingsTransformer("NGEN_NHV1").getTerminal2().getBusView().getBus().getId();
+        hv2BusId = network.getTwoWindingsTransformer("NHV2_NLOAD").getTerminal1().getBusView().getBus().getId();
+        loadBusId = network.getTwoWindingsTransformer("NHV2_NLOAD").getTerminal2().getBusView().getBus().getId();
+    }
+
+    private static void assertColumnEquals(double[] expected, DenseMatrix matrix, int column) {
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], matrix.getValue(i, column), EPSILON);
+        }
+    }
+
+    @Test
+    public void testPtdf() {
+        try (DcSensitivityAnalysis analysis = new DcSensitivityAnalysis(network, hv1BusId, new DenseMatrixFactory(), Runnable::run, 1)) {
+            assertEquals(hv1BusId, analysis.getSlackBusId());
+            assertEquals(4, analysis.getBusIds().size());
+            assertEquals(ImmutableList.of("NHV1_NHV2_1", "NHV1_NHV2_2", "NGEN_NHV1", "NHV2_NLOAD"), analysis.getBranchIds());
+
+            DenseMatrix ptdf = analysis.computePtdf(ImmutableList.of(genBusId, hv1BusId, hv2BusId, loadBusId));
+            assertEquals(4, ptdf.getM());
+            assertEquals(4, ptdf.getN());
+            assertColumnEquals(new double[] {0, 0, 1, 0}, ptdf, 0);
+            assertColumnEquals(new double[] {0, 0, 0, 0}, ptdf, 1);
+            assertColumnEquals(new double[] {-0.5, -0.5, 0, 0}, ptdf, 2);
+            assertColumnEquals(new double[] {-0.5, -0.5, 0, -1}, ptdf, 3);
+        }
+    }
+
+    @Test
+    public void testLodf() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (DcSensitivityAnalysis analysis = new DcSensitivityAnalysis(network, null, new DenseMatrixFactory(), executor, 1)) {
+            // one of the two buses with 3 branches
+            assertTrue(analysis.getSlackBusId().equals(hv1BusId) || analysis.getSlackBusId().equals(hv2BusId));
+
+            DenseMatrix lodf = analysis.computeLodf(ImmutableList.of("NHV1_NHV2_1", "NHV1_NHV2_2", "NGEN_NHV1"));
+            assertColumnEquals(new double[] {-1, 1, 0, 0}, lodf, 0);
+            assertColumnEquals(new double[] {1, -1, 0, 0}, lodf, 1);
+            // the generator is disconnected by the outage of its transformer
+            for (int l = 0; l < 4; l++) {
+                assertTrue(Double.isNaN(lodf.getValue(l, 2)));
+            }
+
+            // all the buses
+            DenseMatrix ptdf = analysis.computePtdf();
+            assertEquals(4, ptdf.getN());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testSparse() {
+        try (DcSensitivityAnalysis analysis = new DcSensitivityAnalysis(network)) {
+            DenseMatrix ptdf = analysis.computePtdf(ImmutableList.of(loadBusId));
+            // the lines only carry the transfer when the slack bus is on the other side
+            double lineFactor = analysis.getSlackBusId().equals(hv1BusId) ? -0.5 : 0;
+            assertColumnEquals(new double[] {lineFactor, lineFactor, 0, -1}, ptdf, 0);
+        }
+    }
+
+    @Test(expected = PowsyblException.class)
+    public void testUnknownBus() {
+        try (DcSensitivityAnalysis analysis = new DcSensitivityAnalysis(network)) {
+            analysis.computePtdf(ImmutableList.of("UNKNOWN"));
+        }
+    }
+
+    @Test(expected = PowsyblException.class)
+    public void testUnknownBranch() {
+        try (DcSensitivityAnalysis analysis = new DcSensitivityAnalysis(network)) {
+            analysis.computeLodf(ImmutableList.of("UNKNOWN"));
+        }
+    }
+}
@@ -10,9 +10,7 @@
 
 #include <string>
 #include <iostream>
-#include <map>
 #include <memory>
-#include <mutex>
 #include <suitesparse/klu.h>
 #include <suitesparse/cs.h>
 #include "jniwrapper.hpp"
@@ -49,11 +47,23 @@ ComPowsyblMathMatrixSparseMatrix::ComPowsyblMathMatrixSparseMatrix(JNIEnv* env,
 
 }
 
+// symbolic analysis may be shared by several numeric factorizations, it is freed with the last one
+typedef std::shared_ptr<klu_symbolic> SymbolicPtr;
+
+SymbolicPtr createSymbolic(klu_symbolic* symbolic) {
+    return SymbolicPtr(symbolic, [](klu_symbolic* s) {
+        klu_common common;
+        klu_defaults(&common);
+        klu_free_symbolic(&s, &common);
+    });
+}
+
 struct LUContext {
-    LUContext() {
+    LUContext()
+        : numeric(0) {
     }
 
-    klu_symbolic* symbolic;
+    SymbolicPtr symbolic;
     klu_numeric* numeric;
     klu_common common;
 
@@ -75,49 +85,25 @@ std::string LUContext::error() const {
     }
 }
 
-class LUContextManager {
-
-    LUContextManager(const LUContextManager&);
-    LUContextManager& operator=(const LUContextManager&);
-
-    std::map<std::string, std::shared_ptr<LUContext>> _contexts;
-    std::mutex _mutex;
-
-public:
-    LUContextManager() {
-    }
-
-    std::shared_ptr<LUContext> createContext(const std::string& id);
-    std::shared_ptr<LUContext> findContext(const std::string& id);
-    void removeContext(const std::string& id);
-};
-
-std::shared_ptr<LUContext> LUContextManager::createContext(const std::string& id) {
-    std::lock_guard<std::mutex> lk(_mutex);
-    if (_contexts.find(id) != _contexts.end()) {
-        throw std::runtime_error("Context " + id + " already exists");
-    }
-    std::shared_ptr<LUContext> context(new LUContext());
-    _contexts[id] = context;
-    return context;
+// the Java side keeps the address of its context, there is no lookup and no global lock on solve
+jlong toHandle(LUContext* context) {
+    return reinterpret_cast<jlong>(context);
 }
 
-std::shared_ptr<LUContext> LUContextManager::findContext(const std::string& id) {
-    std::lock_guard<std::mutex> lk(_mutex);
-    std::map<std::string, std::shared_ptr<LUContext>>::const_iterator it = _contexts.find(id);
-    if (it == _contexts.end()) {
-        throw std::runtime_error("Context " + id + " not found");
+LUContext& fromHandle(jlong handle) {
+    if (handle == 0) {
+        throw std::runtime_error("Invalid LU context handle");
     }
-    return it->second;
+    return *reinterpret_cast<LUContext*>(handle);
 }
 
-void LUContextManager::removeContext(const std::string& id) {
-    std::lock_guard<std::mutex> lk(_mutex);
-    _contexts.erase(id);
+void factor(LUContext& context, const powsybl::jni::IntArray& ap, const powsybl::jni::IntArray& ai, const powsybl::jni::DoubleArray& ax) {
+    context.numeric = klu_factor(ap.get(), ai.get(), ax.get(), context.symbolic.get(), &context.common);
+    if (!context.numeric) {
+        throw std::runtime_error("klu_factor error " + context.error());
+    }
 }
 
-std::unique_ptr<LUContextManager> MANAGER(new LUContextManager());
-
 #ifdef __cplusplus
 extern "C" {
 #endif
@@ -125,55 +111,102 @@ extern "C" {
 /*
  * Class:     com.powsybl_math_matrix_SparseLUDecomposition
  * Method:    init
- * Signature: (Ljava/lang/String;[I[I[D)V
+ * Signature: ([I[I[D)J
  */
-JNIEXPORT void JNICALL Java_com_powsybl_math_matrix_SparseLUDecomposition_init(JNIEnv * env, jobject, jstring j_id, jintArray j_ap, jintArray j_ai, jdoubleArray j_ax) {
+JNIEXPORT jlong JNICALL Java_com_powsybl_math_matrix_SparseLUDecomposition_init(JNIEnv * env, jclass, jintArray j_ap, jintArray j_ai, jdoubleArray j_ax) {
     try {
-        std::string id = powsybl::jni::StringUTF(env, j_id).toStr();
         powsybl::jni::IntArray ap(env, j_ap);
         powsybl::jni::IntArray ai(env, j_ai);
         powsybl::jni::DoubleArray ax(env, j_ax);
 
-        std::shared_ptr<LUContext> context = MANAGER->createContext(id);
- 
+        std::unique_ptr<LUContext> context(new LUContext());
+
         if (klu_defaults(&context->common) == 0) {
             throw std::runtime_error("klu_defaults error " + context->error());
         }
 
-        context->symbolic = klu_analyze(ap.length()-1, ap.get(), ai.get(), &context->common);
-        if (!context->symbolic) {
+        klu_symbolic* symbolic = klu_analyze(ap.length()-1, ap.get(), ai.get(), &context->common);
+        if (!symbolic) {
             throw std::runtime_error("klu_analyze error " + context->error());
         }
-        context->numeric = klu_factor(ap.get(), ai.get(), ax.get(), context->symbolic, &context->common);
-        if (!context->numeric) {
-            throw std::runtime_error("klu_factor error " + context->error());
+        context->symbolic = createSymbolic(symbolic);
+        factor(*context, ap, ai, ax);
+        return toHandle(context.release());
+    } catch (const std::exception& e) {
+        powsybl::jni::throwJavaLangRuntimeException(env, e.what());
+    } catch (...) {
+        powsybl::jni::throwJavaLangRuntimeException(env, "Unknown exception");
+    }
+    return 0;
+}
+
+/*
+ * Class:     com.powsybl_math_matrix_SparseLUDecomposition
+ * Method:    initShared
+ * Signature: (J[I[I[D)J
+ */
+JNIEXPORT jlong JNICALL Java_com_powsybl_math_matrix_SparseLUDecomposition_initShared(JNIEnv * env, jclass, jlong otherHandle, jintArray j_ap, jintArray j_ai, jdoubleArray j_ax) {
+    try {
+        powsybl::jni::IntArray ap(env, j_ap);
+        powsybl::jni::IntArray ai(env, j_ai);
+        powsybl::jni::DoubleArray ax(env, j_ax);
+
+        LUContext& other = fromHandle(otherHandle);
+        std::unique_ptr<LUContext> context(new LUContext());
+
+        if (klu_defaults(&context->common) == 0) {
+            throw std::runtime_error("klu_defaults error " + context->error());
         }
+
+        // no analysis, the symbolic object of the other context is shared
+        context->symbolic = other.symbolic;
+        factor(*context, ap, ai, ax);
+        return toHandle(context.release());
     } catch (const std::exception& e) {
         powsybl::jni::throwJavaLangRuntimeException(env, e.what());
     } catch (...) {
         powsybl::jni::throwJavaLangRuntimeException(env, "Unknown exception");
     }
+    return 0;
 }
 
 /*
  * Class:     com.powsybl_math_matrix_SparseLUDecomposition
- * Method:    release
- * Signature: (Ljava/lang/String;)V
+ * Method:    refactor
+ * Signature: (J[I[I[D)V
  */
-JNIEXPORT void JNICALL Java_com_powsybl_math_matrix_SparseLUDecomposition_release(JNIEnv * env, jobject, jstring j_id) {
+JNIEXPORT void JNICALL Java_com_powsybl_math_matrix_SparseLUDecomposition_refactor(JNIEnv * env, jclass, jlong handle, jintArray j_ap, jintArray j_ai, jdoubleArray j_ax) {
     try {
-        std::string id = powsybl::jni::StringUTF(env, j_id).toStr();
+        powsybl::jni::IntArray ap(env, j_ap);
+        powsybl::jni::IntArray ai(env, j_ai);
+        powsybl::jni::DoubleArray ax(env, j_ax);
 
-        std::shared_ptr<LUContext> context = MANAGER->findContext(id);
+        LUContext& context = fromHandle(handle);
 
-        if (klu_free_symbolic(&context->symbolic, &context->common) == 0) {
-            throw std::runtime_error("klu_free_symbolic error " + context->error());
+        // same pivoting order and same memory, only the numerical values are computed again
+        if (klu_refactor(ap.get(), ai.get(), ax.get(), context.symbolic.get(), context.numeric, &context.common) == 0) {
+            throw std::runtime_error("klu_refactor error " + context.error());
         }
+    } catch (const std::exception& e) {
+        powsybl::jni::throwJavaLangRuntimeException(env, e.what());
+    } catch (...) {
+        powsybl::jni::throwJavaLangRuntimeException(env, "Unknown exception");
+    }
+}
+
+/*
+ * Class:     com.powsybl_math_matrix_SparseLUDecomposition
+ * Method:    release
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_powsybl_math_matrix_SparseLUDecomposition_release(JNIEnv * env, jclass, jlong handle) {
+    try {
+        // the symbolic analysis is freed with the context if not shared anymore
+        std::unique_ptr<LUContext> context(&fromHandle(handle));
+
         if (klu_free_numeric(&context->numeric, &context->common) == 0) {
             throw std::runtime_error("klu_free_numeric error " + context->error());
         }
-
-        MANAGER->removeContext(id);
     } catch (const std::exception& e) {
         powsybl::jni::throwJavaLangRuntimeException(env, e.what());
     } catch (...) {
@@ -184,17 +217,16 @@ JNIEXPORT void JNICALL Java_com_powsybl_math_matrix_SparseLUDecomposition_releas
 /*
  * Class:     com.powsybl_math_matrix_SparseLUDecomposition
  * Method:    solve
- * Signature: (Ljava/lang/String;[D)V
+ * Signature: (J[D)V
  */
-JNIEXPORT void JNICALL Java_com_powsybl_math_matrix_SparseLUDecomposition_solve(JNIEnv * env, jobject, jstring j_id, jdoubleArray j_b) {
+JNIEXPORT void JNICALL Java_com_powsybl_math_matrix_SparseLUDecomposition_solve(JNIEnv * env, jclass, jlong handle, jdoubleArray j_b) {
     try {
-        std::string id = powsybl::jni::StringUTF(env, j_id).toStr();
         powsybl::jni::DoubleArray b(env, j_b);
 
-        std::shared_ptr<LUContext> context = MANAGER->findContext(id);
+        LUContext& context = fromHandle(handle);
 
-        if (klu_solve(context->symbolic, context->numeric, b.length(), 1, b.get(), &context->common) == 0) {
-            throw std::runtime_error("klu_solve error " + context->error());
+        if (klu_solve(context.symbolic.get(), context.numeric, b.length(), 1, b.get(), &context.common) == 0) {
+            throw std::runtime_error("klu_solve error " + context.error());
         }
     } catch (const std::exception& e) {
         powsybl::jni::throwJavaLangRuntimeException(env, e.what());
@@ -206,20 +238,19 @@ JNIEXPORT void JNICALL Java_com_powsybl_math_matrix_SparseLUDecomposition_solve(
 /*
  * Class:     com.powsybl_math_matrix_SparseLUDecomposition
  * Method:    solve2
- * Signature: (Ljava/lang/String;IILjava/nio/ByteBuffer;)V
+ * Signature: (JIILjava/nio/ByteBuffer;)V
  */
-JNIEXPORT void JNICALL Java_com_powsybl_math_matrix_SparseLUDecomposition_solve2(JNIEnv * env, jobject, jstring j_id, jint m, jint n, jobject j_b) {
+JNIEXPORT void JNICALL Java_com_powsybl_math_matrix_SparseLUDecomposition_solve2(JNIEnv * env, jclass, jlong handle, jint m, jint n, jobject j_b) {
     try {
-        std::string id = powsybl::jni::StringUTF(env, j_id).toStr();
         double* b = static_cast<double*>(env->GetDirectBufferAddress(j_b));
         if (!b) {
            throw std::runtime_error("GetDirectBufferAddress error");
         }
 
-        std::shared_ptr<LUContext> context = MANAGER->findContext(id);
+        LUContext& context = fromHandle(handle);
 
-        if (klu_solve(context->symbolic, context->numeric, m, n, b, &context->common) == 0) {
-            throw std::runtime_error("klu_solve error " + context->error());
+        if (klu_solve(context.symbolic.get(), context.numeric, m, n, b, &context.common) == 0) {
+            throw std::runtime_error("klu_solve error " + context.error());
         }
     } catch (const std::exception& e) {
         powsybl::jni::throwJavaLangRuntimeException(env, e.what());
@@ -277,12 +308,16 @@ JNIEXPORT jobject JNICALL Java_com_powsybl_math_matrix_SparseMatrix_times(JNIEnv
         a2.i = ai2.get();
         a2.x = ax2.get();
 
-        cs_di* a3 = cs_di_multiply(&a1, &a2);
+        // the product is allocated by CSparse, it is freed once copied to Java arrays
+        std::unique_ptr<cs_di, cs_di* (*)(cs_di*)> a3(cs_di_multiply(&a1, &a2), cs_di_spfree);
+        if (!a3) {
+            throw std::runtime_error("cs_di_multiply error");
+        }
 
 /*
         cs_di_print(&a1, 0);
         cs_di_print(&a2, 0);
-        cs_di_print(a3, 0);
+        cs_di_print(a3.get(), 0);
 */
     
         powsybl::jni::IntArray ap3(env, a3->p, a3->n + 1);
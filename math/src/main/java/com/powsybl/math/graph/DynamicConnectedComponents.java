@@ -0,0 +1,479 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.math.graph;
+
+import com.powsybl.commons.PowsyblException;
+import gnu.trove.list.array.TIntArrayList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Connected components of an undirected multigraph, maintained incrementally
+ * when vertices and edges are added or removed.
+ * <p>
+ * Each vertex is labelled with a component number. When an edge merges two
+ * components, the smallest one is relabelled. When an edge is removed, two
+ * breadth first searches are run alternately from both its vertices: they stop
+ * as soon as they meet (the component is not split) or as soon as one of them
+ * is exhausted, in which case it has found the smallest part of the split
+ * component, which is relabelled. So the cost of an update is proportional to
+ * the size of the modified part of the graph and not to the size of the graph.
+ * <p>
+ * Component numbers are not ordered by size. An ordered number is also kept for
+ * each component, components being ordered by decreasing size like in
+ * {@link GraphUtil#computeConnectedComponents}, but components of the same size
+ * in no particular order. When the size of a component changes, it is swapped
+ * with the first (or last) component of each block of components of the same
+ * size it goes through, so the ordering is never sorted again and only the
+ * swapped components get a new ordered number.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class DynamicConnectedComponents {
+
+    private static final int REMOVED = -1;
+
+    // vertex -> adjacent edges, null if the vertex has been removed
+    private final List<TIntArrayList> vertexEdges = new ArrayList<>();
+
+    private final TIntArrayList vertexComponent = new TIntArrayList();
+
+    private final TIntArrayList removedVertices = new TIntArrayList();
+
+    private final TIntArrayList edgeVertex1 = new TIntArrayList();
+
+    private final TIntArrayList edgeVertex2 = new TIntArrayList();
+
+    private final TIntArrayList removedEdges = new TIntArrayList();
+
+    // component -> size, 0 if the component number is not used
+    private final TIntArrayList componentSize = new TIntArrayList();
+
+    private final TIntArrayList removedComponents = new TIntArrayList();
+
+    private int componentCount = 0;
+
+    // ordered number -> component
+    private final TIntArrayList orderedComponents = new TIntArrayList();
+
+    // component -> ordered number, -1 if the component number is not used
+    private final TIntArrayList componentOrderedNumber = new TIntArrayList();
+
+    // vertices added or with a modified component number since last call to clearChanges
+    private final BitSet changedVertices = new BitSet();
+
+    // components added, removed or with a modified size or ordered number since last call to clearChanges
+    private final BitSet changedComponents = new BitSet();
+
+    // breadth first search marks
+    private int[] marks = new int[0];
+
+    private int mark = 0;
+
+    public DynamicConnectedComponents() {
+    }
+
+    /**
+     * Create from an adjacency list. Initial component numbers are the ones
+     * computed by {@link GraphUtil#computeConnectedComponents}.
+     */
+    public DynamicConnectedComponents(TIntArrayList[] adjacencyList) {
+        GraphUtil.ConnectedComponentsComputationResult result = GraphUtil.computeConnectedComponents(adjacencyList);
+        componentSize.add(result.getComponentSize());
+        componentCount = result.getComponentSize().length;
+        for (int c = 0; c < componentCount; c++) {
+            // already ordered by decreasing size
+            orderedComponents.add(c);
+            componentOrderedNumber.add(c);
+        }
+        vertexComponent.add(result.getComponentNumber());
+        for (TIntArrayList adjacentVertices : adjacencyList) {
+            vertexEdges.add(new TIntArrayList(adjacentVertices.size()));
+        }
+        for (int v1 = 0; v1 < adjacencyList.length; v1++) {
+            TIntArrayList adjacentVertices = adjacencyList[v1];
+            for (int i = 0; i < adjacentVertices.size(); i++) {
+                int v2 = adjacentVertices.getQuick(i);
+                // each edge is in both adjacent vertex lists, self loops do not change connectivity
+                if (v1 < v2) {
+                    int e = edgeVertex1.size();
+                    edgeVertex1.add(v1);
+                    edgeVertex2.add(v2);
+                    vertexEdges.get(v1).add(e);
+                    vertexEdges.get(v2).add(e);
+                }
+            }
+        }
+    }
+
+    private void checkVertex(int v) {
+        if (v < 0 || v >= vertexEdges.size() || vertexEdges.get(v) == null) {
+            throw new PowsyblException("Vertex " + v + " not found");
+        }
+    }
+
+    private void checkEdge(int e) {
+        if (e < 0 || e >= edgeVertex1.size() || edgeVertex1.getQuick(e) == REMOVED) {
+            throw new PowsyblException("Edge " + e + " not found");
+        }
+    }
+
+    private int newComponent(int size) {
+        int c;
+        if (removedComponents.isEmpty()) {
+            c = componentSize.size();
+            componentSize.add(size);
+            componentOrderedNumber.add(orderedComponents.size());
+        } else {
+            c = removedComponents.removeAt(removedComponents.size() - 1);
+            componentSize.setQuick(c, size);
+            componentOrderedNumber.setQuick(c, orderedComponents.size());
+        }
+        orderedComponents.add(c);
+        componentCount++;
+        changedComponents.set(c);
+        moveUp(c);
+        return c;
+    }
+
+    private void removeComponent(int c) {
+        // an empty component is moved to the end of the ordering
+        componentSize.setQuick(c, 0);
+        moveDown(c);
+        orderedComponents.removeAt(orderedComponents.size() - 1);
+        componentOrderedNumber.setQuick(c, -1);
+        removedComponents.add(c);
+        componentCount--;
+        changedComponents.set(c);
+    }
+
+    private void setComponentSize(int c, int size) {
+        int oldSize = componentSize.getQuick(c);
+        componentSize.setQuick(c, size);
+        changedComponents.set(c);
+        if (size > oldSize) {
+            moveUp(c);
+        } else {
+            moveDown(c);
+        }
+    }
+
+    private int getOrderedSize(int orderedNumber) {
+        return componentSize.getQuick(orderedComponents.getQuick(orderedNumber));
+    }
+
+    private void swap(int orderedNumber1, int orderedNumber2) {
+        int c1 = orderedComponents.getQuick(orderedNumber1);
+        int c2 = orderedComponents.getQuick(orderedNumber2);
+        orderedComponents.setQuick(orderedNumber1, c2);
+        orderedComponents.setQuick(orderedNumber2, c1);
+        componentOrderedNumber.setQuick(c1, orderedNumber2);
+        componentOrderedNumber.setQuick(c2, orderedNumber1);
+        changedComponents.set(c1);
+        changedComponents.set(c2);
+    }
+
+    /**
+     * Move a component whose size has increased before the smaller ones.
+     */
+    private void moveUp(int c) {
+        int size = componentSize.getQuick(c);
+        int n = componentOrderedNumber.getQuick(c);
+        while (n > 0 && getOrderedSize(n - 1) < size) {
+            // first ordered number of the block of components of the same size,
+            // components before n being still ordered
+            int blockSize = getOrderedSize(n - 1);
+            int low = 0;
+            int high = n - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (getOrderedSize(mid) > blockSize) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            swap(n, low);
+            n = low;
+        }
+    }
+
+    /**
+     * Move a component whose size has decreased after the bigger ones.
+     */
+    private void moveDown(int c) {
+        int size = componentSize.getQuick(c);
+        int n = componentOrderedNumber.getQuick(c);
+        int last = orderedComponents.size() - 1;
+        while (n < last && getOrderedSize(n + 1) > size) {
+            // last ordered number of the block of components of the same size,
+            // components after n being still ordered
+            int blockSize = getOrderedSize(n + 1);
+            int low = n + 1;
+            int high = last;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (getOrderedSize(mid) < blockSize) {
+                    high = mid - 1;
+                } else {
+                    low = mid;
+                }
+            }
+            swap(n, low);
+            n = low;
+        }
+    }
+
+    private int getOtherVertex(int e, int v) {
+        int v1 = edgeVertex1.getQuick(e);
+        return v1 == v ? edgeVertex2.getQuick(e) : v1;
+    }
+
+    public int addVertex() {
+        int v;
+        if (removedVertices.isEmpty()) {
+            v = vertexEdges.size();
+            vertexEdges.add(new TIntArrayList(2));
+            vertexComponent.add(newComponent(1));
+        } else {
+            v = removedVertices.removeAt(removedVertices.size() - 1);
+            vertexEdges.set(v, new TIntArrayList(2));
+            vertexComponent.setQuick(v, newComponent(1));
+        }
+        changedVertices.set(v);
+        return v;
+    }
+
+    /**
+     * Remove a vertex and all its adjacent edges.
+     */
+    public void removeVertex(int v) {
+        checkVertex(v);
+        TIntArrayList edges = vertexEdges.get(v);
+        while (!edges.isEmpty()) {
+            removeEdge(edges.getQuick(edges.size() - 1));
+        }
+        // vertex is now alone in its component
+        removeComponent(vertexComponent.getQuick(v));
+        vertexEdges.set(v, null);
+        vertexComponent.setQuick(v, REMOVED);
+        removedVertices.add(v);
+        changedVertices.clear(v);
+    }
+
+    public int addEdge(int v1, int v2) {
+        checkVertex(v1);
+        checkVertex(v2);
+        int e;
+        if (removedEdges.isEmpty()) {
+            e = edgeVertex1.size();
+            edgeVertex1.add(v1);
+            edgeVertex2.add(v2);
+        } else {
+            e = removedEdges.removeAt(removedEdges.size() - 1);
+            edgeVertex1.setQuick(e, v1);
+            edgeVertex2.setQuick(e, v2);
+        }
+        int c1 = vertexComponent.getQuick(v1);
+        int c2 = vertexComponent.getQuick(v2);
+        if (c1 != c2) {
+            // relabel the smallest component, before adding the edge so that
+            // the relabelling does not go through it
+            if (componentSize.getQuick(c1) < componentSize.getQuick(c2)) {
+                relabel(v1, c1, c2);
+            } else {
+                relabel(v2, c2, c1);
+            }
+        }
+        vertexEdges.get(v1).add(e);
+        if (v1 != v2) {
+            vertexEdges.get(v2).add(e);
+        }
+        return e;
+    }
+
+    private void relabel(int v, int oldComponent, int newComponent) {
+        setComponentSize(newComponent, componentSize.getQuick(newComponent) + componentSize.getQuick(oldComponent));
+        removeComponent(oldComponent);
+        TIntArrayList queue = new TIntArrayList();
+        queue.add(v);
+        vertexComponent.setQuick(v, newComponent);
+        changedVertices.set(v);
+        for (int i = 0; i < queue.size(); i++) {
+            TIntArrayList edges = vertexEdges.get(queue.getQuick(i));
+            for (int j = 0; j < edges.size(); j++) {
+                int w = getOtherVertex(edges.getQuick(j), queue.getQuick(i));
+                if (vertexComponent.getQuick(w) == oldComponent) {
+                    vertexComponent.setQuick(w, newComponent);
+                    changedVertices.set(w);
+                    queue.add(w);
+                }
+            }
+        }
+    }
+
+    public void removeEdge(int e) {
+        checkEdge(e);
+        int v1 = edgeVertex1.getQuick(e);
+        int v2 = edgeVertex2.getQuick(e);
+        vertexEdges.get(v1).remove(e);
+        if (v1 != v2) {
+            vertexEdges.get(v2).remove(e);
+        }
+        edgeVertex1.setQuick(e, REMOVED);
+        edgeVertex2.setQuick(e, REMOVED);
+        removedEdges.add(e);
+        if (v1 != v2) {
+            TIntArrayList split = findSplitPart(v1, v2);
+            if (split != null) {
+                int oldComponent = vertexComponent.getQuick(v1);
+                setComponentSize(oldComponent, componentSize.getQuick(oldComponent) - split.size());
+                int newComponent = newComponent(split.size());
+                for (int i = 0; i < split.size(); i++) {
+                    int v = split.getQuick(i);
+                    vertexComponent.setQuick(v, newComponent);
+                    changedVertices.set(v);
+                }
+            }
+        }
+    }
+
+    private int nextMark() {
+        if (marks.length < vertexEdges.size()) {
+            marks = Arrays.copyOf(marks, Math.max(vertexEdges.size(), marks.length * 2));
+        }
+        if (mark >= Integer.MAX_VALUE - 2) {
+            Arrays.fill(marks, 0);
+            mark = 0;
+        }
+        mark += 2;
+        return mark;
+    }
+
+    /**
+     * Search alternately from both vertices.
+     *
+     * @return null if both vertices are still connected, the vertices of the smallest
+     * part of the component otherwise.
+     */
+    private TIntArrayList findSplitPart(int v1, int v2) {
+        int mark1 = nextMark();
+        int mark2 = mark1 + 1;
+        TIntArrayList queue1 = new TIntArrayList();
+        TIntArrayList queue2 = new TIntArrayList();
+        queue1.add(v1);
+        queue2.add(v2);
+        marks[v1] = mark1;
+        marks[v2] = mark2;
+        int i1 = 0;
+        int i2 = 0;
+        while (true) {
+            if (i1 == queue1.size()) {
+                return queue1;
+            }
+            if (visit(queue1.getQuick(i1++), mark1, mark2, queue1)) {
+                return null;
+            }
+            if (i2 == queue2.size()) {
+                return queue2;
+            }
+            if (visit(queue2.getQuick(i2++), mark2, mark1, queue2)) {
+                return null;
+            }
+        }
+    }
+
+    private boolean visit(int v, int ownMark, int otherMark, TIntArrayList queue) {
+        TIntArrayList edges = vertexEdges.get(v);
+        for (int j = 0; j < edges.size(); j++) {
+            int w = getOtherVertex(edges.getQuick(j), v);
+            if (marks[w] == otherMark) {
+                return true;
+            }
+            if (marks[w] != ownMark) {
+                marks[w] = ownMark;
+                queue.add(w);
+            }
+        }
+        return false;
+    }
+
+    public int getVertexCount() {
+        return vertexEdges.size() - removedVertices.size();
+    }
+
+    public int getEdgeCount() {
+        return edgeVertex1.size() - removedEdges.size();
+    }
+
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    /**
+     * Get the component number of a vertex. Component numbers are only stable
+     * as long as the graph is not modified.
+     */
+    public int getComponentNumber(int v) {
+        checkVertex(v);
+        return vertexComponent.getQuick(v);
+    }
+
+    public int getComponentSize(int c) {
+        return componentSize.getQuick(c);
+    }
+
+    /**
+     * Get the number of a component when components are ordered by decreasing size.
+     *
+     * @return the ordered number, -1 for an unused component number
+     */
+    public int getOrderedComponentNumber(int c) {
+        return c < componentOrderedNumber.size() ? componentOrderedNumber.getQuick(c) : -1;
+    }
+
+    /**
+     * Get the number of each component when they are ordered by decreasing size.
+     *
+     * @return the ordered number indexed by component number, -1 for unused
+     * component numbers
+     */
+    public int[] getOrderedComponentNumbers() {
+        return componentOrderedNumber.toArray();
+    }
+
+    /**
+     * Get the upper bound (exclusive) of the component numbers.
+     */
+    public int getMaxComponentNumber() {
+        return componentSize.size();
+    }
+
+    /**
+     * Get vertices added or whose component number has changed since last call
+     * to {@link #clearChanges()}.
+     */
+    public BitSet getChangedVertices() {
+        return changedVertices;
+    }
+
+    /**
+     * Get components added, removed or whose size or ordered number has changed
+     * since last call to {@link #clearChanges()}.
+     */
+    public BitSet getChangedComponents() {
+        return changedComponents;
+    }
+
+    public void clearChanges() {
+        changedVertices.clear();
+        changedComponents.clear();
+    }
+}
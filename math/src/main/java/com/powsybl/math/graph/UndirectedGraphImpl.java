@@ -15,8 +15,6 @@ import gnu.trove.list.linked.TIntLinkedList;
 import java.io.PrintStream;
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -30,8 +28,6 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
 
     private static final int EDGES_CAPACITY = 15;
 
-    private static final int NEIGHBORS_CAPACITY = 2;
-
     private static final class Vertex<E> {
 
         private E object;
@@ -92,10 +88,30 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
     /* edges */
     private final List<Edge<E>> edges = new ArrayList<>(EDGES_CAPACITY);
 
-    /* cached adjacency list */
-    private TIntArrayList[] adjacencyListCache;
+    /**
+     * Immutable compressed sparse row snapshot of the adjacency list: edges
+     * adjacent to vertex v and the corresponding neighbours are stored at indexes
+     * offsets[v] to offsets[v + 1] - 1 of flat arrays, so that traversals only
+     * read a few contiguous int arrays.
+     */
+    private static final class Adjacency {
+
+        private final int[] offsets;
+
+        private final int[] adjacentEdges;
+
+        private final int[] neighbors;
+
+        private Adjacency(int[] offsets, int[] adjacentEdges, int[] neighbors) {
+            this.offsets = offsets;
+            this.adjacentEdges = adjacentEdges;
+            this.neighbors = neighbors;
+        }
+    }
 
-    private final Lock adjacencyListCacheLock = new ReentrantLock();
+    /* cached adjacency, rebuilt lazily after a modification of the graph and
+       published without lock, a snapshot is never modified once built */
+    private volatile Adjacency adjacencyCache;
 
     private final TIntLinkedList removedVertices = new TIntLinkedList();
 
@@ -296,69 +312,72 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
         checkVertex(v1);
         checkVertex(v2);
         List<E> edgeObjects = new ArrayList<>(1);
-        TIntArrayList[] adjacencyList = getAdjacencyList();
-        TIntArrayList adjacentEdges = adjacencyList[v1];
-        for (int i = 0; i < adjacentEdges.size(); i++) {
-            int e = adjacentEdges.getQuick(i);
-            Edge<E> edge = edges.get(e);
-            if ((edge.getV1() == v1 && edge.getV2() == v2)
-                || (edge.getV1() == v2 && edge.getV2() == v1)) {
-                edgeObjects.add(edge.getObject());
+        Adjacency adjacency = getAdjacency();
+        for (int i = adjacency.offsets[v1]; i < adjacency.offsets[v1 + 1]; i++) {
+            if (adjacency.neighbors[i] == v2) {
+                edgeObjects.add(edges.get(adjacency.adjacentEdges[i]).getObject());
             }
         }
         return edgeObjects;
     }
 
-    private TIntArrayList[] getAdjacencyList() {
-        adjacencyListCacheLock.lock();
-        try {
-            if (adjacencyListCache == null) {
-                adjacencyListCache = new TIntArrayList[vertices.size()];
-                for (int v = 0; v < vertices.size(); v++) {
-                    Vertex<V> vertex = vertices.get(v);
-                    if (vertex != null) {
-                        adjacencyListCache[v] = new TIntArrayList(NEIGHBORS_CAPACITY);
-                    }
-                }
-                for (int e = 0; e < edges.size(); e++) {
-                    Edge<E> edge = edges.get(e);
-                    if (edge != null) {
-                        int v1 = edge.getV1();
-                        int v2 = edge.getV2();
-                        adjacencyListCache[v1].add(e);
-                        adjacencyListCache[v2].add(e);
-                    }
-                }
+    private Adjacency getAdjacency() {
+        Adjacency adjacency = adjacencyCache;
+        if (adjacency == null) {
+            // several threads may build a snapshot at the same time, they are
+            // all equivalent so the last published one is kept
+            adjacency = buildAdjacency();
+            adjacencyCache = adjacency;
+        }
+        return adjacency;
+    }
+
+    private Adjacency buildAdjacency() {
+        // count adjacent edges of each vertex, a loop is adjacent twice to its vertex
+        int[] offsets = new int[vertices.size() + 1];
+        for (Edge<E> edge : edges) {
+            if (edge != null) {
+                offsets[edge.getV1() + 1]++;
+                offsets[edge.getV2() + 1]++;
+            }
+        }
+        for (int v = 0; v < vertices.size(); v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] adjacentEdges = new int[offsets[vertices.size()]];
+        int[] neighbors = new int[adjacentEdges.length];
+        int[] next = Arrays.copyOf(offsets, vertices.size());
+        for (int e = 0; e < edges.size(); e++) {
+            Edge<E> edge = edges.get(e);
+            if (edge != null) {
+                int v1 = edge.getV1();
+                int v2 = edge.getV2();
+                adjacentEdges[next[v1]] = e;
+                neighbors[next[v1]++] = v2;
+                adjacentEdges[next[v2]] = e;
+                neighbors[next[v2]++] = v1;
             }
-            return adjacencyListCache;
-        } finally {
-            adjacencyListCacheLock.unlock();
         }
+        return new Adjacency(offsets, adjacentEdges, neighbors);
     }
 
     private void invalidateAdjacencyList() {
-        adjacencyListCache = null;
+        adjacencyCache = null;
     }
 
     @Override
     public void traverse(int v, Traverser<E> traverser, boolean[] encountered) {
         checkVertex(v);
-        TIntArrayList[] adjacencyList = getAdjacencyList();
-        TIntArrayList adjacentEdges = adjacencyList[v];
+        traverse(v, traverser, encountered, getAdjacency());
+    }
+
+    private static <E> void traverse(int v, Traverser<E> traverser, boolean[] encountered, Adjacency adjacency) {
         encountered[v] = true;
-        for (int i = 0; i < adjacentEdges.size(); i++) {
-            int e = adjacentEdges.getQuick(i);
-            Edge<E> edge = edges.get(e);
-            int v1 = edge.getV1();
-            int v2 = edge.getV2();
-            if (!encountered[v1]) {
-                if (traverser.traverse(v2, e, v1) == TraverseResult.CONTINUE) {
-                    encountered[v1] = true;
-                    traverse(v1, traverser, encountered);
-                }
-            } else if (!encountered[v2] && traverser.traverse(v1, e, v2) == TraverseResult.CONTINUE) {
+        for (int i = adjacency.offsets[v]; i < adjacency.offsets[v + 1]; i++) {
+            int v2 = adjacency.neighbors[i];
+            if (!encountered[v2] && traverser.traverse(v, adjacency.adjacentEdges[i], v2) == TraverseResult.CONTINUE) {
                 encountered[v2] = true;
-                traverse(v2, traverser, encountered);
+                traverse(v2, traverser, encountered, adjacency);
             }
         }
     }
@@ -376,14 +395,15 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
         List<TIntArrayList> paths = new ArrayList<>();
         BitSet encountered = new BitSet(vertices.size());
         TIntArrayList path = new TIntArrayList(1);
-        findAllPaths(from, pathComplete, pathCanceled, path, encountered, paths);
+        checkVertex(from);
+        findAllPaths(from, pathComplete, pathCanceled, path, encountered, paths, getAdjacency());
         // sort paths by size
         paths.sort((o1, o2) -> o1.size() - o2.size());
         return paths;
     }
 
     private boolean findAllPaths(int e, int v1or2, Function<V, Boolean> pathComplete, Function<E, Boolean> pathCanceled,
-                                 TIntArrayList path, BitSet encountered, List<TIntArrayList> paths) {
+                                 TIntArrayList path, BitSet encountered, List<TIntArrayList> paths, Adjacency adjacency) {
         if (encountered.get(v1or2)) {
             return false;
         }
@@ -393,28 +413,23 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
             paths.add(path);
             return true;
         } else {
-            findAllPaths(v1or2, pathComplete, pathCanceled, path, encountered, paths);
+            findAllPaths(v1or2, pathComplete, pathCanceled, path, encountered, paths, adjacency);
             return false;
         }
     }
 
     private void findAllPaths(int v, Function<V, Boolean> pathComplete, Function<E, Boolean> pathCanceled,
-                              TIntArrayList path, BitSet encountered, List<TIntArrayList> paths) {
-        checkVertex(v);
+                              TIntArrayList path, BitSet encountered, List<TIntArrayList> paths, Adjacency adjacency) {
         encountered.set(v, true);
-        TIntArrayList[] adjacencyList = getAdjacencyList();
-        TIntArrayList adjacentEdges = adjacencyList[v];
-        for (int i = 0; i < adjacentEdges.size(); i++) {
-            int e = adjacentEdges.getQuick(i);
-            Edge<E> edge = edges.get(e);
-            if (pathCanceled != null && pathCanceled.apply(edge.getObject())) {
+        int last = adjacency.offsets[v + 1] - 1;
+        for (int i = adjacency.offsets[v]; i <= last; i++) {
+            int e = adjacency.adjacentEdges[i];
+            if (pathCanceled != null && pathCanceled.apply(edges.get(e).getObject())) {
                 continue;
             }
-            int v1 = edge.getV1();
-            int v2 = edge.getV2();
             TIntArrayList path2;
             BitSet encountered2;
-            if (i < adjacentEdges.size() - 1) {
+            if (i < last) {
                 path2 = new TIntArrayList(path);
                 encountered2 = new BitSet(vertices.size());
                 encountered2.or(encountered);
@@ -422,17 +437,7 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
                 path2 = path;
                 encountered2 = encountered;
             }
-            if (v == v2) {
-                if (findAllPaths(e, v1, pathComplete, pathCanceled, path2, encountered2, paths)) {
-                    continue;
-                }
-            } else if (v == v1) {
-                if (findAllPaths(e, v2, pathComplete, pathCanceled, path2, encountered2, paths)) {
-                    continue;
-                }
-            } else {
-                throw new AssertionError();
-            }
+            findAllPaths(e, adjacency.neighbors[i], pathComplete, pathCanceled, path2, encountered2, paths, adjacency);
         }
     }
 
@@ -13,10 +13,13 @@ import java.util.Objects;
  */
 public class DenseLUDecomposition implements LUDecomposition {
 
-    private final Jama.LUDecomposition decomposition;
+    private final int size;
+
+    private Jama.LUDecomposition decomposition;
 
     public DenseLUDecomposition(Jama.LUDecomposition decomposition) {
         this.decomposition = Objects.requireNonNull(decomposition);
+        size = decomposition.getPivot().length;
     }
 
     @Override
@@ -31,6 +34,17 @@ public class DenseLUDecomposition implements LUDecomposition {
         b.setValues(x.getColumnPackedCopy());
     }
 
+    @Override
+    public void update(Matrix matrix) {
+        Objects.requireNonNull(matrix);
+        if (matrix.getM() != size || matrix.getN() != size) {
+            throw new IllegalArgumentException("Matrix dimension (" + matrix.getM() + ", " + matrix.getN()
+                    + ") is different from decomposed one (" + size + ", " + size + ")");
+        }
+        // nothing to reuse with a dense decomposition
+        decomposition = matrix.toDense().toJamaMatrix().lu();
+    }
+
     @Override
     public void close() {
         // nothing to close
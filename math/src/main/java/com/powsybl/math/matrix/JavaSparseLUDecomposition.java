@@ -0,0 +1,378 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.math.matrix;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.math.matrix.trove.TDoubleArrayListHack;
+import com.powsybl.math.matrix.trove.TIntArrayListHack;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * LU decomposition of a sparse matrix in pure Java, used when the native library is not available.
+ *
+ * <p>Columns are ordered with a {@link MinimumDegreeOrdering} to limit the fill-in, then factorized with the
+ * left-looking algorithm of Gilbert and Peierls: each column of L and U is computed by a sparse triangular solve
+ * with the columns already factorized, followed by a partial pivoting favoring the diagonal element. The result
+ * is {@code P * A * Q = L * U}, with {@code Q} the fill reducing ordering and {@code P} the row pivoting.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class JavaSparseLUDecomposition implements LUDecomposition {
+
+    // the diagonal element is kept as pivot if not smaller than this ratio of the largest candidate
+    private static final double PIVOT_TOLERANCE = 0.001;
+
+    // the decomposed matrix, to check the structure of updated or shared matrices
+    private final SparseMatrix matrix;
+
+    private final int n;
+
+    // column start of the decomposed matrix, columns never filled having the start of the next one
+    private final int[] columnStart;
+
+    // fill reducing ordering, the k-th column factorized is the columnOrder[k]-th one
+    private final int[] columnOrder;
+
+    // row pivoting, the i-th row is the rowPosition[i]-th one of L and U
+    private int[] rowPosition;
+
+    private int[] lColumnStart;
+    private int[] lRowIndices;
+    private double[] lValues;
+
+    private int[] uColumnStart;
+    private int[] uRowIndices;
+    private double[] uValues;
+
+    // work array of the refactorization
+    private double[] refactorWork;
+
+    private boolean closed = false;
+
+    public JavaSparseLUDecomposition(SparseMatrix matrix) {
+        this.matrix = checkSquare(matrix);
+        n = matrix.getN();
+        columnStart = getColumnStart(matrix);
+        columnOrder = MinimumDegreeOrdering.order(n, columnStart, matrix.getRowIndices());
+        factor(matrix);
+    }
+
+    /**
+     * Decompose a matrix reusing the ordering of another decomposition.
+     */
+    JavaSparseLUDecomposition(SparseMatrix matrix, JavaSparseLUDecomposition other) {
+        this.matrix = checkSquare(matrix);
+        checkSameStructure(other.matrix, matrix);
+        n = matrix.getN();
+        columnStart = other.columnStart;
+        columnOrder = other.columnOrder;
+        factor(matrix);
+    }
+
+    private static SparseMatrix checkSquare(SparseMatrix matrix) {
+        Objects.requireNonNull(matrix);
+        if (matrix.getM() != matrix.getN()) {
+            throw new IllegalArgumentException("matrix is not square");
+        }
+        return matrix;
+    }
+
+    private static void checkSameStructure(SparseMatrix matrix, SparseMatrix other) {
+        if (!matrix.hasSameStructure(other)) {
+            throw new IllegalArgumentException("Matrix structure is different from the decomposed one");
+        }
+    }
+
+    /**
+     * Get the column start array of a matrix, columns never filled being given the start of the next one.
+     */
+    private static int[] getColumnStart(SparseMatrix matrix) {
+        int[] columnStart = matrix.getColumnStart().clone();
+        for (int j = columnStart.length - 2; j >= 0; j--) {
+            if (columnStart[j] == -1) {
+                columnStart[j] = columnStart[j + 1];
+            }
+        }
+        return columnStart;
+    }
+
+    /**
+     * Depth first search in the graph of L from row {@code i}, to find the rows reached by a column during the
+     * triangular solve. Reached rows are added to {@code reach} from {@code top} downwards, in topological order.
+     */
+    private static int depthFirstSearch(int i, int top, int[] reach, int[] rowPosition, TIntArrayListHack lColumnStart,
+                                        TIntArrayListHack lRowIndices, int[] marks, int mark, int[] stack, int[] stackPosition) {
+        int newTop = top;
+        int head = 0;
+        stack[0] = i;
+        while (head >= 0) {
+            int row = stack[head];
+            int column = rowPosition[row];
+            if (marks[row] != mark) {
+                marks[row] = mark;
+                stackPosition[head] = column < 0 ? 0 : lColumnStart.getQuick(column);
+            }
+            boolean done = true;
+            int end = column < 0 ? 0 : lColumnStart.getQuick(column + 1);
+            for (int p = stackPosition[head]; p < end; p++) {
+                int next = lRowIndices.getQuick(p);
+                if (marks[next] != mark) {
+                    // continue later with the next element of the column
+                    stackPosition[head] = p + 1;
+                    stack[++head] = next;
+                    done = false;
+                    break;
+                }
+            }
+            if (done) {
+                head--;
+                reach[--newTop] = row;
+            }
+        }
+        return newTop;
+    }
+
+    private void factor(SparseMatrix matrix) {
+        int[] rowIndices = matrix.getRowIndices();
+        double[] values = matrix.getValues();
+
+        int estimatedNonZeroValueCount = 2 * columnStart[n] + n;
+        TIntArrayListHack lStart = new TIntArrayListHack(n + 1);
+        TIntArrayListHack lRows = new TIntArrayListHack(estimatedNonZeroValueCount);
+        TDoubleArrayListHack lVals = new TDoubleArrayListHack(estimatedNonZeroValueCount);
+        TIntArrayListHack uStart = new TIntArrayListHack(n + 1);
+        TIntArrayListHack uRows = new TIntArrayListHack(estimatedNonZeroValueCount);
+        TDoubleArrayListHack uVals = new TDoubleArrayListHack(estimatedNonZeroValueCount);
+
+        int[] position = new int[n];
+        Arrays.fill(position, -1);
+        double[] x = new double[n];
+        int[] reach = new int[n];
+        int[] marks = new int[n];
+        int[] stack = new int[n];
+        int[] stackPosition = new int[n];
+
+        for (int k = 0; k < n; k++) {
+            // also the end of the previous column, needed by the search
+            lStart.add(lRows.size());
+            uStart.add(uRows.size());
+            int column = columnOrder[k];
+
+            // rows reached by the solve of L * x = A(:, column), in topological order
+            int top = n;
+            for (int p = columnStart[column]; p < columnStart[column + 1]; p++) {
+                int i = rowIndices[p];
+                if (marks[i] != k + 1) {
+                    top = depthFirstSearch(i, top, reach, position, lStart, lRows, marks, k + 1, stack, stackPosition);
+                }
+            }
+
+            // sparse triangular solve
+            for (int p = top; p < n; p++) {
+                x[reach[p]] = 0;
+            }
+            for (int p = columnStart[column]; p < columnStart[column + 1]; p++) {
+                x[rowIndices[p]] += values[p];
+            }
+            for (int p = top; p < n; p++) {
+                int j = reach[p];
+                int jColumn = position[j];
+                if (jColumn >= 0) {
+                    // the first element of a column of L is its unit diagonal
+                    double xj = x[j];
+                    for (int q = lStart.getQuick(jColumn) + 1; q < lStart.getQuick(jColumn + 1); q++) {
+                        x[lRows.getQuick(q)] -= lVals.getQuick(q) * xj;
+                    }
+                }
+            }
+
+            // partial pivoting among rows which are not yet pivotal, U gets the others
+            int pivotRow = -1;
+            double max = -1;
+            for (int p = top; p < n; p++) {
+                int i = reach[p];
+                if (position[i] < 0) {
+                    double abs = Math.abs(x[i]);
+                    if (abs > max) {
+                        max = abs;
+                        pivotRow = i;
+                    }
+                } else {
+                    uRows.add(position[i]);
+                    uVals.add(x[i]);
+                }
+            }
+            if (pivotRow == -1 || max <= 0) {
+                throw new PowsyblException("Matrix is singular");
+            }
+            if (position[column] < 0 && marks[column] == k + 1 && Math.abs(x[column]) >= PIVOT_TOLERANCE * max) {
+                pivotRow = column;
+            }
+            double pivot = x[pivotRow];
+            uRows.add(k);
+            uVals.add(pivot);
+            position[pivotRow] = k;
+            lRows.add(pivotRow);
+            lVals.add(1);
+            for (int p = top; p < n; p++) {
+                int i = reach[p];
+                if (position[i] < 0) {
+                    lRows.add(i);
+                    lVals.add(x[i] / pivot);
+                }
+            }
+        }
+        lStart.add(lRows.size());
+        uStart.add(uRows.size());
+
+        // row indices of L were original ones during the factorization
+        for (int p = 0; p < lRows.size(); p++) {
+            lRows.setQuick(p, position[lRows.getQuick(p)]);
+        }
+
+        rowPosition = position;
+        lColumnStart = lStart.getData();
+        lRowIndices = lRows.getData();
+        lValues = lVals.getData();
+        uColumnStart = uStart.getData();
+        uRowIndices = uRows.getData();
+        uValues = uVals.getData();
+    }
+
+    /**
+     * Compute again the values of L and U, keeping the ordering, the pivoting and so the structure of the factors
+     * like {@code klu_refactor} does. Nothing is allocated, but pivots are not checked for stability.
+     */
+    private void refactor(SparseMatrix matrix) {
+        int[] rowIndices = matrix.getRowIndices();
+        double[] values = matrix.getValues();
+        if (refactorWork == null) {
+            refactorWork = new double[n];
+        }
+        double[] x = refactorWork;
+
+        for (int k = 0; k < n; k++) {
+            // rows of the column, which are all in the structure of U and L, are indexed by their pivot position
+            for (int p = uColumnStart[k]; p < uColumnStart[k + 1]; p++) {
+                x[uRowIndices[p]] = 0;
+            }
+            for (int p = lColumnStart[k]; p < lColumnStart[k + 1]; p++) {
+                x[lRowIndices[p]] = 0;
+            }
+            int column = columnOrder[k];
+            for (int p = columnStart[column]; p < columnStart[column + 1]; p++) {
+                x[rowPosition[rowIndices[p]]] += values[p];
+            }
+
+            // elements of U were stored in topological order, the diagonal being the last one
+            int diagonal = uColumnStart[k + 1] - 1;
+            for (int p = uColumnStart[k]; p < diagonal; p++) {
+                int j = uRowIndices[p];
+                double xj = x[j];
+                uValues[p] = xj;
+                for (int q = lColumnStart[j] + 1; q < lColumnStart[j + 1]; q++) {
+                    x[lRowIndices[q]] -= lValues[q] * xj;
+                }
+            }
+            double pivot = x[k];
+            if (pivot == 0) {
+                throw new PowsyblException("Matrix is singular");
+            }
+            uValues[diagonal] = pivot;
+            for (int p = lColumnStart[k] + 1; p < lColumnStart[k + 1]; p++) {
+                lValues[p] = x[lRowIndices[p]] / pivot;
+            }
+        }
+    }
+
+    private void checkNotClosed() {
+        if (closed) {
+            throw new IllegalStateException("LU decomposition has been released");
+        }
+    }
+
+    /**
+     * Solve in place, {@code work} being an array of size n.
+     */
+    private void solve(double[] b, double[] work) {
+        // forward substitution on the pivoted right hand side, L having a unit diagonal
+        for (int i = 0; i < n; i++) {
+            work[rowPosition[i]] = b[i];
+        }
+        for (int j = 0; j < n; j++) {
+            double xj = work[j];
+            if (xj != 0) {
+                for (int p = lColumnStart[j] + 1; p < lColumnStart[j + 1]; p++) {
+                    work[lRowIndices[p]] -= lValues[p] * xj;
+                }
+            }
+        }
+        // backward substitution, the diagonal being the last element of each column of U
+        for (int j = n - 1; j >= 0; j--) {
+            int diagonal = uColumnStart[j + 1] - 1;
+            double xj = work[j] / uValues[diagonal];
+            work[j] = xj;
+            if (xj != 0) {
+                for (int p = uColumnStart[j]; p < diagonal; p++) {
+                    work[uRowIndices[p]] -= uValues[p] * xj;
+                }
+            }
+        }
+        for (int k = 0; k < n; k++) {
+            b[columnOrder[k]] = work[k];
+        }
+    }
+
+    @Override
+    public void solve(double[] b) {
+        Objects.requireNonNull(b);
+        checkNotClosed();
+        if (b.length != n) {
+            throw new IllegalArgumentException("Incorrect right hand side length: " + b.length);
+        }
+        solve(b, new double[n]);
+    }
+
+    @Override
+    public void solve(DenseMatrix b) {
+        Objects.requireNonNull(b);
+        checkNotClosed();
+        if (b.getM() != n) {
+            throw new IllegalArgumentException("Incorrect right hand side row count: " + b.getM());
+        }
+        double[] column = new double[n];
+        double[] work = new double[n];
+        for (int j = 0; j < b.getN(); j++) {
+            for (int i = 0; i < n; i++) {
+                column[i] = b.getValue(i, j);
+            }
+            solve(column, work);
+            for (int i = 0; i < n; i++) {
+                b.setValue(i, j, column[i]);
+            }
+        }
+    }
+
+    @Override
+    public void update(Matrix matrix) {
+        Objects.requireNonNull(matrix);
+        checkNotClosed();
+        if (!(matrix instanceof SparseMatrix)) {
+            throw new IllegalArgumentException("Sparse decomposition can only be updated with a sparse matrix");
+        }
+        SparseMatrix sparseMatrix = (SparseMatrix) matrix;
+        checkSameStructure(this.matrix, sparseMatrix);
+        refactor(sparseMatrix);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+}
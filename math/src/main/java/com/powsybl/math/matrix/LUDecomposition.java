@@ -19,6 +19,15 @@ public interface LUDecomposition extends AutoCloseable {
 
     void solve(DenseMatrix b);
 
+    /**
+     * Update the decomposition with the values of another matrix having the same structure, for instance the
+     * same Jacobian with new values. The symbolic analysis of the matrix is reused, only the numerical
+     * factorization is done again.
+     *
+     * @param matrix a matrix with the same dimension and the same non zero elements as the decomposed one
+     */
+    void update(Matrix matrix);
+
     @Override
     void close();
 }
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.math.matrix;
+
+import gnu.trove.set.hash.TIntHashSet;
+
+import java.util.Arrays;
+
+/**
+ * Fill reducing ordering of a sparse matrix, computed with the minimum degree heuristic on the graph of
+ * {@code A + A^T}.
+ *
+ * <p>Matrices of electrical networks are structurally symmetric and very sparse, so the elimination graph is kept
+ * explicitly: eliminating a node connects all its neighbors together, and the next node eliminated is the one
+ * with the fewest neighbors, found with lists of nodes by degree.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+final class MinimumDegreeOrdering {
+
+    private MinimumDegreeOrdering() {
+    }
+
+    /**
+     * Nodes not yet eliminated, in doubly linked lists by degree.
+     */
+    private static final class DegreeLists {
+
+        private final int[] head;
+        private final int[] next;
+        private final int[] previous;
+        private final int[] degree;
+
+        private int minDegree = 0;
+
+        private DegreeLists(int n) {
+            head = new int[n];
+            next = new int[n];
+            previous = new int[n];
+            degree = new int[n];
+            Arrays.fill(head, -1);
+        }
+
+        private void add(int node, int nodeDegree) {
+            degree[node] = nodeDegree;
+            previous[node] = -1;
+            next[node] = head[nodeDegree];
+            if (head[nodeDegree] != -1) {
+                previous[head[nodeDegree]] = node;
+            }
+            head[nodeDegree] = node;
+            minDegree = Math.min(minDegree, nodeDegree);
+        }
+
+        private void remove(int node) {
+            if (previous[node] != -1) {
+                next[previous[node]] = next[node];
+            } else {
+                head[degree[node]] = next[node];
+            }
+            if (next[node] != -1) {
+                previous[next[node]] = previous[node];
+            }
+        }
+
+        private int removeMin() {
+            while (head[minDegree] == -1) {
+                minDegree++;
+            }
+            int node = head[minDegree];
+            remove(node);
+            return node;
+        }
+    }
+
+    /**
+     * Compute the ordering of a square matrix in compressed column format.
+     *
+     * @param n the dimension of the matrix
+     * @param columnStart the start of each column in {@code rowIndices}, plus the value count in the last element
+     * @param rowIndices the row index of each value
+     * @return the permutation, the k-th element being the index of the k-th column to eliminate
+     */
+    static int[] order(int n, int[] columnStart, int[] rowIndices) {
+        TIntHashSet[] adjacency = new TIntHashSet[n];
+        for (int i = 0; i < n; i++) {
+            adjacency[i] = new TIntHashSet();
+        }
+        for (int j = 0; j < n; j++) {
+            for (int p = columnStart[j]; p < columnStart[j + 1]; p++) {
+                int i = rowIndices[p];
+                if (i != j) {
+                    adjacency[i].add(j);
+                    adjacency[j].add(i);
+                }
+            }
+        }
+
+        DegreeLists lists = new DegreeLists(n);
+        // added in reverse order so that ties are broken with the lowest index
+        for (int i = n - 1; i >= 0; i--) {
+            lists.add(i, adjacency[i].size());
+        }
+
+        int[] order = new int[n];
+        for (int k = 0; k < n; k++) {
+            int node = lists.removeMin();
+            order[k] = node;
+
+            // the neighbors of the eliminated node become a clique
+            int[] neighbors = adjacency[node].toArray();
+            for (int u : neighbors) {
+                TIntHashSet uAdjacency = adjacency[u];
+                uAdjacency.remove(node);
+                for (int w : neighbors) {
+                    if (w != u) {
+                        uAdjacency.add(w);
+                    }
+                }
+                lists.remove(u);
+                lists.add(u, uAdjacency.size());
+            }
+            adjacency[node] = null;
+        }
+        return order;
+    }
+}
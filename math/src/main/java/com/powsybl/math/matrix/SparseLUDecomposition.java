@@ -7,43 +7,98 @@
 package com.powsybl.math.matrix;
 
 import java.nio.ByteBuffer;
-import java.util.UUID;
+import java.util.Objects;
 
 /**
+ * LU decomposition of a sparse matrix, computed natively by KLU.
+ *
+ * <p>The native context is referenced by a handle, so that solves do not need any lookup or global lock: distinct
+ * decompositions can be used concurrently by several threads. A single decomposition is not thread safe, its solves
+ * sharing a native workspace.
+ *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 public class SparseLUDecomposition implements LUDecomposition {
 
-    private final String id;
+    // pointer to the native context, 0 once released
+    private long handle;
+
+    // the decomposed matrix, to check the structure of updated or shared matrices
+    private final SparseMatrix matrix;
 
     public SparseLUDecomposition(SparseMatrix matrix) {
+        this.matrix = checkSquare(matrix);
+        handle = init(matrix.getColumnStart(), matrix.getRowIndices(), matrix.getValues());
+    }
+
+    /**
+     * Decompose a matrix reusing the symbolic analysis of another decomposition.
+     */
+    SparseLUDecomposition(SparseMatrix matrix, SparseLUDecomposition other) {
+        this.matrix = checkSquare(matrix);
+        checkSameStructure(other.matrix, matrix);
+        handle = initShared(other.checkNotReleased(), matrix.getColumnStart(), matrix.getRowIndices(), matrix.getValues());
+    }
+
+    private static SparseMatrix checkSquare(SparseMatrix matrix) {
+        Objects.requireNonNull(matrix);
         if (matrix.getM() != matrix.getN()) {
             throw new IllegalArgumentException("matrix is not square");
         }
-        this.id = UUID.randomUUID().toString();
-        init(id, matrix.getColumnStart(), matrix.getRowIndices(), matrix.getValues());
+        return matrix;
+    }
+
+    private static void checkSameStructure(SparseMatrix matrix, SparseMatrix other) {
+        if (!matrix.hasSameStructure(other)) {
+            throw new IllegalArgumentException("Matrix structure is different from the decomposed one");
+        }
+    }
+
+    private long checkNotReleased() {
+        if (handle == 0) {
+            throw new IllegalStateException("LU decomposition has been released");
+        }
+        return handle;
     }
 
-    private native void init(String id, int[] ap, int[] ai, double[] ax);
+    private static native long init(int[] ap, int[] ai, double[] ax);
+
+    private static native long initShared(long otherHandle, int[] ap, int[] ai, double[] ax);
 
-    private native void release(String id);
+    private static native void refactor(long handle, int[] ap, int[] ai, double[] ax);
 
-    private native void solve(String id, double[] b);
+    private static native void release(long handle);
 
-    private native void solve2(String id, int m, int n, ByteBuffer b);
+    private static native void solve(long handle, double[] b);
+
+    private static native void solve2(long handle, int m, int n, ByteBuffer b);
 
     @Override
     public void solve(double[] b) {
-        solve(id, b);
+        solve(checkNotReleased(), b);
     }
 
     @Override
     public void solve(DenseMatrix b) {
-        solve2(id, b.getM(), b.getN(), b.getBuffer());
+        solve2(checkNotReleased(), b.getM(), b.getN(), b.getBuffer());
+    }
+
+    @Override
+    public void update(Matrix matrix) {
+        Objects.requireNonNull(matrix);
+        if (!(matrix instanceof SparseMatrix)) {
+            throw new IllegalArgumentException("Sparse decomposition can only be updated with a sparse matrix");
+        }
+        SparseMatrix sparseMatrix = (SparseMatrix) matrix;
+        checkSameStructure(this.matrix, sparseMatrix);
+        refactor(checkNotReleased(), sparseMatrix.getColumnStart(), sparseMatrix.getRowIndices(), sparseMatrix.getValues());
     }
 
     @Override
     public void close() {
-        release(id);
+        if (handle != 0) {
+            release(handle);
+            handle = 0;
+        }
     }
 }
@@ -110,10 +110,55 @@ public class SparseMatrix extends AbstractMatrix {
         columnStart[columnStart.length - 1] = values.size();
     }
 
+    /**
+     * Check that another matrix has the same dimension and the same non zero elements.
+     */
+    boolean hasSameStructure(SparseMatrix other) {
+        if (other == this) {
+            // values updated in place
+            return true;
+        }
+        if (m != other.m || n != other.n || !Arrays.equals(columnStart, other.columnStart)) {
+            return false;
+        }
+        for (int v = 0; v < rowIndices.size(); v++) {
+            if (rowIndices.getQuick(v) != other.rowIndices.getQuick(v)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decompose this matrix with the native KLU solver, or with a pure Java implementation when the native library
+     * cannot be loaded.
+     */
     @Override
     public LUDecomposition decomposeLU() {
+        if (NATIVE_INIT) {
+            return new SparseLUDecomposition(this);
+        }
+        return new JavaSparseLUDecomposition(this);
+    }
+
+    /**
+     * Decompose this matrix, reusing the symbolic analysis of another decomposition. This avoids analyzing again
+     * a structure shared by many matrices, for instance in a contingency loop. The symbolic analysis is kept alive
+     * until all the decompositions using it are closed.
+     *
+     * @param other the decomposition of a matrix with the same structure as this one
+     * @return the decomposition of this matrix
+     */
+    public LUDecomposition decomposeLU(LUDecomposition other) {
+        Objects.requireNonNull(other);
+        if (other instanceof JavaSparseLUDecomposition) {
+            return new JavaSparseLUDecomposition(this, (JavaSparseLUDecomposition) other);
+        }
+        if (!(other instanceof SparseLUDecomposition)) {
+            throw new IllegalArgumentException("Symbolic analysis can only be shared with a sparse decomposition");
+        }
         checkNativeInit();
-        return new SparseLUDecomposition(this);
+        return new SparseLUDecomposition(this, (SparseLUDecomposition) other);
     }
 
     private native SparseMatrix times(int m1, int n1, int[] ap1, int[] ai1, double[] ax1, int m2, int n2, int[] ap2, int[] ai2, double[] ax2);
@@ -0,0 +1,210 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.math.matrix;
+
+import com.powsybl.math.matrix.trove.TDoubleArrayListHack;
+import com.powsybl.math.matrix.trove.TIntArrayListHack;
+
+import java.util.Arrays;
+
+/**
+ * Assembly of a sparse matrix from (i, j, value) triplets given in any order, values of the same element being
+ * summed.
+ *
+ * <p>Each triplet added gets a handle, which remains valid once the matrix is built to change the value of its
+ * element in place. An iterative solver can so assemble its matrix once, then at each iteration reset the values,
+ * add the new ones by handle and refactor the decomposition with {@link LUDecomposition#update(Matrix)}, without
+ * any allocation nor sorting:
+ *
+ * <pre>
+ * SparseMatrixBuilder builder = new SparseMatrixBuilder(n, n, nnz);
+ * int h = builder.add(i, j, value);
+ * ...
+ * SparseMatrix matrix = builder.build();
+ * try (LUDecomposition decomposition = matrix.decomposeLU()) {
+ *     while (...) {
+ *         builder.reset();
+ *         builder.addValue(h, newValue);
+ *         ...
+ *         decomposition.update(matrix);
+ *     }
+ * }
+ * </pre>
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class SparseMatrixBuilder {
+
+    private final int m;
+
+    private final int n;
+
+    private final TIntArrayListHack tripletRows;
+
+    private final TIntArrayListHack tripletColumns;
+
+    private final TDoubleArrayListHack tripletValues;
+
+    private SparseMatrix matrix;
+
+    // the index in the matrix values of the element of each triplet
+    private int[] valueIndexes;
+
+    public SparseMatrixBuilder(int m, int n, int estimatedNonZeroValueCount) {
+        if (m < 0) {
+            throw new IllegalArgumentException("row count has to be positive");
+        }
+        if (n < 0) {
+            throw new IllegalArgumentException("column count has to be positive");
+        }
+        this.m = m;
+        this.n = n;
+        tripletRows = new TIntArrayListHack(estimatedNonZeroValueCount);
+        tripletColumns = new TIntArrayListHack(estimatedNonZeroValueCount);
+        tripletValues = new TDoubleArrayListHack(estimatedNonZeroValueCount);
+    }
+
+    private void checkNotBuilt() {
+        if (matrix != null) {
+            throw new IllegalStateException("Matrix has already been built");
+        }
+    }
+
+    private void checkBuilt() {
+        if (matrix == null) {
+            throw new IllegalStateException("Matrix has not been built yet");
+        }
+    }
+
+    /**
+     * Add a value to an element of the matrix.
+     *
+     * @return the handle of the triplet, to update its element once the matrix is built
+     */
+    public int add(int i, int j, double value) {
+        checkNotBuilt();
+        if (i < 0 || i >= m) {
+            throw new IllegalArgumentException("Bad row index: " + i);
+        }
+        if (j < 0 || j >= n) {
+            throw new IllegalArgumentException("Bad column index: " + j);
+        }
+        tripletRows.add(i);
+        tripletColumns.add(j);
+        tripletValues.add(value);
+        return tripletValues.size() - 1;
+    }
+
+    /**
+     * Build the matrix in compressed column format, sorting the triplets and summing the values of duplicated
+     * elements. It can only be done once.
+     */
+    public SparseMatrix build() {
+        checkNotBuilt();
+        int tripletCount = tripletValues.size();
+        int[] rows = tripletRows.getData();
+        int[] columns = tripletColumns.getData();
+        double[] values = tripletValues.getData();
+
+        // counting sort of the triplets by column, stable so that handles order is kept within a column
+        int[] columnTripletStart = new int[n + 1];
+        for (int t = 0; t < tripletCount; t++) {
+            columnTripletStart[columns[t] + 1]++;
+        }
+        for (int j = 0; j < n; j++) {
+            columnTripletStart[j + 1] += columnTripletStart[j];
+        }
+        int[] sortedTriplets = new int[tripletCount];
+        int[] next = Arrays.copyOf(columnTripletStart, n);
+        for (int t = 0; t < tripletCount; t++) {
+            sortedTriplets[next[columns[t]]++] = t;
+        }
+
+        // then by row within each column, duplicated elements being merged
+        int[] columnStart = new int[n + 1];
+        TIntArrayListHack rowIndices = new TIntArrayListHack(tripletCount);
+        TDoubleArrayListHack elementValues = new TDoubleArrayListHack(tripletCount);
+        valueIndexes = new int[tripletCount];
+        for (int j = 0; j < n; j++) {
+            columnStart[j] = elementValues.size();
+            int first = columnTripletStart[j];
+            int last = columnTripletStart[j + 1];
+            sortByRow(sortedTriplets, first, last, rows);
+            int previousRow = -1;
+            for (int p = first; p < last; p++) {
+                int t = sortedTriplets[p];
+                if (rows[t] != previousRow) {
+                    rowIndices.add(rows[t]);
+                    elementValues.add(values[t]);
+                    previousRow = rows[t];
+                } else {
+                    int lastValue = elementValues.size() - 1;
+                    elementValues.setQuick(lastValue, elementValues.getQuick(lastValue) + values[t]);
+                }
+                valueIndexes[t] = elementValues.size() - 1;
+            }
+        }
+        columnStart[n] = elementValues.size();
+
+        matrix = new SparseMatrix(m, n, columnStart, rowIndices.toArray(), elementValues.toArray());
+        return matrix;
+    }
+
+    /**
+     * Insertion sort of a column, which only has a few elements.
+     */
+    private static void sortByRow(int[] triplets, int first, int last, int[] rows) {
+        for (int p = first + 1; p < last; p++) {
+            int t = triplets[p];
+            int q = p - 1;
+            while (q >= first && rows[triplets[q]] > rows[t]) {
+                triplets[q + 1] = triplets[q];
+                q--;
+            }
+            triplets[q + 1] = t;
+        }
+    }
+
+    /**
+     * Get the built matrix.
+     */
+    public SparseMatrix getMatrix() {
+        checkBuilt();
+        return matrix;
+    }
+
+    /**
+     * Set all the values of the built matrix to zero, keeping its structure.
+     */
+    public void reset() {
+        checkBuilt();
+        Arrays.fill(matrix.getValues(), 0, matrix.getColumnStart()[n], 0);
+    }
+
+    /**
+     * Add a value to the element of a triplet in the built matrix.
+     *
+     * @param handle the handle of the triplet
+     * @param value the value to add
+     */
+    public void addValue(int handle, double value) {
+        checkBuilt();
+        matrix.getValues()[valueIndexes[handle]] += value;
+    }
+
+    /**
+     * Overwrite the value of the element of a triplet in the built matrix, including the values added to this
+     * element by other triplets.
+     *
+     * @param handle the handle of the triplet
+     * @param value the new value
+     */
+    public void setValue(int handle, double value) {
+        checkBuilt();
+        matrix.getValues()[valueIndexes[handle]] = value;
+    }
+}
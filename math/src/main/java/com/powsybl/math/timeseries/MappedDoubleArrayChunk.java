@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.math.timeseries;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An uncompressed double array chunk whose values are read from a {@link MappedDoubleArrayChunkStore}, so that they
+ * are not kept on heap.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class MappedDoubleArrayChunk extends AbstractUncompressedArrayChunk implements DoubleArrayChunk {
+
+    private final MappedDoubleArrayChunkStore store;
+
+    private final long position;
+
+    private final int length;
+
+    MappedDoubleArrayChunk(MappedDoubleArrayChunkStore store, long position, int offset, int length) {
+        super(offset);
+        this.store = Objects.requireNonNull(store);
+        this.position = position;
+        this.length = length;
+    }
+
+    private DoubleBuffer getValues() {
+        return store.getValues(position, length);
+    }
+
+    /**
+     * Load the values on heap.
+     *
+     * @return an uncompressed chunk with the same offset and values
+     */
+    public UncompressedDoubleArrayChunk toUncompressed() {
+        double[] values = new double[length];
+        getValues().get(values);
+        return new UncompressedDoubleArrayChunk(offset, values);
+    }
+
+    @Override
+    public int getLength() {
+        return length;
+    }
+
+    @Override
+    public int getEstimatedSize() {
+        return Double.BYTES * length;
+    }
+
+    @Override
+    public TimeSeriesDataType getDataType() {
+        return TimeSeriesDataType.DOUBLE;
+    }
+
+    @Override
+    public void fillArray(double[] array) {
+        Objects.requireNonNull(array);
+        if ((offset + length) > array.length) {
+            throw new IllegalArgumentException("Incorrect array length");
+        }
+        getValues().get(array, offset, length);
+    }
+
+    @Override
+    public Stream<DoublePoint> stream(TimeSeriesIndex index) {
+        Objects.requireNonNull(index);
+        DoubleBuffer values = getValues();
+        return IntStream.range(0, length).mapToObj(i -> new DoublePoint(offset + i, index.getTimeAt(offset + i), values.get(i)));
+    }
+
+    @Override
+    public Iterator<DoublePoint> iterator(TimeSeriesIndex index) {
+        Objects.requireNonNull(index);
+        DoubleBuffer values = getValues();
+        return new Iterator<DoublePoint>() {
+
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < length;
+            }
+
+            @Override
+            public DoublePoint next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                DoublePoint point = new DoublePoint(offset + i, index.getTimeAt(offset + i), values.get(i));
+                i++;
+                return point;
+            }
+        };
+    }
+
+    @Override
+    protected void writeValuesJson(JsonGenerator generator) throws IOException {
+        DoubleBuffer values = getValues();
+        generator.writeStartArray();
+        for (int i = 0; i < length; i++) {
+            generator.writeNumber(values.get(i));
+        }
+        generator.writeEndArray();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(offset, getValues());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof MappedDoubleArrayChunk) {
+            MappedDoubleArrayChunk other = (MappedDoubleArrayChunk) obj;
+            return offset == other.offset && getValues().equals(other.getValues());
+        }
+        return false;
+    }
+}
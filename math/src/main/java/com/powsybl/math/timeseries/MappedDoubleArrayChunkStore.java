@@ -0,0 +1,173 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.math.timeseries;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A store of double array chunks, whose values are kept off heap in a memory mapped file.
+ *
+ * <p>The file is divided into fixed size segments, a chunk never spanning two segments. Segments are mapped on
+ * demand and only the most recently used ones stay mapped, the operating system paging their content in and out.
+ * Values are stored in native byte order, the file is a local cache and is not meant to be exchanged.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class MappedDoubleArrayChunkStore implements AutoCloseable {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    public static final int DEFAULT_MAX_MAPPED_SEGMENTS = 16;
+
+    private final FileChannel channel;
+
+    private final int segmentSize;
+
+    private final Map<Integer, MappedByteBuffer> mappedSegments;
+
+    // file position of the next chunk
+    private long position = 0;
+
+    private boolean closed = false;
+
+    public MappedDoubleArrayChunkStore(Path file) throws IOException {
+        this(file, DEFAULT_SEGMENT_SIZE, DEFAULT_MAX_MAPPED_SEGMENTS);
+    }
+
+    public MappedDoubleArrayChunkStore(Path file, int segmentSize, int maxMappedSegments) throws IOException {
+        Objects.requireNonNull(file);
+        if (segmentSize < Double.BYTES || segmentSize % Double.BYTES != 0) {
+            throw new IllegalArgumentException("Segment size has to be a multiple of " + Double.BYTES + ": " + segmentSize);
+        }
+        if (maxMappedSegments <= 0) {
+            throw new IllegalArgumentException("Invalid max number of mapped segments: " + maxMappedSegments);
+        }
+        this.segmentSize = segmentSize;
+        mappedSegments = new LinkedHashMap<Integer, MappedByteBuffer>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, MappedByteBuffer> eldest) {
+                // the mapping is released when the buffer is garbage collected
+                return size() > maxMappedSegments;
+            }
+        };
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                                   StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private void checkNotClosed() {
+        if (closed) {
+            throw new TimeSeriesException("Chunk store is closed");
+        }
+    }
+
+    private MappedByteBuffer getSegment(int segment) {
+        return mappedSegments.computeIfAbsent(segment, s -> {
+            try {
+                return channel.map(FileChannel.MapMode.READ_WRITE, (long) s * segmentSize, segmentSize);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Get a view of the values of a chunk, mapping its segment if needed.
+     */
+    synchronized DoubleBuffer getValues(long chunkPosition, int length) {
+        checkNotClosed();
+        MappedByteBuffer segment = getSegment((int) (chunkPosition / segmentSize));
+        int begin = (int) (chunkPosition % segmentSize);
+        // duplicate so that concurrent readers do not share position and limit
+        ByteBuffer buffer = segment.duplicate();
+        buffer.position(begin);
+        buffer.limit(begin + length * Double.BYTES);
+        return buffer.slice()
+                .order(ByteOrder.nativeOrder())
+                .asDoubleBuffer();
+    }
+
+    /**
+     * Copy values to the store.
+     *
+     * @param offset the chunk offset in the time series index
+     * @param values the values
+     * @return a chunk reading its values from the store
+     */
+    public synchronized MappedDoubleArrayChunk add(int offset, double[] values) {
+        Objects.requireNonNull(values);
+        checkNotClosed();
+        long size = (long) values.length * Double.BYTES;
+        if (size > segmentSize) {
+            throw new IllegalArgumentException("Chunk of " + values.length + " values does not fit in a segment of "
+                    + segmentSize + " bytes");
+        }
+        // move to next segment if the chunk does not fit in the remaining part of the current one
+        if (position % segmentSize + size > segmentSize) {
+            position = (position / segmentSize + 1) * segmentSize;
+        }
+        long chunkPosition = position;
+        getValues(chunkPosition, values.length).put(values);
+        position += size;
+        return new MappedDoubleArrayChunk(this, chunkPosition, offset, values.length);
+    }
+
+    /**
+     * Copy the values of a chunk to the store.
+     *
+     * @param chunk the chunk
+     * @return a chunk reading its values from the store
+     */
+    public MappedDoubleArrayChunk add(DoubleArrayChunk chunk) {
+        Objects.requireNonNull(chunk);
+        double[] values;
+        if (chunk instanceof UncompressedDoubleArrayChunk) {
+            values = ((UncompressedDoubleArrayChunk) chunk).getValues();
+        } else if (chunk instanceof CompressedDoubleArrayChunk) {
+            CompressedDoubleArrayChunk compressedChunk = (CompressedDoubleArrayChunk) chunk;
+            values = new double[chunk.getLength()];
+            int k = 0;
+            for (int i = 0; i < compressedChunk.getStepValues().length; i++) {
+                int stepLength = compressedChunk.getStepLengths()[i];
+                Arrays.fill(values, k, k + stepLength, compressedChunk.getStepValues()[i]);
+                k += stepLength;
+            }
+        } else {
+            double[] array = new double[chunk.getOffset() + chunk.getLength()];
+            chunk.fillArray(array);
+            values = Arrays.copyOfRange(array, chunk.getOffset(), array.length);
+        }
+        return add(chunk.getOffset(), values);
+    }
+
+    /**
+     * Get the number of bytes used in the store file.
+     */
+    public synchronized long getSize() {
+        return position;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            mappedSegments.clear();
+            channel.close();
+        }
+    }
+}
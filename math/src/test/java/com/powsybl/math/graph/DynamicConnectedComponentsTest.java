@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.math.graph;
+
+import com.powsybl.commons.PowsyblException;
+import gnu.trove.list.array.TIntArrayList;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class DynamicConnectedComponentsTest {
+
+    @Test
+    public void test() {
+        DynamicConnectedComponents components = new DynamicConnectedComponents();
+        int v0 = components.addVertex();
+        int v1 = components.addVertex();
+        int v2 = components.addVertex();
+        assertEquals(3, components.getComponentCount());
+
+        int e01 = components.addEdge(v0, v1);
+        int e12 = components.addEdge(v1, v2);
+        assertEquals(1, components.getComponentCount());
+        assertEquals(components.getComponentNumber(v0), components.getComponentNumber(v2));
+        assertEquals(3, components.getComponentSize(components.getComponentNumber(v0)));
+
+        // parallel edge, removing one of them does not split the component
+        int e12b = components.addEdge(v1, v2);
+        components.removeEdge(e12);
+        assertEquals(1, components.getComponentCount());
+
+        components.clearChanges();
+        components.removeEdge(e12b);
+        assertEquals(2, components.getComponentCount());
+        assertNotEquals(components.getComponentNumber(v1), components.getComponentNumber(v2));
+        // only the smallest part has been relabelled
+        assertEquals(1, components.getChangedVertices().cardinality());
+        assertTrue(components.getChangedVertices().get(v2));
+
+        int[] orderedNumbers = components.getOrderedComponentNumbers();
+        assertEquals(0, orderedNumbers[components.getComponentNumber(v0)]);
+        assertEquals(1, orderedNumbers[components.getComponentNumber(v2)]);
+
+        components.removeVertex(v1);
+        assertEquals(2, components.getComponentCount());
+        assertEquals(2, components.getVertexCount());
+        assertEquals(0, components.getEdgeCount());
+        try {
+            components.removeEdge(e01);
+            fail();
+        } catch (PowsyblException ignored) {
+        }
+        try {
+            components.getComponentNumber(v1);
+            fail();
+        } catch (PowsyblException ignored) {
+        }
+
+        // vertex number is recycled
+        assertEquals(v1, components.addVertex());
+    }
+
+    @Test
+    public void orderingTest() {
+        DynamicConnectedComponents components = new DynamicConnectedComponents();
+        int[] v = new int[4];
+        for (int i = 0; i < v.length; i++) {
+            v[i] = components.addVertex();
+        }
+        int c1 = components.getComponentNumber(v[1]);
+        int c2 = components.getComponentNumber(v[2]);
+        components.clearChanges();
+
+        // the grown component is only swapped with the first one of the same former size
+        components.addEdge(v[2], v[3]);
+        assertEquals(c2, components.getComponentNumber(v[3]));
+        assertEquals(0, components.getOrderedComponentNumber(c2));
+        assertEquals(1, components.getOrderedComponentNumber(c1));
+        assertEquals(2, components.getOrderedComponentNumber(components.getComponentNumber(v[0])));
+        assertFalse(components.getChangedComponents().get(c1));
+        assertEquals(3, components.getChangedComponents().cardinality());
+    }
+
+    @Test
+    public void initFromAdjacencyListTest() {
+        TIntArrayList[] adjacencyList = new TIntArrayList[4];
+        for (int i = 0; i < adjacencyList.length; i++) {
+            adjacencyList[i] = new TIntArrayList();
+        }
+        adjacencyList[1].add(2);
+        adjacencyList[2].add(1);
+        adjacencyList[2].add(3);
+        adjacencyList[3].add(2);
+        DynamicConnectedComponents components = new DynamicConnectedComponents(adjacencyList);
+        assertEquals(2, components.getComponentCount());
+        assertEquals(2, components.getEdgeCount());
+        assertEquals(1, components.getComponentNumber(0));
+        assertEquals(0, components.getComponentNumber(1));
+        assertEquals(0, components.getComponentNumber(3));
+        assertArrayEquals(new int[] {0, 1}, components.getOrderedComponentNumbers());
+        assertTrue(components.getChangedVertices().isEmpty());
+    }
+
+    /**
+     * Check random modifications against a full computation.
+     */
+    @Test
+    public void randomTest() {
+        Random random = new Random(0);
+        DynamicConnectedComponents components = new DynamicConnectedComponents();
+        for (int i = 0; i < 50; i++) {
+            components.addVertex();
+        }
+        List<int[]> edges = new ArrayList<>();
+        TIntArrayList edgeIds = new TIntArrayList();
+        for (int i = 0; i < 2000; i++) {
+            if (edges.isEmpty() || random.nextInt(3) > 0) {
+                int[] edge = {random.nextInt(50), random.nextInt(50)};
+                edges.add(edge);
+                edgeIds.add(components.addEdge(edge[0], edge[1]));
+            } else {
+                int j = random.nextInt(edges.size());
+                edges.remove(j);
+                components.removeEdge(edgeIds.removeAt(j));
+            }
+            if (edges.size() > 60) {
+                edges.remove(0);
+                components.removeEdge(edgeIds.removeAt(0));
+            }
+
+            TIntArrayList[] adjacencyList = new TIntArrayList[50];
+            for (int v = 0; v < adjacencyList.length; v++) {
+                adjacencyList[v] = new TIntArrayList();
+            }
+            for (int[] edge : edges) {
+                adjacencyList[edge[0]].add(edge[1]);
+                adjacencyList[edge[1]].add(edge[0]);
+            }
+            GraphUtil.ConnectedComponentsComputationResult result = GraphUtil.computeConnectedComponents(adjacencyList);
+            assertEquals(result.getComponentSize().length, components.getComponentCount());
+            for (int v1 = 0; v1 < 50; v1++) {
+                for (int v2 = v1 + 1; v2 < 50; v2++) {
+                    assertEquals(result.getComponentNumber()[v1] == result.getComponentNumber()[v2],
+                                 components.getComponentNumber(v1) == components.getComponentNumber(v2));
+                }
+            }
+            // ordered numbers are consistent with the sizes of the full computation
+            int[] orderedNumbers = components.getOrderedComponentNumbers();
+            for (int v = 0; v < 50; v++) {
+                int c = components.getComponentNumber(v);
+                assertEquals(result.getComponentSize()[orderedNumbers[c]], components.getComponentSize(c));
+                assertEquals(orderedNumbers[c], components.getOrderedComponentNumber(c));
+            }
+        }
+    }
+}
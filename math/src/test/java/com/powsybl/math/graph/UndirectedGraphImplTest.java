@@ -10,10 +10,13 @@ import gnu.trove.list.array.TIntArrayList;
 import org.junit.After;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -145,4 +148,38 @@ public class UndirectedGraphImplTest {
         assertArrayEquals(paths.get(1).toArray(), new int[] {0, 3, 5});
         assertArrayEquals(paths.get(2).toArray(), new int[] {1, 4, 5});
     }
+
+    @Test
+    public void testTraverse() {
+        graph.addVertex();
+        graph.addVertex();
+        graph.addVertex();
+        graph.addVertex();
+        graph.addEdge(0, 1, "a"); // 0
+        graph.addEdge(1, 1, "loop"); // 1
+        graph.addEdge(0, 1, "b"); // 2
+        graph.addEdge(1, 2, "c"); // 3
+        assertEquals(Arrays.asList("a", "b"), graph.getEdgeObjects(0, 1));
+        assertEquals(Arrays.asList("loop", "loop"), graph.getEdgeObjects(1, 1));
+
+        TIntArrayList traversedEdges = new TIntArrayList();
+        graph.traverse(0, (v1, e, v2) -> {
+            traversedEdges.add(e);
+            return TraverseResult.CONTINUE;
+        });
+        assertArrayEquals(new int[] {0, 3}, traversedEdges.toArray());
+
+        // adjacency is updated after a modification of the graph
+        graph.addEdge(2, 3, "d");
+        traversedEdges.clear();
+        boolean[] encountered = new boolean[graph.getMaxVertex()];
+        graph.traverse(0, (v1, e, v2) -> {
+            traversedEdges.add(e);
+            return e == 3 ? TraverseResult.TERMINATE : TraverseResult.CONTINUE;
+        }, encountered);
+        assertArrayEquals(new int[] {0, 3}, traversedEdges.toArray());
+        assertTrue(encountered[1]);
+        assertFalse(encountered[2]);
+        assertFalse(encountered[3]);
+    }
 }
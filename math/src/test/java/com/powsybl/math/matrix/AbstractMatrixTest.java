@@ -91,6 +91,39 @@ public abstract class AbstractMatrixTest {
         return bos.toString(StandardCharsets.UTF_8.name());
     }
 
+    protected Matrix createDecomposable(double factor) {
+        Matrix matrix = getMatrixFactory().create(3, 3, 6);
+        matrix.setValue(0, 0, 2 * factor);
+        matrix.setValue(1, 0, 1 * factor);
+        matrix.setValue(1, 1, 3 * factor);
+        matrix.setValue(2, 1, 1 * factor);
+        matrix.setValue(0, 2, 1 * factor);
+        matrix.setValue(2, 2, 4 * factor);
+        return matrix;
+    }
+
+    @Test
+    public void testDecomposeUpdate() {
+        try (LUDecomposition decomposition = createDecomposable(1).decomposeLU()) {
+            double[] x = {5, 7, 14};
+            decomposition.solve(x);
+            assertArrayEquals(new double[] {1, 2, 3}, x, EPSILON);
+
+            // same structure, values are doubled so the solution is divided by 2
+            decomposition.update(createDecomposable(2));
+            double[] x2 = {5, 7, 14};
+            decomposition.solve(x2);
+            assertArrayEquals(new double[] {0.5, 1, 1.5}, x2, EPSILON);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecomposeUpdateBadDimension() {
+        try (LUDecomposition decomposition = createDecomposable(1).decomposeLU()) {
+            decomposition.update(getMatrixFactory().create(2, 2, 0));
+        }
+    }
+
     @Test
     public void testDecompose() throws Exception {
         Matrix matrix = getMatrixFactory().create(5, 5, 12);
@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.math.matrix;
+
+import com.powsybl.commons.PowsyblException;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class JavaSparseLUDecompositionTest {
+
+    private static final double EPSILON = Math.pow(10, -10);
+
+    /**
+     * Create a non symmetric matrix with the structure of a square grid, diagonally dominant.
+     */
+    static SparseMatrix createGrid(int gridSize, double factor) {
+        int size = gridSize * gridSize;
+        SparseMatrix matrix = new SparseMatrix(size, size, 5 * size);
+        for (int j = 0; j < size; j++) {
+            if (j >= gridSize) {
+                matrix.setValue(j - gridSize, j, -1 * factor);
+            }
+            if (j % gridSize > 0) {
+                matrix.setValue(j - 1, j, -0.5 * factor);
+            }
+            matrix.setValue(j, j, (4 + j % 3) * factor);
+            if (j % gridSize < gridSize - 1) {
+                matrix.setValue(j + 1, j, -1.5 * factor);
+            }
+            if (j + gridSize < size) {
+                matrix.setValue(j + gridSize, j, -1 * factor);
+            }
+        }
+        return matrix;
+    }
+
+    private static double[] times(Matrix matrix, double[] x) {
+        double[] b = new double[matrix.getM()];
+        matrix.iterateNonZeroValue((i, j, value) -> b[i] += value * x[j]);
+        return b;
+    }
+
+    private static double[] createSolution(int size) {
+        double[] x = new double[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = 1 + i % 7;
+        }
+        return x;
+    }
+
+    @Test
+    public void testGrid() {
+        SparseMatrix matrix = createGrid(100, 1);
+        double[] expected = createSolution(matrix.getN());
+        double[] x = times(matrix, expected);
+        try (LUDecomposition decomposition = new JavaSparseLUDecomposition(matrix)) {
+            decomposition.solve(x);
+        }
+        assertArrayEquals(expected, x, EPSILON);
+    }
+
+    @Test
+    public void testSolveDense() {
+        SparseMatrix matrix = createGrid(5, 1);
+        double[] expected = createSolution(matrix.getN());
+        double[] b = times(matrix, expected);
+        DenseMatrix x = new DenseMatrix(matrix.getN(), 2);
+        for (int i = 0; i < matrix.getN(); i++) {
+            x.setValue(i, 0, b[i]);
+            x.setValue(i, 1, 2 * b[i]);
+        }
+        try (LUDecomposition decomposition = new JavaSparseLUDecomposition(matrix)) {
+            decomposition.solve(x);
+        }
+        for (int i = 0; i < matrix.getN(); i++) {
+            assertEquals(expected[i], x.getValue(i, 0), EPSILON);
+            assertEquals(2 * expected[i], x.getValue(i, 1), EPSILON);
+        }
+    }
+
+    @Test
+    public void testPivoting() {
+        // zero diagonal, rows have to be swapped
+        SparseMatrix matrix = new SparseMatrix(3, 3, 4);
+        matrix.setValue(1, 0, 2);
+        matrix.setValue(0, 1, 3);
+        matrix.setValue(2, 1, 1);
+        matrix.setValue(2, 2, 4);
+        double[] x = {6, 2, 14};
+        try (LUDecomposition decomposition = new JavaSparseLUDecomposition(matrix)) {
+            decomposition.solve(x);
+        }
+        assertArrayEquals(new double[] {1, 2, 3}, x, EPSILON);
+    }
+
+    @Test(expected = PowsyblException.class)
+    public void testSingular() {
+        SparseMatrix matrix = new SparseMatrix(2, 2, 4);
+        matrix.setValue(0, 0, 1);
+        matrix.setValue(1, 0, 2);
+        matrix.setValue(0, 1, 2);
+        matrix.setValue(1, 1, 4);
+        new JavaSparseLUDecomposition(matrix);
+    }
+
+    @Test(expected = PowsyblException.class)
+    public void testEmptyColumn() {
+        SparseMatrix matrix = new SparseMatrix(2, 2, 1);
+        matrix.setValue(0, 1, 1);
+        new JavaSparseLUDecomposition(matrix);
+    }
+
+    @Test
+    public void testUpdateAndShare() {
+        SparseMatrix matrix = createGrid(10, 1);
+        SparseMatrix matrix2 = createGrid(10, 2);
+        double[] expected = createSolution(matrix.getN());
+        try (LUDecomposition decomposition = matrix.decomposeLU(new JavaSparseLUDecomposition(matrix2))) {
+            double[] x = times(matrix, expected);
+            decomposition.solve(x);
+            assertArrayEquals(expected, x, EPSILON);
+
+            decomposition.update(matrix2);
+            double[] x2 = times(matrix2, expected);
+            decomposition.solve(x2);
+            assertArrayEquals(expected, x2, EPSILON);
+        }
+    }
+
+    @Test
+    public void testRefactorPivoting() {
+        SparseMatrix matrix = new SparseMatrix(3, 3, 4);
+        matrix.setValue(1, 0, 2);
+        matrix.setValue(0, 1, 3);
+        matrix.setValue(2, 1, 1);
+        matrix.setValue(2, 2, 4);
+        try (LUDecomposition decomposition = new JavaSparseLUDecomposition(matrix)) {
+            // values updated in place, the pivoting is kept
+            double[] values = matrix.getValues();
+            for (int p = 0; p < 4; p++) {
+                values[p] *= 2;
+            }
+            decomposition.update(matrix);
+            double[] x = {12, 4, 28};
+            decomposition.solve(x);
+            assertArrayEquals(new double[] {1, 2, 3}, x, EPSILON);
+        }
+    }
+
+    @Test(expected = PowsyblException.class)
+    public void testRefactorSingular() {
+        SparseMatrix matrix = createGrid(3, 1);
+        try (LUDecomposition decomposition = new JavaSparseLUDecomposition(matrix)) {
+            decomposition.update(createGrid(3, 0));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testShareDifferentStructure() {
+        createGrid(5, 1).decomposeLU(new JavaSparseLUDecomposition(createGrid(4, 1)));
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.math.matrix;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class MinimumDegreeOrderingTest {
+
+    @Test
+    public void testArrow() {
+        // first row and column are full, eliminating them first would fill the whole matrix
+        int n = 5;
+        SparseMatrix matrix = new SparseMatrix(n, n, 3 * n);
+        for (int j = 0; j < n; j++) {
+            if (j == 0) {
+                for (int i = 0; i < n; i++) {
+                    matrix.setValue(i, j, 1);
+                }
+            } else {
+                matrix.setValue(0, j, 1);
+                matrix.setValue(j, j, 1);
+            }
+        }
+        int[] order = MinimumDegreeOrdering.order(n, matrix.getColumnStart(), matrix.getRowIndices());
+        // once the last but one leaf is eliminated, the center and the last leaf have the same degree
+        assertArrayEquals(new int[] {1, 2, 3, 0, 4}, order);
+    }
+
+    @Test
+    public void testPermutation() {
+        SparseMatrix matrix = JavaSparseLUDecompositionTest.createGrid(20, 1);
+        int[] order = MinimumDegreeOrdering.order(matrix.getN(), matrix.getColumnStart(), matrix.getRowIndices());
+        int[] sorted = order.clone();
+        Arrays.sort(sorted);
+        assertArrayEquals(IntStream.range(0, matrix.getN()).toArray(), sorted);
+    }
+
+    @Test
+    public void testEmpty() {
+        assertEquals(0, MinimumDegreeOrdering.order(0, new int[] {0}, new int[0]).length);
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.math.matrix;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class SparseMatrixBuilderTest {
+
+    private static final double EPSILON = Math.pow(10, -10);
+
+    @Test
+    public void testBuild() {
+        SparseMatrixBuilder builder = new SparseMatrixBuilder(3, 4, 6);
+        builder.add(2, 1, 5);
+        builder.add(0, 0, 1);
+        builder.add(1, 3, 2);
+        builder.add(0, 1, 3);
+        builder.add(2, 1, 1);
+        builder.add(2, 0, 4);
+        SparseMatrix matrix = builder.build();
+        assertSame(matrix, builder.getMatrix());
+
+        // column 2 is empty, duplicated (2, 1) element is summed
+        SparseMatrix expected = new SparseMatrix(3, 4, new int[] {0, 2, 4, 4, 5}, new int[] {0, 2, 0, 2, 1},
+                                                 new double[] {1, 4, 3, 6, 2});
+        assertEquals(expected, matrix);
+    }
+
+    @Test
+    public void testUpdate() {
+        SparseMatrixBuilder builder = new SparseMatrixBuilder(2, 2, 5);
+        int h00 = builder.add(0, 0, 1);
+        int h11 = builder.add(1, 1, 1);
+        int h10 = builder.add(1, 0, 1);
+        int h00b = builder.add(0, 0, 1);
+        int h01 = builder.add(0, 1, 1);
+        SparseMatrix matrix = builder.build();
+
+        try (LUDecomposition decomposition = matrix.decomposeLU()) {
+            double[] x = {5, 4};
+            decomposition.solve(x);
+            assertArrayEquals(new double[] {1, 3}, x, EPSILON);
+
+            builder.reset();
+            builder.addValue(h00, 2);
+            builder.addValue(h00b, 2);
+            builder.addValue(h11, 3);
+            builder.addValue(h10, 1);
+            builder.addValue(h01, 1);
+            decomposition.update(matrix);
+            double[] x2 = {6, 7};
+            decomposition.solve(x2);
+            assertArrayEquals(new double[] {1, 2}, x2, EPSILON);
+
+            // overwrite summed value of (0, 0)
+            builder.setValue(h00b, 1);
+            decomposition.update(matrix);
+            double[] x3 = {3, 7};
+            decomposition.solve(x3);
+            assertArrayEquals(new double[] {1, 2}, x3, EPSILON);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAddAfterBuild() {
+        SparseMatrixBuilder builder = new SparseMatrixBuilder(1, 1, 1);
+        builder.build();
+        builder.add(0, 0, 1);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUpdateBeforeBuild() {
+        SparseMatrixBuilder builder = new SparseMatrixBuilder(1, 1, 1);
+        builder.addValue(builder.add(0, 0, 1), 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadIndex() {
+        new SparseMatrixBuilder(2, 2, 1).add(0, 2, 1);
+    }
+}
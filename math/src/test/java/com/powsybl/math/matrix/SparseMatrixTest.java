@@ -10,7 +10,7 @@ import org.junit.Test;
 
 import java.io.IOException;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 import static org.junit.Assume.assumeTrue;
 
 /**
@@ -38,10 +38,58 @@ public class SparseMatrixTest extends AbstractMatrixTest {
         super.testMultiplication();
     }
 
-    @Override
-    public void testDecompose() throws Exception {
+    @Test
+    public void testNativeDecomposition() {
         assumeTrue(SparseMatrix.NATIVE_INIT);
-        super.testDecompose();
+        SparseMatrix matrix = (SparseMatrix) createDecomposable(1);
+        try (LUDecomposition decomposition = matrix.decomposeLU();
+             LUDecomposition decomposition2 = matrix.decomposeLU(decomposition)) {
+            // the native library is loaded, the Java implementation must not be used
+            assertTrue(decomposition instanceof SparseLUDecomposition);
+            assertTrue(decomposition2 instanceof SparseLUDecomposition);
+        }
+    }
+
+    @Test
+    public void testDecomposeShared() {
+        SparseMatrix matrix = (SparseMatrix) createDecomposable(1);
+        SparseMatrix matrix2 = (SparseMatrix) createDecomposable(2);
+        try (LUDecomposition decomposition = matrix.decomposeLU();
+             LUDecomposition decomposition2 = matrix2.decomposeLU(decomposition)) {
+            // the shared analysis has to remain valid after the first decomposition is closed
+            decomposition.close();
+            double[] x = {5, 7, 14};
+            decomposition2.solve(x);
+            assertArrayEquals(new double[] {0.5, 1, 1.5}, x, EPSILON);
+        }
+    }
+
+    @Test
+    public void testDecomposeReleased() {
+        LUDecomposition decomposition = createDecomposable(1).decomposeLU();
+        decomposition.close();
+        // closing twice is allowed
+        decomposition.close();
+        try {
+            decomposition.solve(new double[] {5, 7, 14});
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
+    @Test
+    public void testSameStructure() {
+        SparseMatrix matrix = (SparseMatrix) createDecomposable(1);
+        assertTrue(matrix.hasSameStructure((SparseMatrix) createDecomposable(2)));
+        assertFalse(matrix.hasSameStructure((SparseMatrix) createA(matrixFactory)));
+        SparseMatrix other = new SparseMatrix(3, 3, 6);
+        other.setValue(0, 0, 2);
+        other.setValue(1, 0, 1);
+        other.setValue(1, 1, 3);
+        other.setValue(2, 1, 1);
+        other.setValue(1, 2, 1);
+        other.setValue(2, 2, 4);
+        assertFalse(matrix.hasSameStructure(other));
     }
 
     @Test
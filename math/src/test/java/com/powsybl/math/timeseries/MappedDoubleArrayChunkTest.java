@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.math.timeseries;
+
+import com.google.common.collect.Iterators;
+import com.powsybl.commons.json.JsonUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.threeten.extra.Interval;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class MappedDoubleArrayChunkTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private MappedDoubleArrayChunkStore store;
+
+    @Before
+    public void setUp() throws IOException {
+        // small segments to test chunk placement and segment eviction
+        store = new MappedDoubleArrayChunkStore(folder.newFile().toPath(), 64, 2);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        store.close();
+    }
+
+    @Test
+    public void baseTest() {
+        UncompressedDoubleArrayChunk uncompressedChunk = new UncompressedDoubleArrayChunk(1, new double[] {1d, 2d, 3d});
+        MappedDoubleArrayChunk chunk = store.add(uncompressedChunk);
+        assertEquals(1, chunk.getOffset());
+        assertEquals(3, chunk.getLength());
+        assertEquals(24, chunk.getEstimatedSize());
+        assertFalse(chunk.isCompressed());
+        assertEquals(1d, chunk.getCompressionFactor(), 0d);
+        assertEquals(TimeSeriesDataType.DOUBLE, chunk.getDataType());
+        assertEquals(uncompressedChunk, chunk.toUncompressed());
+        assertEquals(chunk, store.add(1, new double[] {1d, 2d, 3d}));
+        assertNotEquals(chunk, store.add(1, new double[] {1d, 2d, 4d}));
+        double[] array = new double[4];
+        Arrays.fill(array, Double.NaN);
+        chunk.fillArray(array);
+        assertArrayEquals(new double[] {Double.NaN, 1d, 2d, 3d}, array, 0d);
+        assertEquals(JsonUtil.toJson(uncompressedChunk::writeJson), JsonUtil.toJson(chunk::writeJson));
+        RegularTimeSeriesIndex index = RegularTimeSeriesIndex.create(Interval.parse("2015-01-01T00:00:00Z/2015-01-01T00:45:00Z"),
+                                                                     Duration.ofMinutes(15), 1, 1);
+        assertEquals(uncompressedChunk.stream(index).collect(Collectors.toList()), chunk.stream(index).collect(Collectors.toList()));
+        assertEquals(uncompressedChunk.stream(index).collect(Collectors.toList()), Arrays.asList(Iterators.toArray(chunk.iterator(index), DoublePoint.class)));
+    }
+
+    @Test
+    public void compressedChunkTest() {
+        MappedDoubleArrayChunk chunk = store.add(new CompressedDoubleArrayChunk(2, 5, new double[] {1d, 2d}, new int[] {2, 3}));
+        assertEquals(new UncompressedDoubleArrayChunk(2, new double[] {1d, 1d, 2d, 2d, 2d}), chunk.toUncompressed());
+    }
+
+    @Test
+    public void timeSeriesTest() {
+        RegularTimeSeriesIndex index = RegularTimeSeriesIndex.create(Interval.parse("2015-01-01T00:00:00Z/2015-01-01T23:45:00Z"),
+                                                                     Duration.ofMinutes(15), 1, 1);
+        TimeSeriesMetadata metadata = new TimeSeriesMetadata("ts1", TimeSeriesDataType.DOUBLE, Collections.emptyMap(), index);
+        double[] values = new double[index.getPointCount()];
+        List<DoubleArrayChunk> chunks = new ArrayList<>();
+        // chunks of 5 values (40 bytes), only one per segment of 64 bytes, and more segments than mapped ones
+        for (int offset = 0; offset < values.length; offset += 5) {
+            double[] chunkValues = new double[Math.min(5, values.length - offset)];
+            for (int i = 0; i < chunkValues.length; i++) {
+                chunkValues[i] = offset + i;
+                values[offset + i] = offset + i;
+            }
+            chunks.add(store.add(offset, chunkValues));
+        }
+        // the last chunk of 1 value fits after the previous one
+        assertEquals(64L * (chunks.size() - 2) + 48, store.getSize());
+        StoredDoubleTimeSeries timeSeries = new StoredDoubleTimeSeries(metadata, chunks);
+        assertArrayEquals(values, timeSeries.toArray(), 0d);
+        assertEquals(values.length, timeSeries.stream().count());
+        assertEquals(values[50], Iterators.get(timeSeries.iterator(), 50).getValue(), 0d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tooLargeChunkTest() {
+        store.add(0, new double[9]);
+    }
+
+    @Test
+    public void closedTest() throws IOException {
+        MappedDoubleArrayChunk chunk = store.add(0, new double[] {1d});
+        store.close();
+        try {
+            chunk.fillArray(new double[1]);
+            fail();
+        } catch (TimeSeriesException ignored) {
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.security;
+
+import com.powsybl.iidm.network.*;
+
+import java.util.*;
+
+/**
+ * Limits of a network gathered once in flat arrays, so that the limits of the many states of
+ * a security analysis can be checked with a loop over the current flows only, without walking
+ * the network and its current limits again for each state.
+ * <p>
+ * Branch sides and voltage levels without limits are not indexed at all. The index has to be
+ * built again if the limits are changed or if branches or voltage levels are added or removed.
+ * It is immutable and can be shared by threads checking different states.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public final class LimitCheckIndex {
+
+    // branch sides with a permanent limit, in the same order as Security.checkLimits
+    private final String[] branchIds;
+
+    private final Branch.Side[] sides;
+
+    private final Terminal[] terminals;
+
+    private final float[] permanentLimits;
+
+    // temporary limits of side k are in [temporaryLimitOffsets[k], temporaryLimitOffsets[k + 1]), ascending
+    private final int[] temporaryLimitOffsets;
+
+    private final float[] temporaryLimitValues;
+
+    private final int[] temporaryLimitDurations;
+
+    // voltage levels with a low or a high voltage limit
+    private final VoltageLevel[] voltageLevels;
+
+    private final float[] lowVoltageLimits;
+
+    private final float[] highVoltageLimits;
+
+    public LimitCheckIndex(Network network) {
+        Objects.requireNonNull(network);
+
+        List<Branch> branches = new ArrayList<>();
+        network.getLines().forEach(branches::add);
+        network.getTwoWindingsTransformers().forEach(branches::add);
+
+        List<String> ids = new ArrayList<>();
+        List<Branch.Side> sideList = new ArrayList<>();
+        List<Terminal> terminalList = new ArrayList<>();
+        List<CurrentLimits> limitsList = new ArrayList<>();
+        int temporaryLimitCount = 0;
+        for (Branch branch : branches) {
+            for (Branch.Side side : Branch.Side.values()) {
+                CurrentLimits limits = branch.getCurrentLimits(side);
+                if (limits != null && !Float.isNaN(limits.getPermanentLimit())) {
+                    ids.add(branch.getId());
+                    sideList.add(side);
+                    terminalList.add(branch.getTerminal(side));
+                    limitsList.add(limits);
+                    temporaryLimitCount += limits.getTemporaryLimits().size();
+                }
+            }
+        }
+
+        int size = ids.size();
+        branchIds = ids.toArray(new String[size]);
+        sides = sideList.toArray(new Branch.Side[size]);
+        terminals = terminalList.toArray(new Terminal[size]);
+        permanentLimits = new float[size];
+        temporaryLimitOffsets = new int[size + 1];
+        temporaryLimitValues = new float[temporaryLimitCount];
+        temporaryLimitDurations = new int[temporaryLimitCount];
+        int t = 0;
+        for (int k = 0; k < size; k++) {
+            CurrentLimits limits = limitsList.get(k);
+            permanentLimits[k] = limits.getPermanentLimit();
+            temporaryLimitOffsets[k] = t;
+            for (CurrentLimits.TemporaryLimit tl : limits.getTemporaryLimits()) { // ascending order
+                temporaryLimitValues[t] = tl.getValue();
+                temporaryLimitDurations[t] = tl.getAcceptableDuration();
+                t++;
+            }
+        }
+        temporaryLimitOffsets[size] = t;
+
+        List<VoltageLevel> vls = new ArrayList<>();
+        for (VoltageLevel vl : network.getVoltageLevels()) {
+            if (!Float.isNaN(vl.getLowVoltageLimit()) || !Float.isNaN(vl.getHighVoltageLimit())) {
+                vls.add(vl);
+            }
+        }
+        voltageLevels = vls.toArray(new VoltageLevel[vls.size()]);
+        lowVoltageLimits = new float[vls.size()];
+        highVoltageLimits = new float[vls.size()];
+        for (int k = 0; k < voltageLevels.length; k++) {
+            lowVoltageLimits[k] = voltageLevels[k].getLowVoltageLimit();
+            highVoltageLimits[k] = voltageLevels[k].getHighVoltageLimit();
+        }
+    }
+
+    /**
+     * Get the number of indexed branch sides, i.e having a permanent current limit.
+     */
+    public int getBranchSideCount() {
+        return branchIds.length;
+    }
+
+    /**
+     * Get the number of indexed voltage levels, i.e having a low or a high voltage limit.
+     */
+    public int getVoltageLevelCount() {
+        return voltageLevels.length;
+    }
+
+    /**
+     * Check the limits of the working state of the network. The violations are the same, and in
+     * the same order, as the ones of {@link Security#checkLimits(Network, Set, float)}.
+     */
+    public List<LimitViolation> checkLimits(Set<Security.CurrentLimitType> currentLimitTypes, float limitReduction) {
+        Objects.requireNonNull(currentLimitTypes);
+        // allow to increase the limits
+        if (limitReduction <= 0) {
+            throw new IllegalArgumentException("Bad limit reduction " + limitReduction);
+        }
+        boolean checkTatl = currentLimitTypes.contains(Security.CurrentLimitType.TATL);
+        boolean checkPatl = currentLimitTypes.contains(Security.CurrentLimitType.PATL);
+
+        List<LimitViolation> violations = new ArrayList<>();
+        for (int k = 0; k < branchIds.length; k++) {
+            float i = terminals[k].getI();
+            if (Float.isNaN(i)) {
+                continue;
+            }
+            if (checkTatl) {
+                // find the first temporary limit not reached, the previous one being overloaded
+                float previousLimit = permanentLimits[k];
+                int overload = -1;
+                for (int t = temporaryLimitOffsets[k]; t < temporaryLimitOffsets[k + 1]; t++) {
+                    if (i >= previousLimit * limitReduction && i < temporaryLimitValues[t] * limitReduction) {
+                        overload = t;
+                        break;
+                    }
+                    previousLimit = temporaryLimitValues[t];
+                }
+                if (overload != -1) {
+                    violations.add(new LimitViolation(branchIds[k], LimitViolationType.CURRENT, Security.getLimitName(temporaryLimitDurations[overload]),
+                                                      previousLimit, limitReduction, i, sides[k]));
+                    continue;
+                }
+            }
+            if (checkPatl && i >= permanentLimits[k] * limitReduction) {
+                violations.add(new LimitViolation(branchIds[k], LimitViolationType.CURRENT, Security.getLimitName(Integer.MAX_VALUE),
+                                                  permanentLimits[k], limitReduction, i, sides[k]));
+            }
+        }
+
+        for (int k = 0; k < voltageLevels.length; k++) {
+            VoltageLevel vl = voltageLevels[k];
+            float lowVoltageLimit = lowVoltageLimits[k];
+            float highVoltageLimit = highVoltageLimits[k];
+            if (!Float.isNaN(lowVoltageLimit)) {
+                for (Bus b : vl.getBusView().getBuses()) {
+                    float v = b.getV();
+                    if (!Float.isNaN(v) && v < lowVoltageLimit) {
+                        violations.add(new LimitViolation(vl.getId(), LimitViolationType.LOW_VOLTAGE, lowVoltageLimit, 1, v));
+                    }
+                }
+            }
+            if (!Float.isNaN(highVoltageLimit)) {
+                for (Bus b : vl.getBusView().getBuses()) {
+                    float v = b.getV();
+                    if (!Float.isNaN(v) && v > highVoltageLimit) {
+                        violations.add(new LimitViolation(vl.getId(), LimitViolationType.HIGH_VOLTAGE, highVoltageLimit, 1, v));
+                    }
+                }
+            }
+        }
+        return violations;
+    }
+
+    public List<LimitViolation> checkLimits(float limitReduction) {
+        return checkLimits(EnumSet.allOf(Security.CurrentLimitType.class), limitReduction);
+    }
+
+    public List<LimitViolation> checkLimits() {
+        return checkLimits(1f);
+    }
+}
@@ -60,42 +60,6 @@ public final class Security {
         }
     }
 
-    private static void checkPermanentLimit(Branch branch, Branch.Side side, float limitReduction, List<LimitViolation> violations) {
-        if (branch.checkPermanentLimit(side, limitReduction)) {
-            violations.add(new LimitViolation(branch.getId(),
-                LimitViolationType.CURRENT,
-                PERMANENT_LIMIT_NAME,
-                branch.getCurrentLimits(side).getPermanentLimit(),
-                limitReduction,
-                branch.getTerminal(side).getI(),
-                side));
-        }
-    }
-
-    private static void checkCurrentLimits(Branch branch, Branch.Side side, Set<CurrentLimitType> currentLimitTypes,
-                                           float limitReduction, List<LimitViolation> violations) {
-        Branch.Overload o1 = branch.checkTemporaryLimits(side, limitReduction);
-        if (currentLimitTypes.contains(CurrentLimitType.TATL) && (o1 != null)) {
-            violations.add(new LimitViolation(branch.getId(),
-                LimitViolationType.CURRENT,
-                getLimitName(o1.getTemporaryLimit().getAcceptableDuration()),
-                o1.getPreviousLimit(),
-                limitReduction,
-                branch.getTerminal(side).getI(),
-                side));
-        } else if (currentLimitTypes.contains(CurrentLimitType.PATL)) {
-            checkPermanentLimit(branch, side, limitReduction, violations);
-        }
-    }
-
-    private static void checkCurrentLimits(Iterable<? extends Branch> branches, Set<CurrentLimitType> currentLimitTypes,
-                                           float limitReduction, List<LimitViolation> violations) {
-        for (Branch branch : branches) {
-            checkCurrentLimits(branch, Branch.Side.ONE, currentLimitTypes, limitReduction, violations);
-            checkCurrentLimits(branch, Branch.Side.TWO, currentLimitTypes, limitReduction, violations);
-        }
-    }
-
     public static List<LimitViolation> checkLimits(Network network) {
         return checkLimits(network, EnumSet.allOf(CurrentLimitType.class), 1f);
     }
@@ -111,36 +75,7 @@ public final class Security {
 
     public static List<LimitViolation> checkLimits(Network network, Set<CurrentLimitType> currentLimitTypes, float limitReduction) {
         Objects.requireNonNull(network);
-        Objects.requireNonNull(currentLimitTypes);
-        //if (limitReduction <= 0 || limitReduction > 1) {
-        // allow to increase the limits
-        if (limitReduction <= 0) {
-            throw new IllegalArgumentException("Bad limit reduction " + limitReduction);
-        }
-        List<LimitViolation> violations = new ArrayList<>();
-        checkCurrentLimits(network.getLines(), currentLimitTypes, limitReduction, violations);
-        checkCurrentLimits(network.getTwoWindingsTransformers(), currentLimitTypes, limitReduction, violations);
-        for (VoltageLevel vl : network.getVoltageLevels()) {
-            if (!Float.isNaN(vl.getLowVoltageLimit())) {
-                for (Bus b : vl.getBusView().getBuses()) {
-                    if (!Float.isNaN(b.getV())) {
-                        if (b.getV() < vl.getLowVoltageLimit()) {
-                            violations.add(new LimitViolation(vl.getId(), LimitViolationType.LOW_VOLTAGE, vl.getLowVoltageLimit(), 1, b.getV()));
-                        }
-                    }
-                }
-            }
-            if (!Float.isNaN(vl.getHighVoltageLimit())) {
-                for (Bus b : vl.getBusView().getBuses()) {
-                    if (!Float.isNaN(b.getV())) {
-                        if (b.getV() > vl.getHighVoltageLimit()) {
-                            violations.add(new LimitViolation(vl.getId(), LimitViolationType.HIGH_VOLTAGE, vl.getHighVoltageLimit(), 1, b.getV()));
-                        }
-                    }
-                }
-            }
-        }
-        return violations;
+        return new LimitCheckIndex(network).checkLimits(currentLimitTypes, limitReduction);
     }
 
     public static String printLimitsViolations(Network network) {
@@ -230,6 +165,12 @@ public final class Security {
     public static void printPreContingencyViolations(SecurityAnalysisResult result, Writer writer, TableFormatterFactory formatterFactory,
                                                      TableFormatterConfig formatterConfig, LimitViolationFilter limitViolationFilter) {
         Objects.requireNonNull(result);
+        printPreContingencyViolations(result.getPreContingencyResult(), writer, formatterFactory, formatterConfig, limitViolationFilter);
+    }
+
+    private static void printPreContingencyViolations(LimitViolationsResult preContingencyResult, Writer writer, TableFormatterFactory formatterFactory,
+                                                      TableFormatterConfig formatterConfig, LimitViolationFilter limitViolationFilter) {
+        Objects.requireNonNull(preContingencyResult);
         Objects.requireNonNull(writer);
         Objects.requireNonNull(formatterFactory);
         Objects.requireNonNull(formatterConfig);
@@ -253,7 +194,7 @@ public final class Security {
                 new Column("Loading rate %")
                     .setHorizontalAlignment(HorizontalAlignment.RIGHT)
                     .setNumberFormat(percentageFormat))) {
-            for (String action : result.getPreContingencyResult().getActionsTaken()) {
+            for (String action : preContingencyResult.getActionsTaken()) {
                 formatter.writeCell(action)
                         .writeEmptyCell()
                         .writeEmptyCell()
@@ -263,8 +204,8 @@ public final class Security {
                         .writeEmptyCell();
             }
             List<LimitViolation> filteredLimitViolations = limitViolationFilter != null
-                    ? limitViolationFilter.apply(result.getPreContingencyResult().getLimitViolations())
-                    : result.getPreContingencyResult().getLimitViolations();
+                    ? limitViolationFilter.apply(preContingencyResult.getLimitViolations())
+                    : preContingencyResult.getLimitViolations();
             filteredLimitViolations.stream()
                     .sorted(Comparator.comparing(LimitViolation::getSubjectId))
                     .forEach(writeLinePreContingencyViolations(formatter));
@@ -367,34 +308,9 @@ public final class Security {
         Objects.requireNonNull(writer);
         Objects.requireNonNull(formatterFactory);
         if (!result.getPostContingencyResults().isEmpty()) {
-            Set<LimitViolationKey> preContingencyViolations = filterPreContingencyViolations
-                    ? result.getPreContingencyResult().getLimitViolations()
-                            .stream()
-                            .map(Security::toKey)
-                            .collect(Collectors.toSet())
-                    : Collections.emptySet();
-
-            NumberFormat numberFormat = getFormatter(formatterConfig.getLocale());
-            NumberFormat percentageFormat = getPercentageFormatter(formatterConfig.getLocale());
-
-            try (TableFormatter formatter = formatterFactory.create(writer,
-                    "Post-contingency limit violations",
-                    formatterConfig,
-                    new Column("Contingency"),
-                    new Column("Status"),
-                    new Column("Action"),
-                    new Column("Equipment"),
-                    new Column("Violation type"),
-                    new Column("Violation name"),
-                    new Column("Value")
-                        .setHorizontalAlignment(HorizontalAlignment.RIGHT)
-                        .setNumberFormat(numberFormat),
-                    new Column("Limit")
-                        .setHorizontalAlignment(HorizontalAlignment.RIGHT)
-                        .setNumberFormat(numberFormat),
-                    new Column("Loading rate %")
-                        .setHorizontalAlignment(HorizontalAlignment.RIGHT)
-                        .setNumberFormat(percentageFormat))) {
+            Set<LimitViolationKey> preContingencyViolations = getPreContingencyViolationKeys(result.getPreContingencyResult(), filterPreContingencyViolations);
+
+            try (TableFormatter formatter = createPostContingencyViolationsFormatter(writer, formatterFactory, formatterConfig)) {
                 result.getPostContingencyResults()
                         .stream()
                         .sorted(Comparator.comparing(o2 -> o2.getContingency().getId()))
@@ -405,6 +321,109 @@ public final class Security {
         }
     }
 
+    private static Set<LimitViolationKey> getPreContingencyViolationKeys(LimitViolationsResult preContingencyResult, boolean filterPreContingencyViolations) {
+        return filterPreContingencyViolations
+                ? preContingencyResult.getLimitViolations()
+                        .stream()
+                        .map(Security::toKey)
+                        .collect(Collectors.toSet())
+                : Collections.emptySet();
+    }
+
+    private static TableFormatter createPostContingencyViolationsFormatter(Writer writer, TableFormatterFactory formatterFactory,
+                                                                           TableFormatterConfig formatterConfig) {
+        NumberFormat numberFormat = getFormatter(formatterConfig.getLocale());
+        NumberFormat percentageFormat = getPercentageFormatter(formatterConfig.getLocale());
+
+        return formatterFactory.create(writer,
+                "Post-contingency limit violations",
+                formatterConfig,
+                new Column("Contingency"),
+                new Column("Status"),
+                new Column("Action"),
+                new Column("Equipment"),
+                new Column("Violation type"),
+                new Column("Violation name"),
+                new Column("Value")
+                    .setHorizontalAlignment(HorizontalAlignment.RIGHT)
+                    .setNumberFormat(numberFormat),
+                new Column("Limit")
+                    .setHorizontalAlignment(HorizontalAlignment.RIGHT)
+                    .setNumberFormat(numberFormat),
+                new Column("Loading rate %")
+                    .setHorizontalAlignment(HorizontalAlignment.RIGHT)
+                    .setNumberFormat(percentageFormat));
+    }
+
+    /**
+     * Printer of the violations tables fed by a running security analysis: the pre-contingency
+     * table is written as soon as it is received and the post-contingency one row by row, in
+     * the completion order of the contingencies instead of the contingency id order.
+     */
+    private static final class ViolationsPrinter implements SecurityAnalysisResultSink {
+
+        private final Writer writer;
+
+        private final TableFormatterFactory formatterFactory;
+
+        private final TableFormatterConfig formatterConfig;
+
+        private final LimitViolationFilter limitViolationFilter;
+
+        private final boolean filterPreContingencyViolations;
+
+        private Set<LimitViolationKey> preContingencyViolations;
+
+        private TableFormatter postContingencyFormatter;
+
+        private ViolationsPrinter(Writer writer, TableFormatterFactory formatterFactory, TableFormatterConfig formatterConfig,
+                                  LimitViolationFilter limitViolationFilter, boolean filterPreContingencyViolations) {
+            this.writer = Objects.requireNonNull(writer);
+            this.formatterFactory = Objects.requireNonNull(formatterFactory);
+            this.formatterConfig = Objects.requireNonNull(formatterConfig);
+            this.limitViolationFilter = limitViolationFilter;
+            this.filterPreContingencyViolations = filterPreContingencyViolations;
+        }
+
+        @Override
+        public void onPreContingencyResult(LimitViolationsResult preContingencyResult) {
+            printPreContingencyViolations(preContingencyResult, writer, formatterFactory, formatterConfig, limitViolationFilter);
+            preContingencyViolations = getPreContingencyViolationKeys(preContingencyResult, filterPreContingencyViolations);
+        }
+
+        @Override
+        public void onPostContingencyResult(PostContingencyResult postContingencyResult) {
+            if (preContingencyViolations == null) {
+                throw new IllegalStateException("Pre-contingency result has not been received");
+            }
+            // like for the in memory printing, no table at all if there is no contingency
+            if (postContingencyFormatter == null) {
+                postContingencyFormatter = createPostContingencyViolationsFormatter(writer, formatterFactory, formatterConfig);
+            }
+            writePostContingencyResult(limitViolationFilter, preContingencyViolations, postContingencyFormatter).accept(postContingencyResult);
+        }
+
+        @Override
+        public void onEnd() {
+            if (postContingencyFormatter != null) {
+                try {
+                    postContingencyFormatter.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Create a sink printing the pre and post-contingency violations tables while the security
+     * analysis is running.
+     */
+    public static SecurityAnalysisResultSink createViolationsPrinter(Writer writer, TableFormatterFactory formatterFactory, TableFormatterConfig formatterConfig,
+                                                                     LimitViolationFilter limitViolationFilter, boolean filterPreContingencyViolations) {
+        return new ViolationsPrinter(writer, formatterFactory, formatterConfig, limitViolationFilter, filterPreContingencyViolations);
+    }
+
     private static Consumer<? super PostContingencyResult> writePostContingencyResult(LimitViolationFilter limitViolationFilter,
         Set<LimitViolationKey> preContingencyViolations, TableFormatter formatter) {
         return postContingencyResult -> {
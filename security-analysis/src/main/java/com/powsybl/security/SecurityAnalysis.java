@@ -9,6 +9,7 @@ package com.powsybl.security;
 import com.powsybl.contingency.ContingenciesProvider;
 import com.powsybl.loadflow.LoadFlowParameters;
 
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -21,4 +22,17 @@ public interface SecurityAnalysis {
     CompletableFuture<SecurityAnalysisResult> runAsync(ContingenciesProvider contingenciesProvider, String workingStateId);
 
     CompletableFuture<SecurityAnalysisResult> runAsync(ContingenciesProvider contingenciesProvider);
+
+    /**
+     * Run the security analysis and push the results to a sink instead of returning them.
+     * The default implementation runs the analysis in memory and then pushes the whole
+     * result, implementations should override it to push each post-contingency result
+     * as soon as it is available.
+     */
+    default CompletableFuture<Void> runAsync(ContingenciesProvider contingenciesProvider, String workingStateId, LoadFlowParameters parameters,
+                                             SecurityAnalysisResultSink sink) {
+        Objects.requireNonNull(sink);
+        return runAsync(contingenciesProvider, workingStateId, parameters)
+                .thenAccept(result -> SecurityAnalysisResultCollector.replay(result, sink));
+    }
 }
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.security;
+
+import com.powsybl.commons.config.ModuleConfig;
+import com.powsybl.commons.config.PlatformConfig;
+
+import java.util.Objects;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class SecurityAnalysisConfig {
+
+    private static final int DEFAULT_MAX_CONCURRENT_CONTINGENCIES = Runtime.getRuntime().availableProcessors();
+
+    public static SecurityAnalysisConfig load() {
+        return load(PlatformConfig.defaultConfig());
+    }
+
+    public static SecurityAnalysisConfig load(PlatformConfig platformConfig) {
+        Objects.requireNonNull(platformConfig);
+
+        int maxConcurrentContingencies = DEFAULT_MAX_CONCURRENT_CONTINGENCIES;
+        ModuleConfig config = platformConfig.getModuleConfigIfExists("security-analysis");
+        if (config != null) {
+            maxConcurrentContingencies = config.getIntProperty("max-concurrent-contingencies", DEFAULT_MAX_CONCURRENT_CONTINGENCIES);
+        }
+        return new SecurityAnalysisConfig(maxConcurrentContingencies);
+    }
+
+    private int maxConcurrentContingencies;
+
+    public SecurityAnalysisConfig() {
+        this(DEFAULT_MAX_CONCURRENT_CONTINGENCIES);
+    }
+
+    public SecurityAnalysisConfig(int maxConcurrentContingencies) {
+        this.maxConcurrentContingencies = checkMaxConcurrentContingencies(maxConcurrentContingencies);
+    }
+
+    private static int checkMaxConcurrentContingencies(int maxConcurrentContingencies) {
+        if (maxConcurrentContingencies < 1) {
+            throw new IllegalArgumentException("Invalid max concurrent contingencies: " + maxConcurrentContingencies);
+        }
+        return maxConcurrentContingencies;
+    }
+
+    /**
+     * Maximum number of contingencies simulated at the same time, which is also
+     * the number of working states allocated for the simulation of the contingencies.
+     */
+    public int getMaxConcurrentContingencies() {
+        return maxConcurrentContingencies;
+    }
+
+    public SecurityAnalysisConfig setMaxConcurrentContingencies(int maxConcurrentContingencies) {
+        this.maxConcurrentContingencies = checkMaxConcurrentContingencies(maxConcurrentContingencies);
+        return this;
+    }
+}
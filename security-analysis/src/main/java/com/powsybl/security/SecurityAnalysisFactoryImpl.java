@@ -25,6 +25,6 @@ public class SecurityAnalysisFactoryImpl implements SecurityAnalysisFactory {
     public SecurityAnalysis create(Network network, LimitViolationFilter filter, ComputationManager computationManager, int priority) {
         ComponentDefaultConfig defaultConfig = ComponentDefaultConfig.load();
         LoadFlowFactory loadFlowFactory = defaultConfig.newFactoryImpl(LoadFlowFactory.class);
-        return new SecurityAnalysisImpl(network, filter, computationManager, loadFlowFactory);
+        return new SecurityAnalysisImpl(network, filter, computationManager, loadFlowFactory, SecurityAnalysisConfig.load());
     }
 }
@@ -14,12 +14,11 @@ import com.powsybl.contingency.Contingency;
 import com.powsybl.loadflow.LoadFlow;
 import com.powsybl.loadflow.LoadFlowFactory;
 import com.powsybl.loadflow.LoadFlowParameters;
-import com.powsybl.loadflow.LoadFlowResult;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.BiFunction;
-import java.util.function.Supplier;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -34,35 +33,172 @@ public class SecurityAnalysisImpl implements SecurityAnalysis {
 
     private final LoadFlowFactory loadFlowFactory;
 
+    private final SecurityAnalysisConfig config;
+
     public SecurityAnalysisImpl(Network network, ComputationManager computationManager, LoadFlowFactory loadFlowFactory) {
         this(network, new LimitViolationFilter(), computationManager, loadFlowFactory);
     }
 
     public SecurityAnalysisImpl(Network network, LimitViolationFilter filter, ComputationManager computationManager, LoadFlowFactory loadFlowFactory) {
+        this(network, filter, computationManager, loadFlowFactory, new SecurityAnalysisConfig());
+    }
+
+    public SecurityAnalysisImpl(Network network, LimitViolationFilter filter, ComputationManager computationManager,
+                                LoadFlowFactory loadFlowFactory, SecurityAnalysisConfig config) {
         this.network = Objects.requireNonNull(network);
         this.filter = Objects.requireNonNull(filter);
         this.computationManager = Objects.requireNonNull(computationManager);
         this.loadFlowFactory = Objects.requireNonNull(loadFlowFactory);
+        this.config = Objects.requireNonNull(config);
     }
 
-    private List<LimitViolation> checkLimits(Network network) {
-        List<LimitViolation> violations = Security.checkLimits(network, 1f);
+    private List<LimitViolation> checkLimits(LimitCheckIndex limitCheckIndex) {
+        List<LimitViolation> violations = limitCheckIndex.checkLimits(1f);
 
         return filter.apply(violations, network);
     }
 
+    /**
+     * Run the post-contingency load flows with a bounded number of contingencies in
+     * progress. Each worker owns a working state, allocated once and reset from
+     * the base state before each contingency, and processes contingencies one
+     * after the other until there are no more. So the number of states, and so the
+     * memory, does not depend on the number of contingencies.
+     */
+    private final class PostContingencyRunner {
+
+        private final List<Contingency> contingencies;
+
+        private final String baseStateId;
+
+        private final LoadFlow loadFlow;
+
+        private final LoadFlowParameters parameters;
+
+        private final LimitCheckIndex limitCheckIndex;
+
+        private final SecurityAnalysisResultSink sink;
+
+        private final Object sinkLock = new Object();
+
+        private final AtomicInteger nextContingency = new AtomicInteger();
+
+        private final AtomicInteger runningWorkers = new AtomicInteger();
+
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        private final List<String> stateIds = new ArrayList<>();
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private PostContingencyRunner(List<Contingency> contingencies, String baseStateId, LoadFlow loadFlow,
+                                      LoadFlowParameters parameters, LimitCheckIndex limitCheckIndex, SecurityAnalysisResultSink sink) {
+            this.contingencies = contingencies;
+            this.baseStateId = baseStateId;
+            this.loadFlow = loadFlow;
+            this.parameters = parameters;
+            this.limitCheckIndex = limitCheckIndex;
+            this.sink = sink;
+        }
+
+        private CompletableFuture<Void> run() {
+            int workerCount = Math.min(config.getMaxConcurrentContingencies(), contingencies.size());
+            if (workerCount == 0) {
+                return CompletableFuture.completedFuture(null);
+            }
+            String hash = UUID.randomUUID().toString();
+            for (int i = 0; i < workerCount; i++) {
+                stateIds.add(hash + "_" + i);
+            }
+            network.getStateManager().cloneState(baseStateId, stateIds);
+            runningWorkers.set(workerCount);
+            for (String stateId : stateIds) {
+                computationManager.getExecutor().execute(() -> runNext(stateId));
+            }
+            return future;
+        }
+
+        private void runNext(String stateId) {
+            // loop while contingencies are simulated synchronously, to not grow the stack
+            while (true) {
+                int i = nextContingency.getAndIncrement();
+                if (i >= contingencies.size() || failure.get() != null) {
+                    workerDone();
+                    return;
+                }
+                CompletableFuture<Void> contingencyFuture = runContingency(contingencies.get(i), stateId);
+                if (!contingencyFuture.isDone()) {
+                    contingencyFuture.whenCompleteAsync((aVoid, throwable) -> {
+                        setFailure(throwable);
+                        runNext(stateId);
+                    }, computationManager.getExecutor());
+                    return;
+                }
+                setFailure(contingencyFuture.handle((aVoid, throwable) -> throwable).join());
+            }
+        }
+
+        private void setFailure(Throwable throwable) {
+            if (throwable != null) {
+                failure.compareAndSet(null, throwable);
+            }
+        }
+
+        private void workerDone() {
+            if (runningWorkers.decrementAndGet() == 0) {
+                for (String stateId : stateIds) {
+                    network.getStateManager().removeState(stateId);
+                }
+                if (failure.get() != null) {
+                    future.completeExceptionally(failure.get());
+                } else {
+                    future.complete(null);
+                }
+            }
+        }
+
+        private CompletableFuture<Void> runContingency(Contingency contingency, String stateId) {
+            return CompletableFuture
+                    .runAsync(() -> {
+                        // reset the worker state to the base state
+                        network.getStateManager().cloneState(baseStateId, stateId, true);
+                        network.getStateManager().setWorkingState(stateId);
+
+                        // apply the contingency on the network
+                        contingency.toTask().modify(network, computationManager);
+                    }, computationManager.getExecutor())
+                    .thenComposeAsync(aVoid -> loadFlow.runAsync(stateId, parameters), computationManager.getExecutor())
+                    .thenAcceptAsync(loadFlowResult -> {
+                        network.getStateManager().setWorkingState(stateId);
+
+                        PostContingencyResult result = new PostContingencyResult(contingency,
+                                                                                 loadFlowResult.isOk(),
+                                                                                 checkLimits(limitCheckIndex));
+                        // results are pushed as soon as they are available, one at a time
+                        synchronized (sinkLock) {
+                            sink.onPostContingencyResult(result);
+                        }
+                    }, computationManager.getExecutor());
+        }
+    }
+
     @Override
     public CompletableFuture<SecurityAnalysisResult> runAsync(ContingenciesProvider contingenciesProvider, String workingStateId, LoadFlowParameters parameters) {
+        SecurityAnalysisResultCollector collector = new SecurityAnalysisResultCollector();
+        return runAsync(contingenciesProvider, workingStateId, parameters, collector)
+                .thenApply(aVoid -> collector.getResult());
+    }
+
+    @Override
+    public CompletableFuture<Void> runAsync(ContingenciesProvider contingenciesProvider, String workingStateId, LoadFlowParameters parameters,
+                                            SecurityAnalysisResultSink sink) {
         Objects.requireNonNull(contingenciesProvider);
         Objects.requireNonNull(workingStateId);
         Objects.requireNonNull(parameters);
+        Objects.requireNonNull(sink);
 
         LoadFlow loadFlow = loadFlowFactory.create(network, computationManager, 0);
 
-        final boolean[] preContingencyComputationOk = new boolean[1];
-        final List<LimitViolation> preContingencyLimitViolations = new ArrayList<>();
-        final List<PostContingencyResult> postContingencyResults = Collections.synchronizedList(new ArrayList<>());
-
         // start post contingency LF from pre-contingency state variables
         LoadFlowParameters postContParameters = parameters.copy().setVoltageInitMode(LoadFlowParameters.VoltageInitMode.PREVIOUS_VALUES);
 
@@ -70,59 +206,26 @@ public class SecurityAnalysisImpl implements SecurityAnalysis {
                 .thenComposeAsync(loadFlowResult -> {
                     network.getStateManager().setWorkingState(workingStateId);
 
-                    preContingencyComputationOk[0] = loadFlowResult.isOk();
-
-                    CompletableFuture<Void>[] futures;
+                    CompletableFuture<Void> future;
 
                     if (loadFlowResult.isOk()) {
-                        preContingencyLimitViolations.addAll(checkLimits(network));
+                        // limits are indexed once for the pre and all the post-contingency states
+                        LimitCheckIndex limitCheckIndex = new LimitCheckIndex(network);
 
-                        List<Contingency> contingencies = contingenciesProvider.getContingencies(network);
-
-                        futures = new CompletableFuture[contingencies.size()];
-
-                        String hash = UUID.randomUUID().toString();
-                        for (int i = 0; i < contingencies.size(); i++) {
-                            Contingency contingency = contingencies.get(i);
-
-                            String postContStateId = hash + "_" + contingency.getId();
-
-                            // run one loadflow per contingency
-                            futures[i] = CompletableFuture
-                                    .supplyAsync(new Supplier<Void>() {
-                                        @Override
-                                        public Void get() {
-                                            network.getStateManager().cloneState(StateManager.INITIAL_STATE_ID, postContStateId);
-                                            network.getStateManager().setWorkingState(postContStateId);
-
-                                            // apply the contingency on the network
-                                            contingency.toTask().modify(network, computationManager);
+                        sink.onPreContingencyResult(new LimitViolationsResult(true, checkLimits(limitCheckIndex)));
 
-                                            return null;
-                                        }
-                                    }, computationManager.getExecutor())
-                                    .thenComposeAsync(aVoid -> loadFlow.runAsync(postContStateId, postContParameters), computationManager.getExecutor())
-                                    .handleAsync(new BiFunction<LoadFlowResult, Throwable, Void>() {
-                                        @Override
-                                        public Void apply(LoadFlowResult loadFlowResult, Throwable throwable) {
-                                            network.getStateManager().setWorkingState(postContStateId);
-
-                                            postContingencyResults.add(new PostContingencyResult(contingency,
-                                                                                                    loadFlowResult.isOk(),
-                                                                                                    checkLimits(network)));
-
-                                            network.getStateManager().removeState(postContStateId);
+                        List<Contingency> contingencies = contingenciesProvider.getContingencies(network);
 
-                                            return null;
-                                        }
-                                    }, computationManager.getExecutor());
-                        }
+                        // run one loadflow per contingency
+                        future = new PostContingencyRunner(contingencies, workingStateId, loadFlow, postContParameters, limitCheckIndex, sink)
+                                .run();
                     } else {
-                        futures = new CompletableFuture[0];
+                        sink.onPreContingencyResult(new LimitViolationsResult(false, Collections.emptyList()));
+
+                        future = CompletableFuture.completedFuture(null);
                     }
 
-                    return CompletableFuture.allOf(futures)
-                            .thenApplyAsync(aVoid -> new SecurityAnalysisResult(new LimitViolationsResult(preContingencyComputationOk[0], preContingencyLimitViolations), postContingencyResults));
+                    return future.thenRun(sink::onEnd);
                 }, computationManager.getExecutor());
     }
 
@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.security;
+
+import com.powsybl.commons.PowsyblException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A sink that keeps all the results in memory to build a {@link SecurityAnalysisResult}.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class SecurityAnalysisResultCollector implements SecurityAnalysisResultSink {
+
+    private LimitViolationsResult preContingencyResult;
+
+    private final List<PostContingencyResult> postContingencyResults = new ArrayList<>();
+
+    @Override
+    public void onPreContingencyResult(LimitViolationsResult preContingencyResult) {
+        this.preContingencyResult = preContingencyResult;
+    }
+
+    @Override
+    public void onPostContingencyResult(PostContingencyResult postContingencyResult) {
+        postContingencyResults.add(postContingencyResult);
+    }
+
+    @Override
+    public void onEnd() {
+        // nothing to do
+    }
+
+    public SecurityAnalysisResult getResult() {
+        if (preContingencyResult == null) {
+            throw new PowsyblException("Pre-contingency result has not been received");
+        }
+        return new SecurityAnalysisResult(preContingencyResult, postContingencyResults);
+    }
+
+    /**
+     * Push a complete result to a sink.
+     */
+    public static void replay(SecurityAnalysisResult result, SecurityAnalysisResultSink sink) {
+        sink.onPreContingencyResult(result.getPreContingencyResult());
+        result.getPostContingencyResults().forEach(sink::onPostContingencyResult);
+        sink.onEnd();
+    }
+}
@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.security;
+
+/**
+ * Receive the results of a security analysis as soon as they are available, so that
+ * they can be written without keeping all of them in memory.
+ * <p>
+ * The pre-contingency result is always received first, then the post-contingency
+ * results in their completion order and finally the end of the analysis. Calls are
+ * never concurrent, so an implementation does not need to be thread safe.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public interface SecurityAnalysisResultSink {
+
+    void onPreContingencyResult(LimitViolationsResult preContingencyResult);
+
+    void onPostContingencyResult(PostContingencyResult postContingencyResult);
+
+    /**
+     * Called once all the post-contingency results have been received. Not called if
+     * the analysis fails.
+     */
+    void onEnd();
+}
@@ -7,6 +7,7 @@
 package com.powsybl.security;
 
 import com.google.auto.service.AutoService;
+import com.google.common.io.Closer;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.import_.Importers;
 import com.powsybl.iidm.network.Network;
@@ -19,12 +20,17 @@ import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 
+import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -128,18 +134,73 @@ public class SecurityAnalysisTool implements Tool {
         limitViolationFilter.setViolationTypes(limitViolationTypes);
 
         SecurityAnalyzer analyzer = new SecurityAnalyzer(limitViolationFilter, context.getComputationManager(), 0);
-        SecurityAnalysisResult result = analyzer.analyze(network, contingenciesFile);
 
-        if (!result.getPreContingencyResult().isComputationOk()) {
+        // results are written as soon as they are available
+        Path output = outputFile;
+        String outputFormat = format;
+        ConvergedResultSink sink;
+        try (Closer closer = Closer.create()) {
+            sink = new ConvergedResultSink(() -> {
+                Writer writer;
+                if (output != null) {
+                    context.getOutputStream().println("Writing results to '" + output + "'");
+                    try {
+                        writer = closer.register(Files.newBufferedWriter(output));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                } else {
+                    // To avoid the closing of System.out
+                    writer = new OutputStreamWriter(context.getOutputStream());
+                    closer.register(writer::flush);
+                }
+                return SecurityAnalysisResultExporters.createSink(network, writer, output != null ? outputFormat : "ASCII");
+            });
+            analyzer.analyze(network, contingenciesFile, sink);
+        }
+
+        if (!sink.isPreContingencyComputationOk()) {
             context.getErrorStream().println("Pre-contingency state divergence");
-        } else {
-            if (outputFile != null) {
-                context.getOutputStream().println("Writing results to '" + outputFile + "'");
-                SecurityAnalysisResultExporters.export(result, network, outputFile, format);
-            } else {
-                // To avoid the closing of System.out
-                Writer writer = new OutputStreamWriter(context.getOutputStream());
-                SecurityAnalysisResultExporters.export(result, network, writer, "ASCII");
+        }
+    }
+
+    /**
+     * Forward the results to the sink created once the pre-contingency computation has converged,
+     * nothing being written otherwise.
+     */
+    private static final class ConvergedResultSink implements SecurityAnalysisResultSink {
+
+        private final Supplier<SecurityAnalysisResultSink> sinkSupplier;
+
+        private SecurityAnalysisResultSink sink;
+
+        private ConvergedResultSink(Supplier<SecurityAnalysisResultSink> sinkSupplier) {
+            this.sinkSupplier = Objects.requireNonNull(sinkSupplier);
+        }
+
+        private boolean isPreContingencyComputationOk() {
+            return sink != null;
+        }
+
+        @Override
+        public void onPreContingencyResult(LimitViolationsResult preContingencyResult) {
+            if (preContingencyResult.isComputationOk()) {
+                sink = sinkSupplier.get();
+                sink.onPreContingencyResult(preContingencyResult);
+            }
+        }
+
+        @Override
+        public void onPostContingencyResult(PostContingencyResult postContingencyResult) {
+            if (sink != null) {
+                sink.onPostContingencyResult(postContingencyResult);
+            }
+        }
+
+        @Override
+        public void onEnd() {
+            if (sink != null) {
+                sink.onEnd();
             }
         }
     }
@@ -14,6 +14,8 @@ import com.powsybl.contingency.ContingenciesProviderFactory;
 import com.powsybl.contingency.EmptyContingencyListProvider;
 import com.powsybl.iidm.import_.Importers;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.StateManager;
+import com.powsybl.loadflow.LoadFlowParameters;
 
 import java.io.InputStream;
 import java.nio.file.Path;
@@ -48,22 +50,43 @@ public class SecurityAnalyzer {
     }
 
     public SecurityAnalyzer(LimitViolationFilter filter, ComputationManager computationManager, int priority) {
+        this(filter, computationManager, priority, ComponentDefaultConfig.load());
+    }
+
+    private SecurityAnalyzer(LimitViolationFilter filter, ComputationManager computationManager, int priority,
+                             ComponentDefaultConfig defaultConfig) {
+        this(filter, computationManager, priority, defaultConfig.newFactoryImpl(SecurityAnalysisFactory.class),
+             defaultConfig.newFactoryImpl(ContingenciesProviderFactory.class));
+    }
+
+    SecurityAnalyzer(LimitViolationFilter filter, ComputationManager computationManager, int priority,
+                     SecurityAnalysisFactory securityAnalysisFactory, ContingenciesProviderFactory contingenciesProviderFactory) {
         this.filter = Objects.requireNonNull(filter);
         this.computationManager = Objects.requireNonNull(computationManager);
         this.priority = priority;
+        this.securityAnalysisFactory = Objects.requireNonNull(securityAnalysisFactory);
+        this.contingenciesProviderFactory = Objects.requireNonNull(contingenciesProviderFactory);
+    }
 
-        ComponentDefaultConfig defaultConfig = ComponentDefaultConfig.load();
-        securityAnalysisFactory = defaultConfig.newFactoryImpl(SecurityAnalysisFactory.class);
-        contingenciesProviderFactory = defaultConfig.newFactoryImpl(ContingenciesProviderFactory.class);
+    private ContingenciesProvider createContingenciesProvider(Path contingenciesFile) {
+        return contingenciesFile != null
+                ? contingenciesProviderFactory.create(contingenciesFile) : new EmptyContingencyListProvider();
     }
 
     public SecurityAnalysisResult analyze(Network network, Path contingenciesFile) {
         Objects.requireNonNull(network);
 
-        ContingenciesProvider contingenciesProvider = contingenciesFile != null
-                ? contingenciesProviderFactory.create(contingenciesFile) : new EmptyContingencyListProvider();
+        return analyze(network, createContingenciesProvider(contingenciesFile));
+    }
 
-        return analyze(network, contingenciesProvider);
+    /**
+     * Run the security analysis and push the results to a sink as soon as they are available,
+     * so that they can be exported without keeping all of them in memory.
+     */
+    public void analyze(Network network, Path contingenciesFile, SecurityAnalysisResultSink sink) {
+        Objects.requireNonNull(network);
+
+        analyze(network, createContingenciesProvider(contingenciesFile), sink);
     }
 
     public SecurityAnalysisResult analyze(String filename, InputStream networkData, InputStream contingencies) {
@@ -92,4 +115,16 @@ public class SecurityAnalyzer {
         return securityAnalysis.runAsync(contingenciesProvider).join();
     }
 
+    public void analyze(Network network, ContingenciesProvider contingenciesProvider, SecurityAnalysisResultSink sink) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(contingenciesProvider);
+        Objects.requireNonNull(sink);
+
+        network.getStateManager().allowStateMultiThreadAccess(true);
+
+        SecurityAnalysis securityAnalysis = securityAnalysisFactory.create(network, filter, computationManager, priority);
+
+        securityAnalysis.runAsync(contingenciesProvider, StateManager.INITIAL_STATE_ID, LoadFlowParameters.load(), sink).join();
+    }
+
 }
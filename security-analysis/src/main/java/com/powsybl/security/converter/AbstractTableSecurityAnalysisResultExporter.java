@@ -11,6 +11,7 @@ import com.powsybl.commons.io.table.TableFormatterFactory;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.security.Security;
 import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.SecurityAnalysisResultSink;
 
 import java.io.Writer;
 import java.util.Objects;
@@ -38,4 +39,12 @@ public abstract class AbstractTableSecurityAnalysisResultExporter implements Sec
         Security.printPreContingencyViolations(result, writer, tableFormatterFactory, tableFormatterConfig, null);
         Security.printPostContingencyViolations(result, writer, tableFormatterFactory, tableFormatterConfig, null, true);
     }
+
+    @Override
+    public SecurityAnalysisResultSink createSink(Network network, Writer writer) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(writer);
+
+        return Security.createViolationsPrinter(writer, getTableFormatterFactory(), getTableFormatterConfig(), null, true);
+    }
 }
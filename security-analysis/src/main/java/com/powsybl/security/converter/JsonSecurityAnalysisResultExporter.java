@@ -9,6 +9,7 @@ package com.powsybl.security.converter;
 import com.google.auto.service.AutoService;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.SecurityAnalysisResultSink;
 import com.powsybl.security.json.SecurityAnalysisResultSerializer;
 
 import java.io.IOException;
@@ -40,4 +41,13 @@ public class JsonSecurityAnalysisResultExporter implements SecurityAnalysisResul
             throw new UncheckedIOException(e);
         }
     }
+
+    @Override
+    public SecurityAnalysisResultSink createSink(Network network, Writer writer) {
+        try {
+            return SecurityAnalysisResultSerializer.createSink(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -8,8 +8,11 @@ package com.powsybl.security.converter;
 
 import com.powsybl.iidm.network.Network;
 import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.SecurityAnalysisResultCollector;
+import com.powsybl.security.SecurityAnalysisResultSink;
 
 import java.io.Writer;
+import java.util.Objects;
 
 /**
  * @author Mathieu Bague <mathieu.bague@rte-france.com>
@@ -39,4 +42,23 @@ public interface SecurityAnalysisResultExporter {
      */
     void export(SecurityAnalysisResult result, Network network, Writer writer);
 
+    /**
+     * Create a sink exporting the result of a security analysis while it is running. The
+     * default implementation keeps the whole result in memory and exports it at the end.
+     *
+     * @param network The network used for the computation
+     * @param writer The writer used for the export
+     * @return the sink to pass to the security analysis
+     */
+    default SecurityAnalysisResultSink createSink(Network network, Writer writer) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(writer);
+        return new SecurityAnalysisResultCollector() {
+            @Override
+            public void onEnd() {
+                export(getResult(), network, writer);
+            }
+        };
+    }
+
 }
@@ -9,6 +9,7 @@ package com.powsybl.security.converter;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.SecurityAnalysisResultSink;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -57,6 +58,29 @@ public final class SecurityAnalysisResultExporters {
         return null;
     }
 
+    private static SecurityAnalysisResultExporter getExporterOrThrow(String format) {
+        SecurityAnalysisResultExporter exporter = getExporter(format);
+        if (exporter == null) {
+            throw new PowsyblException("Unsupported format: " + format + " [" + getFormats() + "]");
+        }
+        return exporter;
+    }
+
+    /**
+     * Create a sink exporting the result of a security analysis, in the specified format, while it is running.
+     *
+     * @param network The network used for the computation
+     * @param writer The writer used for the export
+     * @param format The export format
+     * @return the sink to pass to the security analysis
+     */
+    public static SecurityAnalysisResultSink createSink(Network network, Writer writer, String format) {
+        Objects.requireNonNull(writer);
+        Objects.requireNonNull(format);
+
+        return getExporterOrThrow(format).createSink(network, writer);
+    }
+
     public static void export(SecurityAnalysisResult result, Network network, Path path, String format) {
         Objects.requireNonNull(path);
 
@@ -72,11 +96,6 @@ public final class SecurityAnalysisResultExporters {
         Objects.requireNonNull(writer);
         Objects.requireNonNull(format);
 
-        SecurityAnalysisResultExporter exporter = getExporter(format);
-        if (exporter == null) {
-            throw new PowsyblException("Unsupported format: " + format + " [" + getFormats() + "]");
-        }
-
-        exporter.export(result, network, writer);
+        getExporterOrThrow(format).export(result, network, writer);
     }
 }
@@ -19,6 +19,7 @@ import com.powsybl.security.*;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.util.Objects;
 
@@ -50,10 +51,7 @@ public class SecurityAnalysisResultSerializer extends StdSerializer<SecurityAnal
         write(result, new OutputStreamWriter(outputStream));
     }
 
-    public static void write(SecurityAnalysisResult result, Writer writer) throws IOException {
-        Objects.requireNonNull(result);
-        Objects.requireNonNull(writer);
-
+    private static ObjectMapper createObjectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
         SimpleModule module = new SimpleModule();
         module.addSerializer(SecurityAnalysisResult.class, new SecurityAnalysisResultSerializer());
@@ -62,9 +60,85 @@ public class SecurityAnalysisResultSerializer extends StdSerializer<SecurityAnal
         module.addSerializer(LimitViolation.class, new LimitViolationSerializer());
         module.addSerializer(ContingencyElement.class, new ContingencyElementSerializer());
         objectMapper.registerModule(module);
+        return objectMapper;
+    }
 
-        ObjectWriter objectWriter = objectMapper.writerWithDefaultPrettyPrinter();
+    public static void write(SecurityAnalysisResult result, Writer writer) throws IOException {
+        Objects.requireNonNull(result);
+        Objects.requireNonNull(writer);
+
+        ObjectWriter objectWriter = createObjectMapper().writerWithDefaultPrettyPrinter();
         objectWriter.writeValue(writer, result);
 
     }
+
+    /**
+     * Writer of the same document as {@link #write(SecurityAnalysisResult, Writer)} fed by a running
+     * security analysis: each post-contingency result is serialized as soon as it is received, in
+     * the completion order of the contingencies.
+     */
+    private static final class JsonSink implements SecurityAnalysisResultSink {
+
+        private final JsonGenerator jsonGenerator;
+
+        private boolean preContingencyResultWritten = false;
+
+        private JsonSink(JsonGenerator jsonGenerator) {
+            this.jsonGenerator = jsonGenerator;
+        }
+
+        @Override
+        public void onPreContingencyResult(LimitViolationsResult preContingencyResult) {
+            try {
+                jsonGenerator.writeStartObject();
+                jsonGenerator.writeStringField("version", VERSION);
+                jsonGenerator.writeObjectField("preContingencyResult", preContingencyResult);
+                jsonGenerator.writeFieldName("postContingencyResults");
+                jsonGenerator.writeStartArray();
+                preContingencyResultWritten = true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void onPostContingencyResult(PostContingencyResult postContingencyResult) {
+            if (!preContingencyResultWritten) {
+                throw new IllegalStateException("Pre-contingency result has not been received");
+            }
+            try {
+                jsonGenerator.writeObject(postContingencyResult);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void onEnd() {
+            if (!preContingencyResultWritten) {
+                throw new IllegalStateException("Pre-contingency result has not been received");
+            }
+            try {
+                jsonGenerator.writeEndArray();
+                jsonGenerator.writeEndObject();
+                // the writer is owned by the caller
+                jsonGenerator.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Create a sink writing the result of a running security analysis in JSON, without keeping the
+     * post-contingency results in memory.
+     */
+    public static SecurityAnalysisResultSink createSink(Writer writer) throws IOException {
+        Objects.requireNonNull(writer);
+
+        JsonGenerator jsonGenerator = createObjectMapper().getFactory().createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .useDefaultPrettyPrinter();
+        return new JsonSink(jsonGenerator);
+    }
 }
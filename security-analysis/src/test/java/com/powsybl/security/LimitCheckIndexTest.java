@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.security;
+
+import com.powsybl.iidm.network.Branch;
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.StateManager;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class LimitCheckIndexTest {
+
+    private Network network;
+
+    @Before
+    public void setUp() {
+        network = EurostagTutorialExample1Factory.create();
+        ((Bus) network.getIdentifiable("NHV1")).setV(380f).getVoltageLevel().setLowVoltageLimit(400f).setHighVoltageLimit(500f);
+        network.getLine("NHV1_NHV2_1").getTerminal1().setP(560f).setQ(550f);
+        network.getLine("NHV1_NHV2_1").newCurrentLimits1()
+            .setPermanentLimit(1100f)
+            .beginTemporaryLimit()
+                .setName("10'")
+                .setAcceptableDuration(10 * 60)
+                .setValue(1200)
+            .endTemporaryLimit()
+            .add();
+        network.getLine("NHV1_NHV2_2").getTerminal1().setP(100f).setQ(100f);
+        network.getLine("NHV1_NHV2_2").newCurrentLimits1().setPermanentLimit(500f).add();
+    }
+
+    @Test
+    public void test() {
+        LimitCheckIndex index = new LimitCheckIndex(network);
+        assertEquals(2, index.getBranchSideCount());
+        assertEquals(1, index.getVoltageLevelCount());
+
+        List<LimitViolation> violations = index.checkLimits();
+        assertEquals(2, violations.size());
+        assertEquals("NHV1_NHV2_1", violations.get(0).getSubjectId());
+        assertEquals("Overload 10'", violations.get(0).getLimitName());
+        assertEquals(Branch.Side.ONE, violations.get(0).getSide());
+        assertEquals(LimitViolationType.LOW_VOLTAGE, violations.get(1).getLimitType());
+
+        // only the permanent limits
+        violations = index.checkLimits(EnumSet.of(Security.CurrentLimitType.PATL), 1f);
+        assertEquals(2, violations.size());
+        assertEquals("Permanent limit", violations.get(0).getLimitName());
+        assertEquals(1100f, violations.get(0).getLimit(), 0f);
+
+        // reduced limits, line NHV1_NHV2_1 current is also above the reduced temporary limit
+        violations = index.checkLimits(0.4f);
+        assertEquals(3, violations.size());
+        assertEquals("Permanent limit", violations.get(0).getLimitName());
+        assertEquals("NHV1_NHV2_1", violations.get(0).getSubjectId());
+        assertEquals("NHV1_NHV2_2", violations.get(1).getSubjectId());
+    }
+
+    @Test
+    public void stateTest() {
+        LimitCheckIndex index = new LimitCheckIndex(network);
+
+        // the same index is used to check the limits of another state
+        network.getStateManager().cloneState(StateManager.INITIAL_STATE_ID, "s");
+        network.getStateManager().setWorkingState("s");
+        network.getLine("NHV1_NHV2_1").getTerminal1().setP(0f).setQ(0f);
+        network.getLine("NHV1_NHV2_2").getTerminal1().setP(1000f).setQ(0f);
+        List<LimitViolation> violations = index.checkLimits();
+        assertEquals(2, violations.size());
+        assertEquals("NHV1_NHV2_2", violations.get(0).getSubjectId());
+
+        network.getStateManager().setWorkingState(StateManager.INITIAL_STATE_ID);
+        assertEquals("NHV1_NHV2_1", index.checkLimits().get(0).getSubjectId());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void badLimitReductionTest() {
+        new LimitCheckIndex(network).checkLimits(0f);
+    }
+}
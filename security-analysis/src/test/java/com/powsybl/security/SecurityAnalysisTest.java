@@ -6,26 +6,46 @@
  */
 package com.powsybl.security;
 
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import com.powsybl.commons.config.InMemoryPlatformConfig;
+import com.powsybl.commons.config.MapModuleConfig;
 import com.powsybl.computation.ComputationManager;
 import com.powsybl.contingency.BranchContingency;
 import com.powsybl.contingency.ContingenciesProvider;
+import com.powsybl.contingency.ContingenciesProviderFactory;
 import com.powsybl.contingency.Contingency;
+import com.powsybl.contingency.ContingencyImpl;
 import com.powsybl.contingency.tasks.ModificationTask;
 import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.StateManager;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.loadflow.LoadFlow;
 import com.powsybl.loadflow.LoadFlowFactory;
 import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.loadflow.LoadFlowResult;
 import com.powsybl.loadflow.mock.LoadFlowFactoryMock;
+import com.powsybl.security.converter.SecurityAnalysisResultExporters;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.FileSystem;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.*;
 
 /**
  *
@@ -91,4 +111,203 @@ public class SecurityAnalysisTest {
         assertEquals("NHV1_NHV2_1", violation.getSubjectId());
     }
 
+    @Test
+    public void runWithBoundedConcurrency() {
+        Network network = EurostagTutorialExample1Factory.create();
+        ComputationManager computationManager = Mockito.mock(ComputationManager.class);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Mockito.when(computationManager.getExecutor()).thenReturn(executor);
+
+            // states are accessed concurrently by the workers
+            network.getStateManager().allowStateMultiThreadAccess(true);
+
+            List<Contingency> contingencies = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                Contingency contingency = Mockito.mock(Contingency.class);
+                Mockito.when(contingency.getId()).thenReturn("contingency" + i);
+                boolean disconnect = i % 2 == 0;
+                Mockito.when(contingency.toTask()).thenReturn(new ModificationTask() {
+                    @Override
+                    public void modify(Network network, ComputationManager computationManager) {
+                        // working state has been reset, line is connected whatever the previous contingency
+                        assertTrue(network.getLine("NHV1_NHV2_2").getTerminal1().isConnected());
+                        if (disconnect) {
+                            network.getLine("NHV1_NHV2_2").getTerminal1().disconnect();
+                        }
+                    }
+                });
+                contingencies.add(contingency);
+            }
+            ContingenciesProvider contingenciesProvider = Mockito.mock(ContingenciesProvider.class);
+            Mockito.when(contingenciesProvider.getContingencies(network)).thenReturn(contingencies);
+
+            // record the maximum number of concurrent load flows and of states
+            AtomicInteger runningCount = new AtomicInteger();
+            AtomicInteger maxRunningCount = new AtomicInteger();
+            AtomicInteger maxStateCount = new AtomicInteger();
+            LoadFlowFactory loadFlowFactory = (n, cm, priority) -> new LoadFlow() {
+
+                private final LoadFlow loadFlow = new LoadFlowFactoryMock().create(n, cm, priority);
+
+                @Override
+                public String getName() {
+                    return loadFlow.getName();
+                }
+
+                @Override
+                public String getVersion() {
+                    return loadFlow.getVersion();
+                }
+
+                @Override
+                public LoadFlowResult run(LoadFlowParameters parameters) throws Exception {
+                    return loadFlow.run(parameters);
+                }
+
+                @Override
+                public LoadFlowResult run() throws Exception {
+                    return loadFlow.run();
+                }
+
+                @Override
+                public CompletableFuture<LoadFlowResult> runAsync(String workingStateId, LoadFlowParameters parameters) {
+                    maxRunningCount.accumulateAndGet(runningCount.incrementAndGet(), Math::max);
+                    maxStateCount.accumulateAndGet(n.getStateManager().getStateIds().size(), Math::max);
+                    try {
+                        // so that the load flows of the workers overlap
+                        Thread.sleep(5);
+                        return loadFlow.runAsync(workingStateId, parameters);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new AssertionError(e);
+                    } finally {
+                        runningCount.decrementAndGet();
+                    }
+                }
+            };
+
+            SecurityAnalysisResult result = new SecurityAnalysisImpl(network, new LimitViolationFilter(), computationManager,
+                                                                     loadFlowFactory, new SecurityAnalysisConfig(3))
+                    .runAsync(contingenciesProvider, StateManager.INITIAL_STATE_ID, new LoadFlowParameters())
+                    .join();
+
+            assertEquals(20, result.getPostContingencyResults().size());
+            // at most 3 contingencies simulated at a time, on at most 3 working states besides the initial one
+            assertTrue(maxRunningCount.get() >= 1 && maxRunningCount.get() <= 3);
+            assertTrue(maxStateCount.get() <= 1 + 3);
+            // working states of the contingencies have been removed
+            assertEquals(Collections.singleton(StateManager.INITIAL_STATE_ID), new HashSet<>(network.getStateManager().getStateIds()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void runWithSink() {
+        Network network = EurostagTutorialExample1Factory.create();
+        ComputationManager computationManager = Mockito.mock(ComputationManager.class);
+        Mockito.when(computationManager.getExecutor()).thenReturn(Runnable::run);
+
+        Contingency contingency = Mockito.mock(Contingency.class);
+        Mockito.when(contingency.getId()).thenReturn("contingency");
+        Mockito.when(contingency.toTask()).thenReturn(new ModificationTask() {
+            @Override
+            public void modify(Network network, ComputationManager computationManager) {
+                network.getLine("NHV1_NHV2_2").getTerminal1().disconnect();
+            }
+        });
+        ContingenciesProvider contingenciesProvider = Mockito.mock(ContingenciesProvider.class);
+        Mockito.when(contingenciesProvider.getContingencies(network)).thenReturn(Collections.singletonList(contingency));
+
+        List<String> events = new ArrayList<>();
+        new SecurityAnalysisImpl(network, computationManager, new LoadFlowFactoryMock())
+                .runAsync(contingenciesProvider, StateManager.INITIAL_STATE_ID, new LoadFlowParameters(), new SecurityAnalysisResultSink() {
+                    @Override
+                    public void onPreContingencyResult(LimitViolationsResult preContingencyResult) {
+                        assertTrue(preContingencyResult.isComputationOk());
+                        events.add("pre");
+                    }
+
+                    @Override
+                    public void onPostContingencyResult(PostContingencyResult postContingencyResult) {
+                        events.add(postContingencyResult.getContingency().getId());
+                    }
+
+                    @Override
+                    public void onEnd() {
+                        events.add("end");
+                    }
+                })
+                .join();
+        assertEquals(Arrays.asList("pre", "contingency", "end"), events);
+    }
+
+    private static String exportWithSink(SecurityAnalysisResult result, Network network, String format) {
+        StringWriter writer = new StringWriter();
+        SecurityAnalysisResultCollector.replay(result, SecurityAnalysisResultExporters.createSink(network, writer, format));
+        return writer.toString();
+    }
+
+    private static String export(SecurityAnalysisResult result, Network network, String format) {
+        StringWriter writer = new StringWriter();
+        SecurityAnalysisResultExporters.export(result, network, writer, format);
+        return writer.toString();
+    }
+
+    @Test
+    public void streamingExportTest() {
+        Network network = EurostagTutorialExample1Factory.create();
+        Contingency contingency = new ContingencyImpl("contingency", new BranchContingency("NHV1_NHV2_2"));
+        LimitViolation violation = new LimitViolation("NHV1_NHV2_1", LimitViolationType.CURRENT, 1000f, "Permanent limit", 1f, 1100f, Country.FR, 380f);
+        SecurityAnalysisResult result = new SecurityAnalysisResult(new LimitViolationsResult(true, Collections.emptyList()),
+                                                                   Collections.singletonList(new PostContingencyResult(contingency, true, Collections.singletonList(violation))));
+
+        // the streaming export of the results in completion order is the same as the in memory one
+        for (String format : Arrays.asList("CSV", "JSON")) {
+            assertEquals(export(result, network, format), exportWithSink(result, network, format));
+        }
+    }
+
+    @Test
+    public void analyzerWithSinkTest() {
+        Network network = EurostagTutorialExample1Factory.create();
+        network.getLine("NHV1_NHV2_1").newCurrentLimits1().setPermanentLimit(1f).add();
+        ComputationManager computationManager = Mockito.mock(ComputationManager.class);
+        Mockito.when(computationManager.getExecutor()).thenReturn(Runnable::run);
+        ContingenciesProvider contingenciesProvider = Mockito.mock(ContingenciesProvider.class);
+        Mockito.when(contingenciesProvider.getContingencies(network))
+                .thenReturn(Collections.singletonList(new ContingencyImpl("contingency", new BranchContingency("NHV1_NHV2_2"))));
+
+        SecurityAnalyzer analyzer = new SecurityAnalyzer(new LimitViolationFilter(), computationManager, 0,
+            (n, c, priority) -> new SecurityAnalysisImpl(n, c, new LoadFlowFactoryMock()), Mockito.mock(ContingenciesProviderFactory.class));
+        SecurityAnalysisResult result = analyzer.analyze(network, contingenciesProvider);
+        assertEquals(1, result.getPostContingencyResults().size());
+
+        // the results streamed to an exporter are exported as the in memory result
+        for (String format : Arrays.asList("CSV", "JSON")) {
+            // the analyzer allows multi-thread access to the states, the working state of this thread is reset
+            network.getStateManager().setWorkingState(StateManager.INITIAL_STATE_ID);
+            StringWriter writer = new StringWriter();
+            analyzer.analyze(network, contingenciesProvider, SecurityAnalysisResultExporters.createSink(network, writer, format));
+            assertEquals(export(result, network, format), writer.toString());
+        }
+    }
+
+    @Test
+    public void configTest() throws IOException {
+        try (FileSystem fileSystem = Jimfs.newFileSystem(Configuration.unix())) {
+            InMemoryPlatformConfig platformConfig = new InMemoryPlatformConfig(fileSystem);
+            assertEquals(Runtime.getRuntime().availableProcessors(), SecurityAnalysisConfig.load(platformConfig).getMaxConcurrentContingencies());
+            MapModuleConfig moduleConfig = platformConfig.createModuleConfig("security-analysis");
+            moduleConfig.setStringProperty("max-concurrent-contingencies", "8");
+            SecurityAnalysisConfig config = SecurityAnalysisConfig.load(platformConfig);
+            assertEquals(8, config.getMaxConcurrentContingencies());
+            try {
+                config.setMaxConcurrentContingencies(0);
+                fail();
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+    }
 }
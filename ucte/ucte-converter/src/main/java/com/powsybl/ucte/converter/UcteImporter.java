@@ -23,6 +23,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.util.Properties;
 
 /**
@@ -690,23 +691,23 @@ public class UcteImporter implements Importer {
                 throw new PowsyblException("File " + dataSource.getBaseName()
                         + "." + Joiner.on("|").join(EXTENSIONS) + " not found");
             }
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(dataSource.newInputStream(null, ext)))) {
-                long start = System.currentTimeMillis();
-                UcteNetworkExt ucteNetwork = new UcteNetworkExt(new UcteReader().read(reader), LINE_MIN_Z);
-                String fileName = dataSource.getBaseName();
-
-                EntsoeFileName ucteFileName = EntsoeFileName.parse(fileName);
-
-                Network network = NetworkFactory.create(fileName, "UCTE");
-                network.setCaseDate(ucteFileName.getDate());
-                network.setForecastDistance(ucteFileName.getForecastDistance());
-
-                createBuses(ucteNetwork, network, ucteFileName);
-                createLines(ucteNetwork, network);
-                createTransformers(ucteNetwork, network, ucteFileName);
-                LOGGER.debug("UCTE import done in {} ms", System.currentTimeMillis() - start);
-                return network;
-            }
+            long start = System.currentTimeMillis();
+            // fields are parsed directly from the bytes of the file, memory mapped when the data source allows it
+            ByteBuffer buffer = dataSource.newByteBuffer(null, ext);
+            UcteNetworkExt ucteNetwork = new UcteNetworkExt(new UcteReader().read(buffer), LINE_MIN_Z);
+            String fileName = dataSource.getBaseName();
+
+            EntsoeFileName ucteFileName = EntsoeFileName.parse(fileName);
+
+            Network network = NetworkFactory.create(fileName, "UCTE");
+            network.setCaseDate(ucteFileName.getDate());
+            network.setForecastDistance(ucteFileName.getForecastDistance());
+
+            createBuses(ucteNetwork, network, ucteFileName);
+            createLines(ucteNetwork, network);
+            createTransformers(ucteNetwork, network, ucteFileName);
+            LOGGER.debug("UCTE import done in {} ms", System.currentTimeMillis() - start);
+            return network;
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -6,43 +6,33 @@
  */
 package com.powsybl.ucte.network.io;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.util.EnumSet;
 import java.util.Set;
 
 /**
+ * Parser of the fixed width fields of the current line of a UCTE file. A field which is beyond the
+ * end of the line is missing: strings and integers are null and floats are NaN.
  *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
-class UcteRecordParser {
-
-    private final BufferedReader reader;
-
-    private String line;
+abstract class AbstractUcteRecordParser {
 
     private final Set<UcteRecordType> parsedRecordTypes = EnumSet.noneOf(UcteRecordType.class);
 
-    UcteRecordParser(BufferedReader reader) throws IOException {
-        this.reader = reader;
-        nextLine();
-    }
+    abstract String getLine();
 
-    String getLine() {
-        return line;
-    }
+    abstract boolean nextLine() throws IOException;
 
-    boolean nextLine() throws IOException {
-        do {
-            line = reader.readLine();
-        } while (line != null && line.trim().isEmpty()); // skip empty lines
-        return line != null;
-    }
+    /**
+     * Check if the current line starts with an ASCII prefix.
+     */
+    abstract boolean startsWith(String prefix);
 
     UcteRecordType scanRecordType() {
-        if (line != null && line.startsWith("##") && line.length() >= 3) {
+        if (startsWith("##") && getLineLength() >= 3) {
             for (UcteRecordType recordType : UcteRecordType.values()) {
-                if (line.startsWith("##" + recordType)) {
+                if (startsWith("##" + recordType)) {
                     parsedRecordTypes.add(recordType);
                     return recordType;
                 }
@@ -51,6 +41,11 @@ class UcteRecordParser {
         return null;
     }
 
+    /**
+     * Get the length of the current line, -1 if there is no more line.
+     */
+    abstract int getLineLength();
+
     Set<UcteRecordType> getParsedRecordTypes() {
         return parsedRecordTypes;
     }
@@ -59,29 +54,21 @@ class UcteRecordParser {
         return parseString(beginIndex, endIndex, true);
     }
 
-    String parseString(int beginIndex, int endIndex, boolean trim) {
-        String untrimmed = line == null || endIndex > line.length() ? null : line.substring(beginIndex, endIndex);
-        return untrimmed == null || !trim ? untrimmed : untrimmed.trim();
-    }
+    abstract String parseString(int beginIndex, int endIndex, boolean trim);
 
-    Character parseChar(int index) {
-        return line == null || index > line.length() ? null : line.charAt(index);
-    }
+    abstract Character parseChar(int index);
 
-    Integer parseInt(int beginIndex, int endIndex) {
-        String str = parseString(beginIndex, endIndex);
-        return str == null || str.trim().isEmpty() ? null : Integer.valueOf(str);
-    }
+    abstract Integer parseInt(int beginIndex, int endIndex);
 
     Integer parseInt(int index) {
         Character c = parseChar(index);
-        return c == null || c == ' ' ? null : Integer.valueOf(Character.toString(c));
+        if (c == null || c == ' ') {
+            return null;
+        }
+        return c >= '0' && c <= '9' ? Integer.valueOf(c - '0') : Integer.valueOf(Character.toString(c));
     }
 
-    float parseFloat(int beginIndex, int endIndex) {
-        String str = parseString(beginIndex, endIndex);
-        return str == null || str.trim().isEmpty() ? Float.NaN : Float.valueOf(str);
-    }
+    abstract float parseFloat(int beginIndex, int endIndex);
 
     <E extends Enum<E>> E parseEnumOrdinal(int index, Class<E> clazz) {
         Integer order = parseInt(index);
@@ -90,7 +77,7 @@ class UcteRecordParser {
 
     <E extends Enum<E>> E parseEnumValue(int beginIndex, int endIndex, Class<E> clazz) {
         String name = parseString(beginIndex, endIndex);
-        return name == null || name.trim().isEmpty() ? null : Enum.valueOf(clazz, name);
+        return name == null || name.isEmpty() ? null : Enum.valueOf(clazz, name);
     }
 
     <E extends Enum<E>> E parseEnumValue(int index, Class<E> clazz) {
@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.ucte.network.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UCTE record parser working directly on the bytes of a buffer, which can be memory-mapped. Lines
+ * are byte ranges of the buffer and numbers are parsed from these ranges, so no string is created
+ * except for the string fields. Bytes are decoded as ISO-8859-1, UCTE files using a single byte
+ * encoding so that columns are byte positions.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class ByteBufferUcteRecordParser extends AbstractUcteRecordParser {
+
+    private static final int MAX_FAST_FLOAT_MANTISSA = 1 << 24;
+
+    // powers of ten exactly representable as a float
+    private static final float[] FLOAT_POWERS_OF_TEN = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+    private final ByteBuffer buffer;
+
+    // next line start position
+    private int position;
+
+    // current line, lineStart == -1 if there is no more line
+    private int lineStart = -1;
+
+    private int lineEnd;
+
+    private byte[] scratch = new byte[64];
+
+    ByteBufferUcteRecordParser(ByteBuffer buffer) {
+        this.buffer = buffer;
+        position = buffer.position();
+        nextLine();
+    }
+
+    private static boolean isWhitespace(byte b) {
+        // same as String.trim
+        return (b & 0xff) <= ' ';
+    }
+
+    private boolean isBlankLine() {
+        for (int i = lineStart; i < lineEnd; i++) {
+            if (!isWhitespace(buffer.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    boolean nextLine() {
+        int limit = buffer.limit();
+        do {
+            if (position >= limit) {
+                lineStart = -1;
+                return false;
+            }
+            // same line terminators as BufferedReader.readLine: \n, \r or \r\n
+            lineStart = position;
+            int i = position;
+            while (i < limit && buffer.get(i) != '\n' && buffer.get(i) != '\r') {
+                i++;
+            }
+            lineEnd = i;
+            if (i < limit && buffer.get(i) == '\r' && i + 1 < limit && buffer.get(i + 1) == '\n') {
+                i++;
+            }
+            position = i + 1;
+        } while (isBlankLine()); // skip empty lines
+        return true;
+    }
+
+    private String toString(int begin, int end) {
+        int length = end - begin;
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + begin, length, StandardCharsets.ISO_8859_1);
+        }
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        for (int i = 0; i < length; i++) {
+            scratch[i] = buffer.get(begin + i);
+        }
+        return new String(scratch, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    String getLine() {
+        return lineStart == -1 ? null : toString(lineStart, lineEnd);
+    }
+
+    @Override
+    int getLineLength() {
+        return lineStart == -1 ? -1 : lineEnd - lineStart;
+    }
+
+    @Override
+    boolean startsWith(String prefix) {
+        if (lineStart == -1 || prefix.length() > lineEnd - lineStart) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (buffer.get(lineStart + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isMissing(int endIndex) {
+        return lineStart == -1 || endIndex > lineEnd - lineStart;
+    }
+
+    private int trimBegin(int begin, int end) {
+        int b = begin;
+        while (b < end && isWhitespace(buffer.get(b))) {
+            b++;
+        }
+        return b;
+    }
+
+    private int trimEnd(int begin, int end) {
+        int e = end;
+        while (e > begin && isWhitespace(buffer.get(e - 1))) {
+            e--;
+        }
+        return e;
+    }
+
+    @Override
+    String parseString(int beginIndex, int endIndex, boolean trim) {
+        if (isMissing(endIndex)) {
+            return null;
+        }
+        int begin = lineStart + beginIndex;
+        int end = lineStart + endIndex;
+        if (trim) {
+            begin = trimBegin(begin, end);
+            end = trimEnd(begin, end);
+        }
+        return toString(begin, end);
+    }
+
+    @Override
+    Character parseChar(int index) {
+        return isMissing(index + 1) ? null : (char) (buffer.get(lineStart + index) & 0xff);
+    }
+
+    @Override
+    Integer parseInt(int beginIndex, int endIndex) {
+        if (isMissing(endIndex)) {
+            return null;
+        }
+        int begin = trimBegin(lineStart + beginIndex, lineStart + endIndex);
+        int end = trimEnd(begin, lineStart + endIndex);
+        if (begin == end) {
+            return null;
+        }
+        int i = begin;
+        boolean negative = false;
+        byte b = buffer.get(i);
+        if (b == '-' || b == '+') {
+            negative = b == '-';
+            i++;
+        }
+        // at most 9 digits, so that there is no overflow
+        if (i == end || end - i > 9) {
+            return Integer.valueOf(toString(begin, end));
+        }
+        int value = 0;
+        for (; i < end; i++) {
+            b = buffer.get(i);
+            if (b < '0' || b > '9') {
+                // let the JDK throw the error
+                return Integer.valueOf(toString(begin, end));
+            }
+            value = value * 10 + (b - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parse a float with the same result as {@link Float#valueOf(String)}. Plain decimal numbers
+     * with a small number of digits, i.e. most of the UCTE values, are parsed as an integer mantissa
+     * divided by a power of ten, both exactly representable as floats, so that the single rounding
+     * of the division gives the correctly rounded value. Other numbers are parsed by the JDK.
+     */
+    @Override
+    float parseFloat(int beginIndex, int endIndex) {
+        if (isMissing(endIndex)) {
+            return Float.NaN;
+        }
+        int begin = trimBegin(lineStart + beginIndex, lineStart + endIndex);
+        int end = trimEnd(begin, lineStart + endIndex);
+        if (begin == end) {
+            return Float.NaN;
+        }
+        int i = begin;
+        boolean negative = false;
+        byte b = buffer.get(i);
+        if (b == '-' || b == '+') {
+            negative = b == '-';
+            i++;
+        }
+        int mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; i < end; i++) {
+            b = buffer.get(i);
+            if (b >= '0' && b <= '9') {
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+                if (mantissa > MAX_FAST_FLOAT_MANTISSA) {
+                    return Float.valueOf(toString(begin, end));
+                }
+            } else if (b == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                // exponent, special values or invalid number
+                return Float.valueOf(toString(begin, end));
+            }
+        }
+        if (digits == 0 || fractionDigits >= FLOAT_POWERS_OF_TEN.length) {
+            return Float.valueOf(toString(begin, end));
+        }
+        float value = fractionDigits > 0 ? mantissa / FLOAT_POWERS_OF_TEN[fractionDigits] : mantissa;
+        return negative ? -value : value;
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2016, All partners of the iTesla project (http://www.itesla-project.eu/consortium)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.ucte.network.io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * UCTE record parser reading lines from a {@link BufferedReader}.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class ReaderUcteRecordParser extends AbstractUcteRecordParser {
+
+    private final BufferedReader reader;
+
+    private String line;
+
+    ReaderUcteRecordParser(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        nextLine();
+    }
+
+    @Override
+    String getLine() {
+        return line;
+    }
+
+    @Override
+    boolean nextLine() throws IOException {
+        do {
+            line = reader.readLine();
+        } while (line != null && line.trim().isEmpty()); // skip empty lines
+        return line != null;
+    }
+
+    @Override
+    boolean startsWith(String prefix) {
+        return line != null && line.startsWith(prefix);
+    }
+
+    @Override
+    int getLineLength() {
+        return line != null ? line.length() : -1;
+    }
+
+    @Override
+    String parseString(int beginIndex, int endIndex, boolean trim) {
+        String untrimmed = line == null || endIndex > line.length() ? null : line.substring(beginIndex, endIndex);
+        return untrimmed == null || !trim ? untrimmed : untrimmed.trim();
+    }
+
+    @Override
+    Character parseChar(int index) {
+        return line == null || index >= line.length() ? null : line.charAt(index);
+    }
+
+    @Override
+    Integer parseInt(int beginIndex, int endIndex) {
+        String str = parseString(beginIndex, endIndex);
+        return str == null || str.isEmpty() ? null : Integer.valueOf(str);
+    }
+
+    @Override
+    float parseFloat(int beginIndex, int endIndex) {
+        String str = parseString(beginIndex, endIndex);
+        return str == null || str.isEmpty() ? Float.NaN : Float.valueOf(str);
+    }
+}
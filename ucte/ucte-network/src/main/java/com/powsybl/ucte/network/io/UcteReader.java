@@ -27,6 +27,11 @@ import com.powsybl.ucte.network.UcteRegulation;
 import com.powsybl.ucte.network.UcteVoltageLevelCode;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,7 +45,7 @@ public class UcteReader {
 
     private boolean firstCommendBlockRead = false;
 
-    private void readCommentBlock(UcteRecordParser parser, UcteNetwork network) throws IOException {
+    private void readCommentBlock(AbstractUcteRecordParser parser, UcteNetwork network) throws IOException {
         LOGGER.trace("Reading comment block");
         if (!firstCommendBlockRead && parser.getParsedRecordTypes().size() > 1) {
             throw new UcteIoException("First block must be a comment block");
@@ -64,7 +69,7 @@ public class UcteReader {
         }
     }
 
-    private static UcteNodeCode parseNodeCode(UcteRecordParser parser, int beginIndex) {
+    private static UcteNodeCode parseNodeCode(AbstractUcteRecordParser parser, int beginIndex) {
         UcteCountryCode ucteCountryCode = UcteCountryCode.fromUcteCode(parser.parseChar(beginIndex));
         String geographicalSpot = parser.parseString(beginIndex + 1, beginIndex + 6, false);
         UcteVoltageLevelCode voltageLevelCode = parser.parseEnumOrdinal(beginIndex + 6, UcteVoltageLevelCode.class);
@@ -72,7 +77,7 @@ public class UcteReader {
         return new UcteNodeCode(ucteCountryCode, geographicalSpot, voltageLevelCode, busbar);
     }
 
-    private void parseNode(UcteRecordParser parser, UcteNetwork network) {
+    private void parseNode(AbstractUcteRecordParser parser, UcteNetwork network) {
         UcteNodeCode id = parseNodeCode(parser, 0);
         String geographicalName = parser.parseString(9, 21).trim();
         UcteNodeStatus status = parser.parseEnumOrdinal(22, UcteNodeStatus.class);
@@ -101,7 +106,7 @@ public class UcteReader {
         network.addNode(node);
     }
 
-    private void readNodeBlock(UcteRecordParser parser, UcteNetwork network) throws IOException {
+    private void readNodeBlock(AbstractUcteRecordParser parser, UcteNetwork network) throws IOException {
         LOGGER.trace("Reading node block");
         String countryIsoCode = null;
         while (parser.nextLine()) {
@@ -121,14 +126,14 @@ public class UcteReader {
         }
     }
 
-    private static UcteElementId parseElementId(UcteRecordParser parser) {
+    private static UcteElementId parseElementId(AbstractUcteRecordParser parser) {
         UcteNodeCode nodeId1 = parseNodeCode(parser, 0);
         UcteNodeCode nodeId2 = parseNodeCode(parser, 9);
         char orderCode = parser.parseChar(18);
         return new UcteElementId(nodeId1, nodeId2, orderCode);
     }
 
-    private void parseLine(UcteRecordParser parser, UcteNetwork network) {
+    private void parseLine(AbstractUcteRecordParser parser, UcteNetwork network) {
         UcteElementId id = parseElementId(parser);
         UcteElementStatus status = UcteElementStatus.fromCode(parser.parseInt(20));
         float resistance = parser.parseFloat(22, 28);
@@ -141,7 +146,7 @@ public class UcteReader {
         network.addLine(l);
     }
 
-    private void readLineBlock(UcteRecordParser parser, UcteNetwork network) throws IOException {
+    private void readLineBlock(AbstractUcteRecordParser parser, UcteNetwork network) throws IOException {
         LOGGER.trace("Reading line block");
         while (parser.nextLine()) {
             if (parser.scanRecordType() != null) {
@@ -152,7 +157,7 @@ public class UcteReader {
         }
     }
 
-    private void parseTransformer(UcteRecordParser parser, UcteNetwork network) {
+    private void parseTransformer(AbstractUcteRecordParser parser, UcteNetwork network) {
         UcteElementId id = parseElementId(parser);
         UcteElementStatus status = UcteElementStatus.fromCode(parser.parseInt(20));
         float ratedVoltage1 = parser.parseFloat(22, 27);
@@ -170,7 +175,7 @@ public class UcteReader {
         network.addTransformer(transfo);
     }
 
-    private void readTransformerBlock(UcteRecordParser parser, UcteNetwork network) throws IOException {
+    private void readTransformerBlock(AbstractUcteRecordParser parser, UcteNetwork network) throws IOException {
         LOGGER.trace("Reading transformer block");
         while (parser.nextLine()) {
             if (parser.scanRecordType() != null) {
@@ -181,7 +186,7 @@ public class UcteReader {
         }
     }
 
-    private UctePhaseRegulation parsePhaseRegulation(UcteRecordParser parser) {
+    private UctePhaseRegulation parsePhaseRegulation(AbstractUcteRecordParser parser) {
         float du = parser.parseFloat(20, 25);
         Integer n = parser.parseInt(26, 28);
         Integer np = parser.parseInt(29, 32);
@@ -192,7 +197,7 @@ public class UcteReader {
         return null;
     }
 
-    private UcteAngleRegulation parseAngleRegulation(UcteRecordParser parser) {
+    private UcteAngleRegulation parseAngleRegulation(AbstractUcteRecordParser parser) {
         float du = parser.parseFloat(39, 44);
         float theta = parser.parseFloat(45, 50);
         Integer n = parser.parseInt(51, 53);
@@ -205,7 +210,7 @@ public class UcteReader {
         return null;
     }
 
-    private void parseRegulation(UcteRecordParser parser, UcteNetwork network) {
+    private void parseRegulation(AbstractUcteRecordParser parser, UcteNetwork network) {
         UcteElementId transfoId = parseElementId(parser);
         UctePhaseRegulation phaseRegulation = parsePhaseRegulation(parser);
         UcteAngleRegulation angleRegulation = parseAngleRegulation(parser);
@@ -213,7 +218,7 @@ public class UcteReader {
         network.addRegulation(regulation);
     }
 
-    private void readRegulationBlock(UcteRecordParser parser, UcteNetwork network) throws IOException {
+    private void readRegulationBlock(AbstractUcteRecordParser parser, UcteNetwork network) throws IOException {
         LOGGER.trace("Reading regulation block");
         while (parser.nextLine()) {
             if (parser.scanRecordType() != null) {
@@ -224,7 +229,7 @@ public class UcteReader {
         }
     }
 
-    private void readTtBlock(UcteRecordParser parser, UcteNetwork network) throws IOException {
+    private void readTtBlock(AbstractUcteRecordParser parser, UcteNetwork network) throws IOException {
         LOGGER.warn("TT block not supported");
         while (parser.nextLine()) {
             if (parser.scanRecordType() != null) {
@@ -236,7 +241,7 @@ public class UcteReader {
     }
 
 
-    private void readExchangeBlock(UcteRecordParser parser, UcteNetwork network) throws IOException {
+    private void readExchangeBlock(AbstractUcteRecordParser parser, UcteNetwork network) throws IOException {
         LOGGER.warn("E block not supported");
         while (parser.nextLine()) {
             if (parser.scanRecordType() != null) {
@@ -247,7 +252,7 @@ public class UcteReader {
         }
     }
 
-    private void parseRecords(UcteRecordParser parser, UcteNetwork network) throws IOException {
+    private void parseRecords(AbstractUcteRecordParser parser, UcteNetwork network) throws IOException {
         do {
             UcteRecordType recordType = parser.scanRecordType();
             if (recordType != null) {
@@ -282,19 +287,45 @@ public class UcteReader {
         } while (parser.nextLine());
     }
 
-    public UcteNetwork read(BufferedReader reader) throws IOException {
+    private UcteNetwork read(AbstractUcteRecordParser parser) throws IOException {
         long start = System.currentTimeMillis();
         UcteNetwork network = new UcteNetworkImpl();
-        UcteRecordParser parser = new UcteRecordParser(reader);
         parseRecords(parser, network);
         LOGGER.debug("UCTE file read in {} ms", System.currentTimeMillis() - start);
         network.fix();
         return network;
     }
 
+    public UcteNetwork read(BufferedReader reader) throws IOException {
+        return read(new ReaderUcteRecordParser(reader));
+    }
+
+    /**
+     * Read a UCTE network from the remaining bytes of a buffer, from its position to its limit.
+     * Fields are parsed from the bytes of the buffer, which are decoded as ISO-8859-1. The position
+     * of the buffer is not modified.
+     */
+    public UcteNetwork read(ByteBuffer buffer) throws IOException {
+        return read(new ByteBufferUcteRecordParser(buffer));
+    }
+
+    /**
+     * Read a UCTE network from a file mapped in memory, or fully loaded in memory if the file system
+     * does not support mapping.
+     */
+    public UcteNetwork read(Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (UnsupportedOperationException e) {
+            buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        }
+        return read(buffer);
+    }
+
     public boolean checkHeader(BufferedReader reader) throws IOException {
         // just check the first record if this file is in UCT format
-        UcteRecordParser parser = new UcteRecordParser(reader);
+        AbstractUcteRecordParser parser = new ReaderUcteRecordParser(reader);
         UcteRecordType recordType = parser.scanRecordType();
         if (recordType == UcteRecordType.C) {
             UcteFormatVersion version = UcteFormatVersion.findByDate(parser.parseString(4, 14));
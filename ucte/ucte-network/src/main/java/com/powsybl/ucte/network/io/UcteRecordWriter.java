@@ -9,30 +9,56 @@ package com.powsybl.ucte.network.io;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Objects;
 
 /**
+ * Writer of the fixed width fields of UCTE records. The current record is formatted in a reusable
+ * line buffer which is written either to a {@link BufferedWriter} or, encoded as ISO-8859-1, to a
+ * channel through a reusable byte buffer, so that the memory used does not depend on the number
+ * of records.
+ *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 class UcteRecordWriter {
 
-    private enum Alignment {
-        RIGHT, LEFT
-    }
+    private static final int BYTE_BUFFER_SIZE = 64 * 1024;
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
 
     private final BufferedWriter writer;
 
-    private final StringBuilder buffer = new StringBuilder();
+    private final WritableByteChannel channel;
+
+    private final ByteBuffer byteBuffer;
+
+    private char[] line = new char[256];
+
+    private int length = 0;
+
+    private final char[] digits = new char[11];
 
     UcteRecordWriter(BufferedWriter writer) {
-        this.writer = writer;
+        this.writer = Objects.requireNonNull(writer);
+        channel = null;
+        byteBuffer = null;
     }
 
-    private void resizeBuffer(int length) {
-        int n = length - buffer.length();
-        if (n > 0) {
-            for (int i = 0; i < n; i++) {
-                buffer.append(" ");
-            }
+    UcteRecordWriter(WritableByteChannel channel) {
+        writer = null;
+        this.channel = Objects.requireNonNull(channel);
+        byteBuffer = ByteBuffer.allocate(BYTE_BUFFER_SIZE);
+    }
+
+    private void resizeBuffer(int newLength) {
+        if (newLength > line.length) {
+            line = Arrays.copyOf(line, Math.max(newLength, line.length * 2));
+        }
+        if (newLength > length) {
+            Arrays.fill(line, length, newLength, ' ');
+            length = newLength;
         }
     }
 
@@ -41,20 +67,22 @@ class UcteRecordWriter {
             return;
         }
         resizeBuffer(index + 1);
-        buffer.setCharAt(index, value);
+        line[index] = value;
+    }
+
+    // the field is replaced by the value, so the record ends with the value if it is the last field
+    private void beginField(int beginIndex, int valueLength) {
+        resizeBuffer(beginIndex);
+        length = beginIndex;
+        resizeBuffer(beginIndex + valueLength);
     }
 
     void writeString(String value, int beginIndex, int endIndex) {
         if (value == null) {
             return;
         }
-        resizeBuffer(endIndex);
-        buffer.replace(beginIndex, endIndex, value);
-    }
-
-    private String alignAndTruncate(String str, int strLen, Alignment alignment) {
-        String formattedStr = String.format(java.util.Locale.US, "%" + (alignment.equals(Alignment.LEFT) ? "-" : "") + strLen + "s", str);
-        return formattedStr.substring(0, strLen);
+        beginField(beginIndex, value.length());
+        value.getChars(0, value.length(), line, beginIndex);
     }
 
     // floats are left aligned, zero padded to fill the field length
@@ -62,17 +90,38 @@ class UcteRecordWriter {
         if (Float.isNaN(value)) {
             return;
         }
-        String fieldStr = alignAndTruncate(Float.toString(value), endIndex - beginIndex, Alignment.LEFT);
-        writeString(fieldStr.replace(' ', '0'), beginIndex, endIndex);
+        String str = Float.toString(value);
+        int fieldLength = endIndex - beginIndex;
+        beginField(beginIndex, fieldLength);
+        int n = Math.min(str.length(), fieldLength);
+        str.getChars(0, n, line, beginIndex);
+        Arrays.fill(line, beginIndex + n, endIndex, '0');
     }
 
-    // integers are right aligned
+    // integers are right aligned, truncated on the right if too long
     void writeInteger(Integer value, int beginIndex, int endIndex) {
         if (value == null) {
             return;
         }
-        String fieldStr = alignAndTruncate(Integer.toString(value), endIndex - beginIndex, Alignment.RIGHT);
-        writeString(fieldStr, beginIndex, endIndex);
+        // format the integer at the end of the digit buffer
+        int i = digits.length;
+        long abs = Math.abs((long) value);
+        do {
+            digits[--i] = (char) ('0' + abs % 10);
+            abs /= 10;
+        } while (abs != 0);
+        if (value < 0) {
+            digits[--i] = '-';
+        }
+        int n = digits.length - i;
+        int fieldLength = endIndex - beginIndex;
+        beginField(beginIndex, fieldLength);
+        if (n >= fieldLength) {
+            System.arraycopy(digits, i, line, beginIndex, fieldLength);
+        } else {
+            Arrays.fill(line, beginIndex, endIndex - n, ' ');
+            System.arraycopy(digits, i, line, endIndex - n, n);
+        }
     }
 
     void writeInteger(Integer value, int index) {
@@ -82,7 +131,7 @@ class UcteRecordWriter {
         if (value < 0 || value > 9) {
             throw new UcteIoException("Integer value does not fit into one character");
         }
-        writeChar(Integer.toString(value).charAt(0), index);
+        writeChar((char) ('0' + value), index);
     }
 
     void writeEnumOrdinal(Enum<?> value, int index) {
@@ -92,7 +141,7 @@ class UcteRecordWriter {
         if (value.ordinal() > 9) {
             throw new UcteIoException("Enum ordinal cannot fit into one character");
         }
-        writeChar(Integer.toString(value.ordinal()).charAt(0), index);
+        writeChar((char) ('0' + value.ordinal()), index);
     }
 
     void writeEnumValue(Enum<?> value, int beginIndex, int endIndex) {
@@ -115,14 +164,44 @@ class UcteRecordWriter {
         writeChar(value.name().charAt(0), index);
     }
 
-    private void flush() throws IOException {
-        writer.write(buffer.toString());
-        buffer.setLength(0); // reset buffer
+    private void writeBytes() throws IOException {
+        byteBuffer.flip();
+        while (byteBuffer.hasRemaining()) {
+            channel.write(byteBuffer);
+        }
+        byteBuffer.clear();
+    }
+
+    private void putByte(char c) throws IOException {
+        if (!byteBuffer.hasRemaining()) {
+            writeBytes();
+        }
+        // characters which cannot be encoded as ISO-8859-1 are replaced, as a string encoder does
+        byteBuffer.put(c <= 0xff ? (byte) c : (byte) '?');
     }
 
     void newLine() throws IOException {
-        flush();
-        writer.newLine();
+        if (writer != null) {
+            writer.write(line, 0, length);
+            writer.newLine();
+        } else {
+            for (int i = 0; i < length; i++) {
+                putByte(line[i]);
+            }
+            for (int i = 0; i < LINE_SEPARATOR.length(); i++) {
+                putByte(LINE_SEPARATOR.charAt(i));
+            }
+        }
+        length = 0; // reset buffer
+    }
+
+    /**
+     * Write the buffered records to the channel, records are directly written to the {@link BufferedWriter}.
+     */
+    void flush() throws IOException {
+        if (channel != null) {
+            writeBytes();
+        }
     }
 
 }
@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.ucte.network.io;
+
+import com.powsybl.ucte.network.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Write a UCTE file record by record, without building a {@link UcteNetwork}, so that a converter
+ * can create each record, write it and forget it. Only the current record is kept in memory.
+ * <p>
+ * Records have to be written in the order of the UCTE blocks: comments, nodes, lines,
+ * transformers and regulations. Headers of the blocks, including the empty ones, are written
+ * when needed. Nodes are expected to be grouped by country, a country header being written each
+ * time the country of the nodes changes.
+ * <p>
+ * {@link #end()} has to be called once all the records are written. When writing to a channel,
+ * bytes are ISO-8859-1 encoded.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class UcteStreamWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UcteStreamWriter.class);
+
+    private static final UcteRecordType[] BLOCKS = {UcteRecordType.C, UcteRecordType.N, UcteRecordType.L, UcteRecordType.T, UcteRecordType.R};
+
+    private final UcteRecordWriter writer;
+
+    // index in BLOCKS of the current block, -1 before the first block
+    private int block = -1;
+
+    private UcteCountryCode country;
+
+    public UcteStreamWriter(BufferedWriter writer) {
+        this.writer = new UcteRecordWriter(writer);
+    }
+
+    public UcteStreamWriter(WritableByteChannel channel) {
+        this.writer = new UcteRecordWriter(channel);
+    }
+
+    private void writeCommentBlock(UcteFormatVersion version, List<String> comments) throws IOException {
+        LOGGER.trace("Writing comment block");
+        writer.writeString("##C", 0, 3);
+        if (version != null) {
+            writer.writeString(" " + version.getDate(), 3, 14);
+        }
+        writer.newLine();
+        if (comments != null) {
+            for (String comment : comments) {
+                writer.writeString(comment, 0, comment.length());
+                writer.newLine();
+            }
+        }
+    }
+
+    private void startBlock(UcteRecordType recordType) throws IOException {
+        int index = Arrays.asList(BLOCKS).indexOf(recordType);
+        if (index < block) {
+            throw new UcteIoException("Block " + recordType + " has to be written before block " + BLOCKS[block]);
+        }
+        while (block < index) {
+            block++;
+            if (block == 0) {
+                writeCommentBlock(null, null);
+            } else {
+                LOGGER.trace("Writing {} block", BLOCKS[block]);
+                writer.writeString("##" + BLOCKS[block], 0, 3);
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Write the comment block, which has to be written first, if any.
+     *
+     * @param version the format version, may be null
+     * @param comments the comment lines, may be null
+     */
+    public void writeComments(UcteFormatVersion version, List<String> comments) throws IOException {
+        if (block >= 0) {
+            throw new UcteIoException("Comment block has to be written first and only once");
+        }
+        block = 0;
+        writeCommentBlock(version, comments);
+    }
+
+    private void writeNodeCode(UcteNodeCode id, int beginIndex) {
+        writer.writeChar(id.getUcteCountryCode().getUcteCode(), beginIndex);
+        writer.writeString(id.getGeographicalSpot(), beginIndex + 1, beginIndex + 6);
+        writer.writeEnumOrdinal(id.getVoltageLevelCode(), beginIndex + 6);
+        writer.writeChar(id.getBusbar(), beginIndex + 7);
+    }
+
+    public void writeNode(UcteNode node) throws IOException {
+        Objects.requireNonNull(node);
+        startBlock(UcteRecordType.N);
+        UcteCountryCode nodeCountry = node.getCode().getUcteCountryCode();
+        if (nodeCountry != country) {
+            country = nodeCountry;
+            writer.writeString("##Z" + country, 0, 5);
+            writer.newLine();
+        }
+        writeNodeCode(node.getCode(), 0);
+        writer.writeString(node.getGeographicalName(), 9, 21);
+        writer.writeEnumOrdinal(node.getStatus(), 22);
+        writer.writeEnumOrdinal(node.getTypeCode(), 24);
+        writer.writeFloat(node.getVoltageReference(), 26, 32);
+        writer.writeFloat(node.getActiveLoad(), 33, 40);
+        writer.writeFloat(node.getReactiveLoad(), 41, 48);
+        writer.writeFloat(node.getActivePowerGeneration(), 49, 56);
+        writer.writeFloat(node.getReactivePowerGeneration(), 57, 64);
+        writer.writeFloat(node.getMinimumPermissibleActivePowerGeneration(), 65, 72);
+        writer.writeFloat(node.getMaximumPermissibleActivePowerGeneration(), 73, 80);
+        writer.writeFloat(node.getMinimumPermissibleReactivePowerGeneration(), 81, 88);
+        writer.writeFloat(node.getMaximumPermissibleReactivePowerGeneration(), 89, 96);
+        writer.writeFloat(node.getStaticOfPrimaryControl(), 97, 102);
+        writer.writeFloat(node.getNominalPowerPrimaryControl(), 103, 110);
+        writer.writeFloat(node.getThreePhaseShortCircuitPower(), 111, 118);
+        writer.writeFloat(node.getXrRatio(), 119, 126);
+        writer.writeEnumValue(node.getPowerPlantType(), 127);
+        writer.newLine();
+    }
+
+    private void writeElementId(UcteElementId id) {
+        writeNodeCode(id.getNodeCode1(), 0);
+        writeNodeCode(id.getNodeCode2(), 9);
+        writer.writeChar(id.getOrderCode(), 18);
+    }
+
+    public void writeLine(UcteLine l) throws IOException {
+        Objects.requireNonNull(l);
+        startBlock(UcteRecordType.L);
+        writeElementId(l.getId());
+        writer.writeInteger(l.getStatus().getCode(), 20);
+        writer.writeFloat(l.getResistance(), 22, 28);
+        writer.writeFloat(l.getReactance(), 29, 35);
+        writer.writeFloat((float) (l.getSusceptance() / Math.pow(10, -6)), 36, 44);
+        writer.writeInteger(l.getCurrentLimit(), 45, 51);
+        writer.writeString(l.getElementName(), 52, 64);
+        writer.newLine();
+    }
+
+    public void writeTransformer(UcteTransformer t) throws IOException {
+        Objects.requireNonNull(t);
+        startBlock(UcteRecordType.T);
+        writeElementId(t.getId());
+        writer.writeInteger(t.getStatus().getCode(), 20);
+        writer.writeFloat(t.getRatedVoltage1(), 22, 27);
+        writer.writeFloat(t.getRatedVoltage2(), 28, 33);
+        writer.writeFloat(t.getNominalPower(), 34, 39);
+        writer.writeFloat(t.getResistance(), 40, 46);
+        writer.writeFloat(t.getReactance(), 47, 53);
+        writer.writeFloat((float) (t.getSusceptance() / Math.pow(10, -6)), 54, 62);
+        writer.writeFloat((float) (t.getConductance() / Math.pow(10, -6)), 63, 69);
+        writer.writeInteger(t.getCurrentLimit(), 70, 76);
+        writer.writeString(t.getElementName(), 77, 89);
+        writer.newLine();
+    }
+
+    private void writePhaseRegulation(UctePhaseRegulation pr) {
+        writer.writeFloat(pr != null ? pr.getDu() : Float.NaN, 20, 25);
+        writer.writeInteger(pr != null ? pr.getN() : null, 26, 28);
+        writer.writeInteger(pr != null ? pr.getNp() : null, 29, 32);
+        writer.writeFloat(pr != null ? pr.getU() : Float.NaN, 33, 38);
+    }
+
+    private void writeAngleRegulation(UcteAngleRegulation ar) {
+        writer.writeFloat(ar != null ? ar.getDu() : Float.NaN, 39, 44);
+        writer.writeFloat(ar != null ? ar.getTheta() : Float.NaN, 45, 50);
+        writer.writeInteger(ar != null ? ar.getN() : null, 51, 53);
+        writer.writeInteger(ar != null ? ar.getNp() : null, 54, 57);
+        writer.writeFloat(ar != null ? ar.getP() : Float.NaN, 58, 63);
+        writer.writeEnumValue(ar != null ? ar.getType() : null, 64, 68);
+    }
+
+    public void writeRegulation(UcteRegulation r) throws IOException {
+        Objects.requireNonNull(r);
+        startBlock(UcteRecordType.R);
+        writeElementId(r.getTransfoId());
+        writePhaseRegulation(r.getPhaseRegulation());
+        writeAngleRegulation(r.getAngleRegulation());
+        writer.newLine();
+    }
+
+    /**
+     * Write the headers of the remaining blocks and flush the buffered bytes to the channel. The
+     * channel or the writer is not closed.
+     */
+    public void end() throws IOException {
+        startBlock(UcteRecordType.R);
+        writer.flush();
+    }
+}
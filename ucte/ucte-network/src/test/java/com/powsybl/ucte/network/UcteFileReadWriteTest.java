@@ -7,13 +7,19 @@
 package com.powsybl.ucte.network;
 
 import com.powsybl.commons.AbstractConverterTest;
+import com.powsybl.ucte.network.io.UcteIoException;
 import com.powsybl.ucte.network.io.UcteReader;
+import com.powsybl.ucte.network.io.UcteStreamWriter;
 import com.powsybl.ucte.network.io.UcteWriter;
 import org.junit.Test;
 
 import java.io.*;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author Christian Biasuzzi <christian.biasuzzi@techrain.it>
@@ -39,6 +45,14 @@ public class UcteFileReadWriteTest extends AbstractConverterTest {
         }
     }
 
+    private static void writeChannel(UcteNetwork network, Path file) {
+        try (WritableByteChannel channel = Files.newByteChannel(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            new UcteWriter(network).write(channel);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private static UcteNetwork read(Path file) {
         try (BufferedReader br = Files.newBufferedReader(file)) {
             return new UcteReader().read(br);
@@ -47,9 +61,56 @@ public class UcteFileReadWriteTest extends AbstractConverterTest {
         }
     }
 
+    private static UcteNetwork readMapped(Path file) {
+        try {
+            return new UcteReader().read(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Test
     public void roundTripTest() throws IOException {
         roundTripTest(create(), UcteFileReadWriteTest::write, UcteFileReadWriteTest::read, REFERENCE);
     }
 
+    @Test
+    public void channelRoundTripTest() throws IOException {
+        roundTripTest(create(), UcteFileReadWriteTest::writeChannel, UcteFileReadWriteTest::read, REFERENCE);
+    }
+
+    @Test
+    public void streamWriterTest() throws IOException {
+        UcteNetwork network = create();
+        StringWriter sw = new StringWriter();
+        try (BufferedWriter bw = new BufferedWriter(sw)) {
+            UcteStreamWriter writer = new UcteStreamWriter(bw);
+            // no comment block and no node, headers are written anyway
+            for (UcteLine line : network.getLines()) {
+                writer.writeLine(line);
+            }
+            writer.end();
+        }
+        String[] lines = sw.toString().split(System.lineSeparator());
+        assertEquals(5 + network.getLines().size(), lines.length);
+        assertEquals("##C", lines[0]);
+        assertEquals("##N", lines[1]);
+        assertEquals("##L", lines[2]);
+        assertEquals("##T", lines[lines.length - 2]);
+        assertEquals("##R", lines[lines.length - 1]);
+    }
+
+    @Test(expected = UcteIoException.class)
+    public void streamWriterBadBlockOrderTest() throws IOException {
+        UcteNetwork network = create();
+        UcteStreamWriter writer = new UcteStreamWriter(new BufferedWriter(new StringWriter()));
+        writer.writeTransformer(network.getTransformers().iterator().next());
+        writer.writeNode(network.getNodes().iterator().next());
+    }
+
+    @Test
+    public void mappedRoundTripTest() throws IOException {
+        roundTripTest(create(), UcteFileReadWriteTest::write, UcteFileReadWriteTest::readMapped, REFERENCE);
+    }
+
 }
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.ucte.network.io;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class ByteBufferUcteRecordParserTest {
+
+    private static ByteBufferUcteRecordParser createParser(String str, boolean direct) {
+        byte[] bytes = str.getBytes(StandardCharsets.ISO_8859_1);
+        ByteBuffer buffer;
+        if (direct) {
+            buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes);
+            buffer.flip();
+        } else {
+            buffer = ByteBuffer.wrap(bytes);
+        }
+        return new ByteBufferUcteRecordParser(buffer);
+    }
+
+    @Test
+    public void linesTest() throws IOException {
+        String str = "##C 2007.05.01\r\nline 2\n\n   \rline 3\rline 4";
+        for (boolean direct : new boolean[] {false, true}) {
+            AbstractUcteRecordParser parser = createParser(str, direct);
+            AbstractUcteRecordParser referenceParser = new ReaderUcteRecordParser(new BufferedReader(new StringReader(str)));
+            assertEquals(UcteRecordType.C, parser.scanRecordType());
+            do {
+                assertEquals(referenceParser.getLine(), parser.getLine());
+                assertEquals(referenceParser.getLineLength(), parser.getLineLength());
+                assertTrue(referenceParser.nextLine() == parser.nextLine());
+            } while (parser.getLine() != null);
+            assertNull(referenceParser.getLine());
+            assertEquals(-1, parser.getLineLength());
+            assertFalse(parser.startsWith("line"));
+        }
+    }
+
+    @Test
+    public void fieldsTest() {
+        for (boolean direct : new boolean[] {false, true}) {
+            AbstractUcteRecordParser parser = createParser("FFNHV111  -12  1.50 x", direct);
+            assertEquals("FFNHV111", parser.parseString(0, 8));
+            assertEquals("FFNHV111  ", parser.parseString(0, 10, false));
+            assertEquals("", parser.parseString(8, 10));
+            assertEquals(Integer.valueOf(-12), parser.parseInt(8, 13));
+            assertNull(parser.parseInt(8, 10));
+            assertEquals(Integer.valueOf(1), parser.parseInt(7));
+            assertEquals(1.5f, parser.parseFloat(13, 19), 0f);
+            assertTrue(Float.isNaN(parser.parseFloat(8, 10)));
+            assertEquals(Character.valueOf('x'), parser.parseChar(20));
+
+            // missing fields
+            assertNull(parser.parseChar(21));
+            assertNull(parser.parseString(20, 25));
+            assertNull(parser.parseInt(20, 25));
+            assertTrue(Float.isNaN(parser.parseFloat(20, 25)));
+        }
+    }
+
+    private static float parseFloat(String str) {
+        return createParser(str, false).parseFloat(0, str.length());
+    }
+
+    @Test
+    public void parseFloatTest() {
+        String[] values = {"0", "-0", "-0.0", "1.", ".5", "+3.25", "380.0", "-1234.567", "0.1", "16777216", "16777217",
+                           "123456789", "0.00000000001", "1e3", "1.5E-2", "3.4028235E38"};
+        for (String value : values) {
+            assertEquals(value, Float.floatToIntBits(Float.valueOf(value)), Float.floatToIntBits(parseFloat(value)));
+        }
+
+        // same rounding as the JDK for random fixed point numbers
+        Random random = new Random(0);
+        for (int i = 0; i < 100000; i++) {
+            int fractionDigits = random.nextInt(8);
+            String value = String.format(Locale.US, "%." + fractionDigits + "f", (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(8)));
+            assertEquals(value, Float.floatToIntBits(Float.valueOf(value)), Float.floatToIntBits(parseFloat(value)));
+        }
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void badFloatTest() {
+        parseFloat("1.2.3");
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void badIntTest() {
+        createParser("1a", false).parseInt(0, 2);
+    }
+}